@@ -0,0 +1,141 @@
+package net.jmp.spring.boot.failfast.stress;
+
+/*
+ * (#)ConcurrentKeySetStress.java   0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Set;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.openjdk.jcstress.annotations.*;
+
+import org.openjdk.jcstress.infra.results.III_Result;
+import org.openjdk.jcstress.infra.results.II_Result;
+
+import static org.openjdk.jcstress.annotations.Expect.*;
+
+/// The stress tests for concurrent hash map key sets, one of the concurrent variants.
+/// None of the unsafe states may be reached.
+///
+/// @version    0.1.0
+/// @since      0.1.0
+public final class ConcurrentKeySetStress {
+    /// The default constructor.
+    private ConcurrentKeySetStress() {
+        super();
+    }
+
+    /// One actor iterates the collection of two elements while
+    /// the other adds a third. The first result is the number of
+    /// elements the reader saw or a failure code and the second
+    /// result is the final size of the collection.
+    @JCStressTest
+    @Outcome(id = "2, 3", expect = ACCEPTABLE, desc = "The reader did not observe the add; a stale read")
+    @Outcome(id = "3, 3", expect = ACCEPTABLE, desc = "The reader observed the add")
+    @Outcome(expect = FORBIDDEN, desc = "A weakly consistent iterator never fails or loses an update")
+    @State
+    public static class Iteration {
+        /// The collection.
+        private final Set<Integer> collection = ConcurrentHashMap.newKeySet();
+
+        /// The constructor.
+        public Iteration() {
+            super();
+
+            this.collection.add(1);
+            this.collection.add(2);
+        }
+
+        /// The reader.
+        ///
+        /// @param  result  org.openjdk.jcstress.infra.results.II_Result
+        @Actor
+        public void reader(final II_Result result) {
+            result.r1 = StressResults.count(this.collection);
+        }
+
+        /// The writer.
+        @Actor
+        public void writer() {
+            this.collection.add(3);
+        }
+
+        /// The arbiter.
+        ///
+        /// @param  result  org.openjdk.jcstress.infra.results.II_Result
+        @Arbiter
+        public void arbiter(final II_Result result) {
+            result.r2 = this.collection.size();
+        }
+    }
+
+    /// Two actors each add a different element to the collection
+    /// of two elements. The first two results are the actors'
+    /// completion codes and the third is the final size of the
+    /// collection; a size of three means an update was lost.
+    @JCStressTest
+    @Outcome(id = "0, 0, 4", expect = ACCEPTABLE, desc = "Both adds are visible")
+    @Outcome(expect = FORBIDDEN, desc = "A concurrent collection never fails or loses an update")
+    @State
+    public static class LostUpdate {
+        /// The collection.
+        private final Set<Integer> collection = ConcurrentHashMap.newKeySet();
+
+        /// The constructor.
+        public LostUpdate() {
+            super();
+
+            this.collection.add(1);
+            this.collection.add(2);
+        }
+
+        /// The first writer.
+        ///
+        /// @param  result  org.openjdk.jcstress.infra.results.III_Result
+        @Actor
+        public void writer1(final III_Result result) {
+            result.r1 = StressResults.run(() -> this.collection.add(3));
+        }
+
+        /// The second writer.
+        ///
+        /// @param  result  org.openjdk.jcstress.infra.results.III_Result
+        @Actor
+        public void writer2(final III_Result result) {
+            result.r2 = StressResults.run(() -> this.collection.add(4));
+        }
+
+        /// The arbiter.
+        ///
+        /// @param  result  org.openjdk.jcstress.infra.results.III_Result
+        @Arbiter
+        public void arbiter(final III_Result result) {
+            result.r3 = this.collection.size();
+        }
+    }
+}
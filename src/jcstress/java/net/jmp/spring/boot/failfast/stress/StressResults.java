@@ -0,0 +1,89 @@
+package net.jmp.spring.boot.failfast.stress;
+
+/*
+ * (#)StressResults.java    0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.ConcurrentModificationException;
+
+/// The outcome codes and helpers shared by the stress tests.
+///
+/// @version    0.1.0
+/// @since      0.1.0
+final class StressResults {
+    /// The actor completed normally.
+    static final int OK = 0;
+
+    /// The actor caught a concurrent modification exception.
+    static final int CME = -1;
+
+    /// The actor caught any other runtime exception.
+    static final int FAILURE = -2;
+
+    /// The default constructor.
+    private StressResults() {
+        super();
+    }
+
+    /// Iterates the given iterable and returns the number
+    /// of elements seen or one of the failure codes.
+    ///
+    /// @param  iterable    java.lang.Iterable<?>
+    /// @return             int
+    static int count(final Iterable<?> iterable) {
+        int count = 0;
+
+        try {
+            for (final Object _ : iterable) {
+                count++;
+            }
+        } catch (final ConcurrentModificationException _) {
+            return CME;
+        } catch (final RuntimeException _) {
+            return FAILURE;
+        }
+
+        return count;
+    }
+
+    /// Runs the given action and returns either
+    /// the success code or one of the failure codes.
+    ///
+    /// @param  action  java.lang.Runnable
+    /// @return         int
+    static int run(final Runnable action) {
+        try {
+            action.run();
+        } catch (final ConcurrentModificationException _) {
+            return CME;
+        } catch (final RuntimeException _) {
+            return FAILURE;
+        }
+
+        return OK;
+    }
+}
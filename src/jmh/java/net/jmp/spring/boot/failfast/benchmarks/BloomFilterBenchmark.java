@@ -0,0 +1,153 @@
+package net.jmp.spring.boot.failfast.benchmarks;
+
+/*
+ * (#)BloomFilterBenchmark.java 0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import java.util.concurrent.TimeUnit;
+
+import net.jmp.spring.boot.failfast.collections.BloomFilteredSet;
+
+import org.openjdk.jmh.annotations.*;
+
+/// Compares membership lookups in a hash set and in a Bloom
+/// filtered set of 10M integers when 50%, 90% or 99% of the
+/// lookups miss. The lookup keys are generated in advance. The
+/// false positive rate of the filter is reported with the result
+/// of each iteration.
+///
+/// @version    0.1.0
+/// @since      0.1.0
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class BloomFilterBenchmark {
+    /// The number of elements.
+    private static final int SIZE = 10_000_000;
+
+    /// The number of lookup keys; a power of two.
+    private static final int LOOKUPS = 1 << 20;
+
+    /// The set implementation.
+    @Param({"HashSet", "BloomFilteredSet"})
+    private String implementation;
+
+    /// The percentage of lookups that miss.
+    @Param({"50", "90", "99"})
+    private int missPercent;
+
+    /// The set under test.
+    private Set<Integer> set;
+
+    /// The lookup keys.
+    private Integer[] keys;
+
+    /// The index of the next lookup key.
+    private int next;
+
+    /// The default constructor.
+    public BloomFilterBenchmark() {
+        super();
+    }
+
+    /// Creates and fills the set and generates the lookup keys.
+    /// The elements are even and the misses are odd.
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.set = switch (this.implementation) {
+            case "HashSet" -> HashSet.newHashSet(SIZE);
+            case "BloomFilteredSet" -> new BloomFilteredSet<>(SIZE, 0.01);
+            default -> throw new IllegalArgumentException("Unknown implementation: " + this.implementation);
+        };
+
+        final SplittableRandom random = new SplittableRandom(42);
+        final int[] elements = new int[SIZE];
+
+        for (int i = 0; i < SIZE; i++) {
+            elements[i] = random.nextInt() & ~1;
+
+            this.set.add(elements[i]);
+        }
+
+        this.keys = new Integer[LOOKUPS];
+
+        for (int i = 0; i < LOOKUPS; i++) {
+            this.keys[i] = random.nextInt(100) < this.missPercent
+                    ? random.nextInt() | 1
+                    : elements[random.nextInt(SIZE)];
+        }
+    }
+
+    /// A membership lookup.
+    ///
+    /// @param  filter  net.jmp.spring.boot.failfast.benchmarks.BloomFilterBenchmark.Filter
+    /// @return         boolean
+    @Benchmark
+    public boolean contains(final Filter filter) {
+        final Integer key = this.keys[this.next];
+
+        this.next = (this.next + 1) & (LOOKUPS - 1);
+
+        return this.set.contains(key);
+    }
+
+    /// The false positive rate of the filter, reported with
+    /// the result of each iteration. It is zero for the hash set.
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Filter {
+        /// The fraction of the lookups of absent elements
+        /// that passed the filter.
+        public double falsePositiveRate;
+
+        /// The number of lookups the filter rejected.
+        public long rejections;
+
+        /// The default constructor.
+        public Filter() {
+            super();
+        }
+
+        /// Copies the counts of the filter so far.
+        ///
+        /// @param  benchmark   net.jmp.spring.boot.failfast.benchmarks.BloomFilterBenchmark
+        @TearDown(Level.Iteration)
+        public void tearDown(final BloomFilterBenchmark benchmark) {
+            if (benchmark.set instanceof BloomFilteredSet<Integer> filtered) {
+                this.falsePositiveRate = filtered.falsePositiveRate();
+                this.rejections = filtered.rejections();
+            }
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package net.jmp.spring.boot.failfast.benchmarks;
+
+/*
+ * (#)BulkLoadBenchmark.java    0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import java.util.concurrent.TimeUnit;
+
+import net.jmp.spring.boot.failfast.collections.BulkLoader;
+
+import org.openjdk.jmh.annotations.*;
+
+/// Compares building a map from comma separated rows with
+/// individual puts into a default-capacity hash map and with
+/// the bulk loader, which parses the rows in parallel chunks
+/// and merges them into a pre-sized map.
+///
+/// @version    0.1.0
+/// @since      0.1.0
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+public class BulkLoadBenchmark {
+    /// The number of rows.
+    @Param({"1000000", "5000000"})
+    private int size;
+
+    /// The rows.
+    private String[] rows;
+
+    /// The bulk loader.
+    private final BulkLoader loader = new BulkLoader();
+
+    /// The default constructor.
+    public BulkLoadBenchmark() {
+        super();
+    }
+
+    /// Creates the rows.
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.rows = new String[this.size];
+
+        for (int i = 0; i < this.size; i++) {
+            this.rows[i] = "key" + i + "," + i;
+        }
+    }
+
+    /// Parses the rows and puts them one at a time.
+    ///
+    /// @return java.util.Map<java.lang.String,java.lang.Integer>
+    @Benchmark
+    public Map<String, Integer> individualPuts() {
+        final Map<String, Integer> map = new HashMap<>();
+
+        for (final String row : this.rows) {
+            map.put(key(row), value(row));
+        }
+
+        return map;
+    }
+
+    /// Loads the rows with the bulk loader.
+    ///
+    /// @return java.util.Map<java.lang.String,java.lang.Integer>
+    @Benchmark
+    public Map<String, Integer> bulkLoad() {
+        return this.loader.toMap(Arrays.asList(this.rows).iterator(),
+                this.size,
+                BulkLoadBenchmark::key,
+                BulkLoadBenchmark::value);
+    }
+
+    /// Returns the key of a row.
+    ///
+    /// @param  row java.lang.String
+    /// @return     java.lang.String
+    private static String key(final String row) {
+        return row.substring(0, row.indexOf(','));
+    }
+
+    /// Returns the value of a row.
+    ///
+    /// @param  row java.lang.String
+    /// @return     java.lang.Integer
+    private static Integer value(final String row) {
+        return Integer.valueOf(row.substring(row.indexOf(',') + 1));
+    }
+}
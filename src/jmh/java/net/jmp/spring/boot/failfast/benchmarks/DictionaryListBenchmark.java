@@ -0,0 +1,168 @@
+package net.jmp.spring.boot.failfast.benchmarks;
+
+/*
+ * (#)DictionaryListBenchmark.java  0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.lang.management.ManagementFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import java.util.concurrent.TimeUnit;
+
+import net.jmp.spring.boot.failfast.collections.DictionaryEncodedList;
+
+import org.openjdk.jmh.annotations.*;
+
+/// Compares an array list of strings with a dictionary encoded
+/// list of 10M highly repetitive "valueN" strings, with 100 or
+/// 10,000 distinct values: a full iteration and a search for the
+/// value of the last element, which occurs nowhere else. The
+/// strings are created one per element, as they would be when
+/// parsed. The heap retained by the list, measured after a
+/// garbage collection, is reported by auxiliary counters as the
+/// secondary results retainedBytes and retainedBytesPerElement.
+///
+/// @version    0.1.0
+/// @since      0.1.0
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class DictionaryListBenchmark {
+    /// The number of elements.
+    private static final int SIZE = 10_000_000;
+
+    /// The value of the last element.
+    private static final String LAST = "last";
+
+    /// The list implementation.
+    @Param({"ArrayList", "DictionaryEncodedList"})
+    private String implementation;
+
+    /// The number of distinct values.
+    @Param({"100", "10000"})
+    private int distinct;
+
+    /// The list under test.
+    private List<String> list;
+
+    /// The heap retained by the list in bytes.
+    private long retained;
+
+    /// The default constructor.
+    public DictionaryListBenchmark() {
+        super();
+    }
+
+    /// Creates and fills the list and measures the heap it retains.
+    @Setup(Level.Trial)
+    public void setUp() {
+        final long before = usedHeap();
+
+        this.list = switch (this.implementation) {
+            case "ArrayList" -> new ArrayList<>(SIZE);
+            case "DictionaryEncodedList" -> new DictionaryEncodedList<>();
+            default -> throw new IllegalArgumentException("Unknown implementation: " + this.implementation);
+        };
+
+        final SplittableRandom random = new SplittableRandom(42);
+
+        for (int i = 0; i < SIZE - 1; i++) {
+            this.list.add("value" + random.nextInt(this.distinct));
+        }
+
+        this.list.add(LAST);
+
+        this.retained = usedHeap() - before;
+    }
+
+    /// Iterates over the list.
+    ///
+    /// @param  footprint   net.jmp.spring.boot.failfast.benchmarks.DictionaryListBenchmark.Footprint
+    /// @return             long
+    @Benchmark
+    public long iterate(final Footprint footprint) {
+        long length = 0L;
+
+        for (final String value : this.list) {
+            length += value.length();
+        }
+
+        return length;
+    }
+
+    /// Searches for the value of the last element.
+    ///
+    /// @param  footprint   net.jmp.spring.boot.failfast.benchmarks.DictionaryListBenchmark.Footprint
+    /// @return             int
+    @Benchmark
+    public int indexOfLast(final Footprint footprint) {
+        return this.list.indexOf(LAST);
+    }
+
+    /// Returns the heap in use after a garbage collection.
+    ///
+    /// @return long
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    /// The heap retained by the list, reported with the
+    /// result of each iteration of the benchmarks that take it.
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+        /// The heap retained by the list in bytes.
+        public long retainedBytes;
+
+        /// The heap retained by the list per element in bytes.
+        public double retainedBytesPerElement;
+
+        /// The default constructor.
+        public Footprint() {
+            super();
+        }
+
+        /// Copies the measurement of the trial.
+        ///
+        /// @param  benchmark   net.jmp.spring.boot.failfast.benchmarks.DictionaryListBenchmark
+        @Setup(Level.Iteration)
+        public void setUp(final DictionaryListBenchmark benchmark) {
+            this.retainedBytes = benchmark.retained;
+            this.retainedBytesPerElement = (double) benchmark.retained / SIZE;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package net.jmp.spring.boot.failfast.benchmarks;
+
+/*
+ * (#)EpochReclaimBenchmark.java    0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import net.jmp.spring.boot.failfast.collections.LockFreeHashSet;
+
+import org.openjdk.jmh.annotations.*;
+
+import org.openjdk.jmh.infra.Blackhole;
+
+/// Compares the lock-free hash set with and without node pooling
+/// under two readers and one writer, the pattern of the set fail
+/// fast iteration tests. The readers look up and iterate while
+/// the writer churns elements in and out. Run with
+/// -PjmhProfilers=gc to compare the allocation rate per operation
+/// and the collection counts and times of the two variants.
+///
+/// @version    0.1.0
+/// @since      0.1.0
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Group)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class EpochReclaimBenchmark {
+    /// The number of stable elements.
+    private static final int SIZE = 10_000;
+
+    /// The number of elements the writer churns.
+    private static final int CHURN = 1_000;
+
+    /// Whether nodes are pooled.
+    @Param({"true", "false"})
+    private boolean pooled;
+
+    /// The set.
+    private LockFreeHashSet<Integer> set;
+
+    /// The boxed elements, so that boxing does not count as allocation.
+    private Integer[] values;
+
+    /// The default constructor.
+    public EpochReclaimBenchmark() {
+        super();
+    }
+
+    /// Fills the set.
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.set = new LockFreeHashSet<>(SIZE + CHURN, this.pooled);
+        this.values = new Integer[SIZE + CHURN];
+
+        for (int i = 0; i < this.values.length; i++) {
+            this.values[i] = i;
+        }
+
+        for (int i = 0; i < SIZE; i++) {
+            this.set.add(this.values[i]);
+        }
+    }
+
+    /// A lookup, and now and then an iteration, by a reader.
+    ///
+    /// @param  blackhole   org.openjdk.jmh.infra.Blackhole
+    @Benchmark
+    @Group("twoReadersOneWriter")
+    @GroupThreads(2)
+    public void read(final Blackhole blackhole) {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        if (random.nextInt(1_000) == 0) {
+            for (final Integer value : this.set) {
+                blackhole.consume(value);
+            }
+        } else {
+            blackhole.consume(this.set.contains(this.values[random.nextInt(this.values.length)]));
+        }
+    }
+
+    /// An addition or removal of a churned element by the writer.
+    ///
+    /// @return boolean
+    @Benchmark
+    @Group("twoReadersOneWriter")
+    @GroupThreads(1)
+    public boolean write() {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final Integer value = this.values[SIZE + random.nextInt(CHURN)];
+
+        return random.nextBoolean() ? this.set.add(value) : this.set.remove(value);
+    }
+}
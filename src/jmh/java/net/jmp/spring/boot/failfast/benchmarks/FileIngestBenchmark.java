@@ -0,0 +1,137 @@
+package net.jmp.spring.boot.failfast.benchmarks;
+
+/*
+ * (#)FileIngestBenchmark.java  0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.IOException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import java.util.concurrent.TimeUnit;
+
+import net.jmp.spring.boot.failfast.arena.ArenaStringList;
+
+import net.jmp.spring.boot.failfast.ingest.FileIngest;
+
+import org.openjdk.jmh.annotations.*;
+
+/// Compares reading a file of 10M lines with
+/// {@link Files#readAllLines(Path)} and with the file ingest,
+/// both into a list of strings and into an arena string list
+/// without creating strings. The file is written once per
+/// trial and is then usually in the page cache, so the scores
+/// are an upper bound on what a cold disk allows.
+///
+/// @version    0.1.0
+/// @since      0.1.0
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+public class FileIngestBenchmark {
+    /// The number of lines.
+    private static final int LINES = 10_000_000;
+
+    /// The number of distinct lines.
+    private static final int DISTINCT_LINES = 100_000;
+
+    /// The file.
+    private Path file;
+
+    /// The file ingest.
+    private final FileIngest ingest = new FileIngest();
+
+    /// The default constructor.
+    public FileIngestBenchmark() {
+        super();
+    }
+
+    /// Writes the file.
+    ///
+    /// @throws java.io.IOException When the file cannot be written
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        this.file = Files.createTempFile("ingest", ".txt");
+
+        try (final var writer = Files.newBufferedWriter(this.file)) {
+            for (int i = 0; i < LINES; i++) {
+                writer.write("value" + (i % DISTINCT_LINES));
+                writer.newLine();
+            }
+        }
+    }
+
+    /// Deletes the file.
+    ///
+    /// @throws java.io.IOException When the file cannot be deleted
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(this.file);
+    }
+
+    /// Reads all the lines with the files utility.
+    ///
+    /// @return java.util.List<java.lang.String>
+    /// @throws java.io.IOException When the file cannot be read
+    @Benchmark
+    public List<String> readAllLines() throws IOException {
+        return Files.readAllLines(this.file);
+    }
+
+    /// Ingests the lines into a list of strings.
+    ///
+    /// @return java.util.List<java.lang.String>
+    /// @throws java.io.IOException When the file cannot be read
+    @Benchmark
+    public List<String> ingestStrings() throws IOException {
+        final List<String> list = new ArrayList<>(LINES);
+
+        this.ingest.ingest(this.file, list);
+
+        return list;
+    }
+
+    /// Ingests the lines into an arena string list.
+    ///
+    /// @return net.jmp.spring.boot.failfast.arena.ArenaStringList
+    /// @throws java.io.IOException When the file cannot be read
+    @Benchmark
+    public ArenaStringList ingestArena() throws IOException {
+        final ArenaStringList list = new ArenaStringList();
+
+        this.ingest.ingest(this.file, list::addUtf8);
+
+        return list;
+    }
+}
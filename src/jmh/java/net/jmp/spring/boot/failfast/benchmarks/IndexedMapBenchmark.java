@@ -0,0 +1,130 @@
+package net.jmp.spring.boot.failfast.benchmarks;
+
+/*
+ * (#)IndexedMapBenchmark.java  0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.HashMap;
+import java.util.Map;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import net.jmp.spring.boot.failfast.collections.IndexedMap;
+import net.jmp.spring.boot.failfast.collections.SecondaryIndex;
+
+import org.openjdk.jmh.annotations.*;
+
+/// Compares finding a key by its value through a scan of
+/// the entry set of a hash map with a lookup in a unique
+/// secondary index, and measures what maintaining the
+/// index adds to a put.
+///
+/// @version    0.1.0
+/// @since      0.1.0
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class IndexedMapBenchmark {
+    /// The number of entries.
+    @Param({"100000", "5000000"})
+    private int size;
+
+    /// The hash map.
+    private Map<String, String> hashMap;
+
+    /// The indexed map.
+    private IndexedMap<String, String> indexedMap;
+
+    /// The index by value.
+    private SecondaryIndex<String, String, String> byValue;
+
+    /// The default constructor.
+    public IndexedMapBenchmark() {
+        super();
+    }
+
+    /// Fills the maps.
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.hashMap = HashMap.newHashMap(this.size);
+        this.indexedMap = new IndexedMap<>(this.size);
+        this.byValue = this.indexedMap.addIndex("value", value -> value, true);
+
+        for (int i = 0; i < this.size; i++) {
+            this.hashMap.put("key" + i, "value" + i);
+            this.indexedMap.put("key" + i, "value" + i);
+        }
+    }
+
+    /// Finds a key by value by scanning the hash map.
+    ///
+    /// @return java.lang.String
+    @Benchmark
+    public String scanByValue() {
+        final String value = "value" + ThreadLocalRandom.current().nextInt(this.size);
+
+        for (final Map.Entry<String, String> entry : this.hashMap.entrySet()) {
+            if (entry.getValue().equals(value)) {
+                return entry.getKey();
+            }
+        }
+
+        return null;
+    }
+
+    /// Finds a key by value through the index.
+    ///
+    /// @return java.lang.String
+    @Benchmark
+    public String indexByValue() {
+        return this.byValue.key("value" + ThreadLocalRandom.current().nextInt(this.size));
+    }
+
+    /// Replaces a value in the hash map.
+    ///
+    /// @return java.lang.String
+    @Benchmark
+    public String hashPut() {
+        final int i = ThreadLocalRandom.current().nextInt(this.size);
+
+        return this.hashMap.put("key" + i, "value" + i);
+    }
+
+    /// Replaces a value in the indexed map.
+    ///
+    /// @return java.lang.String
+    @Benchmark
+    public String indexedPut() {
+        final int i = ThreadLocalRandom.current().nextInt(this.size);
+
+        return this.indexedMap.put("key" + i, "value" + i);
+    }
+}
@@ -0,0 +1,236 @@
+package net.jmp.spring.boot.failfast.benchmarks;
+
+/*
+ * (#)IntListBenchmark.java 0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import java.util.concurrent.TimeUnit;
+
+import net.jmp.spring.boot.failfast.collections.IntArrayList;
+import net.jmp.spring.boot.failfast.collections.IntCondition;
+
+import org.openjdk.jmh.annotations.*;
+
+/// Compares the bulk operations of the int array list, with
+/// and without the Vector API, with the stream equivalents over
+/// an array list of boxed integers: a sum, a search for a value
+/// that is absent, a count of the negative values and a removal
+/// of the negative values. The vectorized list runs scalar loops
+/// if the jdk.incubator.vector module is not resolved.
+///
+/// @version    0.1.0
+/// @since      0.1.0
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class IntListBenchmark {
+    /// The condition counted and removed.
+    private static final IntCondition NEGATIVE = IntCondition.lessThan(0);
+
+    /// The number of elements.
+    @Param({"10000", "1000000"})
+    private int size;
+
+    /// The boxed list.
+    private List<Integer> boxed;
+
+    /// The vectorized list.
+    private IntArrayList vectorized;
+
+    /// The scalar list.
+    private IntArrayList scalar;
+
+    /// The default constructor.
+    public IntListBenchmark() {
+        super();
+    }
+
+    /// Fills the lists with the same values.
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.boxed = new ArrayList<>(this.size);
+        this.vectorized = new IntArrayList(this.size, true);
+        this.scalar = new IntArrayList(this.size, false);
+
+        fill(this.size, this.boxed, this.vectorized, this.scalar);
+    }
+
+    /// Sums the boxed list with a stream.
+    ///
+    /// @return long
+    @Benchmark
+    public long sumBoxed() {
+        return this.boxed.stream().mapToLong(Integer::longValue).sum();
+    }
+
+    /// Sums the vectorized list.
+    ///
+    /// @return long
+    @Benchmark
+    public long sumVectorized() {
+        return this.vectorized.sum();
+    }
+
+    /// Sums the scalar list.
+    ///
+    /// @return long
+    @Benchmark
+    public long sumScalar() {
+        return this.scalar.sum();
+    }
+
+    /// Searches the boxed list for an absent value.
+    ///
+    /// @return boolean
+    @Benchmark
+    public boolean containsBoxed() {
+        return this.boxed.stream().anyMatch(value -> value == Integer.MAX_VALUE);
+    }
+
+    /// Searches the vectorized list for an absent value.
+    ///
+    /// @return boolean
+    @Benchmark
+    public boolean containsVectorized() {
+        return this.vectorized.containsInt(Integer.MAX_VALUE);
+    }
+
+    /// Searches the scalar list for an absent value.
+    ///
+    /// @return boolean
+    @Benchmark
+    public boolean containsScalar() {
+        return this.scalar.containsInt(Integer.MAX_VALUE);
+    }
+
+    /// Counts the negative values of the boxed list with a stream.
+    ///
+    /// @return long
+    @Benchmark
+    public long countBoxed() {
+        return this.boxed.stream().filter(value -> value < 0).count();
+    }
+
+    /// Counts the negative values of the vectorized list.
+    ///
+    /// @return int
+    @Benchmark
+    public int countVectorized() {
+        return this.vectorized.count(NEGATIVE);
+    }
+
+    /// Counts the negative values of the scalar list.
+    ///
+    /// @return int
+    @Benchmark
+    public int countScalar() {
+        return this.scalar.count(NEGATIVE);
+    }
+
+    /// Removes the negative values from a fresh boxed list.
+    ///
+    /// @param  removal net.jmp.spring.boot.failfast.benchmarks.IntListBenchmark.Removal
+    /// @return         boolean
+    @Benchmark
+    public boolean removeIfBoxed(final Removal removal) {
+        return removal.boxed.removeIf(value -> value < 0);
+    }
+
+    /// Removes the negative values from a fresh vectorized list.
+    ///
+    /// @param  removal net.jmp.spring.boot.failfast.benchmarks.IntListBenchmark.Removal
+    /// @return         boolean
+    @Benchmark
+    public boolean removeIfVectorized(final Removal removal) {
+        return removal.vectorized.removeIfInt(NEGATIVE);
+    }
+
+    /// Removes the negative values from a fresh scalar list.
+    ///
+    /// @param  removal net.jmp.spring.boot.failfast.benchmarks.IntListBenchmark.Removal
+    /// @return         boolean
+    @Benchmark
+    public boolean removeIfScalar(final Removal removal) {
+        return removal.scalar.removeIfInt(NEGATIVE);
+    }
+
+    /// Fills the lists with the same pseudo-random values,
+    /// about half of them negative.
+    ///
+    /// @param  size        int
+    /// @param  boxed       java.util.List<java.lang.Integer>
+    /// @param  vectorized  net.jmp.spring.boot.failfast.collections.IntArrayList
+    /// @param  scalar      net.jmp.spring.boot.failfast.collections.IntArrayList
+    private static void fill(final int size, final List<Integer> boxed, final IntArrayList vectorized, final IntArrayList scalar) {
+        final Random random = new Random(42);
+
+        for (int i = 0; i < size; i++) {
+            final int value = random.nextInt(2 * size) - size;
+
+            boxed.add(value);
+            vectorized.addInt(value);
+            scalar.addInt(value);
+        }
+    }
+
+    /// The lists removed from, refilled before each invocation.
+    @State(Scope.Thread)
+    public static class Removal {
+        /// The boxed list.
+        private List<Integer> boxed;
+
+        /// The vectorized list.
+        private IntArrayList vectorized;
+
+        /// The scalar list.
+        private IntArrayList scalar;
+
+        /// The default constructor.
+        public Removal() {
+            super();
+        }
+
+        /// Refills the lists to the size of the benchmark.
+        ///
+        /// @param  benchmark   net.jmp.spring.boot.failfast.benchmarks.IntListBenchmark
+        @Setup(Level.Invocation)
+        public void setUp(final IntListBenchmark benchmark) {
+            this.boxed = new ArrayList<>(benchmark.size);
+            this.vectorized = new IntArrayList(benchmark.size, true);
+            this.scalar = new IntArrayList(benchmark.size, false);
+
+            fill(benchmark.size, this.boxed, this.vectorized, this.scalar);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package net.jmp.spring.boot.failfast.benchmarks;
+
+/*
+ * (#)ListMutationBenchmark.java    0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.*;
+
+import java.util.concurrent.TimeUnit;
+
+import net.jmp.spring.boot.failfast.collections.UnrolledLinkedList;
+
+import org.openjdk.jmh.annotations.*;
+
+/// Compares the unrolled linked list with the array and linked
+/// lists when elements are removed from or inserted into the
+/// middle of the list through its iterator, the pattern used by
+/// the list service, and for a plain traversal.
+///
+/// @version    0.1.0
+/// @since      0.1.0
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ListMutationBenchmark {
+    /// The list implementation.
+    @Param({"ArrayList", "LinkedList", "UnrolledLinkedList"})
+    private String implementation;
+
+    /// The number of elements.
+    @Param({"10000", "100000"})
+    private int size;
+
+    /// The list under test; rebuilt before each invocation.
+    private List<Integer> list;
+
+    /// The default constructor.
+    public ListMutationBenchmark() {
+        super();
+    }
+
+    /// Creates and fills the list.
+    @Setup(Level.Invocation)
+    public void setUp() {
+        this.list = switch (this.implementation) {
+            case "ArrayList" -> new ArrayList<>(this.size);
+            case "LinkedList" -> new LinkedList<>();
+            case "UnrolledLinkedList" -> new UnrolledLinkedList<>();
+            default -> throw new IllegalArgumentException("Unknown implementation: " + this.implementation);
+        };
+
+        for (int i = 0; i < this.size; i++) {
+            this.list.add(i);
+        }
+    }
+
+    /// Removes every other element through the iterator.
+    ///
+    /// @return int
+    @Benchmark
+    public int removeDuringIteration() {
+        for (final Iterator<Integer> iterator = this.list.iterator(); iterator.hasNext();) {
+            if ((iterator.next() & 1) == 0) {
+                iterator.remove();
+            }
+        }
+
+        return this.list.size();
+    }
+
+    /// Inserts an element after every tenth element through the list iterator.
+    ///
+    /// @return int
+    @Benchmark
+    public int addDuringIteration() {
+        for (final ListIterator<Integer> iterator = this.list.listIterator(); iterator.hasNext();) {
+            final int value = iterator.next();
+
+            if (value % 10 == 0) {
+                iterator.add(-value);
+            }
+        }
+
+        return this.list.size();
+    }
+
+    /// Sums the elements.
+    ///
+    /// @return long
+    @Benchmark
+    public long iterate() {
+        long sum = 0;
+
+        for (final Integer value : this.list) {
+            sum += value;
+        }
+
+        return sum;
+    }
+}
@@ -0,0 +1,140 @@
+package net.jmp.spring.boot.failfast.benchmarks;
+
+/*
+ * (#)MapReadWriteBenchmark.java    0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Map;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import net.jmp.spring.boot.failfast.collections.OptimisticReadMap;
+
+import org.openjdk.jmh.annotations.*;
+
+import org.openjdk.jmh.infra.Blackhole;
+
+/// Compares the optimistic read map with the concurrent hash
+/// map at read/write ratios of 99/1 and 90/10. Every thread
+/// chooses a read or a write at random for each operation;
+/// a read is either a lookup or a full iteration.
+///
+/// @version    0.1.0
+/// @since      0.1.0
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+public class MapReadWriteBenchmark {
+    /// The number of keys.
+    private static final int SIZE = 10_000;
+
+    /// The number of keys iterated by a read in the iterate benchmark.
+    private static final int ITERATION_SIZE = 1_000;
+
+    /// The map implementation.
+    @Param({"ConcurrentHashMap", "OptimisticReadMap"})
+    private String implementation;
+
+    /// The percentage of operations that are reads.
+    @Param({"99", "90"})
+    private int readPercent;
+
+    /// The map under test.
+    private Map<Integer, Integer> map;
+
+    /// The smaller map used by the iterate benchmark.
+    private Map<Integer, Integer> smallMap;
+
+    /// The default constructor.
+    public MapReadWriteBenchmark() {
+        super();
+    }
+
+    /// Creates and fills the maps.
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.map = this.newMap(SIZE);
+        this.smallMap = this.newMap(ITERATION_SIZE);
+    }
+
+    /// A lookup or a put.
+    ///
+    /// @return java.lang.Integer
+    @Benchmark
+    public Integer getOrPut() {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final int key = random.nextInt(SIZE);
+
+        if (random.nextInt(100) < this.readPercent) {
+            return this.map.get(key);
+        }
+
+        return this.map.put(key, key);
+    }
+
+    /// A full iteration or a put.
+    ///
+    /// @param  blackhole   org.openjdk.jmh.infra.Blackhole
+    @Benchmark
+    public void iterateOrPut(final Blackhole blackhole) {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        if (random.nextInt(100) < this.readPercent) {
+            for (final Map.Entry<Integer, Integer> entry : this.smallMap.entrySet()) {
+                blackhole.consume(entry.getValue());
+            }
+        } else {
+            final int key = random.nextInt(ITERATION_SIZE);
+
+            blackhole.consume(this.smallMap.put(key, key));
+        }
+    }
+
+    /// Returns a filled map of the configured implementation.
+    ///
+    /// @param  size    int
+    /// @return         java.util.Map<java.lang.Integer,java.lang.Integer>
+    private Map<Integer, Integer> newMap(final int size) {
+        final Map<Integer, Integer> result = switch (this.implementation) {
+            case "ConcurrentHashMap" -> new ConcurrentHashMap<>(size);
+            case "OptimisticReadMap" -> new OptimisticReadMap<>(size);
+            default -> throw new IllegalArgumentException("Unknown implementation: " + this.implementation);
+        };
+
+        for (int key = 0; key < size; key++) {
+            result.put(key, key);
+        }
+
+        return result;
+    }
+}
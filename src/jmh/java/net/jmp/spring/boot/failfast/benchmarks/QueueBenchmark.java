@@ -0,0 +1,126 @@
+package net.jmp.spring.boot.failfast.benchmarks;
+
+/*
+ * (#)QueueBenchmark.java   0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Queue;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedTransferQueue;
+import java.util.concurrent.TimeUnit;
+
+import net.jmp.spring.boot.failfast.collections.MpmcRingBuffer;
+
+import org.openjdk.jmh.annotations.*;
+
+/// Compares the concurrent queues and the ring buffer with one
+/// producer and one consumer and with four of each. A full offer
+/// or an empty poll counts as an operation, so the results are
+/// the rates at which each side gets through the queue. The
+/// unbounded queues grow while the producers outpace the
+/// consumers, so each iteration starts with a new queue.
+///
+/// @version    0.1.0
+/// @since      0.1.0
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Group)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class QueueBenchmark {
+    /// The capacity of the bounded queues.
+    private static final int CAPACITY = 1 << 10;
+
+    /// The element offered.
+    private static final Integer ELEMENT = 42;
+
+    /// The kind of queue.
+    @Param({"ConcurrentLinkedQueue", "ArrayBlockingQueue", "LinkedTransferQueue", "MpmcRingBuffer"})
+    private String kind;
+
+    /// The queue.
+    private Queue<Integer> queue;
+
+    /// The default constructor.
+    public QueueBenchmark() {
+        super();
+    }
+
+    /// Creates the queue.
+    @Setup(Level.Iteration)
+    public void setUp() {
+        this.queue = switch (this.kind) {
+            case "ConcurrentLinkedQueue" -> new ConcurrentLinkedQueue<>();
+            case "ArrayBlockingQueue" -> new ArrayBlockingQueue<>(CAPACITY);
+            case "LinkedTransferQueue" -> new LinkedTransferQueue<>();
+            default -> new MpmcRingBuffer<>(CAPACITY);
+        };
+    }
+
+    /// An offer by the producer.
+    ///
+    /// @return boolean
+    @Benchmark
+    @Group("oneToOne")
+    @GroupThreads(1)
+    public boolean offerOneToOne() {
+        return this.queue.offer(ELEMENT);
+    }
+
+    /// A poll by the consumer.
+    ///
+    /// @return java.lang.Integer
+    @Benchmark
+    @Group("oneToOne")
+    @GroupThreads(1)
+    public Integer pollOneToOne() {
+        return this.queue.poll();
+    }
+
+    /// An offer by one of four producers.
+    ///
+    /// @return boolean
+    @Benchmark
+    @Group("fourToFour")
+    @GroupThreads(4)
+    public boolean offerFourToFour() {
+        return this.queue.offer(ELEMENT);
+    }
+
+    /// A poll by one of four consumers.
+    ///
+    /// @return java.lang.Integer
+    @Benchmark
+    @Group("fourToFour")
+    @GroupThreads(4)
+    public Integer pollFourToFour() {
+        return this.queue.poll();
+    }
+}
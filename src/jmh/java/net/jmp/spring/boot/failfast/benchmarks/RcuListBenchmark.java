@@ -0,0 +1,132 @@
+package net.jmp.spring.boot.failfast.benchmarks;
+
+/*
+ * (#)RcuListBenchmark.java 0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.time.Duration;
+
+import java.util.List;
+
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import net.jmp.spring.boot.failfast.collections.RcuList;
+
+import org.openjdk.jmh.annotations.*;
+
+import org.openjdk.jmh.infra.Blackhole;
+
+/// Compares the read-copy-update list with the copy-on-write
+/// array list under three readers and one writer. The readers
+/// index into and now and then iterate the list while the writer
+/// replaces, appends and removes elements. The copy-on-write list
+/// copies the array on every write; the read-copy-update list
+/// copies it once per publication window.
+///
+/// @version    0.1.0
+/// @since      0.1.0
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Group)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class RcuListBenchmark {
+    /// The list implementation.
+    @Param({"CopyOnWriteArrayList", "RcuList"})
+    private String implementation;
+
+    /// The number of elements.
+    @Param({"1000", "100000"})
+    private int size;
+
+    /// The list.
+    private List<Integer> list;
+
+    /// The default constructor.
+    public RcuListBenchmark() {
+        super();
+    }
+
+    /// Creates and fills the list.
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.list = switch (this.implementation) {
+            case "CopyOnWriteArrayList" -> new CopyOnWriteArrayList<>();
+            case "RcuList" -> new RcuList<>(Duration.ofMillis(1));
+            default -> throw new IllegalArgumentException("Unknown implementation: " + this.implementation);
+        };
+
+        for (int i = 0; i < this.size; i++) {
+            this.list.add(i);
+        }
+
+        if (this.list instanceof RcuList<Integer> rcu) {
+            rcu.flush();
+        }
+    }
+
+    /// An indexed read, and now and then an iteration, by a reader.
+    ///
+    /// @param  blackhole   org.openjdk.jmh.infra.Blackhole
+    @Benchmark
+    @Group("threeReadersOneWriter")
+    @GroupThreads(3)
+    public void read(final Blackhole blackhole) {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final int current = this.list.size();
+
+        if (random.nextInt(1_000) == 0) {
+            for (final Integer value : this.list) {
+                blackhole.consume(value);
+            }
+        } else if (current > 0) {
+            try {
+                blackhole.consume(this.list.get(random.nextInt(current)));
+            } catch (final IndexOutOfBoundsException _) {
+                blackhole.consume(current);     // A write shrank the list between the two reads
+            }
+        }
+    }
+
+    /// A replacement, or an append followed by a removal, by the writer.
+    @Benchmark
+    @Group("threeReadersOneWriter")
+    @GroupThreads(1)
+    public void write() {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        if (random.nextBoolean()) {
+            this.list.set(random.nextInt(this.size), random.nextInt());
+        } else {
+            this.list.add(random.nextInt());
+            this.list.remove(this.size);
+        }
+    }
+}
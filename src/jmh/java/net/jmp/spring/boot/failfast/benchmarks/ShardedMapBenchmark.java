@@ -0,0 +1,126 @@
+package net.jmp.spring.boot.failfast.benchmarks;
+
+/*
+ * (#)ShardedMapBenchmark.java  0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Map;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import net.jmp.spring.boot.failfast.collections.ShardedMap;
+
+import org.openjdk.jmh.annotations.*;
+
+/// Compares the concurrent hash map with the sharded map for
+/// puts from four threads. The sharded map is measured both
+/// waiting for every put and pipelining batches of 64 puts
+/// before waiting for them.
+///
+/// @version    0.1.0
+/// @since      0.1.0
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+public class ShardedMapBenchmark {
+    /// The number of keys.
+    private static final int SIZE = 100_000;
+
+    /// The number of puts in a pipelined batch.
+    private static final int BATCH = 64;
+
+    /// The concurrent hash map.
+    private Map<Integer, Integer> concurrentMap;
+
+    /// The sharded map.
+    private ShardedMap<Integer, Integer> shardedMap;
+
+    /// The default constructor.
+    public ShardedMapBenchmark() {
+        super();
+    }
+
+    /// Creates the maps.
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.concurrentMap = new ConcurrentHashMap<>(SIZE);
+        this.shardedMap = new ShardedMap<>();
+    }
+
+    /// Stops the shard threads.
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.shardedMap.close();
+    }
+
+    /// A put into the concurrent hash map.
+    ///
+    /// @return java.lang.Integer
+    @Benchmark
+    public Integer concurrentPut() {
+        final int key = ThreadLocalRandom.current().nextInt(SIZE);
+
+        return this.concurrentMap.put(key, key);
+    }
+
+    /// A put into the sharded map that waits for the shard.
+    ///
+    /// @return java.lang.Integer
+    @Benchmark
+    public Integer shardedPut() {
+        final int key = ThreadLocalRandom.current().nextInt(SIZE);
+
+        return this.shardedMap.put(key, key);
+    }
+
+    /// A batch of pipelined puts into the sharded map.
+    ///
+    /// @return java.lang.Integer
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public Integer shardedPipelinedPut() {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final CompletableFuture<?>[] futures = new CompletableFuture<?>[BATCH];
+
+        for (int i = 0; i < BATCH; i++) {
+            final int key = random.nextInt(SIZE);
+
+            futures[i] = this.shardedMap.putAsync(key, key);
+        }
+
+        CompletableFuture.allOf(futures).join();
+
+        return futures.length;
+    }
+}
@@ -0,0 +1,206 @@
+package net.jmp.spring.boot.failfast.benchmarks;
+
+/*
+ * (#)SortedMapBenchmark.java   0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.*;
+
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import net.jmp.spring.boot.failfast.collections.LockFreeBPlusTreeMap;
+
+import org.openjdk.jmh.annotations.*;
+
+import org.openjdk.jmh.infra.Blackhole;
+
+/// Compares a tree map guarded by a read/write lock, the
+/// concurrent skip list map and the lock-free B+ tree map on
+/// sorted workloads: range scans of 100 keys while another
+/// thread writes, ordered iteration of every key and removal
+/// of every sixteenth key through the iterator.
+///
+/// @version    0.1.0
+/// @since      0.1.0
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SortedMapBenchmark {
+    /// The number of keys in a range scan.
+    private static final int RANGE = 100;
+
+    /// The map implementation.
+    @Param({"LockedTreeMap", "ConcurrentSkipListMap", "LockFreeBPlusTreeMap"})
+    private String implementation;
+
+    /// The number of keys.
+    @Param({"10000", "100000"})
+    private int size;
+
+    /// The lock that guards the tree map.
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /// The map under test.
+    private NavigableMap<Integer, Integer> navigableMap;
+
+    /// The lock-free B+ tree map under test.
+    private LockFreeBPlusTreeMap<Integer, Integer> treeMap;
+
+    /// The default constructor.
+    public SortedMapBenchmark() {
+        super();
+    }
+
+    /// Creates and fills the map.
+    @Setup(Level.Trial)
+    public void setUp() {
+        switch (this.implementation) {
+            case "LockedTreeMap" -> this.navigableMap = new TreeMap<>();
+            case "ConcurrentSkipListMap" -> this.navigableMap = new ConcurrentSkipListMap<>();
+            case "LockFreeBPlusTreeMap" -> this.treeMap = new LockFreeBPlusTreeMap<>();
+            default -> throw new IllegalArgumentException("Unknown implementation: " + this.implementation);
+        }
+
+        final Map<Integer, Integer> map = this.map();
+
+        for (int key = 0; key < this.size; key++) {
+            map.put(key, key);
+        }
+    }
+
+    /// A range scan of 100 keys from a random key.
+    ///
+    /// @param  blackhole   org.openjdk.jmh.infra.Blackhole
+    @Benchmark
+    @Group("scanUnderWrites")
+    @GroupThreads(3)
+    public void rangeScan(final Blackhole blackhole) {
+        final int from = ThreadLocalRandom.current().nextInt(this.size);
+
+        if (this.treeMap != null) {
+            final Iterator<Map.Entry<Integer, Integer>> iterator = this.treeMap.scan(from, true, from + RANGE, false);
+
+            while (iterator.hasNext()) {
+                blackhole.consume(iterator.next().getValue());
+            }
+        } else if (this.navigableMap instanceof TreeMap) {
+            this.lock.readLock().lock();
+
+            try {
+                this.consumeRange(from, blackhole);
+            } finally {
+                this.lock.readLock().unlock();
+            }
+        } else {
+            this.consumeRange(from, blackhole);
+        }
+    }
+
+    /// A put or a remove of a random key.
+    ///
+    /// @return java.lang.Integer
+    @Benchmark
+    @Group("scanUnderWrites")
+    @GroupThreads(1)
+    public Integer write() {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final int key = random.nextInt(this.size);
+        final Map<Integer, Integer> map = this.map();
+
+        if (this.navigableMap instanceof TreeMap) {
+            this.lock.writeLock().lock();
+        }
+
+        try {
+            return random.nextBoolean() ? map.put(key, key) : map.remove(key);
+        } finally {
+            if (this.navigableMap instanceof TreeMap) {
+                this.lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /// An iteration over every entry in key order.
+    ///
+    /// @param  blackhole   org.openjdk.jmh.infra.Blackhole
+    @Benchmark
+    public void orderedIteration(final Blackhole blackhole) {
+        for (final Map.Entry<Integer, Integer> entry : this.map().entrySet()) {
+            blackhole.consume(entry.getValue());
+        }
+    }
+
+    /// Removes every sixteenth key through the iterator
+    /// and puts the removed keys back afterwards.
+    ///
+    /// @return int
+    @Benchmark
+    public int mutateDuringIteration() {
+        final Map<Integer, Integer> map = this.map();
+        final List<Integer> removed = new ArrayList<>(this.size / 16 + 1);
+
+        for (final Iterator<Integer> iterator = map.keySet().iterator(); iterator.hasNext();) {
+            final Integer key = iterator.next();
+
+            if ((key & 15) == 0) {
+                iterator.remove();
+                removed.add(key);
+            }
+        }
+
+        for (final Integer key : removed) {
+            map.put(key, key);
+        }
+
+        return removed.size();
+    }
+
+    /// Consumes the values of a range of the navigable map.
+    ///
+    /// @param  from        int
+    /// @param  blackhole   org.openjdk.jmh.infra.Blackhole
+    private void consumeRange(final int from, final Blackhole blackhole) {
+        for (final Integer value : this.navigableMap.subMap(from, true, from + RANGE, false).values()) {
+            blackhole.consume(value);
+        }
+    }
+
+    /// Returns the map under test.
+    ///
+    /// @return java.util.Map<java.lang.Integer,java.lang.Integer>
+    private Map<Integer, Integer> map() {
+        return this.treeMap != null ? this.treeMap : this.navigableMap;
+    }
+}
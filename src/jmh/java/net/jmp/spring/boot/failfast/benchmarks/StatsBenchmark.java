@@ -0,0 +1,89 @@
+package net.jmp.spring.boot.failfast.benchmarks;
+
+/*
+ * (#)StatsBenchmark.java   0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import net.jmp.spring.boot.failfast.stats.Counter;
+import net.jmp.spring.boot.failfast.stats.LatencyHistogram;
+
+import org.openjdk.jmh.annotations.*;
+
+/// Compares the cost of counting and of recording a latency when
+/// 64 threads do so at once: a shared atomic long, on whose cache
+/// line the threads queue, against the striped counter, and the
+/// per-thread histogram.
+///
+/// @version    0.1.0
+/// @since      0.1.0
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Threads(64)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class StatsBenchmark {
+    /// The shared atomic long.
+    private final AtomicLong atomic = new AtomicLong();
+
+    /// The striped counter.
+    private final Counter counter = new Counter();
+
+    /// The histogram.
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    /// The default constructor.
+    public StatsBenchmark() {
+        super();
+    }
+
+    /// Increments the shared atomic long.
+    ///
+    /// @return long
+    @Benchmark
+    public long atomicIncrement() {
+        return this.atomic.incrementAndGet();
+    }
+
+    /// Increments the striped counter.
+    @Benchmark
+    public void counterIncrement() {
+        this.counter.increment();
+    }
+
+    /// Records a latency.
+    @Benchmark
+    public void histogramRecord() {
+        this.histogram.record(ThreadLocalRandom.current().nextLong(1_000_000L));
+    }
+}
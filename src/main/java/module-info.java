@@ -30,6 +30,10 @@
 ///
 /// @since  0.1.0
 module Spring.Boot.Fail.Fast.main {
+    requires java.management;
+    requires jdk.httpserver;
+    requires static jdk.incubator.vector;
+    requires jdk.management;
     requires logging.utilities;
     requires org.slf4j;
     requires spring.boot;
@@ -40,5 +44,16 @@ module Spring.Boot.Fail.Fast.main {
     opens net.jmp.spring.boot.failfast to spring.core;
 
     exports net.jmp.spring.boot.failfast;
+    exports net.jmp.spring.boot.failfast.affinity;
+    exports net.jmp.spring.boot.failfast.arena;
+    exports net.jmp.spring.boot.failfast.collections;
+    exports net.jmp.spring.boot.failfast.cursors;
+    exports net.jmp.spring.boot.failfast.events;
+    exports net.jmp.spring.boot.failfast.ingest;
+    exports net.jmp.spring.boot.failfast.profiling;
+    exports net.jmp.spring.boot.failfast.reclaim;
     exports net.jmp.spring.boot.failfast.services;
+    exports net.jmp.spring.boot.failfast.spill;
+    exports net.jmp.spring.boot.failfast.staleness;
+    exports net.jmp.spring.boot.failfast.stats;
 }
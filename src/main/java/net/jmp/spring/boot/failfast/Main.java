@@ -28,24 +28,113 @@ package net.jmp.spring.boot.failfast;
  * SOFTWARE.
  */
 
+import java.io.IOException;
+
+import java.time.Duration;
+
+import java.util.Arrays;
+import java.util.List;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import java.util.function.Supplier;
+
+import net.jmp.spring.boot.failfast.affinity.AffinityBenchmark;
+import net.jmp.spring.boot.failfast.affinity.AffinityRunner;
+import net.jmp.spring.boot.failfast.affinity.CpuAffinity;
+import net.jmp.spring.boot.failfast.affinity.CpuTopology;
+import net.jmp.spring.boot.failfast.affinity.Placement;
+
+import net.jmp.spring.boot.failfast.profiling.AllocationAccountant;
+import net.jmp.spring.boot.failfast.profiling.AllocationReport;
+import net.jmp.spring.boot.failfast.profiling.ObjectGraph;
+
 import net.jmp.spring.boot.failfast.services.*;
 
+import net.jmp.spring.boot.failfast.stats.Counter;
+import net.jmp.spring.boot.failfast.stats.LatencyHistogram;
+import net.jmp.spring.boot.failfast.stats.StatsEndpoint;
+import net.jmp.spring.boot.failfast.stats.StatsRegistry;
+import net.jmp.spring.boot.failfast.stats.StatsSnapshot;
+
 import static net.jmp.util.logging.LoggerUtils.entry;
 import static net.jmp.util.logging.LoggerUtils.exit;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+
 import org.springframework.core.env.Environment;
 
 import org.springframework.stereotype.Component;
 
-/// The main application class.
+import org.springframework.util.unit.DataSize;
+
+/// The main application class. Setting the property
+/// failfast.allocation.accounting to true accounts for the memory
+/// each service uses per run; failfast.allocation.budget, a data
+/// size such as 64MB, sets the allocation that draws a warning.
+///
+/// Setting the property failfast.affinity to true runs the affinity
+/// benchmark instead of the services: readers and a writer pinned
+/// to CPUs over each thread-safe collection, unpinned, on one socket
+/// and across sockets. failfast.affinity.readers sets the number of
+/// readers, failfast.affinity.duration the measurement of each run
+/// and failfast.affinity.cpus, a list such as 0,2,4, pins the writer
+/// to the first CPU and the readers to the others instead.
+///
+/// Setting the property failfast.soak to true runs the services
+/// over and over, failfast.soak.interval apart, for
+/// failfast.soak.duration or until the application is stopped,
+/// and serves their statistics on failfast.soak.port of the
+/// loopback address while they run. Each round runs the lighter
+/// part of each service unless failfast.soak.full is true.
+///
+/// Each service run is timed into the histogram named after the
+/// service and the statistics are logged once the services have run.
 ///
 /// @version    0.1.0
 /// @since      0.1.0
 @Component
 public class Main implements Runnable {
+    /// The property that turns allocation accounting on.
+    static final String ACCOUNTING = "failfast.allocation.accounting";
+
+    /// The property that sets the allocation budget of a service run.
+    static final String BUDGET = "failfast.allocation.budget";
+
+    /// The property that runs the affinity benchmark.
+    static final String AFFINITY = "failfast.affinity";
+
+    /// The property that sets the number of readers of the affinity benchmark.
+    static final String AFFINITY_READERS = "failfast.affinity.readers";
+
+    /// The property that sets the measurement of each affinity run.
+    static final String AFFINITY_DURATION = "failfast.affinity.duration";
+
+    /// The property that sets the CPUs of the affinity benchmark.
+    static final String AFFINITY_CPUS = "failfast.affinity.cpus";
+
+    /// The property that runs the services on a schedule.
+    static final String SOAK = "failfast.soak";
+
+    /// The property that sets the delay between soak rounds.
+    static final String SOAK_INTERVAL = "failfast.soak.interval";
+
+    /// The property that sets how long the soak runs.
+    static final String SOAK_DURATION = "failfast.soak.duration";
+
+    /// The property that sets the port of the statistics endpoint.
+    static final String SOAK_PORT = "failfast.soak.port";
+
+    /// The property that runs the whole of each service in a soak round.
+    static final String SOAK_FULL = "failfast.soak.full";
+
     /// The logger.
     private final Logger logger = LoggerFactory.getLogger(this.getClass().getName());
 
@@ -58,25 +147,40 @@ public class Main implements Runnable {
     /// The map service.
     private final MapService mapService;
 
+    /// The queue service.
+    private final QueueService queueService;
+
     /// The set service.
     private final SetService setService;
 
+    /// The statistics registry.
+    private final StatsRegistry stats;
+
+    /// The latch released when the application context closes.
+    private final CountDownLatch closed = new CountDownLatch(1);
+
     /// The constructor.
     ///
-    /// @param  environment org.springframework.core.env.Environment
-    /// @param  listService net.jmp.spring.boot.failfast.services.ListService
-    /// @param  mapService  net.jmp.spring.boot.failfast.services.MapService
-    /// @param  setService  net.jmp.spring.boot.failfast.services.SetService
+    /// @param  environment     org.springframework.core.env.Environment
+    /// @param  listService     net.jmp.spring.boot.failfast.services.ListService
+    /// @param  mapService      net.jmp.spring.boot.failfast.services.MapService
+    /// @param  queueService    net.jmp.spring.boot.failfast.services.QueueService
+    /// @param  setService      net.jmp.spring.boot.failfast.services.SetService
+    /// @param  stats           net.jmp.spring.boot.failfast.stats.StatsRegistry
     public Main(final Environment environment,
                 final ListService listService,
                 final MapService mapService,
-                final SetService setService) {
+                final QueueService queueService,
+                final SetService setService,
+                final StatsRegistry stats) {
         super();
 
         this.environment = environment;
         this.listService = listService;
         this.mapService = mapService;
+        this.queueService = queueService;
         this.setService = setService;
+        this.stats = stats;
     }
 
     ///
@@ -87,9 +191,240 @@ public class Main implements Runnable {
             this.logger.trace(entry());
         }
 
-        this.listService.runService();
-        this.mapService.runService();
-        this.setService.runService();
+        final List<ServiceRunner> services = List.of(this.listService, this.mapService, this.queueService, this.setService);
+
+        if (this.environment.getProperty(AFFINITY, Boolean.class, Boolean.FALSE)) {
+            this.runAffinity();
+        } else if (this.environment.getProperty(SOAK, Boolean.class, Boolean.FALSE)) {
+            this.runSoak(services);
+        } else if (this.environment.getProperty(ACCOUNTING, Boolean.class, Boolean.FALSE)) {
+            this.runAccounted(services);
+            this.logStats();
+        } else {
+            services.forEach(this::runTimed);
+            this.logStats();
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Releases a soak that is waiting for the application to stop.
+    @EventListener(ContextClosedEvent.class)
+    public void onContextClosed() {
+        this.closed.countDown();
+    }
+
+    /// Runs the services, reporting the bytes each allocated, the
+    /// size of the graph retained by the collections it built and
+    /// the garbage collections during the run, and warning about
+    /// those over the allocation budget.
+    ///
+    /// @param  services    java.util.List<net.jmp.spring.boot.failfast.services.ServiceRunner>
+    private void runAccounted(final List<ServiceRunner> services) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        final String budgetProperty = this.environment.getProperty(BUDGET);
+        final long budget = budgetProperty != null ? DataSize.parse(budgetProperty).toBytes() : Long.MAX_VALUE;
+        final ObjectGraph graph = new ObjectGraph(type -> type.getName().startsWith("org.slf4j")
+                || type.getName().startsWith("ch.qos.logback")
+                || type.getName().startsWith("org.springframework"));
+        final AllocationAccountant accountant = new AllocationAccountant(graph);
+
+        if (!accountant.isSupported() && this.logger.isWarnEnabled()) {
+            this.logger.warn("Thread allocation counting is not supported by this virtual machine");
+        }
+
+        for (final ServiceRunner service : services) {
+            final String name = service.getClass().getSimpleName();
+            final AllocationReport report = accountant.measure(name, () -> this.runTimed(service::runCollecting, name));
+
+            if (this.logger.isInfoEnabled()) {
+                this.logger.info("{}: {} bytes allocated ({} on other threads), {} bytes retained, heap used {} bytes, {} collections in {} ms",
+                        name,
+                        report.totalAllocatedBytes(),
+                        report.otherThreadBytes(),
+                        report.retainedBytes(),
+                        report.heapUsedDelta(),
+                        report.gcCount(),
+                        report.gcMillis());
+            }
+
+            if (report.exceeds(budget) && this.logger.isWarnEnabled()) {
+                this.logger.warn("{} allocated {} bytes, over its budget of {} bytes", name, report.totalAllocatedBytes(), budget);
+            }
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Runs the services in rounds on a schedule while the
+    /// statistics endpoint serves their statistics, until the
+    /// duration has passed or the application context closes.
+    ///
+    /// @param  services    java.util.List<net.jmp.spring.boot.failfast.services.ServiceRunner>
+    private void runSoak(final List<ServiceRunner> services) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        final Duration interval = this.environment.getProperty(SOAK_INTERVAL, Duration.class, Duration.ofSeconds(1));
+        final Duration duration = this.environment.getProperty(SOAK_DURATION, Duration.class);
+        final int port = this.environment.getProperty(SOAK_PORT, Integer.class, StatsEndpoint.DEFAULT_PORT);
+        final boolean full = this.environment.getProperty(SOAK_FULL, Boolean.class, Boolean.FALSE);
+        final Counter rounds = this.stats.counter("Main.rounds");
+        final Counter failures = this.stats.counter("Main.failures");
+        final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("soak").factory());
+
+        try (final StatsEndpoint endpoint = new StatsEndpoint(this.stats, port)) {
+            endpoint.start();
+
+            if (this.logger.isInfoEnabled()) {
+                this.logger.info("Serving statistics at http://{}:{}{} and {}",
+                        endpoint.address().getHostString(),
+                        endpoint.address().getPort(),
+                        StatsEndpoint.STATS,
+                        StatsEndpoint.METRICS);
+            }
+
+            scheduler.scheduleWithFixedDelay(() -> this.runRound(services, full, rounds, failures), 0L, interval.toNanos(), TimeUnit.NANOSECONDS);
+
+            this.closed.await(duration != null ? duration.toNanos() : Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+            scheduler.shutdown();
+            scheduler.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);     // Lets the current round finish
+        } catch (final IOException e) {
+            if (this.logger.isErrorEnabled()) {
+                this.logger.error("The statistics endpoint could not listen on port {}: {}", port, e.getMessage());
+            }
+        } catch (final InterruptedException _) {
+            Thread.currentThread().interrupt();
+        } finally {
+            scheduler.shutdownNow();
+        }
+
+        this.logStats();
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Runs one soak round of the services. A failure is counted and
+    /// logged rather than thrown, which would cancel the later rounds.
+    ///
+    /// @param  services    java.util.List<net.jmp.spring.boot.failfast.services.ServiceRunner>
+    /// @param  full        boolean
+    /// @param  rounds      net.jmp.spring.boot.failfast.stats.Counter
+    /// @param  failures    net.jmp.spring.boot.failfast.stats.Counter
+    private void runRound(final List<ServiceRunner> services,
+                          final boolean full,
+                          final Counter rounds,
+                          final Counter failures) {
+        try {
+            for (final ServiceRunner service : services) {
+                if (full) {
+                    this.runTimed(service);
+                } else {
+                    this.runTimed(() -> {
+                        service.runLight();
+
+                        return null;
+                    }, service.getClass().getSimpleName());
+                }
+            }
+
+            rounds.increment();
+        } catch (final RuntimeException e) {
+            failures.increment();
+
+            if (this.logger.isErrorEnabled()) {
+                this.logger.error("A soak round failed", e);
+            }
+        }
+    }
+
+    /// Runs a service, recording how long it took in the
+    /// histogram named after it.
+    ///
+    /// @param  service net.jmp.spring.boot.failfast.services.ServiceRunner
+    private void runTimed(final ServiceRunner service) {
+        this.runTimed(() -> {
+            service.runService();
+
+            return null;
+        }, service.getClass().getSimpleName());
+    }
+
+    /// Runs an action, recording how long it took in the
+    /// histogram named after the service, and returns its result.
+    ///
+    /// @param  <T>     The type of result
+    /// @param  action  java.util.function.Supplier<T>
+    /// @param  name    java.lang.String
+    /// @return         T
+    private <T> T runTimed(final Supplier<T> action, final String name) {
+        final LatencyHistogram histogram = this.stats.histogram(name + ".run");
+        final long start = System.nanoTime();
+
+        try {
+            return action.get();
+        } finally {
+            histogram.recordSince(start);
+        }
+    }
+
+    /// Logs a snapshot of the counters and histograms.
+    private void logStats() {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        if (this.logger.isInfoEnabled()) {
+            final StatsSnapshot snapshot = this.stats.snapshot();
+
+            snapshot.counters().forEach((name, value) -> this.logger.info("{}: {}", name, value));
+            snapshot.histograms().forEach((name, histogram) -> this.logger.info("{} (ns): {}", name, histogram));
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Runs the affinity benchmark over the thread-safe collections.
+    private void runAffinity() {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        if (!CpuAffinity.isSupported() && this.logger.isWarnEnabled()) {
+            this.logger.warn("Thread affinity is not supported on {}; the threads run unpinned", System.getProperty("os.name"));
+        }
+
+        final CpuTopology topology = CpuTopology.detect();
+        final int readers = this.environment.getProperty(AFFINITY_READERS, Integer.class, 2);
+        final Duration duration = this.environment.getProperty(AFFINITY_DURATION, Duration.class, AffinityRunner.DEFAULT_DURATION);
+        final String cpus = this.environment.getProperty(AFFINITY_CPUS);
+        final List<Placement> placements = cpus != null
+                ? List.of(Placement.chosen(Arrays.stream(cpus.split(",")).map(String::trim).map(Integer::valueOf).toList(), readers))
+                : AffinityBenchmark.defaultPlacements(topology, readers);
+
+        if (this.logger.isInfoEnabled()) {
+            this.logger.info("{} CPUs on {} socket(s); placements {}", topology.cpus().size(), topology.sockets().size(), placements);
+        }
+
+        try {
+            new AffinityBenchmark(new AffinityRunner(topology, AffinityRunner.DEFAULT_WARMUP, duration),
+                    placements,
+                    AffinityBenchmark.defaultCollections()).run();
+        } catch (final InterruptedException _) {
+            Thread.currentThread().interrupt();
+        }
 
         if (this.logger.isTraceEnabled()) {
             this.logger.trace(exit());
@@ -0,0 +1,207 @@
+package net.jmp.spring.boot.failfast.affinity;
+
+/*
+ * (#)AffinityBenchmark.java    0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import java.util.function.Supplier;
+
+import java.util.stream.IntStream;
+
+import net.jmp.spring.boot.failfast.collections.LockFreeHashSet;
+import net.jmp.spring.boot.failfast.collections.RcuList;
+
+import static net.jmp.util.logging.LoggerUtils.entry;
+import static net.jmp.util.logging.LoggerUtils.exitWith;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/// Runs each collection under each placement with the affinity
+/// runner and logs the throughput per thread and per core. When
+/// there is a cross socket placement, the reads and writes per
+/// second across sockets are also logged as a percentage of those
+/// on one socket. Each collection is filled with 10,000 elements
+/// before each run.
+///
+/// @version    0.1.0
+/// @since      0.1.0
+public final class AffinityBenchmark {
+    /// The number of elements in each collection.
+    public static final int SIZE = 10_000;
+
+    /// The logger.
+    private final Logger logger = LoggerFactory.getLogger(this.getClass().getName());
+
+    /// The runner.
+    private final AffinityRunner runner;
+
+    /// The placements.
+    private final List<Placement> placements;
+
+    /// The collection factories by name.
+    private final Map<String, Supplier<? extends Collection<Integer>>> collections;
+
+    /// A constructor that takes the runner, the placements and the collection factories by name.
+    ///
+    /// @param  runner      net.jmp.spring.boot.failfast.affinity.AffinityRunner
+    /// @param  placements  java.util.List<net.jmp.spring.boot.failfast.affinity.Placement>
+    /// @param  collections java.util.Map<java.lang.String,java.util.function.Supplier<? extends java.util.Collection<java.lang.Integer>>>
+    public AffinityBenchmark(final AffinityRunner runner,
+                             final List<Placement> placements,
+                             final Map<String, Supplier<? extends Collection<Integer>>> collections) {
+        super();
+
+        this.runner = Objects.requireNonNull(runner, "runner");
+        this.placements = List.copyOf(placements);
+        this.collections = new LinkedHashMap<>(collections);
+    }
+
+    /// Returns the thread-safe collections whose readers
+    /// and writer can share them, by name.
+    ///
+    /// @return java.util.Map<java.lang.String,java.util.function.Supplier<? extends java.util.Collection<java.lang.Integer>>>
+    public static Map<String, Supplier<? extends Collection<Integer>>> defaultCollections() {
+        final Map<String, Supplier<? extends Collection<Integer>>> collections = new LinkedHashMap<>();
+
+        collections.put("CopyOnWriteArrayList", CopyOnWriteArrayList::new);
+        collections.put("RcuList", RcuList::new);
+        collections.put("ConcurrentLinkedQueue", ConcurrentLinkedQueue::new);
+        collections.put("ConcurrentHashMap.KeySetView", ConcurrentHashMap::newKeySet);
+        collections.put("ConcurrentSkipListSet", ConcurrentSkipListSet::new);
+        collections.put("LockFreeHashSet", LockFreeHashSet::new);
+
+        return collections;
+    }
+
+    /// Returns the unpinned, same socket and, if
+    /// there are two sockets, cross socket placements.
+    ///
+    /// @param  topology    net.jmp.spring.boot.failfast.affinity.CpuTopology
+    /// @param  readers     int
+    /// @return             java.util.List<net.jmp.spring.boot.failfast.affinity.Placement>
+    public static List<Placement> defaultPlacements(final CpuTopology topology, final int readers) {
+        final List<Placement> placements = new ArrayList<>(3);
+
+        placements.add(Placement.unpinned(readers));
+        placements.add(Placement.sameSocket(topology, readers));
+
+        Placement.crossSocket(topology, readers).ifPresent(placements::add);
+
+        return placements;
+    }
+
+    /// Runs every collection under every placement and returns the reports.
+    ///
+    /// @return java.util.List<net.jmp.spring.boot.failfast.affinity.AffinityReport>
+    /// @throws java.lang.InterruptedException When interrupted
+    public List<AffinityReport> run() throws InterruptedException {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        final List<AffinityReport> reports = new ArrayList<>(this.collections.size() * this.placements.size());
+
+        for (final Map.Entry<String, Supplier<? extends Collection<Integer>>> entry : this.collections.entrySet()) {
+            AffinityReport sameSocket = null;
+
+            for (final Placement placement : this.placements) {
+                final Collection<Integer> collection = entry.getValue().get();
+
+                IntStream.range(0, SIZE).forEach(collection::add);
+
+                final AffinityReport report = this.runner.run(entry.getKey(), collection, placement);
+
+                this.log(report);
+
+                if (placement.name().equals("same socket")) {
+                    sameSocket = report;
+                } else if (placement.name().equals("cross socket") && sameSocket != null) {
+                    this.logCrossSocket(sameSocket, report);
+                }
+
+                reports.add(report);
+            }
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(reports));
+        }
+
+        return reports;
+    }
+
+    /// Logs the report.
+    ///
+    /// @param  report  net.jmp.spring.boot.failfast.affinity.AffinityReport
+    private void log(final AffinityReport report) {
+        if (this.logger.isInfoEnabled()) {
+            this.logger.info("{} {}: {} reads/s, {} writes/s, {} CMEs",
+                    report.collection(),
+                    report.placement().name(),
+                    String.format("%,.0f", report.readsPerSecond()),
+                    String.format("%,.0f", report.writesPerSecond()),
+                    report.cmes());
+
+            for (final AffinityReport.ThreadResult thread : report.threads()) {
+                this.logger.info("  {} pinned to {} ran on CPU {} (socket {}): {} ops/s",
+                        thread.name(),
+                        thread.pinnedTo() < 0 ? "none" : thread.pinnedTo(),
+                        thread.cpu(),
+                        thread.socket(),
+                        String.format("%,.0f", thread.perSecond()));
+            }
+
+            report.perCore().forEach((cpu, perSecond) -> this.logger.info("  CPU {}: {} ops/s", cpu, String.format("%,.0f", perSecond)));
+        }
+    }
+
+    /// Logs the cross socket reads and writes as a percentage of the same socket ones.
+    ///
+    /// @param  sameSocket  net.jmp.spring.boot.failfast.affinity.AffinityReport
+    /// @param  crossSocket net.jmp.spring.boot.failfast.affinity.AffinityReport
+    private void logCrossSocket(final AffinityReport sameSocket, final AffinityReport crossSocket) {
+        if (this.logger.isInfoEnabled()) {
+            this.logger.info("{} cross socket: reads {}% and writes {}% of same socket",
+                    crossSocket.collection(),
+                    String.format("%.1f", 100.0 * crossSocket.readsPerSecond() / sameSocket.readsPerSecond()),
+                    String.format("%.1f", 100.0 * crossSocket.writesPerSecond() / sameSocket.writesPerSecond()));
+        }
+    }
+}
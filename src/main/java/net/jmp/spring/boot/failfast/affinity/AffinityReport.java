@@ -0,0 +1,128 @@
+package net.jmp.spring.boot.failfast.affinity;
+
+/*
+ * (#)AffinityReport.java   0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/// The result of one run of pinned readers and a writer over a
+/// collection: the operations each thread completed while measuring,
+/// where it ran and the concurrent modification exceptions its
+/// iterations threw. A reader operation is an element visited and a
+/// writer operation an addition or a removal.
+///
+/// @param  collection  java.lang.String
+/// @param  placement   net.jmp.spring.boot.failfast.affinity.Placement
+/// @param  threads     java.util.List<net.jmp.spring.boot.failfast.affinity.AffinityReport.ThreadResult>
+/// @version    0.1.0
+/// @since      0.1.0
+public record AffinityReport(String collection, Placement placement, List<ThreadResult> threads) {
+    /// The compact constructor.
+    public AffinityReport {
+        Objects.requireNonNull(collection, "collection");
+        Objects.requireNonNull(placement, "placement");
+
+        threads = List.copyOf(threads);
+    }
+
+    /// Returns the elements visited per second by all the readers.
+    ///
+    /// @return double
+    public double readsPerSecond() {
+        return this.perSecond(Role.READER);
+    }
+
+    /// Returns the additions and removals per second of the writer.
+    ///
+    /// @return double
+    public double writesPerSecond() {
+        return this.perSecond(Role.WRITER);
+    }
+
+    /// Returns the number of concurrent modification exceptions thrown.
+    ///
+    /// @return long
+    public long cmes() {
+        return this.threads.stream().mapToLong(ThreadResult::cmes).sum();
+    }
+
+    /// Returns the operations per second of the threads
+    /// that ended on each CPU, by CPU; threads whose CPU
+    /// is unknown are under -1.
+    ///
+    /// @return java.util.Map<java.lang.Integer,java.lang.Double>
+    public Map<Integer, Double> perCore() {
+        final Map<Integer, Double> perCore = new TreeMap<>();
+
+        for (final ThreadResult thread : this.threads) {
+            perCore.merge(thread.cpu(), thread.perSecond(), Double::sum);
+        }
+
+        return perCore;
+    }
+
+    /// Returns the operations per second of the threads in the role.
+    ///
+    /// @param  role    net.jmp.spring.boot.failfast.affinity.AffinityReport.Role
+    /// @return         double
+    private double perSecond(final Role role) {
+        return this.threads.stream().filter(thread -> thread.role() == role).mapToDouble(ThreadResult::perSecond).sum();
+    }
+
+    /// The role of a thread.
+    public enum Role {
+        /// Iterates over the collection.
+        READER,
+
+        /// Adds and removes elements.
+        WRITER
+    }
+
+    /// The result of one thread.
+    ///
+    /// @param  name        java.lang.String
+    /// @param  role        net.jmp.spring.boot.failfast.affinity.AffinityReport.Role
+    /// @param  pinnedTo    int
+    /// @param  cpu         int
+    /// @param  socket      int
+    /// @param  operations  long
+    /// @param  cmes        long
+    /// @param  perSecond   double
+    public record ThreadResult(String name,
+                               Role role,
+                               int pinnedTo,
+                               int cpu,
+                               int socket,
+                               long operations,
+                               long cmes,
+                               double perSecond) {
+    }
+}
@@ -0,0 +1,314 @@
+package net.jmp.spring.boot.failfast.affinity;
+
+/*
+ * (#)AffinityRunner.java   0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.time.Duration;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.Objects;
+
+import java.util.concurrent.CountDownLatch;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/// Runs readers that iterate over a collection while a writer adds
+/// and removes elements, each on a platform thread pinned to the
+/// CPU its placement gives it. The threads warm up and are then
+/// measured for the duration; each times its own operations from
+/// when it sees the measurement start to when it sees it stop. The
+/// readers count the concurrent modification exceptions their
+/// iterations throw and start over. Where affinity is not supported
+/// the threads run unpinned and their CPUs are reported as unknown.
+///
+/// @version    0.1.0
+/// @since      0.1.0
+public final class AffinityRunner {
+    /// The default warmup.
+    public static final Duration DEFAULT_WARMUP = Duration.ofMillis(500);
+
+    /// The default measurement.
+    public static final Duration DEFAULT_DURATION = Duration.ofSeconds(2);
+
+    /// The first element the writer adds; above those of the collection.
+    private static final int WRITER_BASE = 1 << 30;
+
+    /// The number of distinct elements the writer adds.
+    private static final int WRITER_KEYS = 1 << 10;
+
+    /// The warming up phase.
+    private static final int WARMING_UP = 0;
+
+    /// The measuring phase.
+    private static final int MEASURING = 1;
+
+    /// The stopped phase.
+    private static final int STOPPED = 2;
+
+    /// The CPU topology.
+    private final CpuTopology topology;
+
+    /// The warmup.
+    private final Duration warmup;
+
+    /// The measurement.
+    private final Duration duration;
+
+    /// A constructor that takes the topology
+    /// and uses the default warmup and duration.
+    ///
+    /// @param  topology    net.jmp.spring.boot.failfast.affinity.CpuTopology
+    public AffinityRunner(final CpuTopology topology) {
+        this(topology, DEFAULT_WARMUP, DEFAULT_DURATION);
+    }
+
+    /// A constructor that takes the topology, the warmup and the duration.
+    ///
+    /// @param  topology    net.jmp.spring.boot.failfast.affinity.CpuTopology
+    /// @param  warmup      java.time.Duration
+    /// @param  duration    java.time.Duration
+    public AffinityRunner(final CpuTopology topology, final Duration warmup, final Duration duration) {
+        super();
+
+        this.topology = Objects.requireNonNull(topology, "topology");
+        this.warmup = Objects.requireNonNull(warmup, "warmup");
+        this.duration = Objects.requireNonNull(duration, "duration");
+
+        if (warmup.isNegative() || !duration.isPositive()) {
+            throw new IllegalArgumentException("Warmup must not be negative and duration must be positive: " + warmup + ", " + duration);
+        }
+    }
+
+    /// Runs the placement over the collection, whose
+    /// elements must be below 2^30, and returns the report.
+    ///
+    /// @param  name        java.lang.String
+    /// @param  collection  java.util.Collection<java.lang.Integer>
+    /// @param  placement   net.jmp.spring.boot.failfast.affinity.Placement
+    /// @return             net.jmp.spring.boot.failfast.affinity.AffinityReport
+    /// @throws             java.lang.InterruptedException When interrupted while waiting for the threads
+    public AffinityReport run(final String name,
+                              final Collection<Integer> collection,
+                              final Placement placement) throws InterruptedException {
+        Objects.requireNonNull(collection, "collection");
+
+        final AtomicInteger phase = new AtomicInteger(WARMING_UP);
+        final CountDownLatch ready = new CountDownLatch(placement.readers().size() + 1);
+        final List<Worker> workers = new ArrayList<>(placement.readers().size() + 1);
+        final List<Thread> threads = new ArrayList<>(placement.readers().size() + 1);
+
+        workers.add(new Worker("Writer", AffinityReport.Role.WRITER, placement.writer(), collection, phase, ready));
+
+        for (int i = 0; i < placement.readers().size(); i++) {
+            workers.add(new Worker("Reader " + (i + 1), AffinityReport.Role.READER, placement.readers().get(i), collection, phase, ready));
+        }
+
+        for (final Worker worker : workers) {
+            threads.add(Thread.ofPlatform().name(worker.name).start(worker));
+        }
+
+        try {
+            ready.await();
+            Thread.sleep(this.warmup);
+            phase.set(MEASURING);
+            Thread.sleep(this.duration);
+        } finally {
+            phase.set(STOPPED);
+
+            for (final Thread thread : threads) {
+                thread.join();
+            }
+        }
+
+        final List<AffinityReport.ThreadResult> results = new ArrayList<>(workers.size());
+
+        for (final Worker worker : workers) {
+            if (worker.failure != null) {
+                throw new IllegalStateException(worker.name + " failed", worker.failure);
+            }
+
+            results.add(worker.result(this.topology));
+        }
+
+        return new AffinityReport(name, placement, results);
+    }
+
+    /// A reader or the writer.
+    private static final class Worker implements Runnable {
+        /// The thread name.
+        private final String name;
+
+        /// The role.
+        private final AffinityReport.Role role;
+
+        /// The CPU to pin to or a negative number.
+        private final int pinnedTo;
+
+        /// The collection.
+        private final Collection<Integer> collection;
+
+        /// The phase.
+        private final AtomicInteger phase;
+
+        /// The latch counted down once the thread is pinned.
+        private final CountDownLatch ready;
+
+        /// The operations measured.
+        private long operations;
+
+        /// The exceptions measured.
+        private long cmes;
+
+        /// The nanoseconds measured.
+        private long nanos;
+
+        /// The CPU the thread ended on or -1.
+        private int cpu = -1;
+
+        /// The sum of the elements read; kept so the reads are not eliminated.
+        private long checksum;
+
+        /// The failure or null.
+        private Throwable failure;
+
+        /// A constructor that takes the name, the role, the CPU,
+        /// the collection, the phase and the latch.
+        ///
+        /// @param  name        java.lang.String
+        /// @param  role        net.jmp.spring.boot.failfast.affinity.AffinityReport.Role
+        /// @param  pinnedTo    int
+        /// @param  collection  java.util.Collection<java.lang.Integer>
+        /// @param  phase       java.util.concurrent.atomic.AtomicInteger
+        /// @param  ready       java.util.concurrent.CountDownLatch
+        Worker(final String name,
+               final AffinityReport.Role role,
+               final int pinnedTo,
+               final Collection<Integer> collection,
+               final AtomicInteger phase,
+               final CountDownLatch ready) {
+            super();
+
+            this.name = name;
+            this.role = role;
+            this.pinnedTo = pinnedTo;
+            this.collection = collection;
+            this.phase = phase;
+            this.ready = ready;
+        }
+
+        /// Pins the thread and runs its operations until stopped.
+        @Override
+        public void run() {
+            try {
+                if (this.pinnedTo >= 0 && CpuAffinity.isSupported()) {
+                    CpuAffinity.pin(this.pinnedTo);
+                }
+            } catch (final RuntimeException e) {
+                this.failure = e;
+            } finally {
+                this.ready.countDown();
+            }
+
+            if (this.failure == null) {
+                try {
+                    this.loop();
+                } catch (final RuntimeException | Error e) {
+                    this.failure = e;
+                }
+            }
+        }
+
+        /// Runs the operations until stopped, measuring those
+        /// between the start and the end of the measurement.
+        private void loop() {
+            long operations = 0L;
+            long cmes = 0L;
+            long startOperations = 0L;
+            long startCmes = 0L;
+            long start = 0L;
+            int next = 0;
+            int current;
+
+            while ((current = this.phase.get()) != STOPPED) {
+                if (current == MEASURING && start == 0L) {
+                    startOperations = operations;
+                    startCmes = cmes;
+                    start = System.nanoTime();
+                }
+
+                if (this.role == AffinityReport.Role.WRITER) {
+                    final Integer element = WRITER_BASE + (next++ & (WRITER_KEYS - 1));
+
+                    this.collection.add(element);
+                    this.collection.remove(element);
+
+                    operations += 2;
+                } else {
+                    try {
+                        for (final Integer element : this.collection) {
+                            this.checksum += element;
+                            operations++;
+                        }
+                    } catch (final ConcurrentModificationException _) {
+                        cmes++;
+                    }
+                }
+            }
+
+            if (start != 0L) {
+                this.nanos = System.nanoTime() - start;
+                this.operations = operations - startOperations;
+                this.cmes = cmes - startCmes;
+            }
+
+            if (CpuAffinity.isSupported()) {
+                this.cpu = CpuAffinity.currentCpu();
+            }
+        }
+
+        /// Returns the result.
+        ///
+        /// @param  topology    net.jmp.spring.boot.failfast.affinity.CpuTopology
+        /// @return             net.jmp.spring.boot.failfast.affinity.AffinityReport.ThreadResult
+        AffinityReport.ThreadResult result(final CpuTopology topology) {
+            final double perSecond = this.nanos == 0L ? 0.0 : this.operations * 1e9 / this.nanos;
+
+            return new AffinityReport.ThreadResult(this.name,
+                    this.role,
+                    this.pinnedTo,
+                    this.cpu,
+                    topology.socketOf(this.cpu),
+                    this.operations,
+                    this.cmes,
+                    perSecond);
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package net.jmp.spring.boot.failfast.affinity;
+
+/*
+ * (#)CpuAffinity.java  0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.lang.foreign.*;
+
+import java.lang.invoke.MethodHandle;
+
+import java.util.BitSet;
+import java.util.Optional;
+
+/// Pins the calling thread to a CPU with the Linux system call
+/// sched_setaffinity, reached through the foreign function and
+/// memory API so that there is no native library to ship. The C
+/// library is found through the default lookup of the native
+/// linker; on other operating systems, or if the linker or the
+/// symbols are missing, affinity is not supported and the methods
+/// other than {@link #isSupported()} throw an
+/// {@link UnsupportedOperationException}.
+///
+/// The masks are 1024 bits, the size of a glibc cpu_set_t. The
+/// downcalls are restricted methods, so the virtual machine warns
+/// unless native access is enabled with
+/// {@code --enable-native-access}.
+///
+/// @version    0.1.0
+/// @since      0.1.0
+public final class CpuAffinity {
+    /// The number of CPUs in a mask.
+    public static final int MAX_CPUS = 1024;
+
+    /// The size of a mask in bytes.
+    private static final long MASK_BYTES = MAX_CPUS / Byte.SIZE;
+
+    /// The layout of the state captured after a call.
+    private static final StructLayout CAPTURE_LAYOUT = Linker.Option.captureStateLayout();
+
+    /// The offset of errno in the captured state.
+    private static final long ERRNO_OFFSET = CAPTURE_LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("errno"));
+
+    /// The handle of sched_setaffinity or null.
+    private static final MethodHandle SET_AFFINITY = downcall("sched_setaffinity",
+            FunctionDescriptor.of(ValueLayout.JAVA_INT, ValueLayout.JAVA_INT, ValueLayout.JAVA_LONG, ValueLayout.ADDRESS))
+            .orElse(null);
+
+    /// The handle of sched_getaffinity or null.
+    private static final MethodHandle GET_AFFINITY = downcall("sched_getaffinity",
+            FunctionDescriptor.of(ValueLayout.JAVA_INT, ValueLayout.JAVA_INT, ValueLayout.JAVA_LONG, ValueLayout.ADDRESS))
+            .orElse(null);
+
+    /// The handle of sched_getcpu or null.
+    private static final MethodHandle GET_CPU = downcall("sched_getcpu", FunctionDescriptor.of(ValueLayout.JAVA_INT))
+            .orElse(null);
+
+    /// The default constructor.
+    private CpuAffinity() {
+        super();
+    }
+
+    /// Returns true if threads can be pinned.
+    ///
+    /// @return boolean
+    public static boolean isSupported() {
+        return SET_AFFINITY != null && GET_AFFINITY != null && GET_CPU != null;
+    }
+
+    /// Pins the calling thread to the CPU.
+    ///
+    /// @param  cpu int
+    /// @throws     java.lang.IllegalArgumentException When the CPU is out of range or not allowed
+    public static void pin(final int cpu) {
+        if (cpu < 0 || cpu >= MAX_CPUS) {
+            throw new IllegalArgumentException("CPU must be between 0 and " + (MAX_CPUS - 1) + ": " + cpu);
+        }
+
+        final BitSet cpus = new BitSet(MAX_CPUS);
+
+        cpus.set(cpu);
+
+        pin(cpus);
+    }
+
+    /// Restricts the calling thread to the CPUs.
+    ///
+    /// @param  cpus    java.util.BitSet
+    /// @throws         java.lang.IllegalArgumentException When none of the CPUs is allowed
+    public static void pin(final BitSet cpus) {
+        checkSupported();
+
+        if (cpus.isEmpty() || cpus.length() > MAX_CPUS) {
+            throw new IllegalArgumentException("CPUs must be a non-empty set below " + MAX_CPUS + ": " + cpus);
+        }
+
+        try (final Arena arena = Arena.ofConfined()) {
+            final MemorySegment mask = arena.allocate(MASK_BYTES, Long.BYTES);
+            final MemorySegment state = arena.allocate(CAPTURE_LAYOUT);
+            final long[] words = cpus.toLongArray();
+
+            mask.fill((byte) 0);
+
+            for (int i = 0; i < words.length; i++) {
+                mask.set(ValueLayout.JAVA_LONG, (long) i * Long.BYTES, words[i]);
+            }
+
+            final int result = (int) SET_AFFINITY.invokeExact(state, 0, MASK_BYTES, mask);
+
+            if (result != 0) {
+                throw new IllegalArgumentException("Unable to pin to CPUs " + cpus + ": errno " + state.get(ValueLayout.JAVA_INT, ERRNO_OFFSET));
+            }
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable t) {
+            throw new IllegalStateException("Unable to call sched_setaffinity", t);
+        }
+    }
+
+    /// Returns the CPUs the calling thread may run on.
+    ///
+    /// @return java.util.BitSet
+    public static BitSet allowed() {
+        checkSupported();
+
+        try (final Arena arena = Arena.ofConfined()) {
+            final MemorySegment mask = arena.allocate(MASK_BYTES, Long.BYTES);
+            final MemorySegment state = arena.allocate(CAPTURE_LAYOUT);
+
+            mask.fill((byte) 0);
+
+            final int result = (int) GET_AFFINITY.invokeExact(state, 0, MASK_BYTES, mask);
+
+            if (result != 0) {
+                throw new IllegalStateException("Unable to read the affinity: errno " + state.get(ValueLayout.JAVA_INT, ERRNO_OFFSET));
+            }
+
+            return BitSet.valueOf(mask.toArray(ValueLayout.JAVA_LONG));
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable t) {
+            throw new IllegalStateException("Unable to call sched_getaffinity", t);
+        }
+    }
+
+    /// Returns the CPU the calling thread is running on.
+    ///
+    /// @return int
+    public static int currentCpu() {
+        checkSupported();
+
+        try {
+            return (int) GET_CPU.invokeExact();
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable t) {
+            throw new IllegalStateException("Unable to call sched_getcpu", t);
+        }
+    }
+
+    /// Throws if affinity is not supported.
+    private static void checkSupported() {
+        if (!isSupported()) {
+            throw new UnsupportedOperationException("Thread affinity is not supported on " + System.getProperty("os.name"));
+        }
+    }
+
+    /// Returns the handle of the C library function, or empty if
+    /// this is not Linux or the function cannot be linked. The
+    /// functions that set errno capture it.
+    ///
+    /// @param  name        java.lang.String
+    /// @param  descriptor  java.lang.foreign.FunctionDescriptor
+    /// @return             java.util.Optional<java.lang.invoke.MethodHandle>
+    private static Optional<MethodHandle> downcall(final String name, final FunctionDescriptor descriptor) {
+        if (!System.getProperty("os.name", "").startsWith("Linux")) {
+            return Optional.empty();
+        }
+
+        try {
+            final Linker linker = Linker.nativeLinker();
+            final Linker.Option[] options = descriptor.argumentLayouts().isEmpty()
+                    ? new Linker.Option[0]
+                    : new Linker.Option[] {Linker.Option.captureCallState("errno")};
+
+            return linker.defaultLookup().find(name).map(symbol -> linker.downcallHandle(symbol, descriptor, options));
+        } catch (final UnsupportedOperationException | IllegalCallerException _) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package net.jmp.spring.boot.failfast.affinity;
+
+/*
+ * (#)CpuTopology.java  0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.IOException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.util.*;
+
+import java.util.stream.Stream;
+
+/// The online CPUs and the socket and NUMA node of each, read
+/// from sysfs. A CPU whose socket or node cannot be read is put
+/// on socket or node 0, and when sysfs cannot be read at all the
+/// available processors are assumed to share one socket and node.
+///
+/// @param  cpus    java.util.List<net.jmp.spring.boot.failfast.affinity.CpuTopology.Cpu>
+/// @version    0.1.0
+/// @since      0.1.0
+public record CpuTopology(List<Cpu> cpus) {
+    /// The sysfs system directory.
+    private static final Path SYSTEM = Path.of("/sys/devices/system");
+
+    /// The compact constructor.
+    public CpuTopology {
+        Objects.requireNonNull(cpus, "cpus");
+
+        if (cpus.isEmpty()) {
+            throw new IllegalArgumentException("There must be at least one CPU");
+        }
+
+        cpus = List.copyOf(cpus);
+    }
+
+    /// Returns the topology of the CPUs this process may run on.
+    ///
+    /// @return net.jmp.spring.boot.failfast.affinity.CpuTopology
+    public static CpuTopology detect() {
+        final CpuTopology topology = detect(SYSTEM);
+
+        if (CpuAffinity.isSupported()) {
+            final BitSet allowed = CpuAffinity.allowed();
+            final List<Cpu> cpus = topology.cpus.stream().filter(cpu -> allowed.get(cpu.id())).toList();
+
+            if (!cpus.isEmpty()) {
+                return new CpuTopology(cpus);
+            }
+        }
+
+        return topology;
+    }
+
+    /// Returns the topology read from the given sysfs system directory.
+    ///
+    /// @param  system  java.nio.file.Path
+    /// @return         net.jmp.spring.boot.failfast.affinity.CpuTopology
+    static CpuTopology detect(final Path system) {
+        final BitSet online = read(system.resolve("cpu/online"))
+                .map(CpuTopology::parseList)
+                .orElseGet(() -> {
+                    final BitSet all = new BitSet();
+
+                    all.set(0, Runtime.getRuntime().availableProcessors());
+
+                    return all;
+                });
+        final Map<Integer, Integer> nodes = new HashMap<>();
+
+        try (final Stream<Path> paths = Files.list(system.resolve("node"))) {
+            paths.filter(path -> path.getFileName().toString().matches("node\\d+"))
+                    .forEach(path -> {
+                        final int node = Integer.parseInt(path.getFileName().toString().substring(4));
+
+                        read(path.resolve("cpulist")).map(CpuTopology::parseList)
+                                .ifPresent(cpus -> cpus.stream().forEach(cpu -> nodes.put(cpu, node)));
+                    });
+        } catch (final IOException _) {
+            // No NUMA information; every CPU is on node 0
+        }
+
+        final List<Cpu> cpus = new ArrayList<>(online.cardinality());
+
+        online.stream().forEach(id -> {
+            final int socket = read(system.resolve("cpu/cpu" + id + "/topology/physical_package_id"))
+                    .map(Integer::parseInt)
+                    .orElse(0);
+
+            cpus.add(new Cpu(id, socket, nodes.getOrDefault(id, 0)));
+        });
+
+        return new CpuTopology(cpus);
+    }
+
+    /// Returns the sockets in ascending order.
+    ///
+    /// @return java.util.List<java.lang.Integer>
+    public List<Integer> sockets() {
+        return this.cpus.stream().map(Cpu::socket).distinct().sorted().toList();
+    }
+
+    /// Returns the CPUs on the socket.
+    ///
+    /// @param  socket  int
+    /// @return         java.util.List<net.jmp.spring.boot.failfast.affinity.CpuTopology.Cpu>
+    public List<Cpu> cpusOn(final int socket) {
+        return this.cpus.stream().filter(cpu -> cpu.socket() == socket).toList();
+    }
+
+    /// Returns the CPU with the id.
+    ///
+    /// @param  id  int
+    /// @return     java.util.Optional<net.jmp.spring.boot.failfast.affinity.CpuTopology.Cpu>
+    public Optional<Cpu> cpu(final int id) {
+        return this.cpus.stream().filter(cpu -> cpu.id() == id).findFirst();
+    }
+
+    /// Returns the socket of the CPU, or -1 if the CPU is unknown.
+    ///
+    /// @param  id  int
+    /// @return     int
+    public int socketOf(final int id) {
+        return this.cpu(id).map(Cpu::socket).orElse(-1);
+    }
+
+    /// Parses a sysfs CPU list such as 0-3,8-11.
+    ///
+    /// @param  list    java.lang.String
+    /// @return         java.util.BitSet
+    static BitSet parseList(final String list) {
+        final BitSet cpus = new BitSet();
+
+        for (final String range : list.trim().split(",")) {
+            if (range.isEmpty()) {
+                continue;
+            }
+
+            final int dash = range.indexOf('-');
+
+            if (dash < 0) {
+                cpus.set(Integer.parseInt(range));
+            } else {
+                cpus.set(Integer.parseInt(range.substring(0, dash)), Integer.parseInt(range.substring(dash + 1)) + 1);
+            }
+        }
+
+        return cpus;
+    }
+
+    /// Returns the trimmed content of the file, or empty if it cannot be read.
+    ///
+    /// @param  path    java.nio.file.Path
+    /// @return         java.util.Optional<java.lang.String>
+    private static Optional<String> read(final Path path) {
+        try {
+            return Optional.of(Files.readString(path).trim());
+        } catch (final IOException _) {
+            return Optional.empty();
+        }
+    }
+
+    /// A CPU.
+    ///
+    /// @param  id      int
+    /// @param  socket  int
+    /// @param  node    int
+    public record Cpu(int id, int socket, int node) {
+    }
+}
@@ -0,0 +1,163 @@
+package net.jmp.spring.boot.failfast.affinity;
+
+/*
+ * (#)Placement.java    0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/// The CPUs a writer and its readers are pinned to; a negative
+/// CPU leaves the thread unpinned. When there are more readers
+/// than CPUs to spread them over, they share CPUs in turn.
+///
+/// The same socket and cross socket placements put the readers
+/// on the same CPUs of the first socket and differ only in the
+/// writer, so that comparing them shows what it costs for the
+/// cache lines the writer modifies to cross the interconnect.
+///
+/// @param  name    java.lang.String
+/// @param  writer  int
+/// @param  readers java.util.List<java.lang.Integer>
+/// @version    0.1.0
+/// @since      0.1.0
+public record Placement(String name, int writer, List<Integer> readers) {
+    /// The CPU of an unpinned thread.
+    public static final int UNPINNED = -1;
+
+    /// The compact constructor.
+    public Placement {
+        Objects.requireNonNull(name, "name");
+        Objects.requireNonNull(readers, "readers");
+
+        if (readers.isEmpty()) {
+            throw new IllegalArgumentException("There must be at least one reader");
+        }
+
+        readers = List.copyOf(readers);
+    }
+
+    /// Returns a placement that leaves the threads unpinned.
+    ///
+    /// @param  readers int
+    /// @return         net.jmp.spring.boot.failfast.affinity.Placement
+    public static Placement unpinned(final int readers) {
+        return new Placement("unpinned", UNPINNED, spread(List.of(UNPINNED), readers));
+    }
+
+    /// Returns a placement on the chosen CPUs; the
+    /// writer on the first and the readers on the rest.
+    ///
+    /// @param  cpus    java.util.List<java.lang.Integer>
+    /// @param  readers int
+    /// @return         net.jmp.spring.boot.failfast.affinity.Placement
+    public static Placement chosen(final List<Integer> cpus, final int readers) {
+        if (cpus.isEmpty()) {
+            throw new IllegalArgumentException("There must be at least one CPU");
+        }
+
+        final List<Integer> rest = cpus.size() > 1 ? cpus.subList(1, cpus.size()) : cpus;
+
+        return new Placement("chosen " + cpus, cpus.getFirst(), spread(rest, readers));
+    }
+
+    /// Returns a placement of the writer and the readers on the first socket.
+    ///
+    /// @param  topology    net.jmp.spring.boot.failfast.affinity.CpuTopology
+    /// @param  readers     int
+    /// @return             net.jmp.spring.boot.failfast.affinity.Placement
+    public static Placement sameSocket(final CpuTopology topology, final int readers) {
+        final List<Integer> cpus = ids(topology.cpusOn(topology.sockets().getFirst()));
+
+        return new Placement("same socket", cpus.getFirst(), readerCpus(cpus, readers));
+    }
+
+    /// Returns a placement of the readers on the first socket and
+    /// the writer on the second, or empty if there is one socket.
+    ///
+    /// @param  topology    net.jmp.spring.boot.failfast.affinity.CpuTopology
+    /// @param  readers     int
+    /// @return             java.util.Optional<net.jmp.spring.boot.failfast.affinity.Placement>
+    public static Optional<Placement> crossSocket(final CpuTopology topology, final int readers) {
+        final List<Integer> sockets = topology.sockets();
+
+        if (sockets.size() < 2) {
+            return Optional.empty();
+        }
+
+        final List<Integer> cpus = ids(topology.cpusOn(sockets.getFirst()));
+        final int writer = topology.cpusOn(sockets.get(1)).getFirst().id();
+
+        return Optional.of(new Placement("cross socket", writer, readerCpus(cpus, readers)));
+    }
+
+    /// Returns true if any thread is pinned.
+    ///
+    /// @return boolean
+    public boolean isPinned() {
+        return this.writer >= 0 || this.readers.stream().anyMatch(cpu -> cpu >= 0);
+    }
+
+    /// Returns the CPUs of the readers on a socket whose first CPU
+    /// is the same socket writer's; the others if there are any.
+    ///
+    /// @param  cpus    java.util.List<java.lang.Integer>
+    /// @param  readers int
+    /// @return         java.util.List<java.lang.Integer>
+    private static List<Integer> readerCpus(final List<Integer> cpus, final int readers) {
+        return spread(cpus.size() > 1 ? cpus.subList(1, cpus.size()) : cpus, readers);
+    }
+
+    /// Returns the CPUs of the readers, taking the CPUs in turn.
+    ///
+    /// @param  cpus    java.util.List<java.lang.Integer>
+    /// @param  readers int
+    /// @return         java.util.List<java.lang.Integer>
+    private static List<Integer> spread(final List<Integer> cpus, final int readers) {
+        if (readers < 1) {
+            throw new IllegalArgumentException("Readers must be positive: " + readers);
+        }
+
+        final List<Integer> spread = new ArrayList<>(readers);
+
+        for (int i = 0; i < readers; i++) {
+            spread.add(cpus.get(i % cpus.size()));
+        }
+
+        return spread;
+    }
+
+    /// Returns the ids of the CPUs.
+    ///
+    /// @param  cpus    java.util.List<net.jmp.spring.boot.failfast.affinity.CpuTopology.Cpu>
+    /// @return         java.util.List<java.lang.Integer>
+    private static List<Integer> ids(final List<CpuTopology.Cpu> cpus) {
+        return cpus.stream().map(CpuTopology.Cpu::id).toList();
+    }
+}
@@ -0,0 +1,209 @@
+package net.jmp.spring.boot.failfast.arena;
+
+/*
+ * (#)ArenaStringList.java  0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/// A list of strings stored as ids of a string arena. Each
+/// element costs one int; the strings are materialized when
+/// read. Searching compares ids rather than strings. The
+/// iterators are fail fast. Null elements are not permitted.
+///
+/// @version    0.1.0
+/// @since      0.1.0
+public class ArenaStringList extends AbstractList<String> implements RandomAccess {
+    /// The default capacity.
+    private static final int DEFAULT_CAPACITY = 10;
+
+    /// The arena.
+    private final StringArena arena;
+
+    /// The ids of the elements.
+    private int[] ids;
+
+    /// The number of elements.
+    private int size;
+
+    /// The default constructor; the list has its own arena.
+    public ArenaStringList() {
+        this(new StringArena());
+    }
+
+    /// A constructor that takes the arena to store the strings in.
+    ///
+    /// @param  arena   net.jmp.spring.boot.failfast.arena.StringArena
+    public ArenaStringList(final StringArena arena) {
+        super();
+
+        this.arena = Objects.requireNonNull(arena, "arena");
+        this.ids = new int[DEFAULT_CAPACITY];
+    }
+
+    /// Returns the arena.
+    ///
+    /// @return net.jmp.spring.boot.failfast.arena.StringArena
+    public StringArena arena() {
+        return this.arena;
+    }
+
+    /// Returns the arena id of the element at the index.
+    ///
+    /// @param  index   int
+    /// @return         int
+    public int idAt(final int index) {
+        Objects.checkIndex(index, this.size);
+
+        return this.ids[index];
+    }
+
+    /// Returns the element at the index.
+    ///
+    /// @param  index   int
+    /// @return         java.lang.String
+    @Override
+    public String get(final int index) {
+        return this.arena.get(this.idAt(index));
+    }
+
+    /// Returns the number of elements.
+    ///
+    /// @return int
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /// Replaces the element at the index.
+    ///
+    /// @param  index   int
+    /// @param  element java.lang.String
+    /// @return         java.lang.String
+    @Override
+    public String set(final int index, final String element) {
+        final String previous = this.get(index);
+
+        this.ids[index] = this.arena.intern(element);
+
+        return previous;
+    }
+
+    /// Inserts the element at the index.
+    ///
+    /// @param  index   int
+    /// @param  element java.lang.String
+    @Override
+    public void add(final int index, final String element) {
+        Objects.checkIndex(index, this.size + 1);
+
+        this.addId(index, this.arena.intern(element));
+    }
+
+    /// Appends the UTF-8 encoded string in the given
+    /// range of bytes without creating a string object.
+    ///
+    /// @param  bytes   byte[]
+    /// @param  offset  int
+    /// @param  length  int
+    public void addUtf8(final byte[] bytes, final int offset, final int length) {
+        this.addId(this.size, this.arena.intern(bytes, offset, length));
+    }
+
+    /// Removes the element at the index.
+    ///
+    /// @param  index   int
+    /// @return         java.lang.String
+    @Override
+    public String remove(final int index) {
+        final String previous = this.get(index);
+
+        System.arraycopy(this.ids, index + 1, this.ids, index, this.size - index - 1);
+
+        this.size--;
+        this.modCount++;
+
+        return previous;
+    }
+
+    /// Returns the index of the first occurrence of the
+    /// element or -1. No strings are materialized.
+    ///
+    /// @param  element java.lang.Object
+    /// @return         int
+    @Override
+    public int indexOf(final Object element) {
+        if (element instanceof String string) {
+            final int id = this.arena.find(string);
+
+            if (id >= 0) {
+                for (int i = 0; i < this.size; i++) {
+                    if (this.ids[i] == id) {
+                        return i;
+                    }
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    /// Returns true if the element is present.
+    ///
+    /// @param  element java.lang.Object
+    /// @return         boolean
+    @Override
+    public boolean contains(final Object element) {
+        return this.indexOf(element) >= 0;
+    }
+
+    /// Removes all the elements; the arena keeps the strings.
+    @Override
+    public void clear() {
+        this.size = 0;
+        this.modCount++;
+    }
+
+    /// Inserts the id at the index.
+    ///
+    /// @param  index   int
+    /// @param  id      int
+    private void addId(final int index, final int id) {
+        if (this.size == this.ids.length) {
+            this.ids = Arrays.copyOf(this.ids, Math.max(DEFAULT_CAPACITY, this.size + (this.size >> 1)));
+        }
+
+        System.arraycopy(this.ids, index, this.ids, index + 1, this.size - index);
+
+        this.ids[index] = id;
+        this.size++;
+        this.modCount++;
+    }
+}
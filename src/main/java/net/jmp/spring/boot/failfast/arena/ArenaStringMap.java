@@ -0,0 +1,355 @@
+package net.jmp.spring.boot.failfast.arena;
+
+/*
+ * (#)ArenaStringMap.java   0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.*;
+
+/// A map of strings to strings stored as ids of a string arena.
+/// The value id of each key is found by indexing an int array
+/// with the key id, so a mapping costs one int per string in the
+/// arena; the map is compact when the arena is dedicated to it.
+/// The iterators return the entries in the order their keys
+/// entered the arena and are fail fast. Null keys and values are
+/// not permitted.
+///
+/// @version    0.1.0
+/// @since      0.1.0
+public class ArenaStringMap extends AbstractMap<String, String> {
+    /// The value id that marks an absent key.
+    private static final int ABSENT = -1;
+
+    /// The arena.
+    private final StringArena arena;
+
+    /// The value id for each key id.
+    private int[] values = new int[0];
+
+    /// The number of entries.
+    private int size;
+
+    /// The number of structural modifications.
+    private int modCount;
+
+    /// The entry set view.
+    private EntrySet entrySet;
+
+    /// The default constructor; the map has its own arena.
+    public ArenaStringMap() {
+        this(new StringArena());
+    }
+
+    /// A constructor that takes the arena to store the strings in.
+    ///
+    /// @param  arena   net.jmp.spring.boot.failfast.arena.StringArena
+    public ArenaStringMap(final StringArena arena) {
+        super();
+
+        this.arena = Objects.requireNonNull(arena, "arena");
+    }
+
+    /// Returns the arena.
+    ///
+    /// @return net.jmp.spring.boot.failfast.arena.StringArena
+    public StringArena arena() {
+        return this.arena;
+    }
+
+    /// Returns the number of entries.
+    ///
+    /// @return int
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /// Returns the value mapped to the key or null.
+    ///
+    /// @param  key java.lang.Object
+    /// @return     java.lang.String
+    @Override
+    public String get(final Object key) {
+        final int valueId = this.valueId(key);
+
+        return valueId == ABSENT ? null : this.arena.get(valueId);
+    }
+
+    /// Returns true if the key is mapped.
+    ///
+    /// @param  key java.lang.Object
+    /// @return     boolean
+    @Override
+    public boolean containsKey(final Object key) {
+        return this.valueId(key) != ABSENT;
+    }
+
+    /// Maps the key to the value.
+    ///
+    /// @param  key     java.lang.String
+    /// @param  value   java.lang.String
+    /// @return         java.lang.String
+    @Override
+    public String put(final String key, final String value) {
+        final int keyId = this.arena.intern(key);
+        final int valueId = this.arena.intern(Objects.requireNonNull(value, "value"));
+
+        if (keyId >= this.values.length) {
+            final int length = this.values.length;
+
+            this.values = Arrays.copyOf(this.values, Math.max(keyId + 1, Math.max(16, 2 * length)));
+
+            Arrays.fill(this.values, length, this.values.length, ABSENT);
+        }
+
+        final int previous = this.values[keyId];
+
+        this.values[keyId] = valueId;
+
+        if (previous == ABSENT) {
+            this.size++;
+            this.modCount++;
+
+            return null;
+        }
+
+        return this.arena.get(previous);
+    }
+
+    /// Removes the mapping for the key.
+    ///
+    /// @param  key java.lang.Object
+    /// @return     java.lang.String
+    @Override
+    public String remove(final Object key) {
+        final int valueId = this.valueId(key);
+
+        if (valueId == ABSENT) {
+            return null;
+        }
+
+        this.values[this.arena.find((String) key)] = ABSENT;
+        this.size--;
+        this.modCount++;
+
+        return this.arena.get(valueId);
+    }
+
+    /// Removes all the mappings; the arena keeps the strings.
+    @Override
+    public void clear() {
+        Arrays.fill(this.values, ABSENT);
+
+        this.size = 0;
+        this.modCount++;
+    }
+
+    /// Returns the fail fast entry set view.
+    ///
+    /// @return java.util.Set<java.util.Map.Entry<java.lang.String,java.lang.String>>
+    @Override
+    public Set<Map.Entry<String, String>> entrySet() {
+        if (this.entrySet == null) {
+            this.entrySet = new EntrySet();
+        }
+
+        return this.entrySet;
+    }
+
+    /// Returns the value id for the key or absent.
+    ///
+    /// @param  key java.lang.Object
+    /// @return     int
+    private int valueId(final Object key) {
+        if (key instanceof String string) {
+            final int keyId = this.arena.find(string);
+
+            if (keyId >= 0 && keyId < this.values.length) {
+                return this.values[keyId];
+            }
+        }
+
+        return ABSENT;
+    }
+
+    /// Returns the first key id at or after the given one that is mapped or -1.
+    ///
+    /// @param  from    int
+    /// @return         int
+    private int nextKeyId(final int from) {
+        for (int keyId = from; keyId < this.values.length; keyId++) {
+            if (this.values[keyId] != ABSENT) {
+                return keyId;
+            }
+        }
+
+        return -1;
+    }
+
+    /// The entry set view.
+    private final class EntrySet extends AbstractSet<Map.Entry<String, String>> {
+        /// The default constructor.
+        EntrySet() {
+            super();
+        }
+
+        /// Returns a fail fast iterator.
+        @Override
+        public Iterator<Map.Entry<String, String>> iterator() {
+            return new EntryIterator();
+        }
+
+        /// Returns the number of elements.
+        @Override
+        public int size() {
+            return ArenaStringMap.this.size;
+        }
+
+        /// Removes all the elements.
+        @Override
+        public void clear() {
+            ArenaStringMap.this.clear();
+        }
+    }
+
+    /// An entry that reads and writes through to the map.
+    private final class Entry implements Map.Entry<String, String> {
+        /// The key id.
+        private final int keyId;
+
+        /// The constructor.
+        ///
+        /// @param  keyId   int
+        Entry(final int keyId) {
+            super();
+
+            this.keyId = keyId;
+        }
+
+        /// Returns the key.
+        @Override
+        public String getKey() {
+            return ArenaStringMap.this.arena.get(this.keyId);
+        }
+
+        /// Returns the value.
+        @Override
+        public String getValue() {
+            final int valueId = ArenaStringMap.this.values[this.keyId];
+
+            return valueId == ABSENT ? null : ArenaStringMap.this.arena.get(valueId);
+        }
+
+        /// Replaces the value.
+        @Override
+        public String setValue(final String value) {
+            final String previous = this.getValue();
+
+            ArenaStringMap.this.values[this.keyId] = ArenaStringMap.this.arena.intern(Objects.requireNonNull(value, "value"));
+
+            return previous;
+        }
+
+        /// Returns true if the objects are equal.
+        @Override
+        public boolean equals(final Object object) {
+            return object instanceof Map.Entry<?, ?> entry
+                    && Objects.equals(this.getKey(), entry.getKey())
+                    && Objects.equals(this.getValue(), entry.getValue());
+        }
+
+        /// Returns the hash code.
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(this.getKey()) ^ Objects.hashCode(this.getValue());
+        }
+
+        /// Returns the string representation.
+        @Override
+        public String toString() {
+            return this.getKey() + "=" + this.getValue();
+        }
+    }
+
+    /// The fail fast entry iterator.
+    private final class EntryIterator implements Iterator<Map.Entry<String, String>> {
+        /// The next key id or -1.
+        private int next = ArenaStringMap.this.nextKeyId(0);
+
+        /// The last key id returned or -1.
+        private int last = -1;
+
+        /// The modification count the iterator expects.
+        private int expectedModCount = ArenaStringMap.this.modCount;
+
+        /// The default constructor.
+        EntryIterator() {
+            super();
+        }
+
+        /// Returns true if there are more elements.
+        @Override
+        public boolean hasNext() {
+            return this.next >= 0;
+        }
+
+        /// Returns the next element.
+        @Override
+        public Map.Entry<String, String> next() {
+            if (ArenaStringMap.this.modCount != this.expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+
+            if (this.next < 0) {
+                throw new NoSuchElementException();
+            }
+
+            this.last = this.next;
+            this.next = ArenaStringMap.this.nextKeyId(this.next + 1);
+
+            return new Entry(this.last);
+        }
+
+        /// Removes the last element returned.
+        @Override
+        public void remove() {
+            if (this.last < 0) {
+                throw new IllegalStateException();
+            }
+
+            if (ArenaStringMap.this.modCount != this.expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+
+            ArenaStringMap.this.values[this.last] = ABSENT;
+            ArenaStringMap.this.size--;
+
+            this.last = -1;
+            this.expectedModCount = ++ArenaStringMap.this.modCount;
+        }
+    }
+}
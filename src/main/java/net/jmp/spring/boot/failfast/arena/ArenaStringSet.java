@@ -0,0 +1,232 @@
+package net.jmp.spring.boot.failfast.arena;
+
+/*
+ * (#)ArenaStringSet.java   0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.*;
+
+/// A set of strings stored as ids of a string arena. Since an
+/// arena stores each distinct string once, membership is one
+/// bit per arena id. The iterators return the elements in the
+/// order their strings entered the arena and are fail fast.
+/// Null elements are not permitted.
+///
+/// @version    0.1.0
+/// @since      0.1.0
+public class ArenaStringSet extends AbstractSet<String> {
+    /// The arena.
+    private final StringArena arena;
+
+    /// The ids of the members.
+    private final BitSet members = new BitSet();
+
+    /// The number of elements.
+    private int size;
+
+    /// The number of structural modifications.
+    private int modCount;
+
+    /// The default constructor; the set has its own arena.
+    public ArenaStringSet() {
+        this(new StringArena());
+    }
+
+    /// A constructor that takes the arena to store the strings in.
+    ///
+    /// @param  arena   net.jmp.spring.boot.failfast.arena.StringArena
+    public ArenaStringSet(final StringArena arena) {
+        super();
+
+        this.arena = Objects.requireNonNull(arena, "arena");
+    }
+
+    /// Returns the arena.
+    ///
+    /// @return net.jmp.spring.boot.failfast.arena.StringArena
+    public StringArena arena() {
+        return this.arena;
+    }
+
+    /// Returns the number of elements.
+    ///
+    /// @return int
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /// Returns true if the element is present.
+    ///
+    /// @param  element java.lang.Object
+    /// @return         boolean
+    @Override
+    public boolean contains(final Object element) {
+        if (element instanceof String string) {
+            final int id = this.arena.find(string);
+
+            return id >= 0 && this.members.get(id);
+        }
+
+        return false;
+    }
+
+    /// Adds the element.
+    ///
+    /// @param  element java.lang.String
+    /// @return         boolean
+    @Override
+    public boolean add(final String element) {
+        return this.addId(this.arena.intern(element));
+    }
+
+    /// Adds the UTF-8 encoded string in the given range
+    /// of bytes without creating a string object.
+    ///
+    /// @param  bytes   byte[]
+    /// @param  offset  int
+    /// @param  length  int
+    /// @return         boolean
+    public boolean addUtf8(final byte[] bytes, final int offset, final int length) {
+        return this.addId(this.arena.intern(bytes, offset, length));
+    }
+
+    /// Removes the element.
+    ///
+    /// @param  element java.lang.Object
+    /// @return         boolean
+    @Override
+    public boolean remove(final Object element) {
+        if (element instanceof String string) {
+            final int id = this.arena.find(string);
+
+            if (id >= 0 && this.members.get(id)) {
+                this.members.clear(id);
+                this.size--;
+                this.modCount++;
+
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /// Removes all the elements; the arena keeps the strings.
+    @Override
+    public void clear() {
+        this.members.clear();
+        this.size = 0;
+        this.modCount++;
+    }
+
+    /// Adds the id to the members.
+    ///
+    /// @param  id  int
+    /// @return     boolean
+    private boolean addId(final int id) {
+        if (this.members.get(id)) {
+            return false;
+        }
+
+        this.members.set(id);
+        this.size++;
+        this.modCount++;
+
+        return true;
+    }
+
+    /// Returns a fail fast iterator.
+    ///
+    /// @return java.util.Iterator<java.lang.String>
+    @Override
+    public Iterator<String> iterator() {
+        return new MemberIterator();
+    }
+
+    /// The fail fast iterator.
+    private final class MemberIterator implements Iterator<String> {
+        /// The id of the next member or -1.
+        private int next = ArenaStringSet.this.members.nextSetBit(0);
+
+        /// The id of the last member returned or -1.
+        private int last = -1;
+
+        /// The modification count the iterator expects.
+        private int expectedModCount = ArenaStringSet.this.modCount;
+
+        /// The default constructor.
+        MemberIterator() {
+            super();
+        }
+
+        /// Returns true if there are more elements.
+        @Override
+        public boolean hasNext() {
+            return this.next >= 0;
+        }
+
+        /// Returns the next element.
+        @Override
+        public String next() {
+            this.checkForComodification();
+
+            if (this.next < 0) {
+                throw new NoSuchElementException();
+            }
+
+            this.last = this.next;
+            this.next = ArenaStringSet.this.members.nextSetBit(this.next + 1);
+
+            return ArenaStringSet.this.arena.get(this.last);
+        }
+
+        /// Removes the last element returned.
+        @Override
+        public void remove() {
+            if (this.last < 0) {
+                throw new IllegalStateException();
+            }
+
+            this.checkForComodification();
+
+            ArenaStringSet.this.members.clear(this.last);
+            ArenaStringSet.this.size--;
+
+            this.last = -1;
+            this.expectedModCount = ++ArenaStringSet.this.modCount;
+        }
+
+        /// Throws if the set was structurally modified
+        /// other than through this iterator.
+        private void checkForComodification() {
+            if (ArenaStringSet.this.modCount != this.expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
@@ -0,0 +1,400 @@
+package net.jmp.spring.boot.failfast.arena;
+
+/*
+ * (#)StringArena.java  0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/// An interning store for many short strings. The strings are
+/// kept as UTF-8 bytes in one contiguous region and identified
+/// by a dense integer id, so a string costs its bytes plus a few
+/// ints instead of a string object and its array. Each distinct
+/// string is stored once; equality is decided on the raw bytes
+/// and the hash of each string is cached.
+///
+/// The arena only grows; ids stay valid for its lifetime.
+/// Not thread-safe.
+///
+/// @version    0.1.0
+/// @since      0.1.0
+public final class StringArena {
+    /// The default number of strings.
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /// The number of bytes reserved per string by default.
+    private static final int DEFAULT_BYTES_PER_STRING = 16;
+
+    /// The maximum size of an array.
+    private static final int MAXIMUM_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    /// The bytes of all the strings.
+    private byte[] bytes;
+
+    /// The number of bytes used.
+    private int used;
+
+    /// The start offset of each string; the end of
+    /// a string is the start of the next one.
+    private int[] offsets;
+
+    /// The cached hash of each string.
+    private int[] hashes;
+
+    /// The number of strings.
+    private int count;
+
+    /// The open addressing table of ids plus one; zero is empty.
+    private int[] slots;
+
+    /// The default constructor.
+    public StringArena() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /// A constructor that takes the expected number of strings.
+    ///
+    /// @param  expectedStrings int
+    public StringArena(final int expectedStrings) {
+        super();
+
+        if (expectedStrings < 0) {
+            throw new IllegalArgumentException("Expected strings must not be negative: " + expectedStrings);
+        }
+
+        final int capacity = Math.max(DEFAULT_CAPACITY, expectedStrings);
+
+        this.bytes = new byte[(int) Math.min(MAXIMUM_ARRAY_SIZE, (long) capacity * DEFAULT_BYTES_PER_STRING)];
+        this.offsets = new int[capacity + 1];
+        this.hashes = new int[capacity];
+        this.slots = new int[tableSizeFor(capacity)];
+    }
+
+    /// Returns the id of the string, storing it if it is new.
+    ///
+    /// @param  string  java.lang.CharSequence
+    /// @return         int
+    public int intern(final CharSequence string) {
+        Objects.requireNonNull(string, "string");
+
+        if (!isAscii(string)) {
+            final byte[] utf8 = string.toString().getBytes(StandardCharsets.UTF_8);
+
+            return this.intern(utf8, 0, utf8.length);
+        }
+
+        final int hash = asciiHash(string);
+        final int mask = this.slots.length - 1;
+
+        int slot = slotFor(hash, mask);
+
+        for (int entry; (entry = this.slots[slot]) != 0; slot = (slot + 1) & mask) {
+            if (this.hashes[entry - 1] == hash && this.equalsAscii(entry - 1, string)) {
+                return entry - 1;
+            }
+        }
+
+        final int length = string.length();
+        final int start = this.reserve(length);
+
+        for (int i = 0; i < length; i++) {
+            this.bytes[start + i] = (byte) string.charAt(i);
+        }
+
+        return this.append(slot, length, hash);
+    }
+
+    /// Returns the id of the UTF-8 encoded string in the
+    /// given range of bytes, storing it if it is new. No
+    /// string object is created.
+    ///
+    /// @param  source  byte[]
+    /// @param  offset  int
+    /// @param  length  int
+    /// @return         int
+    public int intern(final byte[] source, final int offset, final int length) {
+        Objects.checkFromIndexSize(offset, length, source.length);
+
+        final int hash = bytesHash(source, offset, length);
+        final int mask = this.slots.length - 1;
+
+        int slot = slotFor(hash, mask);
+
+        for (int entry; (entry = this.slots[slot]) != 0; slot = (slot + 1) & mask) {
+            if (this.hashes[entry - 1] == hash && this.equalsBytes(entry - 1, source, offset, length)) {
+                return entry - 1;
+            }
+        }
+
+        final int start = this.reserve(length);
+
+        System.arraycopy(source, offset, this.bytes, start, length);
+
+        return this.append(slot, length, hash);
+    }
+
+    /// Returns the id of the string or -1 if it is not stored.
+    ///
+    /// @param  string  java.lang.CharSequence
+    /// @return         int
+    public int find(final CharSequence string) {
+        Objects.requireNonNull(string, "string");
+
+        final boolean ascii = isAscii(string);
+        final byte[] utf8 = ascii ? null : string.toString().getBytes(StandardCharsets.UTF_8);
+        final int hash = ascii ? asciiHash(string) : bytesHash(utf8, 0, utf8.length);
+        final int mask = this.slots.length - 1;
+
+        for (int slot = slotFor(hash, mask), entry; (entry = this.slots[slot]) != 0; slot = (slot + 1) & mask) {
+            final int id = entry - 1;
+
+            if (this.hashes[id] == hash && (ascii ? this.equalsAscii(id, string) : this.equalsBytes(id, utf8, 0, utf8.length))) {
+                return id;
+            }
+        }
+
+        return -1;
+    }
+
+    /// Returns the string with the id as a new string object.
+    ///
+    /// @param  id  int
+    /// @return     java.lang.String
+    public String get(final int id) {
+        Objects.checkIndex(id, this.count);
+
+        return new String(this.bytes, this.offsets[id], this.offsets[id + 1] - this.offsets[id], StandardCharsets.UTF_8);
+    }
+
+    /// Returns the cached hash of the string with the id. For
+    /// ASCII strings it equals the hash code of the string.
+    ///
+    /// @param  id  int
+    /// @return     int
+    public int hash(final int id) {
+        Objects.checkIndex(id, this.count);
+
+        return this.hashes[id];
+    }
+
+    /// Returns the number of UTF-8 bytes of the string with the id.
+    ///
+    /// @param  id  int
+    /// @return     int
+    public int length(final int id) {
+        Objects.checkIndex(id, this.count);
+
+        return this.offsets[id + 1] - this.offsets[id];
+    }
+
+    /// Returns the number of distinct strings.
+    ///
+    /// @return int
+    public int size() {
+        return this.count;
+    }
+
+    /// Returns the number of bytes used by the strings.
+    ///
+    /// @return long
+    public long byteSize() {
+        return this.used;
+    }
+
+    /// Shrinks the byte region and the per-string
+    /// arrays to what is in use.
+    public void trimToSize() {
+        this.bytes = Arrays.copyOf(this.bytes, this.used);
+        this.offsets = Arrays.copyOf(this.offsets, this.count + 1);
+        this.hashes = Arrays.copyOf(this.hashes, this.count);
+    }
+
+    /// Reserves room for the bytes of a new string
+    /// and returns the start offset.
+    ///
+    /// @param  length  int
+    /// @return         int
+    private int reserve(final int length) {
+        final long required = (long) this.used + length;
+
+        if (required > MAXIMUM_ARRAY_SIZE) {
+            throw new IllegalStateException("The arena is full");
+        }
+
+        if (required > this.bytes.length) {
+            this.bytes = Arrays.copyOf(this.bytes, (int) Math.min(MAXIMUM_ARRAY_SIZE, Math.max(required, 2L * this.bytes.length)));
+        }
+
+        return this.used;
+    }
+
+    /// Records the string whose bytes were just written
+    /// after the used bytes and returns its id.
+    ///
+    /// @param  slot    int
+    /// @param  length  int
+    /// @param  hash    int
+    /// @return         int
+    private int append(final int slot, final int length, final int hash) {
+        final int id = this.count;
+
+        if (id == this.hashes.length) {
+            final int capacity = Math.max(id + 1, 2 * id);
+
+            this.offsets = Arrays.copyOf(this.offsets, capacity + 1);
+            this.hashes = Arrays.copyOf(this.hashes, capacity);
+        }
+
+        this.used += length;
+        this.hashes[id] = hash;
+        this.offsets[id + 1] = this.used;
+        this.slots[slot] = id + 1;
+        this.count++;
+
+        if (2 * this.count > this.slots.length) {
+            this.rehash();
+        }
+
+        return id;
+    }
+
+    /// Doubles the table of ids.
+    private void rehash() {
+        final int[] table = new int[this.slots.length * 2];
+        final int mask = table.length - 1;
+
+        for (int id = 0; id < this.count; id++) {
+            int slot = slotFor(this.hashes[id], mask);
+
+            while (table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+
+            table[slot] = id + 1;
+        }
+
+        this.slots = table;
+    }
+
+    /// Returns true if the stored string equals the ASCII string.
+    ///
+    /// @param  id      int
+    /// @param  string  java.lang.CharSequence
+    /// @return         boolean
+    private boolean equalsAscii(final int id, final CharSequence string) {
+        final int start = this.offsets[id];
+        final int length = string.length();
+
+        if (this.offsets[id + 1] - start != length) {
+            return false;
+        }
+
+        for (int i = 0; i < length; i++) {
+            if (this.bytes[start + i] != (byte) string.charAt(i)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /// Returns true if the stored string equals the bytes.
+    ///
+    /// @param  id      int
+    /// @param  source  byte[]
+    /// @param  offset  int
+    /// @param  length  int
+    /// @return         boolean
+    private boolean equalsBytes(final int id, final byte[] source, final int offset, final int length) {
+        return Arrays.equals(this.bytes, this.offsets[id], this.offsets[id + 1], source, offset, offset + length);
+    }
+
+    /// Returns true if every character is ASCII.
+    ///
+    /// @param  string  java.lang.CharSequence
+    /// @return         boolean
+    private static boolean isAscii(final CharSequence string) {
+        for (int i = 0; i < string.length(); i++) {
+            if (string.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /// Returns the hash of an ASCII string; the same as its hash code.
+    ///
+    /// @param  string  java.lang.CharSequence
+    /// @return         int
+    private static int asciiHash(final CharSequence string) {
+        int hash = 0;
+
+        for (int i = 0; i < string.length(); i++) {
+            hash = 31 * hash + string.charAt(i);
+        }
+
+        return hash;
+    }
+
+    /// Returns the hash of the bytes; for ASCII bytes the
+    /// same as the hash of the equivalent string.
+    ///
+    /// @param  source  byte[]
+    /// @param  offset  int
+    /// @param  length  int
+    /// @return         int
+    private static int bytesHash(final byte[] source, final int offset, final int length) {
+        int hash = 0;
+
+        for (int i = offset; i < offset + length; i++) {
+            hash = 31 * hash + (source[i] & 0xff);
+        }
+
+        return hash;
+    }
+
+    /// Returns the first slot for the hash.
+    ///
+    /// @param  hash    int
+    /// @param  mask    int
+    /// @return         int
+    private static int slotFor(final int hash, final int mask) {
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    /// Returns the table size for the expected number of strings.
+    ///
+    /// @param  expectedStrings int
+    /// @return                 int
+    private static int tableSizeFor(final int expectedStrings) {
+        return Integer.highestOneBit(Math.max(1, 2 * expectedStrings - 1)) << 1;
+    }
+}
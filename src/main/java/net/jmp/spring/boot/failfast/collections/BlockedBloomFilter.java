@@ -0,0 +1,180 @@
+package net.jmp.spring.boot.failfast.collections;
+
+/*
+ * (#)BlockedBloomFilter.java   0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Arrays;
+
+/// A blocked Bloom filter of hash codes. All the bits for a
+/// hash code are in one block of 512 bits, the size of a cache
+/// line, so a lookup touches one line of memory. The block is
+/// chosen from the high half of a mixed 64-bit hash and the bit
+/// positions are derived from the low half by double hashing,
+/// the first from its low 16 bits and the step from its high 16
+/// bits, so that no bit of the hash is used twice.
+/// The false positive rate is higher than that of a classic
+/// filter of the same size, the more so the lower the rate, so
+/// the filter is sized with more bits per element.
+///
+/// @version    0.1.0
+/// @since      0.1.0
+public final class BlockedBloomFilter {
+    /// The number of longs in a block.
+    private static final int BLOCK_LONGS = 8;
+
+    /// The number of bits in a block.
+    private static final int BLOCK_BITS = BLOCK_LONGS * Long.SIZE;
+
+    /// The extra bits per element that make up for the blocking,
+    /// per decade of the false positive rate.
+    private static final double BLOCKING_OVERHEAD = 0.15;
+
+    /// The maximum number of bits set per element.
+    private static final int MAXIMUM_HASHES = 16;
+
+    /// The bits.
+    private final long[] words;
+
+    /// The number of blocks.
+    private final int blocks;
+
+    /// The number of bits set per element.
+    private final int hashes;
+
+    /// The constructor.
+    ///
+    /// @param  expectedInsertions  long
+    /// @param  falsePositiveRate   double
+    public BlockedBloomFilter(final long expectedInsertions, final double falsePositiveRate) {
+        super();
+
+        if (expectedInsertions < 0) {
+            throw new IllegalArgumentException("Expected insertions must not be negative: " + expectedInsertions);
+        }
+
+        if (!(falsePositiveRate > 0.0 && falsePositiveRate < 1.0)) {
+            throw new IllegalArgumentException("False positive rate must be between 0 and 1: " + falsePositiveRate);
+        }
+
+        final long insertions = Math.max(1, expectedInsertions);
+        final double classicBitsPerElement = -Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2));
+        final double bitsPerElement = classicBitsPerElement * (1.0 - BLOCKING_OVERHEAD * Math.log10(falsePositiveRate));
+        final long bits = (long) Math.ceil(insertions * bitsPerElement);
+
+        this.blocks = (int) Math.min(Integer.MAX_VALUE / BLOCK_LONGS, (bits + BLOCK_BITS - 1) / BLOCK_BITS);
+        this.hashes = (int) Math.max(1, Math.min(MAXIMUM_HASHES, Math.round(classicBitsPerElement * Math.log(2))));
+        this.words = new long[this.blocks * BLOCK_LONGS];
+    }
+
+    /// Adds the hash code.
+    ///
+    /// @param  hashCode    int
+    public void put(final int hashCode) {
+        final long hash = mix(hashCode);
+        final int base = this.block(hash);
+
+        int h1 = (int) hash;
+        final int h2 = ((int) hash >>> 16) | 1;
+
+        for (int i = 0; i < this.hashes; i++) {
+            final int bit = h1 & (BLOCK_BITS - 1);
+
+            this.words[base + (bit >>> 6)] |= 1L << bit;
+
+            h1 += h2;
+        }
+    }
+
+    /// Returns false if the hash code was never added
+    /// and true if it might have been.
+    ///
+    /// @param  hashCode    int
+    /// @return             boolean
+    public boolean mightContain(final int hashCode) {
+        final long hash = mix(hashCode);
+        final int base = this.block(hash);
+
+        int h1 = (int) hash;
+        final int h2 = ((int) hash >>> 16) | 1;
+
+        for (int i = 0; i < this.hashes; i++) {
+            final int bit = h1 & (BLOCK_BITS - 1);
+
+            if ((this.words[base + (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+
+            h1 += h2;
+        }
+
+        return true;
+    }
+
+    /// Clears all the bits.
+    public void clear() {
+        Arrays.fill(this.words, 0L);
+    }
+
+    /// Returns the number of bits set per element.
+    ///
+    /// @return int
+    public int hashes() {
+        return this.hashes;
+    }
+
+    /// Returns the size of the filter in bits.
+    ///
+    /// @return long
+    public long bitSize() {
+        return (long) this.words.length * Long.SIZE;
+    }
+
+    /// Returns the index of the first long of the block for the hash.
+    ///
+    /// @param  hash    long
+    /// @return         int
+    private int block(final long hash) {
+        return (int) (((hash >>> 32) * this.blocks) >>> 32) * BLOCK_LONGS;
+    }
+
+    /// Spreads a hash code over 64 bits (the MurmurHash3 finalizer).
+    ///
+    /// @param  hashCode    int
+    /// @return             long
+    private static long mix(final int hashCode) {
+        long hash = hashCode * 0x9E3779B97F4A7C15L;
+
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+
+        return hash;
+    }
+}
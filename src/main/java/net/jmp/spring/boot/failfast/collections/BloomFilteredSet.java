@@ -0,0 +1,238 @@
+package net.jmp.spring.boot.failfast.collections;
+
+/*
+ * (#)BloomFilteredSet.java 0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.*;
+
+/// A hash set fronted by a blocked Bloom filter. A lookup of
+/// an element that was never added is usually rejected by the
+/// filter without touching the hash table, which pays off when
+/// most lookups miss. Iteration is that of the hash set and
+/// fails fast in the same way.
+///
+/// A Bloom filter cannot forget an element, so removed elements
+/// keep answering positive until the filter is rebuilt. It is
+/// rebuilt from the set when removals reach half the capacity
+/// and, at twice the capacity, when the set outgrows it.
+///
+/// @param  <E> The type of element
+/// @version    0.1.0
+/// @since      0.1.0
+public class BloomFilteredSet<E> extends AbstractSet<E> {
+    /// The default expected number of elements.
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /// The default false positive rate.
+    private static final double DEFAULT_FALSE_POSITIVE_RATE = 0.01;
+
+    /// The elements.
+    private final Set<E> elements;
+
+    /// The false positive rate.
+    private final double falsePositiveRate;
+
+    /// The filter.
+    private BlockedBloomFilter filter;
+
+    /// The number of elements the filter was sized for.
+    private int capacity;
+
+    /// The number of removals since the filter was built.
+    private int removals;
+
+    /// The number of lookups rejected by the filter.
+    private long rejections;
+
+    /// The number of lookups passed by the filter that missed.
+    private long falsePositives;
+
+    /// The default constructor.
+    public BloomFilteredSet() {
+        this(DEFAULT_CAPACITY, DEFAULT_FALSE_POSITIVE_RATE);
+    }
+
+    /// A constructor that takes the expected number
+    /// of elements and the false positive rate.
+    ///
+    /// @param  expectedSize        int
+    /// @param  falsePositiveRate   double
+    public BloomFilteredSet(final int expectedSize, final double falsePositiveRate) {
+        super();
+
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size must not be negative: " + expectedSize);
+        }
+
+        this.elements = HashSet.newHashSet(expectedSize);
+        this.falsePositiveRate = falsePositiveRate;
+        this.capacity = Math.max(DEFAULT_CAPACITY, expectedSize);
+        this.filter = new BlockedBloomFilter(this.capacity, falsePositiveRate);
+    }
+
+    /// Returns true if the element is present.
+    ///
+    /// @param  element java.lang.Object
+    /// @return         boolean
+    @Override
+    public boolean contains(final Object element) {
+        if (!this.filter.mightContain(Objects.hashCode(element))) {
+            this.rejections++;
+
+            return false;
+        }
+
+        if (this.elements.contains(element)) {
+            return true;
+        }
+
+        this.falsePositives++;
+
+        return false;
+    }
+
+    /// Adds the element.
+    ///
+    /// @param  element E
+    /// @return         boolean
+    @Override
+    public boolean add(final E element) {
+        if (!this.elements.add(element)) {
+            return false;
+        }
+
+        if (this.elements.size() > this.capacity) {
+            this.rebuild(2 * this.capacity);
+        } else {
+            this.filter.put(Objects.hashCode(element));
+        }
+
+        return true;
+    }
+
+    /// Removes the element.
+    ///
+    /// @param  element java.lang.Object
+    /// @return         boolean
+    @Override
+    public boolean remove(final Object element) {
+        if (!this.elements.remove(element)) {
+            return false;
+        }
+
+        this.removed();
+
+        return true;
+    }
+
+    /// Removes all the elements.
+    @Override
+    public void clear() {
+        this.elements.clear();
+        this.filter.clear();
+        this.removals = 0;
+    }
+
+    /// Returns the number of elements.
+    ///
+    /// @return int
+    @Override
+    public int size() {
+        return this.elements.size();
+    }
+
+    /// Returns a fail fast iterator.
+    ///
+    /// @return java.util.Iterator<E>
+    @Override
+    public Iterator<E> iterator() {
+        final Iterator<E> iterator = this.elements.iterator();
+
+        return new Iterator<>() {
+            /// Returns true if there are more elements.
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            /// Returns the next element.
+            @Override
+            public E next() {
+                return iterator.next();
+            }
+
+            /// Removes the last element returned.
+            @Override
+            public void remove() {
+                iterator.remove();
+
+                BloomFilteredSet.this.removed();
+            }
+        };
+    }
+
+    /// Returns the fraction of the lookups of absent elements
+    /// that passed the filter, or zero if there were none.
+    ///
+    /// @return double
+    public double falsePositiveRate() {
+        final long misses = this.rejections + this.falsePositives;
+
+        return misses == 0 ? 0.0 : (double) this.falsePositives / misses;
+    }
+
+    /// Returns the number of lookups rejected by the filter.
+    ///
+    /// @return long
+    public long rejections() {
+        return this.rejections;
+    }
+
+    /// Counts a removal and rebuilds the filter
+    /// when the removals reach half its capacity.
+    private void removed() {
+        if (++this.removals >= this.capacity / 2) {
+            this.rebuild(this.capacity);
+        }
+    }
+
+    /// Rebuilds the filter from the elements.
+    ///
+    /// @param  newCapacity int
+    private void rebuild(final int newCapacity) {
+        final BlockedBloomFilter newFilter = new BlockedBloomFilter(newCapacity, this.falsePositiveRate);
+
+        for (final E element : this.elements) {
+            newFilter.put(Objects.hashCode(element));
+        }
+
+        this.filter = newFilter;
+        this.capacity = newCapacity;
+        this.removals = 0;
+    }
+}
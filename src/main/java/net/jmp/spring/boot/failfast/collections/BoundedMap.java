@@ -0,0 +1,710 @@
+package net.jmp.spring.boot.failfast.collections;
+
+/*
+ * (#)BoundedMap.java   0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.*;
+
+import java.util.concurrent.Executor;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+import java.util.function.Function;
+import java.util.function.ToIntBiFunction;
+
+/// A thread-safe map bounded by a total weight that evicts with
+/// a segmented LRU policy. New entries enter a probation segment;
+/// an entry read while on probation is promoted to a protected
+/// segment that holds up to 80% of the weight, and entries pushed
+/// out of it are demoted back to probation. Victims are taken from
+/// the cold end of probation first, so entries read only once do
+/// not flush the ones that are read repeatedly.
+///
+/// Eviction runs on the executor given at construction, by default
+/// on the writing thread, and may lag the bound when the executor
+/// is asynchronous. The iterators walk the entries present when
+/// they were created. They fail fast when entries are added or
+/// removed through the map, but an eviction does not count as a
+/// modification: evicted entries are skipped. Neither keys nor
+/// values may be null.
+///
+/// @param  <K> The type of key
+/// @param  <V> The type of value
+/// @version    0.1.0
+/// @since      0.1.0
+public final class BoundedMap<K, V> extends AbstractMap<K, V> {
+    /// The share of the maximum weight held by the protected segment.
+    private static final double PROTECTED_SHARE = 0.8;
+
+    /// The lock.
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /// The entries by key.
+    private final Map<K, Node<K, V>> nodes = new HashMap<>();
+
+    /// The sentinel of the probation segment; its next node is the most recent.
+    private final Node<K, V> probation = new Node<>();
+
+    /// The sentinel of the protected segment; its next node is the most recent.
+    private final Node<K, V> protectedSegment = new Node<>();
+
+    /// The maximum total weight.
+    private final long maximumWeight;
+
+    /// The maximum weight of the protected segment.
+    private final long maximumProtectedWeight;
+
+    /// The weigher.
+    private final ToIntBiFunction<? super K, ? super V> weigher;
+
+    /// The executor that runs the evictions.
+    private final Executor executor;
+
+    /// The total weight.
+    private long weight;
+
+    /// The weight of the protected segment.
+    private long protectedWeight;
+
+    /// True when an eviction has been submitted and not yet run.
+    private boolean evictionPending;
+
+    /// The number of structural modifications made through the map.
+    private volatile int modCount;
+
+    /// The number of lookups that found an entry.
+    private long hits;
+
+    /// The number of lookups that found no entry.
+    private long misses;
+
+    /// The number of entries evicted.
+    private long evictions;
+
+    /// The number of values loaded.
+    private long loads;
+
+    /// The total time spent loading values in nanoseconds.
+    private long loadNanos;
+
+    /// The entry set view.
+    private EntrySet entrySet;
+
+    /// A constructor that bounds the number of entries.
+    ///
+    /// @param  maximumSize long
+    public BoundedMap(final long maximumSize) {
+        this(maximumSize, (_, _) -> 1);
+    }
+
+    /// A constructor that bounds the total weight
+    /// of the entries as given by the weigher.
+    ///
+    /// @param  maximumWeight   long
+    /// @param  weigher         java.util.function.ToIntBiFunction<? super K,? super V>
+    public BoundedMap(final long maximumWeight, final ToIntBiFunction<? super K, ? super V> weigher) {
+        this(maximumWeight, weigher, Runnable::run);
+    }
+
+    /// A constructor that bounds the total weight of the entries
+    /// and runs the evictions on the given executor.
+    ///
+    /// @param  maximumWeight   long
+    /// @param  weigher         java.util.function.ToIntBiFunction<? super K,? super V>
+    /// @param  executor        java.util.concurrent.Executor
+    public BoundedMap(final long maximumWeight,
+                      final ToIntBiFunction<? super K, ? super V> weigher,
+                      final Executor executor) {
+        super();
+
+        if (maximumWeight < 0) {
+            throw new IllegalArgumentException("Maximum weight must not be negative: " + maximumWeight);
+        }
+
+        this.maximumWeight = maximumWeight;
+        this.maximumProtectedWeight = (long) (maximumWeight * PROTECTED_SHARE);
+        this.weigher = Objects.requireNonNull(weigher, "weigher");
+        this.executor = Objects.requireNonNull(executor, "executor");
+
+        this.probation.previous = this.probation.next = this.probation;
+        this.protectedSegment.previous = this.protectedSegment.next = this.protectedSegment;
+    }
+
+    /// Returns the value mapped to the key or null,
+    /// recording a hit or a miss.
+    ///
+    /// @param  key java.lang.Object
+    /// @return     V
+    @Override
+    public V get(final Object key) {
+        Objects.requireNonNull(key, "key");
+
+        this.lock.lock();
+
+        try {
+            final Node<K, V> node = this.nodes.get(key);
+
+            if (node == null) {
+                this.misses++;
+
+                return null;
+            }
+
+            this.hits++;
+            this.onAccess(node);
+
+            return node.value;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /// Returns true if the key is mapped; this
+    /// is neither a hit nor a miss nor an access.
+    ///
+    /// @param  key java.lang.Object
+    /// @return     boolean
+    @Override
+    public boolean containsKey(final Object key) {
+        Objects.requireNonNull(key, "key");
+
+        this.lock.lock();
+
+        try {
+            return this.nodes.containsKey(key);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /// Maps the key to the value.
+    ///
+    /// @param  key     K
+    /// @param  value   V
+    /// @return         V
+    @Override
+    public V put(final K key, final V value) {
+        Objects.requireNonNull(key, "key");
+        Objects.requireNonNull(value, "value");
+
+        final V previous;
+
+        this.lock.lock();
+
+        try {
+            previous = this.putLocked(key, value);
+        } finally {
+            this.lock.unlock();
+        }
+
+        this.scheduleEviction();
+
+        return previous;
+    }
+
+    /// Returns the value mapped to the key, loading and
+    /// mapping it on a miss. The time spent in the loader,
+    /// which runs without the lock, is recorded. If another
+    /// thread mapped the key meanwhile, its value is kept.
+    ///
+    /// @param  key     K
+    /// @param  loader  java.util.function.Function<? super K,? extends V>
+    /// @return         V
+    @Override
+    public V computeIfAbsent(final K key, final Function<? super K, ? extends V> loader) {
+        Objects.requireNonNull(loader, "loader");
+
+        final V existing = this.get(key);
+
+        if (existing != null) {
+            return existing;
+        }
+
+        final long start = System.nanoTime();
+        final V value = loader.apply(key);
+        final long elapsed = System.nanoTime() - start;
+
+        V result = value;
+
+        this.lock.lock();
+
+        try {
+            this.loads++;
+            this.loadNanos += elapsed;
+
+            if (value != null) {
+                final Node<K, V> node = this.nodes.get(key);
+
+                if (node == null) {
+                    this.putLocked(key, value);
+                } else {
+                    result = node.value;
+                }
+            }
+        } finally {
+            this.lock.unlock();
+        }
+
+        this.scheduleEviction();
+
+        return result;
+    }
+
+    /// Removes the mapping for the key.
+    ///
+    /// @param  key java.lang.Object
+    /// @return     V
+    @Override
+    public V remove(final Object key) {
+        Objects.requireNonNull(key, "key");
+
+        this.lock.lock();
+
+        try {
+            final Node<K, V> node = this.nodes.remove(key);
+
+            if (node == null) {
+                return null;
+            }
+
+            this.unlink(node);
+
+            node.removed = true;
+
+            this.modCount++;
+
+            return node.value;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /// Removes all the mappings.
+    @Override
+    public void clear() {
+        this.lock.lock();
+
+        try {
+            for (final Node<K, V> node : this.nodes.values()) {
+                node.removed = true;
+            }
+
+            this.nodes.clear();
+            this.probation.previous = this.probation.next = this.probation;
+            this.protectedSegment.previous = this.protectedSegment.next = this.protectedSegment;
+            this.weight = 0;
+            this.protectedWeight = 0;
+            this.modCount++;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /// Returns the number of entries.
+    ///
+    /// @return int
+    @Override
+    public int size() {
+        this.lock.lock();
+
+        try {
+            return this.nodes.size();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /// Returns the entry set view.
+    ///
+    /// @return java.util.Set<java.util.Map.Entry<K,V>>
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        if (this.entrySet == null) {
+            this.entrySet = new EntrySet();
+        }
+
+        return this.entrySet;
+    }
+
+    /// Returns the total weight of the entries.
+    ///
+    /// @return long
+    public long weightedSize() {
+        this.lock.lock();
+
+        try {
+            return this.weight;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /// Evicts entries until the total weight is within the bound.
+    public void cleanUp() {
+        this.lock.lock();
+
+        try {
+            this.evictionPending = false;
+
+            while (this.weight > this.maximumWeight) {
+                Node<K, V> victim = this.probation.previous;
+
+                if (victim == this.probation) {
+                    victim = this.protectedSegment.previous;
+                }
+
+                this.nodes.remove(victim.key);
+                this.unlink(victim);
+
+                victim.removed = true;
+
+                this.evictions++;
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /// Returns a snapshot of the statistics.
+    ///
+    /// @return net.jmp.spring.boot.failfast.collections.BoundedMap.Stats
+    public Stats stats() {
+        this.lock.lock();
+
+        try {
+            return new Stats(this.hits, this.misses, this.evictions, this.loads, this.loadNanos);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /// Maps the key to the value while the lock is held.
+    ///
+    /// @param  key     K
+    /// @param  value   V
+    /// @return         V
+    private V putLocked(final K key, final V value) {
+        final int nodeWeight = this.weigher.applyAsInt(key, value);
+
+        if (nodeWeight < 0) {
+            throw new IllegalArgumentException("Weight must not be negative: " + nodeWeight);
+        }
+
+        final Node<K, V> node = this.nodes.get(key);
+
+        if (node != null) {
+            final V previous = node.value;
+
+            this.weight += nodeWeight - node.weight;
+
+            if (node.isProtected) {
+                this.protectedWeight += nodeWeight - node.weight;
+            }
+
+            node.value = value;
+            node.weight = nodeWeight;
+
+            this.onAccess(node);
+
+            return previous;
+        }
+
+        final Node<K, V> added = new Node<>(key, value, nodeWeight);
+
+        this.nodes.put(key, added);
+        this.linkFirst(this.probation, added);
+        this.weight += nodeWeight;
+        this.modCount++;
+
+        return null;
+    }
+
+    /// Submits an eviction if the map is over its bound
+    /// and no eviction is pending.
+    private void scheduleEviction() {
+        this.lock.lock();
+
+        try {
+            if (this.weight <= this.maximumWeight || this.evictionPending) {
+                return;
+            }
+
+            this.evictionPending = true;
+        } finally {
+            this.lock.unlock();
+        }
+
+        this.executor.execute(this::cleanUp);
+    }
+
+    /// Moves an accessed node: from probation to the protected
+    /// segment, demoting the coldest protected nodes if it is
+    /// over its share, or to the front of the protected segment.
+    ///
+    /// @param  node    net.jmp.spring.boot.failfast.collections.BoundedMap.Node<K,V>
+    private void onAccess(final Node<K, V> node) {
+        this.unlink(node);
+        this.linkFirst(this.protectedSegment, node);
+        this.protectedWeight += node.weight;
+        this.weight += node.weight;
+
+        while (this.protectedWeight > this.maximumProtectedWeight && this.protectedSegment.previous != node) {
+            final Node<K, V> demoted = this.protectedSegment.previous;
+
+            this.unlink(demoted);
+            this.linkFirst(this.probation, demoted);
+            this.weight += demoted.weight;
+        }
+    }
+
+    /// Links the node after the sentinel.
+    ///
+    /// @param  sentinel    net.jmp.spring.boot.failfast.collections.BoundedMap.Node<K,V>
+    /// @param  node        net.jmp.spring.boot.failfast.collections.BoundedMap.Node<K,V>
+    private void linkFirst(final Node<K, V> sentinel, final Node<K, V> node) {
+        node.previous = sentinel;
+        node.next = sentinel.next;
+        sentinel.next.previous = node;
+        sentinel.next = node;
+        node.isProtected = sentinel == this.protectedSegment;
+    }
+
+    /// Unlinks the node from its segment and subtracts its
+    /// weight; the caller marks it removed if it left the map.
+    ///
+    /// @param  node    net.jmp.spring.boot.failfast.collections.BoundedMap.Node<K,V>
+    private void unlink(final Node<K, V> node) {
+        node.previous.next = node.next;
+        node.next.previous = node.previous;
+        node.previous = node.next = null;
+
+        this.weight -= node.weight;
+
+        if (node.isProtected) {
+            this.protectedWeight -= node.weight;
+        }
+    }
+
+    /// The statistics.
+    ///
+    /// @param  hits        long
+    /// @param  misses      long
+    /// @param  evictions   long
+    /// @param  loads       long
+    /// @param  loadNanos   long
+    public record Stats(long hits, long misses, long evictions, long loads, long loadNanos) {
+        /// Returns the fraction of lookups that found an
+        /// entry, or one when there were no lookups.
+        ///
+        /// @return double
+        public double hitRate() {
+            final long lookups = this.hits + this.misses;
+
+            return lookups == 0 ? 1.0 : (double) this.hits / lookups;
+        }
+
+        /// Returns the average time spent loading a value in
+        /// nanoseconds, or zero when nothing was loaded.
+        ///
+        /// @return double
+        public double averageLoadNanos() {
+            return this.loads == 0 ? 0.0 : (double) this.loadNanos / this.loads;
+        }
+    }
+
+    /// An entry in one of the segments.
+    ///
+    /// @param  <K> The type of key
+    /// @param  <V> The type of value
+    private static final class Node<K, V> {
+        /// The key.
+        private final K key;
+
+        /// The value.
+        private volatile V value;
+
+        /// The weight.
+        private int weight;
+
+        /// True when in the protected segment.
+        private boolean isProtected;
+
+        /// True when no longer in the map.
+        private volatile boolean removed;
+
+        /// The next node towards the cold end.
+        private Node<K, V> next;
+
+        /// The previous node towards the hot end.
+        private Node<K, V> previous;
+
+        /// The sentinel constructor.
+        Node() {
+            this(null, null, 0);
+        }
+
+        /// The constructor.
+        ///
+        /// @param  key     K
+        /// @param  value   V
+        /// @param  weight  int
+        Node(final K key, final V value, final int weight) {
+            super();
+
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+
+    /// The entry set view.
+    private final class EntrySet extends AbstractSet<Map.Entry<K, V>> {
+        /// The default constructor.
+        EntrySet() {
+            super();
+        }
+
+        /// Returns an eviction-safe fail fast iterator.
+        @Override
+        public Iterator<Map.Entry<K, V>> iterator() {
+            return new EntryIterator();
+        }
+
+        /// Returns the number of elements.
+        @Override
+        public int size() {
+            return BoundedMap.this.size();
+        }
+
+        /// Removes all the elements.
+        @Override
+        public void clear() {
+            BoundedMap.this.clear();
+        }
+    }
+
+    /// An entry that writes its value through to the map.
+    private final class Entry extends AbstractMap.SimpleEntry<K, V> {
+        /// The constructor.
+        ///
+        /// @param  node    net.jmp.spring.boot.failfast.collections.BoundedMap.Node<K,V>
+        Entry(final Node<K, V> node) {
+            super(node.key, node.value);
+        }
+
+        /// Replaces the value in this entry and in the map.
+        @Override
+        public V setValue(final V value) {
+            BoundedMap.this.put(this.getKey(), value);
+
+            return super.setValue(value);
+        }
+    }
+
+    /// The iterator over the entries present when it was created.
+    private final class EntryIterator implements Iterator<Map.Entry<K, V>> {
+        /// The nodes.
+        private final List<Node<K, V>> snapshot;
+
+        /// The index of the next node.
+        private int index;
+
+        /// The key of the last entry returned or null.
+        private K lastKey;
+
+        /// The modification count the iterator expects.
+        private int expectedModCount;
+
+        /// The default constructor.
+        EntryIterator() {
+            super();
+
+            BoundedMap.this.lock.lock();
+
+            try {
+                this.snapshot = new ArrayList<>(BoundedMap.this.nodes.values());
+                this.expectedModCount = BoundedMap.this.modCount;
+            } finally {
+                BoundedMap.this.lock.unlock();
+            }
+        }
+
+        /// Returns true if there are more elements;
+        /// evicted entries are skipped.
+        @Override
+        public boolean hasNext() {
+            while (this.index < this.snapshot.size() && this.snapshot.get(this.index).removed) {
+                this.index++;
+            }
+
+            return this.index < this.snapshot.size();
+        }
+
+        /// Returns the next element.
+        @Override
+        public Map.Entry<K, V> next() {
+            if (BoundedMap.this.modCount != this.expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            final Node<K, V> node = this.snapshot.get(this.index++);
+
+            this.lastKey = node.key;
+
+            return new Entry(node);
+        }
+
+        /// Removes the last element returned.
+        @Override
+        public void remove() {
+            if (this.lastKey == null) {
+                throw new IllegalStateException();
+            }
+
+            if (BoundedMap.this.modCount != this.expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+
+            BoundedMap.this.lock.lock();
+
+            try {
+                BoundedMap.this.remove(this.lastKey);
+
+                this.expectedModCount = BoundedMap.this.modCount;
+            } finally {
+                BoundedMap.this.lock.unlock();
+            }
+
+            this.lastKey = null;
+        }
+    }
+}
@@ -0,0 +1,314 @@
+package net.jmp.spring.boot.failfast.collections;
+
+/*
+ * (#)BulkLoader.java   0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.IOException;
+
+import java.nio.ByteBuffer;
+
+import java.nio.channels.FileChannel;
+
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import java.util.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/// Builds lists, sets and maps from large inputs. The source is
+/// read in chunks on the calling thread, each chunk is mapped on
+/// the executor, and the mapped chunks are merged in source order
+/// into a collection pre-sized from the expected count, so a hash
+/// collection is not rehashed while it grows. At most two chunks
+/// per unit of parallelism are in flight at any time.
+///
+/// A stream is loaded through its iterator and a file through
+/// the iterator of {@link java.nio.file.Files#lines(Path)}, with
+/// the expected count from {@link #estimateLines(Path)}.
+///
+/// @version    0.1.0
+/// @since      0.1.0
+public final class BulkLoader {
+    /// The default number of elements in a chunk.
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 14;
+
+    /// The number of samples taken to estimate the line count of a file.
+    private static final int SAMPLES = 4;
+
+    /// The number of bytes in a sample.
+    private static final int SAMPLE_SIZE = 1 << 14;
+
+    /// The executor that maps the chunks.
+    private final Executor executor;
+
+    /// The number of chunks mapped at once.
+    private final int parallelism;
+
+    /// The number of elements in a chunk.
+    private final int chunkSize;
+
+    /// The default constructor; chunks are mapped in the common pool.
+    public BulkLoader() {
+        this(ForkJoinPool.commonPool(), ForkJoinPool.getCommonPoolParallelism(), DEFAULT_CHUNK_SIZE);
+    }
+
+    /// A constructor that takes the executor, the
+    /// parallelism and the number of elements in a chunk.
+    ///
+    /// @param  executor    java.util.concurrent.Executor
+    /// @param  parallelism int
+    /// @param  chunkSize   int
+    public BulkLoader(final Executor executor, final int parallelism, final int chunkSize) {
+        super();
+
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+        }
+
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        }
+
+        this.executor = Objects.requireNonNull(executor, "executor");
+        this.parallelism = parallelism;
+        this.chunkSize = chunkSize;
+    }
+
+    /// Loads a list in source order.
+    ///
+    /// @param  <S>             The type of source element
+    /// @param  <T>             The type of list element
+    /// @param  source          java.util.Iterator<? extends S>
+    /// @param  expectedCount   long
+    /// @param  mapper          java.util.function.Function<? super S,? extends T>
+    /// @return                 java.util.List<T>
+    public <S, T> List<T> toList(final Iterator<? extends S> source,
+                                 final long expectedCount,
+                                 final Function<? super S, ? extends T> mapper) {
+        final ArrayList<T> result = new ArrayList<>(capacityFor(expectedCount));
+
+        this.load(source, mapper, chunk -> {
+            result.ensureCapacity(result.size() + chunk.length);
+
+            for (final Object element : chunk) {
+                result.add(cast(element));
+            }
+        });
+
+        return result;
+    }
+
+    /// Loads a set.
+    ///
+    /// @param  <S>             The type of source element
+    /// @param  <T>             The type of set element
+    /// @param  source          java.util.Iterator<? extends S>
+    /// @param  expectedCount   long
+    /// @param  mapper          java.util.function.Function<? super S,? extends T>
+    /// @return                 java.util.Set<T>
+    public <S, T> Set<T> toSet(final Iterator<? extends S> source,
+                               final long expectedCount,
+                               final Function<? super S, ? extends T> mapper) {
+        final Set<T> result = HashSet.newHashSet(capacityFor(expectedCount));
+
+        this.load(source, mapper, chunk -> {
+            for (final Object element : chunk) {
+                result.add(cast(element));
+            }
+        });
+
+        return result;
+    }
+
+    /// Loads a map. When a key occurs more than once
+    /// the value that comes last in the source wins.
+    ///
+    /// @param  <S>             The type of source element
+    /// @param  <K>             The type of key
+    /// @param  <V>             The type of value
+    /// @param  source          java.util.Iterator<? extends S>
+    /// @param  expectedCount   long
+    /// @param  keyMapper       java.util.function.Function<? super S,? extends K>
+    /// @param  valueMapper     java.util.function.Function<? super S,? extends V>
+    /// @return                 java.util.Map<K,V>
+    public <S, K, V> Map<K, V> toMap(final Iterator<? extends S> source,
+                                     final long expectedCount,
+                                     final Function<? super S, ? extends K> keyMapper,
+                                     final Function<? super S, ? extends V> valueMapper) {
+        final Map<K, V> result = HashMap.newHashMap(capacityFor(expectedCount));
+
+        this.load(source,
+                element -> new AbstractMap.SimpleImmutableEntry<K, V>(keyMapper.apply(element), valueMapper.apply(element)),
+                chunk -> {
+                    for (final Object element : chunk) {
+                        final Map.Entry<K, V> entry = cast(element);
+
+                        result.put(entry.getKey(), entry.getValue());
+                    }
+                });
+
+        return result;
+    }
+
+    /// Estimates the number of lines in a file from the average
+    /// line length of four samples of 16 KiB spread over it.
+    ///
+    /// @param  file    java.nio.file.Path
+    /// @return         long
+    /// @throws         java.io.IOException When the file cannot be read
+    public static long estimateLines(final Path file) throws IOException {
+        try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            final ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(size, SAMPLE_SIZE));
+
+            long sampled = 0;
+            long lines = 0;
+
+            for (int sample = 0; sample < SAMPLES && size > 0; sample++) {
+                final long position = (size - buffer.capacity()) * sample / Math.max(1, SAMPLES - 1);
+
+                int read;
+
+                buffer.clear();
+
+                do {
+                    read = channel.read(buffer, position + buffer.position());
+                } while (read > 0 && buffer.hasRemaining());
+
+                buffer.flip();
+
+                sampled += buffer.remaining();
+
+                while (buffer.hasRemaining()) {
+                    if (buffer.get() == '\n') {
+                        lines++;
+                    }
+                }
+            }
+
+            if (sampled == 0) {
+                return 0;
+            }
+
+            return lines == 0 ? 1 : (long) Math.ceil((double) size * lines / sampled);
+        }
+    }
+
+    /// Reads the source in chunks, maps them on the executor
+    /// and hands the mapped chunks to the merger in order.
+    ///
+    /// @param  <S>     The type of source element
+    /// @param  source  java.util.Iterator<? extends S>
+    /// @param  mapper  java.util.function.Function<? super S,?>
+    /// @param  merger  java.util.function.Consumer<java.lang.Object[]>
+    private <S> void load(final Iterator<? extends S> source,
+                          final Function<? super S, ?> mapper,
+                          final Consumer<Object[]> merger) {
+        Objects.requireNonNull(source, "source");
+        Objects.requireNonNull(mapper, "mapper");
+
+        final Deque<CompletableFuture<Object[]>> inFlight = new ArrayDeque<>();
+
+        try {
+            while (source.hasNext()) {
+                final Object[] chunk = new Object[this.chunkSize];
+
+                int count = 0;
+
+                while (count < chunk.length && source.hasNext()) {
+                    chunk[count++] = source.next();
+                }
+
+                final Object[] filled = count == chunk.length ? chunk : Arrays.copyOf(chunk, count);
+
+                inFlight.add(CompletableFuture.supplyAsync(() -> map(filled, mapper), this.executor));
+
+                if (inFlight.size() >= 2 * this.parallelism) {
+                    merger.accept(inFlight.remove().join());
+                }
+            }
+
+            while (!inFlight.isEmpty()) {
+                merger.accept(inFlight.remove().join());
+            }
+        } catch (final CompletionException e) {
+            inFlight.forEach(future -> future.cancel(false));
+
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+
+            throw e;
+        }
+    }
+
+    /// Maps the elements of a chunk in place.
+    ///
+    /// @param  <S>     The type of source element
+    /// @param  chunk   java.lang.Object[]
+    /// @param  mapper  java.util.function.Function<? super S,?>
+    /// @return         java.lang.Object[]
+    private static <S> Object[] map(final Object[] chunk, final Function<? super S, ?> mapper) {
+        for (int i = 0; i < chunk.length; i++) {
+            final S element = cast(chunk[i]);
+
+            chunk[i] = mapper.apply(element);
+        }
+
+        return chunk;
+    }
+
+    /// Returns an initial capacity for the expected count.
+    ///
+    /// @param  expectedCount   long
+    /// @return                 int
+    private static int capacityFor(final long expectedCount) {
+        return (int) Math.clamp(expectedCount, 0, Integer.MAX_VALUE - 8);
+    }
+
+    /// Casts an element of a chunk.
+    ///
+    /// @param  <T>     The type of element
+    /// @param  element java.lang.Object
+    /// @return         T
+    @SuppressWarnings("unchecked")
+    private static <T> T cast(final Object element) {
+        return (T) element;
+    }
+}
@@ -0,0 +1,594 @@
+package net.jmp.spring.boot.failfast.collections;
+
+/*
+ * (#)DictionaryEncodedList.java    0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+import java.util.function.Predicate;
+
+/// A list that stores each distinct element once in a dictionary
+/// and the elements as dictionary ids, bit-packed in blocks of
+/// 1024. Each block packs its ids at the width of the largest id
+/// it holds and is widened when a larger one is written, so a list
+/// of a few thousand distinct values costs one or two bytes per
+/// element instead of a reference and an object.
+///
+/// Reading an element unpacks its id. The iterators decode a block
+/// of ids at a time and fail fast; after an element is replaced
+/// they read the rest of the block one element at a time.
+/// Searching compares ids rather than elements. Inserting or
+/// removing other than at the end moves the ids that follow, as in
+/// an array list. The dictionary keeps every distinct element added
+/// until the list is cleared. Null elements are not permitted. Not
+/// thread-safe.
+///
+/// @param  <E> The type of element
+/// @version    0.1.0
+/// @since      0.1.0
+public final class DictionaryEncodedList<E> extends AbstractList<E> implements RandomAccess {
+    /// The number of ids in a block as a power of two.
+    private static final int BLOCK_SHIFT = 10;
+
+    /// The number of ids in a block.
+    private static final int BLOCK_SIZE = 1 << BLOCK_SHIFT;
+
+    /// The mask of the position of an id in its block.
+    private static final int BLOCK_MASK = BLOCK_SIZE - 1;
+
+    /// The ids by element.
+    private final Map<E, Integer> ids = new HashMap<>();
+
+    /// The elements by id.
+    private final List<E> dictionary = new ArrayList<>();
+
+    /// The packed ids by block.
+    private long[][] blocks = new long[0][];
+
+    /// The id width of each block in bits.
+    private byte[] widths = new byte[0];
+
+    /// The number of blocks in use.
+    private int blockCount;
+
+    /// The number of elements.
+    private int size;
+
+    /// The number of elements replaced, which are not
+    /// structural modifications but change decoded blocks.
+    private int replacements;
+
+    /// The default constructor.
+    public DictionaryEncodedList() {
+        super();
+    }
+
+    /// A constructor that takes the elements to add.
+    ///
+    /// @param  elements    java.lang.Iterable<? extends E>
+    public DictionaryEncodedList(final Iterable<? extends E> elements) {
+        super();
+
+        Objects.requireNonNull(elements, "elements");
+
+        for (final E element : elements) {
+            this.add(element);
+        }
+    }
+
+    /// Returns the number of elements.
+    ///
+    /// @return int
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /// Returns the element at the index.
+    ///
+    /// @param  index   int
+    /// @return         E
+    @Override
+    public E get(final int index) {
+        Objects.checkIndex(index, this.size);
+
+        return this.dictionary.get(this.readId(index));
+    }
+
+    /// Replaces the element at the index.
+    ///
+    /// @param  index   int
+    /// @param  element E
+    /// @return         E
+    @Override
+    public E set(final int index, final E element) {
+        final E previous = this.get(index);
+
+        this.writeId(index, this.idOf(element));
+        this.replacements++;
+
+        return previous;
+    }
+
+    /// Inserts the element at the index.
+    ///
+    /// @param  index   int
+    /// @param  element E
+    @Override
+    public void add(final int index, final E element) {
+        Objects.checkIndex(index, this.size + 1);
+
+        final int id = this.idOf(element);
+
+        if ((this.size & BLOCK_MASK) == 0) {
+            this.addBlock();
+        }
+
+        for (int i = this.size; i > index; i--) {
+            this.writeId(i, this.readId(i - 1));
+        }
+
+        this.writeId(index, id);
+        this.size++;
+        this.modCount++;
+    }
+
+    /// Removes the element at the index.
+    ///
+    /// @param  index   int
+    /// @return         E
+    @Override
+    public E remove(final int index) {
+        final E previous = this.get(index);
+
+        for (int i = index + 1; i < this.size; i++) {
+            this.writeId(i - 1, this.readId(i));
+        }
+
+        this.size--;
+        this.modCount++;
+
+        if ((this.size & BLOCK_MASK) == 0) {
+            this.blocks[--this.blockCount] = null;
+        }
+
+        return previous;
+    }
+
+    /// Removes the elements that satisfy the filter
+    /// in one pass that moves each kept id once.
+    ///
+    /// @param  filter  java.util.function.Predicate<? super E>
+    /// @return         boolean
+    @Override
+    public boolean removeIf(final Predicate<? super E> filter) {
+        Objects.requireNonNull(filter, "filter");
+
+        final int expectedModCount = this.modCount;
+
+        int kept = 0;
+
+        for (int i = 0; i < this.size; i++) {
+            final int id = this.readId(i);
+
+            if (!filter.test(this.dictionary.get(id))) {
+                if (kept != i) {
+                    this.writeId(kept, id);
+                }
+
+                kept++;
+            }
+        }
+
+        if (this.modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+
+        if (kept == this.size) {
+            return false;
+        }
+
+        final int blocks = (kept + BLOCK_MASK) >>> BLOCK_SHIFT;
+
+        Arrays.fill(this.blocks, blocks, this.blockCount, null);
+
+        this.blockCount = blocks;
+        this.size = kept;
+        this.modCount++;
+
+        return true;
+    }
+
+    /// Removes all the elements and empties the dictionary.
+    @Override
+    public void clear() {
+        this.ids.clear();
+        this.dictionary.clear();
+        this.blocks = new long[0][];
+        this.widths = new byte[0];
+        this.blockCount = 0;
+        this.size = 0;
+        this.modCount++;
+    }
+
+    /// Returns the index of the first occurrence of the object or -1.
+    ///
+    /// @param  o   java.lang.Object
+    /// @return     int
+    @Override
+    public int indexOf(final Object o) {
+        final Integer id = this.ids.get(o);
+
+        if (id != null) {
+            final int[] buffer = new int[BLOCK_SIZE];
+
+            for (int block = 0; block < this.blockCount; block++) {
+                final int count = this.decode(block, buffer);
+
+                for (int i = 0; i < count; i++) {
+                    if (buffer[i] == id) {
+                        return (block << BLOCK_SHIFT) + i;
+                    }
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    /// Returns the index of the last occurrence of the object or -1.
+    ///
+    /// @param  o   java.lang.Object
+    /// @return     int
+    @Override
+    public int lastIndexOf(final Object o) {
+        final Integer id = this.ids.get(o);
+
+        if (id != null) {
+            for (int i = this.size - 1; i >= 0; i--) {
+                if (this.readId(i) == id) {
+                    return i;
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    /// Returns true if the list contains the object.
+    ///
+    /// @param  o   java.lang.Object
+    /// @return     boolean
+    @Override
+    public boolean contains(final Object o) {
+        return this.indexOf(o) >= 0;
+    }
+
+    /// Returns an iterator that decodes a block of ids at a time.
+    ///
+    /// @return java.util.Iterator<E>
+    @Override
+    public Iterator<E> iterator() {
+        return new BlockIterator();
+    }
+
+    /// Returns the number of distinct elements in the dictionary.
+    ///
+    /// @return int
+    public int dictionarySize() {
+        return this.dictionary.size();
+    }
+
+    /// Returns the number of bytes of the packed ids.
+    ///
+    /// @return long
+    public long packedBytes() {
+        long bytes = 0L;
+
+        for (int block = 0; block < this.blockCount; block++) {
+            bytes += (long) this.blocks[block].length * Long.BYTES;
+        }
+
+        return bytes;
+    }
+
+    /// Returns the id of the element, adding it to the dictionary if it is new.
+    ///
+    /// @param  element E
+    /// @return         int
+    private int idOf(final E element) {
+        Objects.requireNonNull(element, "element");
+
+        final Integer id = this.ids.get(element);
+
+        if (id != null) {
+            return id;
+        }
+
+        this.dictionary.add(element);
+        this.ids.put(element, this.dictionary.size() - 1);
+
+        return this.dictionary.size() - 1;
+    }
+
+    /// Adds a block wide enough for the ids in the dictionary.
+    private void addBlock() {
+        if (this.blockCount == this.blocks.length) {
+            final int capacity = Math.max(4, this.blockCount + (this.blockCount >> 1));
+
+            this.blocks = Arrays.copyOf(this.blocks, capacity);
+            this.widths = Arrays.copyOf(this.widths, capacity);
+        }
+
+        final int width = widthOf(Math.max(0, this.dictionary.size() - 1));
+
+        this.blocks[this.blockCount] = new long[words(width)];
+        this.widths[this.blockCount] = (byte) width;
+        this.blockCount++;
+    }
+
+    /// Returns the id at the index.
+    ///
+    /// @param  index   int
+    /// @return         int
+    private int readId(final int index) {
+        final int block = index >>> BLOCK_SHIFT;
+        final long[] words = this.blocks[block];
+        final int width = this.widths[block];
+        final long bit = (long) (index & BLOCK_MASK) * width;
+        final int word = (int) (bit >>> 6);
+        final int shift = (int) (bit & 63);
+
+        long value = words[word] >>> shift;
+
+        if (shift + width > Long.SIZE) {
+            value |= words[word + 1] << (Long.SIZE - shift);
+        }
+
+        return (int) (value & mask(width));
+    }
+
+    /// Writes the id at the index, widening its block if the id does not fit.
+    ///
+    /// @param  index   int
+    /// @param  id      int
+    private void writeId(final int index, final int id) {
+        final int block = index >>> BLOCK_SHIFT;
+
+        if (widthOf(id) > this.widths[block]) {
+            this.widen(block, widthOf(id));
+        }
+
+        final long[] words = this.blocks[block];
+        final int width = this.widths[block];
+        final long mask = mask(width);
+        final long bit = (long) (index & BLOCK_MASK) * width;
+        final int word = (int) (bit >>> 6);
+        final int shift = (int) (bit & 63);
+
+        words[word] = (words[word] & ~(mask << shift)) | ((long) id << shift);
+
+        if (shift + width > Long.SIZE) {
+            final int spill = Long.SIZE - shift;
+
+            words[word + 1] = (words[word + 1] & ~(mask >>> spill)) | ((long) id >>> spill);
+        }
+    }
+
+    /// Repacks the block at the given width. All the ids of the
+    /// block are repacked, since one past the end may have been
+    /// written already by an insertion.
+    ///
+    /// @param  block   int
+    /// @param  width   int
+    private void widen(final int block, final int width) {
+        final int[] buffer = new int[BLOCK_SIZE];
+        final int base = block << BLOCK_SHIFT;
+
+        this.decode(block, buffer, BLOCK_SIZE);
+
+        this.blocks[block] = new long[words(width)];
+        this.widths[block] = (byte) width;
+
+        for (int i = 0; i < BLOCK_SIZE; i++) {
+            this.writeId(base + i, buffer[i]);
+        }
+    }
+
+    /// Decodes the ids of the block into the buffer
+    /// and returns the number of them in use.
+    ///
+    /// @param  block   int
+    /// @param  buffer  int[]
+    /// @return         int
+    private int decode(final int block, final int[] buffer) {
+        return this.decode(block, buffer, Math.min(BLOCK_SIZE, this.size - (block << BLOCK_SHIFT)));
+    }
+
+    /// Decodes the given number of ids of the block into the buffer
+    /// and returns that number.
+    ///
+    /// @param  block   int
+    /// @param  buffer  int[]
+    /// @param  count   int
+    /// @return         int
+    private int decode(final int block, final int[] buffer, final int count) {
+        final long[] words = this.blocks[block];
+        final int width = this.widths[block];
+        final long mask = mask(width);
+
+        int word = 0;
+        int shift = 0;
+
+        for (int i = 0; i < count; i++) {
+            long value = words[word] >>> shift;
+
+            if (shift + width > Long.SIZE) {
+                value |= words[word + 1] << (Long.SIZE - shift);
+            }
+
+            buffer[i] = (int) (value & mask);
+            shift += width;
+
+            if (shift >= Long.SIZE) {
+                shift -= Long.SIZE;
+                word++;
+            }
+        }
+
+        return count;
+    }
+
+    /// Returns the number of bits needed for the id.
+    ///
+    /// @param  id  int
+    /// @return     int
+    private static int widthOf(final int id) {
+        return Math.max(1, Integer.SIZE - Integer.numberOfLeadingZeros(id));
+    }
+
+    /// Returns the number of words in a block of ids of the width.
+    ///
+    /// @param  width   int
+    /// @return         int
+    private static int words(final int width) {
+        return BLOCK_SIZE * width / Long.SIZE;
+    }
+
+    /// Returns the mask of an id of the width.
+    ///
+    /// @param  width   int
+    /// @return         long
+    private static long mask(final int width) {
+        return (1L << width) - 1;
+    }
+
+    /// The fail fast iterator; it decodes the elements of
+    /// a block into a buffer when it enters the block. A
+    /// replacement made since then leaves the buffer stale,
+    /// so the rest of the block is read from the list.
+    private final class BlockIterator implements Iterator<E> {
+        /// The decoded ids of the current block.
+        private final int[] buffer = new int[BLOCK_SIZE];
+
+        /// The decoded elements of the current block.
+        private final Object[] elements = new Object[BLOCK_SIZE];
+
+        /// The block decoded into the buffer or -1.
+        private int decoded = -1;
+
+        /// The number of replacements when the block was decoded.
+        private int decodedReplacements;
+
+        /// The index of the next element.
+        private int cursor;
+
+        /// The index of the last element returned or -1.
+        private int lastReturned = -1;
+
+        /// The expected modification count.
+        private int expectedModCount = DictionaryEncodedList.this.modCount;
+
+        /// The default constructor.
+        BlockIterator() {
+            super();
+        }
+
+        /// Returns true if there are more elements.
+        @Override
+        public boolean hasNext() {
+            return this.cursor < DictionaryEncodedList.this.size;
+        }
+
+        /// Returns the next element.
+        @Override
+        public E next() {
+            this.checkForComodification();
+
+            if (this.cursor >= DictionaryEncodedList.this.size) {
+                throw new NoSuchElementException();
+            }
+
+            final int block = this.cursor >>> BLOCK_SHIFT;
+
+            if (block != this.decoded) {
+                final int count = DictionaryEncodedList.this.decode(block, this.buffer);
+
+                for (int i = 0; i < count; i++) {
+                    this.elements[i] = DictionaryEncodedList.this.dictionary.get(this.buffer[i]);
+                }
+
+                this.decoded = block;
+                this.decodedReplacements = DictionaryEncodedList.this.replacements;
+            }
+
+            @SuppressWarnings("unchecked")
+            final E element = this.decodedReplacements == DictionaryEncodedList.this.replacements
+                    ? (E) this.elements[this.cursor & BLOCK_MASK]
+                    : DictionaryEncodedList.this.get(this.cursor);
+
+            this.lastReturned = this.cursor++;
+
+            return element;
+        }
+
+        /// Removes the last element returned.
+        @Override
+        public void remove() {
+            if (this.lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+
+            this.checkForComodification();
+
+            DictionaryEncodedList.this.remove(this.lastReturned);
+
+            this.cursor = this.lastReturned;
+            this.lastReturned = -1;
+            this.decoded = -1;
+            this.expectedModCount = DictionaryEncodedList.this.modCount;
+        }
+
+        /// Throws if the list was modified other than through this iterator.
+        private void checkForComodification() {
+            if (DictionaryEncodedList.this.modCount != this.expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package net.jmp.spring.boot.failfast.collections;
+
+/*
+ * (#)ForwardingEntrySet.java   0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import java.util.function.BiConsumer;
+
+/// The entry set view of a map that wraps another map and must
+/// see every change made through the view. The iterator and the
+/// entries are those of the backing entry set; a removal through
+/// the iterator is passed to the removal hook once it has been
+/// made, and a replacement of the value of an entry is made by the
+/// set hook, which returns the previous value. The size and clear
+/// are forwarded to the wrapping map. Values may not be set to null.
+///
+/// It is public only because the maps that use it are in
+/// different packages.
+///
+/// @param  <K> The type of key
+/// @param  <V> The type of value
+/// @version    0.1.0
+/// @since      0.1.0
+public final class ForwardingEntrySet<K, V> extends AbstractSet<Map.Entry<K, V>> {
+    /// The wrapping map.
+    private final Map<K, V> map;
+
+    /// The backing entry set.
+    private final Set<Map.Entry<K, V>> entries;
+
+    /// The hook run after an entry was removed.
+    private final BiConsumer<? super K, ? super V> onRemove;
+
+    /// The hook that replaces the value of an entry.
+    private final Setter<K, V> setter;
+
+    /// The constructor.
+    ///
+    /// @param  map         java.util.Map<K,V>
+    /// @param  entries     java.util.Set<java.util.Map.Entry<K,V>>
+    /// @param  onRemove    java.util.function.BiConsumer<? super K,? super V>
+    /// @param  setter      net.jmp.spring.boot.failfast.collections.ForwardingEntrySet.Setter<K,V>
+    public ForwardingEntrySet(final Map<K, V> map,
+                              final Set<Map.Entry<K, V>> entries,
+                              final BiConsumer<? super K, ? super V> onRemove,
+                              final Setter<K, V> setter) {
+        super();
+
+        this.map = Objects.requireNonNull(map, "map");
+        this.entries = Objects.requireNonNull(entries, "entries");
+        this.onRemove = Objects.requireNonNull(onRemove, "onRemove");
+        this.setter = Objects.requireNonNull(setter, "setter");
+    }
+
+    /// Returns an iterator that runs the hooks.
+    @Override
+    public Iterator<Map.Entry<K, V>> iterator() {
+        final Iterator<Map.Entry<K, V>> iterator = this.entries.iterator();
+
+        return new Iterator<>() {
+            /// The last entry returned or null.
+            private Map.Entry<K, V> last;
+
+            /// Returns true if there are more elements.
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            /// Returns the next element.
+            @Override
+            public Map.Entry<K, V> next() {
+                this.last = iterator.next();
+
+                return new Entry(this.last);
+            }
+
+            /// Removes the last element returned.
+            @Override
+            public void remove() {
+                if (this.last == null) {
+                    throw new IllegalStateException();
+                }
+
+                final K key = this.last.getKey();
+                final V value = this.last.getValue();
+
+                iterator.remove();
+
+                ForwardingEntrySet.this.onRemove.accept(key, value);
+
+                this.last = null;
+            }
+        };
+    }
+
+    /// Returns the number of elements.
+    @Override
+    public int size() {
+        return this.map.size();
+    }
+
+    /// Removes all the elements.
+    @Override
+    public void clear() {
+        this.map.clear();
+    }
+
+    /// Replaces the value of an entry of the backing map.
+    ///
+    /// @param  <K> The type of key
+    /// @param  <V> The type of value
+    @FunctionalInterface
+    public interface Setter<K, V> {
+        /// Replaces the value of the entry and returns the previous value.
+        ///
+        /// @param  entry   java.util.Map.Entry<K,V>
+        /// @param  value   V
+        /// @return         V
+        V setValue(Map.Entry<K, V> entry, V value);
+    }
+
+    /// An entry whose value is replaced by the set hook.
+    private final class Entry implements Map.Entry<K, V> {
+        /// The entry of the backing map.
+        private final Map.Entry<K, V> entry;
+
+        /// The constructor.
+        ///
+        /// @param  entry   java.util.Map.Entry<K,V>
+        Entry(final Map.Entry<K, V> entry) {
+            super();
+
+            this.entry = entry;
+        }
+
+        /// Returns the key.
+        @Override
+        public K getKey() {
+            return this.entry.getKey();
+        }
+
+        /// Returns the value.
+        @Override
+        public V getValue() {
+            return this.entry.getValue();
+        }
+
+        /// Replaces the value.
+        @Override
+        public V setValue(final V value) {
+            Objects.requireNonNull(value, "value");
+
+            return ForwardingEntrySet.this.setter.setValue(this.entry, value);
+        }
+
+        /// Returns true if the objects are equal.
+        @Override
+        public boolean equals(final Object object) {
+            return this.entry.equals(object);
+        }
+
+        /// Returns the hash code.
+        @Override
+        public int hashCode() {
+            return this.entry.hashCode();
+        }
+
+        /// Returns the string representation.
+        @Override
+        public String toString() {
+            return this.entry.toString();
+        }
+    }
+}
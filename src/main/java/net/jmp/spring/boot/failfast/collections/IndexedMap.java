@@ -0,0 +1,239 @@
+package net.jmp.spring.boot.failfast.collections;
+
+/*
+ * (#)IndexedMap.java   0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.*;
+
+import java.util.function.Function;
+
+/// A hash map with secondary indexes on attributes derived from
+/// its values. Every change, including one made through a view,
+/// an iterator or an entry, updates each index before it returns,
+/// so the indexes stay consistent with the map even when a change
+/// during an iteration goes on to fail that iteration fast. A change
+/// that would break a unique index is rejected before the map is
+/// touched. Null keys and values are not permitted.
+///
+/// @param  <K> The type of key
+/// @param  <V> The type of value
+/// @version    0.1.0
+/// @since      0.1.0
+public class IndexedMap<K, V> extends AbstractMap<K, V> {
+    /// The entries.
+    private final Map<K, V> entries;
+
+    /// The indexes by name.
+    private final Map<String, SecondaryIndex<K, V, ?>> indexes = new LinkedHashMap<>();
+
+    /// The entry set view.
+    private Set<Map.Entry<K, V>> entrySet;
+
+    /// The default constructor.
+    public IndexedMap() {
+        super();
+
+        this.entries = new HashMap<>();
+    }
+
+    /// A constructor that takes the expected number of entries.
+    ///
+    /// @param  expectedSize    int
+    public IndexedMap(final int expectedSize) {
+        super();
+
+        this.entries = HashMap.newHashMap(expectedSize);
+    }
+
+    /// Adds an index built from the current entries.
+    ///
+    /// @param  <A>         The type of attribute
+    /// @param  name        java.lang.String
+    /// @param  attribute   java.util.function.Function<? super V,? extends A>
+    /// @param  unique      boolean
+    /// @return             net.jmp.spring.boot.failfast.collections.SecondaryIndex<K,V,A>
+    public <A> SecondaryIndex<K, V, A> addIndex(final String name,
+                                                final Function<? super V, ? extends A> attribute,
+                                                final boolean unique) {
+        if (this.indexes.containsKey(name)) {
+            throw new IllegalArgumentException("Index already exists: " + name);
+        }
+
+        final SecondaryIndex<K, V, A> index = new SecondaryIndex<>(name, attribute, unique);
+
+        for (final Map.Entry<K, V> entry : this.entries.entrySet()) {
+            index.check(entry.getKey(), entry.getValue());
+            index.add(entry.getKey(), entry.getValue());
+        }
+
+        this.indexes.put(name, index);
+
+        return index;
+    }
+
+    /// Returns the index with the name or null.
+    ///
+    /// @param  name    java.lang.String
+    /// @return         net.jmp.spring.boot.failfast.collections.SecondaryIndex<K,V,?>
+    public SecondaryIndex<K, V, ?> index(final String name) {
+        return this.indexes.get(name);
+    }
+
+    /// Removes the index with the name.
+    ///
+    /// @param  name    java.lang.String
+    /// @return         boolean
+    public boolean removeIndex(final String name) {
+        return this.indexes.remove(name) != null;
+    }
+
+    /// Returns the value mapped to the key or null.
+    ///
+    /// @param  key java.lang.Object
+    /// @return     V
+    @Override
+    public V get(final Object key) {
+        return this.entries.get(key);
+    }
+
+    /// Returns true if the key is mapped.
+    ///
+    /// @param  key java.lang.Object
+    /// @return     boolean
+    @Override
+    public boolean containsKey(final Object key) {
+        return this.entries.containsKey(key);
+    }
+
+    /// Returns the number of entries.
+    ///
+    /// @return int
+    @Override
+    public int size() {
+        return this.entries.size();
+    }
+
+    /// Maps the key to the value.
+    ///
+    /// @param  key     K
+    /// @param  value   V
+    /// @return         V
+    @Override
+    public V put(final K key, final V value) {
+        Objects.requireNonNull(key, "key");
+        Objects.requireNonNull(value, "value");
+
+        for (final SecondaryIndex<K, V, ?> index : this.indexes.values()) {
+            index.check(key, value);
+        }
+
+        final V previous = this.entries.put(key, value);
+
+        this.reindex(key, previous, value);
+
+        return previous;
+    }
+
+    /// Removes the mapping for the key.
+    ///
+    /// @param  key java.lang.Object
+    /// @return     V
+    @Override
+    public V remove(final Object key) {
+        final V previous = this.entries.remove(key);
+
+        if (previous != null) {
+            @SuppressWarnings("unchecked")
+            final K k = (K) key;
+
+            this.reindex(k, previous, null);
+        }
+
+        return previous;
+    }
+
+    /// Removes all the mappings.
+    @Override
+    public void clear() {
+        this.entries.clear();
+        this.indexes.values().forEach(SecondaryIndex::clear);
+    }
+
+    /// Returns the entry set view.
+    ///
+    /// @return java.util.Set<java.util.Map.Entry<K,V>>
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        if (this.entrySet == null) {
+            this.entrySet = new ForwardingEntrySet<>(this,
+                    this.entries.entrySet(),
+                    (key, value) -> this.reindex(key, value, null),
+                    this::setValue);
+        }
+
+        return this.entrySet;
+    }
+
+    /// Replaces the value of an entry of the backing map,
+    /// checking and then maintaining the indexes.
+    ///
+    /// @param  entry   java.util.Map.Entry<K,V>
+    /// @param  value   V
+    /// @return         V
+    private V setValue(final Map.Entry<K, V> entry, final V value) {
+        final K key = entry.getKey();
+
+        for (final SecondaryIndex<K, V, ?> index : this.indexes.values()) {
+            index.check(key, value);
+        }
+
+        final V previous = entry.setValue(value);
+
+        this.reindex(key, previous, value);
+
+        return previous;
+    }
+
+    /// Moves the key from the attributes of the old
+    /// value to those of the new value in every index.
+    ///
+    /// @param  key         K
+    /// @param  oldValue    V
+    /// @param  newValue    V
+    private void reindex(final K key, final V oldValue, final V newValue) {
+        for (final SecondaryIndex<K, V, ?> index : this.indexes.values()) {
+            if (oldValue != null) {
+                index.remove(key, oldValue);
+            }
+
+            if (newValue != null) {
+                index.add(key, newValue);
+            }
+        }
+    }
+}
@@ -0,0 +1,483 @@
+package net.jmp.spring.boot.failfast.collections;
+
+/*
+ * (#)IntArrayList.java 0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.*;
+
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+
+/// A list of ints held unboxed in a growable array, with bulk
+/// operations for scans of large numeric lists. The searches,
+/// aggregations, counts and removals run a vector of elements
+/// at a time with the incubating Vector API when the
+/// jdk.incubator.vector module is present, for example with
+/// --add-modules jdk.incubator.vector, and the list holds enough
+/// elements; otherwise they run as scalar loops. Counts and
+/// removals are vectorized only for an {@link IntCondition};
+/// other predicates are tested one element at a time.
+///
+/// The list is also a list of {@link Integer} whose iterators
+/// are fail fast like those of {@link ArrayList}. Null elements
+/// are not permitted. Not thread-safe.
+///
+/// @version    0.1.0
+/// @since      0.1.0
+public final class IntArrayList extends AbstractList<Integer> implements RandomAccess {
+    /// True if the Vector API module is present.
+    private static final boolean VECTOR_API = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+    /// The default capacity.
+    private static final int DEFAULT_CAPACITY = 10;
+
+    /// The number of elements below which scalar loops are used.
+    private static final int VECTOR_THRESHOLD = 64;
+
+    /// True if the bulk operations are vectorized.
+    private final boolean vectorized;
+
+    /// The elements.
+    private int[] elements;
+
+    /// The number of elements.
+    private int size;
+
+    /// The default constructor.
+    public IntArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /// A constructor that takes the initial capacity.
+    ///
+    /// @param  initialCapacity int
+    public IntArrayList(final int initialCapacity) {
+        this(initialCapacity, true);
+    }
+
+    /// A constructor that takes the initial capacity and whether
+    /// to vectorize the bulk operations when the Vector API is
+    /// present.
+    ///
+    /// @param  initialCapacity int
+    /// @param  vectorize       boolean
+    public IntArrayList(final int initialCapacity, final boolean vectorize) {
+        super();
+
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Initial capacity must not be negative: " + initialCapacity);
+        }
+
+        this.elements = new int[initialCapacity];
+        this.vectorized = vectorize && VECTOR_API;
+    }
+
+    /// Returns true if the Vector API module is present.
+    ///
+    /// @return boolean
+    public static boolean isVectorApiPresent() {
+        return VECTOR_API;
+    }
+
+    /// Returns true if the bulk operations of this list are vectorized.
+    ///
+    /// @return boolean
+    public boolean isVectorized() {
+        return this.vectorized;
+    }
+
+    /// Returns the number of elements.
+    ///
+    /// @return int
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /// Returns the element at the index.
+    ///
+    /// @param  index   int
+    /// @return         int
+    public int getInt(final int index) {
+        Objects.checkIndex(index, this.size);
+
+        return this.elements[index];
+    }
+
+    /// Replaces the element at the index.
+    ///
+    /// @param  index   int
+    /// @param  value   int
+    /// @return         int
+    public int setInt(final int index, final int value) {
+        Objects.checkIndex(index, this.size);
+
+        final int previous = this.elements[index];
+
+        this.elements[index] = value;
+
+        return previous;
+    }
+
+    /// Appends the value.
+    ///
+    /// @param  value   int
+    public void addInt(final int value) {
+        if (this.size == this.elements.length) {
+            this.grow(this.size + 1);
+        }
+
+        this.elements[this.size++] = value;
+        this.modCount++;
+    }
+
+    /// Inserts the value at the index.
+    ///
+    /// @param  index   int
+    /// @param  value   int
+    public void addInt(final int index, final int value) {
+        Objects.checkIndex(index, this.size + 1);
+
+        if (this.size == this.elements.length) {
+            this.grow(this.size + 1);
+        }
+
+        System.arraycopy(this.elements, index, this.elements, index + 1, this.size - index);
+
+        this.elements[index] = value;
+        this.size++;
+        this.modCount++;
+    }
+
+    /// Removes the element at the index.
+    ///
+    /// @param  index   int
+    /// @return         int
+    public int removeInt(final int index) {
+        Objects.checkIndex(index, this.size);
+
+        final int previous = this.elements[index];
+
+        System.arraycopy(this.elements, index + 1, this.elements, index, this.size - index - 1);
+
+        this.size--;
+        this.modCount++;
+
+        return previous;
+    }
+
+    /// Returns true if the list contains the value.
+    ///
+    /// @param  value   int
+    /// @return         boolean
+    public boolean containsInt(final int value) {
+        return this.indexOfInt(value) >= 0;
+    }
+
+    /// Returns the index of the first occurrence of the value or -1.
+    ///
+    /// @param  value   int
+    /// @return         int
+    public int indexOfInt(final int value) {
+        if (this.useVectors()) {
+            return IntVectors.indexOf(this.elements, this.size, value);
+        }
+
+        for (int i = 0; i < this.size; i++) {
+            if (this.elements[i] == value) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /// Returns the index of the last occurrence of the value or -1.
+    ///
+    /// @param  value   int
+    /// @return         int
+    public int lastIndexOfInt(final int value) {
+        for (int i = this.size - 1; i >= 0; i--) {
+            if (this.elements[i] == value) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /// Returns the sum of the elements.
+    ///
+    /// @return long
+    public long sum() {
+        if (this.useVectors()) {
+            return IntVectors.sum(this.elements, this.size);
+        }
+
+        long sum = 0;
+
+        for (int i = 0; i < this.size; i++) {
+            sum += this.elements[i];
+        }
+
+        return sum;
+    }
+
+    /// Returns the smallest element, if any.
+    ///
+    /// @return java.util.OptionalInt
+    public OptionalInt min() {
+        if (this.size == 0) {
+            return OptionalInt.empty();
+        }
+
+        if (this.useVectors()) {
+            return OptionalInt.of(IntVectors.min(this.elements, this.size));
+        }
+
+        int min = this.elements[0];
+
+        for (int i = 1; i < this.size; i++) {
+            min = Math.min(min, this.elements[i]);
+        }
+
+        return OptionalInt.of(min);
+    }
+
+    /// Returns the largest element, if any.
+    ///
+    /// @return java.util.OptionalInt
+    public OptionalInt max() {
+        if (this.size == 0) {
+            return OptionalInt.empty();
+        }
+
+        if (this.useVectors()) {
+            return OptionalInt.of(IntVectors.max(this.elements, this.size));
+        }
+
+        int max = this.elements[0];
+
+        for (int i = 1; i < this.size; i++) {
+            max = Math.max(max, this.elements[i]);
+        }
+
+        return OptionalInt.of(max);
+    }
+
+    /// Returns the number of elements that satisfy the predicate.
+    ///
+    /// @param  predicate   java.util.function.IntPredicate
+    /// @return             int
+    public int count(final IntPredicate predicate) {
+        Objects.requireNonNull(predicate, "predicate");
+
+        if (predicate instanceof IntCondition condition && this.useVectors()) {
+            return IntVectors.count(this.elements, this.size, condition);
+        }
+
+        int count = 0;
+
+        for (int i = 0; i < this.size; i++) {
+            if (predicate.test(this.elements[i])) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    /// Removes the elements that satisfy the predicate. An
+    /// arbitrary predicate is first tested against every
+    /// element and the list compacted only once all the tests
+    /// have passed, so one that throws or reads the list sees
+    /// it unchanged; one that modifies the list causes a
+    /// {@link ConcurrentModificationException}. A vectorizable
+    /// condition is tested and compacted in one pass.
+    ///
+    /// @param  predicate   java.util.function.IntPredicate
+    /// @return             boolean
+    public boolean removeIfInt(final IntPredicate predicate) {
+        Objects.requireNonNull(predicate, "predicate");
+
+        final int kept;
+
+        if (predicate instanceof IntCondition condition && this.useVectors()) {
+            kept = IntVectors.removeIf(this.elements, this.size, condition);
+        } else {
+            final int size = this.size;
+            final int expectedModCount = this.modCount;
+            final BitSet removed = new BitSet(size);
+
+            for (int i = 0; i < size; i++) {
+                if (predicate.test(this.elements[i])) {
+                    removed.set(i);
+                }
+            }
+
+            if (this.modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+
+            int index = removed.nextSetBit(0);
+
+            if (index >= 0) {
+                for (int i = removed.nextClearBit(index); i < size; i = removed.nextClearBit(i + 1)) {
+                    this.elements[index++] = this.elements[i];
+                }
+            } else {
+                index = size;
+            }
+
+            kept = index;
+        }
+
+        if (kept == this.size) {
+            return false;
+        }
+
+        this.size = kept;
+        this.modCount++;
+
+        return true;
+    }
+
+    /// Returns a copy of the elements.
+    ///
+    /// @return int[]
+    public int[] toIntArray() {
+        return Arrays.copyOf(this.elements, this.size);
+    }
+
+    /// Returns the element at the index.
+    ///
+    /// @param  index   int
+    /// @return         java.lang.Integer
+    @Override
+    public Integer get(final int index) {
+        return this.getInt(index);
+    }
+
+    /// Replaces the element at the index.
+    ///
+    /// @param  index   int
+    /// @param  value   java.lang.Integer
+    /// @return         java.lang.Integer
+    @Override
+    public Integer set(final int index, final Integer value) {
+        return this.setInt(index, Objects.requireNonNull(value, "value"));
+    }
+
+    /// Appends the value.
+    ///
+    /// @param  value   java.lang.Integer
+    /// @return         boolean
+    @Override
+    public boolean add(final Integer value) {
+        this.addInt(Objects.requireNonNull(value, "value"));
+
+        return true;
+    }
+
+    /// Inserts the value at the index.
+    ///
+    /// @param  index   int
+    /// @param  value   java.lang.Integer
+    @Override
+    public void add(final int index, final Integer value) {
+        this.addInt(index, Objects.requireNonNull(value, "value"));
+    }
+
+    /// Removes the element at the index.
+    ///
+    /// @param  index   int
+    /// @return         java.lang.Integer
+    @Override
+    public Integer remove(final int index) {
+        return this.removeInt(index);
+    }
+
+    /// Returns true if the list contains the object.
+    ///
+    /// @param  object  java.lang.Object
+    /// @return         boolean
+    @Override
+    public boolean contains(final Object object) {
+        return object instanceof Integer value && this.containsInt(value);
+    }
+
+    /// Returns the index of the first occurrence of the object or -1.
+    ///
+    /// @param  object  java.lang.Object
+    /// @return         int
+    @Override
+    public int indexOf(final Object object) {
+        return object instanceof Integer value ? this.indexOfInt(value) : -1;
+    }
+
+    /// Returns the index of the last occurrence of the object or -1.
+    ///
+    /// @param  object  java.lang.Object
+    /// @return         int
+    @Override
+    public int lastIndexOf(final Object object) {
+        return object instanceof Integer value ? this.lastIndexOfInt(value) : -1;
+    }
+
+    /// Removes the elements that satisfy the filter.
+    ///
+    /// @param  filter  java.util.function.Predicate<? super java.lang.Integer>
+    /// @return         boolean
+    @Override
+    public boolean removeIf(final Predicate<? super Integer> filter) {
+        Objects.requireNonNull(filter, "filter");
+
+        return this.removeIfInt(filter::test);
+    }
+
+    /// Removes all the elements.
+    @Override
+    public void clear() {
+        this.size = 0;
+        this.modCount++;
+    }
+
+    /// Returns true if the bulk operations should use vectors.
+    ///
+    /// @return boolean
+    private boolean useVectors() {
+        return this.vectorized && this.size >= VECTOR_THRESHOLD;
+    }
+
+    /// Grows the array to hold at least the number of elements.
+    ///
+    /// @param  minimum int
+    private void grow(final int minimum) {
+        this.elements = Arrays.copyOf(this.elements, Math.max(minimum, Math.max(DEFAULT_CAPACITY, this.elements.length + (this.elements.length >> 1))));
+    }
+}
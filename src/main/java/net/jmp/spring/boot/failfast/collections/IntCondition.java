@@ -0,0 +1,134 @@
+package net.jmp.spring.boot.failfast.collections;
+
+/*
+ * (#)IntCondition.java 0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Objects;
+
+import java.util.function.IntPredicate;
+
+/// A comparison of an int with one or two constants. It tests
+/// values one at a time like any {@link IntPredicate}, and the
+/// bulk operations of the {@link IntArrayList} also evaluate it
+/// a vector of values at a time, which an arbitrary predicate
+/// does not allow.
+///
+/// @param  operator    net.jmp.spring.boot.failfast.collections.IntCondition.Operator
+/// @param  first       int
+/// @param  second      int
+/// @version            0.1.0
+/// @since              0.1.0
+public record IntCondition(Operator operator, int first, int second) implements IntPredicate {
+    /// The compact constructor.
+    ///
+    /// @param  operator    net.jmp.spring.boot.failfast.collections.IntCondition.Operator
+    /// @param  first       int
+    /// @param  second      int
+    public IntCondition {
+        Objects.requireNonNull(operator, "operator");
+
+        if (operator == Operator.BETWEEN && first > second) {
+            throw new IllegalArgumentException("Lower bound must not exceed upper bound: " + first + " > " + second);
+        }
+    }
+
+    /// Returns a condition true of values less than the bound.
+    ///
+    /// @param  bound   int
+    /// @return         net.jmp.spring.boot.failfast.collections.IntCondition
+    public static IntCondition lessThan(final int bound) {
+        return new IntCondition(Operator.LESS_THAN, bound, 0);
+    }
+
+    /// Returns a condition true of values greater than the bound.
+    ///
+    /// @param  bound   int
+    /// @return         net.jmp.spring.boot.failfast.collections.IntCondition
+    public static IntCondition greaterThan(final int bound) {
+        return new IntCondition(Operator.GREATER_THAN, bound, 0);
+    }
+
+    /// Returns a condition true of values equal to the value.
+    ///
+    /// @param  value   int
+    /// @return         net.jmp.spring.boot.failfast.collections.IntCondition
+    public static IntCondition equalTo(final int value) {
+        return new IntCondition(Operator.EQUAL_TO, value, 0);
+    }
+
+    /// Returns a condition true of values not equal to the value.
+    ///
+    /// @param  value   int
+    /// @return         net.jmp.spring.boot.failfast.collections.IntCondition
+    public static IntCondition notEqualTo(final int value) {
+        return new IntCondition(Operator.NOT_EQUAL_TO, value, 0);
+    }
+
+    /// Returns a condition true of values from the
+    /// lower bound to the upper bound inclusive.
+    ///
+    /// @param  lower   int
+    /// @param  upper   int
+    /// @return         net.jmp.spring.boot.failfast.collections.IntCondition
+    public static IntCondition between(final int lower, final int upper) {
+        return new IntCondition(Operator.BETWEEN, lower, upper);
+    }
+
+    /// Tests the value.
+    ///
+    /// @param  value   int
+    /// @return         boolean
+    @Override
+    public boolean test(final int value) {
+        return switch (this.operator) {
+            case LESS_THAN -> value < this.first;
+            case GREATER_THAN -> value > this.first;
+            case EQUAL_TO -> value == this.first;
+            case NOT_EQUAL_TO -> value != this.first;
+            case BETWEEN -> value >= this.first && value <= this.second;
+        };
+    }
+
+    /// The comparison operators.
+    public enum Operator {
+        /// Less than the first constant.
+        LESS_THAN,
+
+        /// Greater than the first constant.
+        GREATER_THAN,
+
+        /// Equal to the first constant.
+        EQUAL_TO,
+
+        /// Not equal to the first constant.
+        NOT_EQUAL_TO,
+
+        /// From the first constant to the second inclusive.
+        BETWEEN
+    }
+}
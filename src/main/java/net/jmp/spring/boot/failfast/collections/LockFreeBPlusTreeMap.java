@@ -0,0 +1,758 @@
+package net.jmp.spring.boot.failfast.collections;
+
+/*
+ * (#)LockFreeBPlusTreeMap.java 0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.*;
+
+import java.util.concurrent.ConcurrentMap;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import java.util.function.UnaryOperator;
+
+/// A thread-safe sorted map kept in a B+ tree whose nodes are
+/// never modified once published. A write copies the path from
+/// the root to the leaf it changes and installs the new root
+/// with a compare-and-set, retrying if another writer won; no
+/// locks are taken. Readers and iterators work on the root they
+/// started with, so an iteration sees a consistent snapshot and
+/// never throws a {@link ConcurrentModificationException}.
+///
+/// The leaves hold up to the order of entries and the inner
+/// nodes up to the order of children. Full nodes are split on
+/// the way back up; nodes emptied by removals are dropped but
+/// sparse nodes are not merged. Range scans descend to the lower
+/// bound and walk the leaves in order. Neither keys nor values
+/// may be null.
+///
+/// @param  <K> The type of key
+/// @param  <V> The type of value
+/// @version    0.1.0
+/// @since      0.1.0
+public final class LockFreeBPlusTreeMap<K, V> extends AbstractMap<K, V> implements ConcurrentMap<K, V> {
+    /// The default order.
+    public static final int DEFAULT_ORDER = 32;
+
+    /// The minimum order.
+    private static final int MINIMUM_ORDER = 4;
+
+    /// An empty leaf.
+    private static final Leaf EMPTY = new Leaf(new Object[0], new Object[0]);
+
+    /// The comparator or null for the natural ordering.
+    private final Comparator<? super K> comparator;
+
+    /// The maximum number of entries in a leaf or children in an inner node.
+    private final int order;
+
+    /// The published root.
+    private final AtomicReference<Root> root = new AtomicReference<>(new Root(EMPTY, 0));
+
+    /// The entry set view.
+    private final EntrySet entrySet = new EntrySet();
+
+    /// The default constructor; the keys are in their natural ordering.
+    public LockFreeBPlusTreeMap() {
+        this(null, DEFAULT_ORDER);
+    }
+
+    /// A constructor that takes the comparator.
+    ///
+    /// @param  comparator  java.util.Comparator<? super K>
+    public LockFreeBPlusTreeMap(final Comparator<? super K> comparator) {
+        this(comparator, DEFAULT_ORDER);
+    }
+
+    /// A constructor that takes the comparator and the order.
+    ///
+    /// @param  comparator  java.util.Comparator<? super K>
+    /// @param  order       int
+    public LockFreeBPlusTreeMap(final Comparator<? super K> comparator, final int order) {
+        super();
+
+        if (order < MINIMUM_ORDER) {
+            throw new IllegalArgumentException("Order must be at least " + MINIMUM_ORDER + ": " + order);
+        }
+
+        this.comparator = comparator;
+        this.order = order;
+    }
+
+    /// Returns the comparator or null for the natural ordering.
+    ///
+    /// @return java.util.Comparator<? super K>
+    public Comparator<? super K> comparator() {
+        return this.comparator;
+    }
+
+    /// Returns the number of entries.
+    ///
+    /// @return int
+    @Override
+    public int size() {
+        return this.root.get().size();
+    }
+
+    /// Returns true if there are no entries.
+    ///
+    /// @return boolean
+    @Override
+    public boolean isEmpty() {
+        return this.size() == 0;
+    }
+
+    /// Returns the value mapped to the key or null.
+    ///
+    /// @param  key java.lang.Object
+    /// @return     V
+    @Override
+    public V get(final Object key) {
+        return this.find(this.root.get().node(), Objects.requireNonNull(key, "key"));
+    }
+
+    /// Returns true if the key is mapped.
+    ///
+    /// @param  key java.lang.Object
+    /// @return     boolean
+    @Override
+    public boolean containsKey(final Object key) {
+        return this.get(key) != null;
+    }
+
+    /// Maps the key to the value.
+    ///
+    /// @param  key     K
+    /// @param  value   V
+    /// @return         V
+    @Override
+    public V put(final K key, final V value) {
+        Objects.requireNonNull(value, "value");
+
+        return this.update(key, _ -> value);
+    }
+
+    /// Removes the mapping for the key.
+    ///
+    /// @param  key java.lang.Object
+    /// @return     V
+    @Override
+    public V remove(final Object key) {
+        @SuppressWarnings("unchecked")
+        final K k = (K) key;
+
+        return this.update(k, _ -> null);
+    }
+
+    /// Maps the key to the value if it is not mapped.
+    ///
+    /// @param  key     K
+    /// @param  value   V
+    /// @return         V
+    @Override
+    public V putIfAbsent(final K key, final V value) {
+        Objects.requireNonNull(value, "value");
+
+        return this.update(key, old -> old == null ? value : old);
+    }
+
+    /// Removes the mapping for the key if it is mapped to the value.
+    ///
+    /// @param  key     java.lang.Object
+    /// @param  value   java.lang.Object
+    /// @return         boolean
+    @Override
+    public boolean remove(final Object key, final Object value) {
+        if (value == null) {
+            return false;
+        }
+
+        @SuppressWarnings("unchecked")
+        final K k = (K) key;
+
+        return value.equals(this.update(k, old -> value.equals(old) ? null : old));
+    }
+
+    /// Replaces the value for the key if it is mapped to the old value.
+    ///
+    /// @param  key         K
+    /// @param  oldValue    V
+    /// @param  newValue    V
+    /// @return             boolean
+    @Override
+    public boolean replace(final K key, final V oldValue, final V newValue) {
+        Objects.requireNonNull(oldValue, "oldValue");
+        Objects.requireNonNull(newValue, "newValue");
+
+        return oldValue.equals(this.update(key, old -> oldValue.equals(old) ? newValue : old));
+    }
+
+    /// Replaces the value for the key if it is mapped.
+    ///
+    /// @param  key     K
+    /// @param  value   V
+    /// @return         V
+    @Override
+    public V replace(final K key, final V value) {
+        Objects.requireNonNull(value, "value");
+
+        return this.update(key, old -> old == null ? null : value);
+    }
+
+    /// Removes all the mappings.
+    @Override
+    public void clear() {
+        this.root.set(new Root(EMPTY, 0));
+    }
+
+    /// Returns the entry set view. Its iterators
+    /// walk a snapshot in ascending key order.
+    ///
+    /// @return java.util.Set<java.util.Map.Entry<K,V>>
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        return this.entrySet;
+    }
+
+    /// Returns the first key.
+    ///
+    /// @return K
+    /// @throws java.util.NoSuchElementException    When the map is empty
+    public K firstKey() {
+        final Iterator<Map.Entry<K, V>> iterator = this.scan(null, true, null, true);
+
+        return iterator.next().getKey();
+    }
+
+    /// Returns the last key.
+    ///
+    /// @return K
+    /// @throws java.util.NoSuchElementException    When the map is empty
+    public K lastKey() {
+        Node node = this.root.get().node();
+
+        while (node instanceof Inner inner) {
+            node = inner.children()[inner.children().length - 1];
+        }
+
+        final Object[] keys = ((Leaf) node).keys();
+
+        if (keys.length == 0) {
+            throw new NoSuchElementException();
+        }
+
+        @SuppressWarnings("unchecked")
+        final K result = (K) keys[keys.length - 1];
+
+        return result;
+    }
+
+    /// Returns an iterator over the entries whose keys are in
+    /// the range, in ascending key order. A null bound leaves
+    /// that end of the range open. The iterator walks the
+    /// snapshot current when it was created; its remove method
+    /// removes the key from the map.
+    ///
+    /// @param  fromKey         K
+    /// @param  fromInclusive   boolean
+    /// @param  toKey           K
+    /// @param  toInclusive     boolean
+    /// @return                 java.util.Iterator<java.util.Map.Entry<K,V>>
+    public Iterator<Map.Entry<K, V>> scan(final K fromKey,
+                                         final boolean fromInclusive,
+                                         final K toKey,
+                                         final boolean toInclusive) {
+        return new ScanIterator(this.root.get().node(), fromKey, fromInclusive, toKey, toInclusive);
+    }
+
+    /// Applies the function to the value mapped to the key and
+    /// publishes the result, retrying until the compare-and-set
+    /// succeeds. A null result removes the key; returning the
+    /// same value leaves the map unchanged.
+    ///
+    /// @param  key         K
+    /// @param  function    java.util.function.UnaryOperator<V>
+    /// @return             V
+    private V update(final K key, final UnaryOperator<V> function) {
+        Objects.requireNonNull(key, "key");
+
+        for (;;) {
+            final Root current = this.root.get();
+            final V old = this.find(current.node(), key);
+            final V value = function.apply(old);
+
+            if (value == old) {
+                return old;
+            }
+
+            final Root next;
+
+            if (value == null) {
+                final Node node = this.delete(current.node(), key);
+
+                next = new Root(node == null ? EMPTY : node, current.size() - 1);
+            } else {
+                final Node[] nodes = this.insert(current.node(), key, value);
+                final Node node = nodes.length == 1
+                        ? nodes[0]
+                        : new Inner(new Object[] {firstKey(nodes[1])}, nodes);
+
+                next = new Root(node, old == null ? current.size() + 1 : current.size());
+            }
+
+            if (this.root.compareAndSet(current, next)) {
+                return old;
+            }
+        }
+    }
+
+    /// Returns the value mapped to the key in the tree or null.
+    ///
+    /// @param  node    net.jmp.spring.boot.failfast.collections.LockFreeBPlusTreeMap.Node
+    /// @param  key     java.lang.Object
+    /// @return         V
+    private V find(Node node, final Object key) {
+        while (node instanceof Inner inner) {
+            node = inner.children()[this.childIndex(inner, key)];
+        }
+
+        final Leaf leaf = (Leaf) node;
+        final int index = this.search(leaf.keys(), key);
+
+        @SuppressWarnings("unchecked")
+        final V result = index >= 0 ? (V) leaf.values()[index] : null;
+
+        return result;
+    }
+
+    /// Returns a copy of the tree with the key mapped to the value.
+    /// The result holds one node, or two when the node was split.
+    ///
+    /// @param  node    net.jmp.spring.boot.failfast.collections.LockFreeBPlusTreeMap.Node
+    /// @param  key     K
+    /// @param  value   V
+    /// @return         net.jmp.spring.boot.failfast.collections.LockFreeBPlusTreeMap.Node[]
+    private Node[] insert(final Node node, final K key, final V value) {
+        if (node instanceof Inner inner) {
+            final int index = this.childIndex(inner, key);
+            final Node[] nodes = this.insert(inner.children()[index], key, value);
+
+            if (nodes.length == 1) {
+                final Node[] children = inner.children().clone();
+
+                children[index] = nodes[0];
+
+                return new Node[] {new Inner(inner.keys(), children)};
+            }
+
+            final Object[] keys = insertAt(inner.keys(), index, firstKey(nodes[1]));
+            final Node[] children = new Node[inner.children().length + 1];
+
+            System.arraycopy(inner.children(), 0, children, 0, index);
+            System.arraycopy(nodes, 0, children, index, 2);
+            System.arraycopy(inner.children(), index + 1, children, index + 2, inner.children().length - index - 1);
+
+            if (children.length <= this.order) {
+                return new Node[] {new Inner(keys, children)};
+            }
+
+            final int middle = children.length / 2;
+
+            return new Node[] {
+                    new Inner(Arrays.copyOfRange(keys, 0, middle - 1), Arrays.copyOfRange(children, 0, middle)),
+                    new Inner(Arrays.copyOfRange(keys, middle, keys.length), Arrays.copyOfRange(children, middle, children.length))
+            };
+        }
+
+        final Leaf leaf = (Leaf) node;
+        final int index = this.search(leaf.keys(), key);
+
+        if (index >= 0) {
+            final Object[] values = leaf.values().clone();
+
+            values[index] = value;
+
+            return new Node[] {new Leaf(leaf.keys(), values)};
+        }
+
+        final int point = -index - 1;
+        final Object[] keys = insertAt(leaf.keys(), point, key);
+        final Object[] values = insertAt(leaf.values(), point, value);
+
+        if (keys.length <= this.order) {
+            return new Node[] {new Leaf(keys, values)};
+        }
+
+        final int middle = keys.length / 2;
+
+        return new Node[] {
+                new Leaf(Arrays.copyOfRange(keys, 0, middle), Arrays.copyOfRange(values, 0, middle)),
+                new Leaf(Arrays.copyOfRange(keys, middle, keys.length), Arrays.copyOfRange(values, middle, values.length))
+        };
+    }
+
+    /// Returns a copy of the tree without the key, which
+    /// must be present, or null when the tree became empty.
+    /// An inner node left with one child is replaced by it.
+    ///
+    /// @param  node    net.jmp.spring.boot.failfast.collections.LockFreeBPlusTreeMap.Node
+    /// @param  key     K
+    /// @return         net.jmp.spring.boot.failfast.collections.LockFreeBPlusTreeMap.Node
+    private Node delete(final Node node, final K key) {
+        if (node instanceof Inner inner) {
+            final int index = this.childIndex(inner, key);
+            final Node child = this.delete(inner.children()[index], key);
+
+            if (child != null) {
+                final Node[] children = inner.children().clone();
+
+                children[index] = child;
+
+                return new Inner(inner.keys(), children);
+            }
+
+            if (inner.children().length == 2) {
+                return inner.children()[1 - index];
+            }
+
+            return new Inner(removeAt(inner.keys(), Math.max(0, index - 1)), removeAt(inner.children(), index));
+        }
+
+        final Leaf leaf = (Leaf) node;
+        final int index = this.search(leaf.keys(), key);
+
+        if (leaf.keys().length == 1) {
+            return null;
+        }
+
+        return new Leaf(removeAt(leaf.keys(), index), removeAt(leaf.values(), index));
+    }
+
+    /// Returns the index of the child whose subtree holds the key.
+    ///
+    /// @param  inner   net.jmp.spring.boot.failfast.collections.LockFreeBPlusTreeMap.Inner
+    /// @param  key     java.lang.Object
+    /// @return         int
+    private int childIndex(final Inner inner, final Object key) {
+        final int index = this.search(inner.keys(), key);
+
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+
+    /// Binary searches the sorted keys. Returns the index of the
+    /// key or -(insertion point) - 1 when it is not present.
+    ///
+    /// @param  keys    java.lang.Object[]
+    /// @param  key     java.lang.Object
+    /// @return         int
+    private int search(final Object[] keys, final Object key) {
+        int low = 0;
+        int high = keys.length - 1;
+
+        while (low <= high) {
+            final int middle = (low + high) >>> 1;
+            final int comparison = this.compare(keys[middle], key);
+
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+
+        return -(low + 1);
+    }
+
+    /// Compares two keys.
+    ///
+    /// @param  first   java.lang.Object
+    /// @param  second  java.lang.Object
+    /// @return         int
+    @SuppressWarnings("unchecked")
+    private int compare(final Object first, final Object second) {
+        if (this.comparator != null) {
+            return this.comparator.compare((K) first, (K) second);
+        }
+
+        return ((Comparable<Object>) first).compareTo(second);
+    }
+
+    /// Returns the smallest key in the subtree.
+    ///
+    /// @param  node    net.jmp.spring.boot.failfast.collections.LockFreeBPlusTreeMap.Node
+    /// @return         java.lang.Object
+    private static Object firstKey(Node node) {
+        while (node instanceof Inner inner) {
+            node = inner.children()[0];
+        }
+
+        return ((Leaf) node).keys()[0];
+    }
+
+    /// Returns a copy of the array with the element inserted at the index.
+    ///
+    /// @param  <T>     The type of element
+    /// @param  array   T[]
+    /// @param  index   int
+    /// @param  element T
+    /// @return         T[]
+    private static <T> T[] insertAt(final T[] array, final int index, final T element) {
+        final T[] result = Arrays.copyOf(array, array.length + 1);
+
+        System.arraycopy(array, index, result, index + 1, array.length - index);
+
+        result[index] = element;
+
+        return result;
+    }
+
+    /// Returns a copy of the array without the element at the index.
+    ///
+    /// @param  <T>     The type of element
+    /// @param  array   T[]
+    /// @param  index   int
+    /// @return         T[]
+    private static <T> T[] removeAt(final T[] array, final int index) {
+        final T[] result = Arrays.copyOf(array, array.length - 1);
+
+        System.arraycopy(array, index + 1, result, index, array.length - index - 1);
+
+        return result;
+    }
+
+    /// A published tree and its number of entries.
+    ///
+    /// @param  node    net.jmp.spring.boot.failfast.collections.LockFreeBPlusTreeMap.Node
+    /// @param  size    int
+    private record Root(Node node, int size) {
+    }
+
+    /// A node of the tree.
+    private sealed interface Node permits Inner, Leaf {
+    }
+
+    /// An inner node. The key at index i is a lower bound
+    /// of the keys in the subtree of child i + 1.
+    ///
+    /// @param  keys        java.lang.Object[]
+    /// @param  children    net.jmp.spring.boot.failfast.collections.LockFreeBPlusTreeMap.Node[]
+    private record Inner(Object[] keys, Node[] children) implements Node {
+    }
+
+    /// A leaf with its keys in ascending order.
+    ///
+    /// @param  keys    java.lang.Object[]
+    /// @param  values  java.lang.Object[]
+    private record Leaf(Object[] keys, Object[] values) implements Node {
+    }
+
+    /// The entry set view.
+    private final class EntrySet extends AbstractSet<Map.Entry<K, V>> {
+        /// The default constructor.
+        EntrySet() {
+            super();
+        }
+
+        /// Returns an iterator over a snapshot.
+        @Override
+        public Iterator<Map.Entry<K, V>> iterator() {
+            return LockFreeBPlusTreeMap.this.scan(null, true, null, true);
+        }
+
+        /// Returns the number of elements.
+        @Override
+        public int size() {
+            return LockFreeBPlusTreeMap.this.size();
+        }
+
+        /// Removes all the elements.
+        @Override
+        public void clear() {
+            LockFreeBPlusTreeMap.this.clear();
+        }
+    }
+
+    /// The range scan iterator. It keeps the inner
+    /// nodes on the path to the current leaf and the
+    /// index of the child taken in each of them.
+    private final class ScanIterator implements Iterator<Map.Entry<K, V>> {
+        /// The inner nodes on the path to the leaf.
+        private final Deque<Inner> parents = new ArrayDeque<>();
+
+        /// The child index taken in each inner node.
+        private final Deque<Integer> indexes = new ArrayDeque<>();
+
+        /// The upper bound or null.
+        private final K toKey;
+
+        /// True if the upper bound is included.
+        private final boolean toInclusive;
+
+        /// The current leaf or null when the scan is done.
+        private Leaf leaf;
+
+        /// The index of the next entry in the leaf.
+        private int index;
+
+        /// The key of the last entry returned or null.
+        private K lastKey;
+
+        /// The constructor.
+        ///
+        /// @param  node            net.jmp.spring.boot.failfast.collections.LockFreeBPlusTreeMap.Node
+        /// @param  fromKey         K
+        /// @param  fromInclusive   boolean
+        /// @param  toKey           K
+        /// @param  toInclusive     boolean
+        ScanIterator(Node node,
+                     final K fromKey,
+                     final boolean fromInclusive,
+                     final K toKey,
+                     final boolean toInclusive) {
+            super();
+
+            this.toKey = toKey;
+            this.toInclusive = toInclusive;
+
+            while (node instanceof Inner inner) {
+                final int child = fromKey == null ? 0 : LockFreeBPlusTreeMap.this.childIndex(inner, fromKey);
+
+                this.parents.push(inner);
+                this.indexes.push(child);
+
+                node = inner.children()[child];
+            }
+
+            this.leaf = (Leaf) node;
+
+            if (fromKey != null) {
+                final int found = LockFreeBPlusTreeMap.this.search(this.leaf.keys(), fromKey);
+
+                if (found >= 0) {
+                    this.index = fromInclusive ? found : found + 1;
+                } else {
+                    this.index = -found - 1;
+                }
+            }
+
+            this.settle();
+        }
+
+        /// Returns true if there are more elements.
+        @Override
+        public boolean hasNext() {
+            return this.leaf != null;
+        }
+
+        /// Returns the next element.
+        @Override
+        public Map.Entry<K, V> next() {
+            if (this.leaf == null) {
+                throw new NoSuchElementException();
+            }
+
+            @SuppressWarnings("unchecked")
+            final K key = (K) this.leaf.keys()[this.index];
+
+            @SuppressWarnings("unchecked")
+            final V value = (V) this.leaf.values()[this.index];
+
+            this.lastKey = key;
+            this.index++;
+            this.settle();
+
+            return new AbstractMap.SimpleImmutableEntry<>(key, value);
+        }
+
+        /// Removes the key of the last entry returned from the map.
+        @Override
+        public void remove() {
+            if (this.lastKey == null) {
+                throw new IllegalStateException();
+            }
+
+            LockFreeBPlusTreeMap.this.remove(this.lastKey);
+
+            this.lastKey = null;
+        }
+
+        /// Moves to the next leaf when the current one is
+        /// exhausted and ends the scan past the upper bound.
+        private void settle() {
+            while (this.index >= this.leaf.keys().length) {
+                if (!this.nextLeaf()) {
+                    this.leaf = null;
+
+                    return;
+                }
+            }
+
+            if (this.toKey != null) {
+                final int comparison = LockFreeBPlusTreeMap.this.compare(this.leaf.keys()[this.index], this.toKey);
+
+                if (comparison > 0 || (comparison == 0 && !this.toInclusive)) {
+                    this.leaf = null;
+                }
+            }
+        }
+
+        /// Descends to the leftmost leaf of the next subtree.
+        ///
+        /// @return boolean
+        private boolean nextLeaf() {
+            while (!this.parents.isEmpty()) {
+                final Inner inner = this.parents.peek();
+                final int child = this.indexes.pop() + 1;
+
+                if (child < inner.children().length) {
+                    this.indexes.push(child);
+
+                    Node node = inner.children()[child];
+
+                    while (node instanceof Inner next) {
+                        this.parents.push(next);
+                        this.indexes.push(0);
+
+                        node = next.children()[0];
+                    }
+
+                    this.leaf = (Leaf) node;
+                    this.index = 0;
+
+                    return true;
+                }
+
+                this.parents.pop();
+            }
+
+            return false;
+        }
+    }
+}
@@ -0,0 +1,560 @@
+package net.jmp.spring.boot.failfast.collections;
+
+/*
+ * (#)LockFreeHashSet.java  0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+import java.util.*;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import net.jmp.spring.boot.failfast.reclaim.EpochReclaimer;
+
+/// A lock-free hash set with a fixed number of buckets, each a
+/// linked list ordered by hash. A removal first clears the element
+/// of its node, then appends a marker node behind it so that no
+/// insertion can follow it, and finally unlinks both; any thread
+/// that meets a half removed node helps finish it.
+///
+/// When pooled, the unlinked nodes are retired through epoch-based
+/// reclamation and reused by later insertions, so a steady mix of
+/// additions and removals allocates no nodes. Every operation pins
+/// the epoch of its thread while it touches nodes. Iterators copy
+/// one bucket at a time, so they are weakly consistent and never
+/// throw {@link ConcurrentModificationException}. Null elements
+/// are not permitted.
+///
+/// @param  <E> The type of element
+/// @version    0.1.0
+/// @since      0.1.0
+public final class LockFreeHashSet<E> extends AbstractSet<E> {
+    /// The default number of buckets.
+    public static final int DEFAULT_CAPACITY = 1 << 10;
+
+    /// The handle of the next field of a node.
+    private static final VarHandle NEXT;
+
+    /// The handle of the item field of a node.
+    private static final VarHandle ITEM;
+
+    /// The item of a bucket head.
+    private static final Object HEAD = new Object();
+
+    /// The bucket heads.
+    private final Node[] heads;
+
+    /// The bucket mask.
+    private final int mask;
+
+    /// The number of elements.
+    private final LongAdder count = new LongAdder();
+
+    /// The reclaimer or null if the nodes are not pooled.
+    private final EpochReclaimer<Node> reclaimer;
+
+    static {
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+            NEXT = lookup.findVarHandle(Node.class, "next", Node.class);
+            ITEM = lookup.findVarHandle(Node.class, "item", Object.class);
+        } catch (final ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /// The default constructor; pooled with the default capacity.
+    public LockFreeHashSet() {
+        this(DEFAULT_CAPACITY, true);
+    }
+
+    /// A constructor that takes the expected number
+    /// of elements and whether nodes are pooled.
+    ///
+    /// @param  capacity    int
+    /// @param  pooled      boolean
+    public LockFreeHashSet(final int capacity, final boolean pooled) {
+        super();
+
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+
+        final int buckets = Integer.highestOneBit(Math.max(16, capacity) * 2 - 1);
+
+        this.heads = new Node[buckets];
+        this.mask = buckets - 1;
+        this.reclaimer = pooled ? new EpochReclaimer<>() : null;
+
+        for (int i = 0; i < buckets; i++) {
+            this.heads[i] = new Node(0, HEAD, null);
+        }
+    }
+
+    /// Returns the reclaimer or null if the nodes are not pooled.
+    ///
+    /// @return net.jmp.spring.boot.failfast.reclaim.EpochReclaimer<?>
+    public EpochReclaimer<?> reclaimer() {
+        return this.reclaimer;
+    }
+
+    /// Returns the number of elements.
+    ///
+    /// @return int
+    @Override
+    public int size() {
+        return (int) Math.max(0, Math.min(Integer.MAX_VALUE, this.count.sum()));
+    }
+
+    /// Returns true if the element is present.
+    ///
+    /// @param  object  java.lang.Object
+    /// @return         boolean
+    @Override
+    public boolean contains(final Object object) {
+        if (object == null) {
+            return false;
+        }
+
+        final EpochReclaimer.Participant<Node> participant = this.pin();
+
+        try {
+            return this.find(spread(object.hashCode()), object, participant) != null;
+        } finally {
+            this.unpin(participant);
+        }
+    }
+
+    /// Adds the element if absent.
+    ///
+    /// @param  element E
+    /// @return         boolean
+    @Override
+    public boolean add(final E element) {
+        Objects.requireNonNull(element, "element");
+
+        final int hash = spread(element.hashCode());
+        final EpochReclaimer.Participant<Node> participant = this.pin();
+
+        try {
+            outer:
+            for (;;) {
+                Node b = this.heads[hash & this.mask];
+                Node n = b.next;
+
+                for (;;) {
+                    if (n != null) {
+                        final Node f = n.next;
+
+                        if (n != b.next) {
+                            continue outer;
+                        }
+
+                        final Object v = n.item;
+
+                        if (v == null) {
+                            this.helpDelete(n, b, f, participant);
+                            continue outer;
+                        }
+
+                        if (b.item == null || v == n) {
+                            continue outer;
+                        }
+
+                        if (n.hash < hash || (n.hash == hash && !v.equals(element))) {
+                            b = n;
+                            n = f;
+                            continue;
+                        }
+
+                        if (n.hash == hash) {
+                            return false;
+                        }
+                    }
+
+                    final Node z = this.newNode(hash, element, n, participant);
+
+                    if (!NEXT.compareAndSet(b, n, z)) {
+                        this.free(z, participant);
+                        continue outer;
+                    }
+
+                    this.count.increment();
+
+                    return true;
+                }
+            }
+        } finally {
+            this.unpin(participant);
+        }
+    }
+
+    /// Removes the element if present.
+    ///
+    /// @param  object  java.lang.Object
+    /// @return         boolean
+    @Override
+    public boolean remove(final Object object) {
+        if (object == null) {
+            return false;
+        }
+
+        final int hash = spread(object.hashCode());
+        final EpochReclaimer.Participant<Node> participant = this.pin();
+
+        try {
+            outer:
+            for (;;) {
+                Node b = this.heads[hash & this.mask];
+                Node n = b.next;
+
+                for (;;) {
+                    if (n == null || n.hash > hash) {
+                        return false;
+                    }
+
+                    final Node f = n.next;
+
+                    if (n != b.next) {
+                        continue outer;
+                    }
+
+                    final Object v = n.item;
+
+                    if (v == null) {
+                        this.helpDelete(n, b, f, participant);
+                        continue outer;
+                    }
+
+                    if (b.item == null || v == n) {
+                        continue outer;
+                    }
+
+                    if (n.hash < hash || !v.equals(object)) {
+                        b = n;
+                        n = f;
+                        continue;
+                    }
+
+                    if (!ITEM.compareAndSet(n, v, null)) {
+                        continue outer;
+                    }
+
+                    this.count.decrement();
+
+                    final Node marker = this.newMarker(f, participant);
+
+                    if (!NEXT.compareAndSet(n, f, marker)) {
+                        this.free(marker, participant);
+                        this.find(hash, object, participant);   // Helps finish the removal
+                    } else if (NEXT.compareAndSet(b, n, f)) {
+                        this.retire(n, participant);
+                        this.retire(marker, participant);
+                    } else {
+                        this.find(hash, object, participant);
+                    }
+
+                    return true;
+                }
+            }
+        } finally {
+            this.unpin(participant);
+        }
+    }
+
+    /// Returns a weakly consistent iterator.
+    ///
+    /// @return java.util.Iterator<E>
+    @Override
+    public Iterator<E> iterator() {
+        return new BucketIterator();
+    }
+
+    /// Returns the node holding the object or null,
+    /// helping finish the removals it meets.
+    ///
+    /// @param  hash        int
+    /// @param  object      java.lang.Object
+    /// @param  participant net.jmp.spring.boot.failfast.reclaim.EpochReclaimer.Participant<Node>
+    /// @return             net.jmp.spring.boot.failfast.collections.LockFreeHashSet.Node
+    private Node find(final int hash, final Object object, final EpochReclaimer.Participant<Node> participant) {
+        outer:
+        for (;;) {
+            Node b = this.heads[hash & this.mask];
+            Node n = b.next;
+
+            for (;;) {
+                if (n == null) {
+                    return null;
+                }
+
+                final Node f = n.next;
+
+                if (n != b.next) {
+                    continue outer;
+                }
+
+                final Object v = n.item;
+
+                if (v == null) {
+                    this.helpDelete(n, b, f, participant);
+                    continue outer;
+                }
+
+                if (b.item == null || v == n) {
+                    continue outer;
+                }
+
+                if (n.hash > hash) {
+                    return null;
+                }
+
+                if (n.hash == hash && v.equals(object)) {
+                    return n;
+                }
+
+                b = n;
+                n = f;
+            }
+        }
+    }
+
+    /// Helps remove a node whose item has been cleared by
+    /// appending its marker or unlinking it with its marker.
+    ///
+    /// @param  n           net.jmp.spring.boot.failfast.collections.LockFreeHashSet.Node
+    /// @param  b           net.jmp.spring.boot.failfast.collections.LockFreeHashSet.Node
+    /// @param  f           net.jmp.spring.boot.failfast.collections.LockFreeHashSet.Node
+    /// @param  participant net.jmp.spring.boot.failfast.reclaim.EpochReclaimer.Participant<Node>
+    private void helpDelete(final Node n, final Node b, final Node f, final EpochReclaimer.Participant<Node> participant) {
+        if (f == n.next && n == b.next) {
+            if (f == null || f.item != f) {
+                final Node marker = this.newMarker(f, participant);
+
+                if (!NEXT.compareAndSet(n, f, marker)) {
+                    this.free(marker, participant);
+                }
+            } else if (NEXT.compareAndSet(b, n, f.next)) {
+                this.retire(n, participant);
+                this.retire(f, participant);
+            }
+        }
+    }
+
+    /// Returns a node for the element, reusing a free one if pooled.
+    ///
+    /// @param  hash        int
+    /// @param  element     java.lang.Object
+    /// @param  next        net.jmp.spring.boot.failfast.collections.LockFreeHashSet.Node
+    /// @param  participant net.jmp.spring.boot.failfast.reclaim.EpochReclaimer.Participant<Node>
+    /// @return             net.jmp.spring.boot.failfast.collections.LockFreeHashSet.Node
+    private Node newNode(final int hash, final Object element, final Node next, final EpochReclaimer.Participant<Node> participant) {
+        final Node node = participant != null ? participant.allocate() : null;
+
+        if (node == null) {
+            return new Node(hash, element, next);
+        }
+
+        node.hash = hash;
+        node.item = element;
+        node.next = next;
+
+        return node;
+    }
+
+    /// Returns a marker node whose item is itself.
+    ///
+    /// @param  next        net.jmp.spring.boot.failfast.collections.LockFreeHashSet.Node
+    /// @param  participant net.jmp.spring.boot.failfast.reclaim.EpochReclaimer.Participant<Node>
+    /// @return             net.jmp.spring.boot.failfast.collections.LockFreeHashSet.Node
+    private Node newMarker(final Node next, final EpochReclaimer.Participant<Node> participant) {
+        final Node marker = this.newNode(0, null, next, participant);
+
+        marker.item = marker;
+
+        return marker;
+    }
+
+    /// Returns the participant of the current thread
+    /// with its epoch pinned, or null if not pooled.
+    ///
+    /// @return net.jmp.spring.boot.failfast.reclaim.EpochReclaimer.Participant<Node>
+    private EpochReclaimer.Participant<Node> pin() {
+        if (this.reclaimer == null) {
+            return null;
+        }
+
+        final EpochReclaimer.Participant<Node> participant = this.reclaimer.participant();
+
+        participant.enter();
+
+        return participant;
+    }
+
+    /// Unpins the participant.
+    ///
+    /// @param  participant net.jmp.spring.boot.failfast.reclaim.EpochReclaimer.Participant<Node>
+    private void unpin(final EpochReclaimer.Participant<Node> participant) {
+        if (participant != null) {
+            participant.exit();
+        }
+    }
+
+    /// Retires an unlinked node if pooled.
+    ///
+    /// @param  node        net.jmp.spring.boot.failfast.collections.LockFreeHashSet.Node
+    /// @param  participant net.jmp.spring.boot.failfast.reclaim.EpochReclaimer.Participant<Node>
+    private void retire(final Node node, final EpochReclaimer.Participant<Node> participant) {
+        if (participant != null) {
+            participant.retire(node);
+        }
+    }
+
+    /// Frees a node that was never published if pooled.
+    ///
+    /// @param  node        net.jmp.spring.boot.failfast.collections.LockFreeHashSet.Node
+    /// @param  participant net.jmp.spring.boot.failfast.reclaim.EpochReclaimer.Participant<Node>
+    private void free(final Node node, final EpochReclaimer.Participant<Node> participant) {
+        if (participant != null) {
+            participant.free(node);
+        }
+    }
+
+    /// Spreads the high bits of a hash code into the low bits.
+    ///
+    /// @param  hashCode    int
+    /// @return             int
+    private static int spread(final int hashCode) {
+        return hashCode ^ (hashCode >>> 16);
+    }
+
+    /// A node; its item is null once removed and
+    /// the node itself if the node is a marker.
+    static final class Node {
+        /// The hash.
+        int hash;
+
+        /// The item.
+        volatile Object item;
+
+        /// The next node.
+        volatile Node next;
+
+        /// The constructor.
+        ///
+        /// @param  hash    int
+        /// @param  item    java.lang.Object
+        /// @param  next    net.jmp.spring.boot.failfast.collections.LockFreeHashSet.Node
+        Node(final int hash, final Object item, final Node next) {
+            super();
+
+            this.hash = hash;
+            this.item = item;
+            this.next = next;
+        }
+    }
+
+    /// An iterator that copies the live elements of
+    /// one bucket at a time while the epoch is pinned.
+    private final class BucketIterator implements Iterator<E> {
+        /// The elements of the current bucket.
+        private final List<E> elements = new ArrayList<>();
+
+        /// The next bucket.
+        private int bucket;
+
+        /// The index of the next element.
+        private int index;
+
+        /// The last element returned or null.
+        private E last;
+
+        /// The default constructor.
+        BucketIterator() {
+            super();
+        }
+
+        /// Returns true if there are more elements.
+        @Override
+        public boolean hasNext() {
+            while (this.index >= this.elements.size() && this.bucket < LockFreeHashSet.this.heads.length) {
+                this.elements.clear();
+                this.index = 0;
+                this.copy(LockFreeHashSet.this.heads[this.bucket++]);
+            }
+
+            return this.index < this.elements.size();
+        }
+
+        /// Returns the next element.
+        @Override
+        public E next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            this.last = this.elements.get(this.index++);
+
+            return this.last;
+        }
+
+        /// Removes the last element returned.
+        @Override
+        public void remove() {
+            if (this.last == null) {
+                throw new IllegalStateException();
+            }
+
+            LockFreeHashSet.this.remove(this.last);
+
+            this.last = null;
+        }
+
+        /// Copies the live elements of a bucket.
+        ///
+        /// @param  head    net.jmp.spring.boot.failfast.collections.LockFreeHashSet.Node
+        @SuppressWarnings("unchecked")
+        private void copy(final Node head) {
+            final EpochReclaimer.Participant<Node> participant = LockFreeHashSet.this.pin();
+
+            try {
+                for (Node n = head.next; n != null; n = n.next) {
+                    final Object v = n.item;
+
+                    if (v != null && v != n) {
+                        this.elements.add((E) v);
+                    }
+                }
+            } finally {
+                LockFreeHashSet.this.unpin(participant);
+            }
+        }
+    }
+}
@@ -0,0 +1,313 @@
+package net.jmp.spring.boot.failfast.collections;
+
+/*
+ * (#)MpmcRingBuffer.java   0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+import java.util.*;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/// A bounded lock-free multi-producer multi-consumer queue over a
+/// ring of slots, each with its own sequence number. A producer
+/// claims the slot at the tail by advancing the tail counter once
+/// the sequence of the slot shows it empty for that lap, writes the
+/// element and publishes it by advancing the sequence; a consumer
+/// does the same at the head. The head and tail counters are padded
+/// onto cache lines of their own so that producers and consumers do
+/// not contend on one line. An offer to a full queue and a poll of
+/// an empty one return at once rather than wait.
+///
+/// The iterator is a weakly consistent snapshot of the elements
+/// published when it was created and does not support removal.
+/// Null elements are not permitted.
+///
+/// @param  <E> The type of element
+/// @version    0.1.0
+/// @since      0.1.0
+public final class MpmcRingBuffer<E> extends AbstractQueue<E> {
+    /// The slots.
+    private final Object[] buffer;
+
+    /// The sequence of each slot.
+    private final AtomicLongArray sequences;
+
+    /// The slot mask.
+    private final int mask;
+
+    /// The position of the next poll.
+    private final Sequence head = new Sequence();
+
+    /// The position of the next offer.
+    private final Sequence tail = new Sequence();
+
+    /// A constructor that takes the capacity,
+    /// rounded up to a power of two.
+    ///
+    /// @param  capacity    int
+    public MpmcRingBuffer(final int capacity) {
+        super();
+
+        if (capacity < 2 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Capacity must be between 2 and 2^30: " + capacity);
+        }
+
+        final int size = Integer.highestOneBit(capacity * 2 - 1);
+
+        this.buffer = new Object[size];
+        this.sequences = new AtomicLongArray(size);
+        this.mask = size - 1;
+
+        for (int i = 0; i < size; i++) {
+            this.sequences.set(i, i);
+        }
+    }
+
+    /// Returns the capacity.
+    ///
+    /// @return int
+    public int capacity() {
+        return this.buffer.length;
+    }
+
+    /// Adds the element unless the queue is full.
+    ///
+    /// @param  element E
+    /// @return         boolean
+    @Override
+    public boolean offer(final E element) {
+        Objects.requireNonNull(element, "element");
+
+        long position = this.tail.get();
+
+        for (;;) {
+            final int index = (int) (position & this.mask);
+            final long difference = this.sequences.getAcquire(index) - position;
+
+            if (difference == 0) {
+                if (this.tail.compareAndSet(position, position + 1)) {
+                    this.buffer[index] = element;
+                    this.sequences.setRelease(index, position + 1);
+
+                    return true;
+                }
+
+                position = this.tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = this.tail.get();
+            }
+        }
+    }
+
+    /// Removes and returns the head or null if the queue is empty.
+    ///
+    /// @return E
+    @Override
+    public E poll() {
+        long position = this.head.get();
+
+        for (;;) {
+            final int index = (int) (position & this.mask);
+            final long difference = this.sequences.getAcquire(index) - (position + 1);
+
+            if (difference == 0) {
+                if (this.head.compareAndSet(position, position + 1)) {
+                    @SuppressWarnings("unchecked")
+                    final E element = (E) this.buffer[index];
+
+                    this.buffer[index] = null;
+                    this.sequences.setRelease(index, position + this.mask + 1);
+
+                    return element;
+                }
+
+                position = this.head.get();
+            } else if (difference < 0) {
+                return null;
+            } else {
+                position = this.head.get();
+            }
+        }
+    }
+
+    /// Returns the head without removing it or null
+    /// if the queue is empty; the head may be taken
+    /// by a consumer before the caller looks at it.
+    ///
+    /// @return E
+    @Override
+    public E peek() {
+        for (;;) {
+            final long position = this.head.get();
+            final E element = this.published(position);
+
+            if (element != null) {
+                return element;
+            }
+
+            if (position == this.head.get() && this.sequences.getAcquire((int) (position & this.mask)) != position + 1) {
+                return null;
+            }
+        }
+    }
+
+    /// Returns the number of elements, which
+    /// may be stale by the time it is used.
+    ///
+    /// @return int
+    @Override
+    public int size() {
+        for (;;) {
+            final long before = this.head.get();
+            final long tailPosition = this.tail.get();
+
+            if (before == this.head.get()) {
+                return (int) Math.max(0L, Math.min(this.buffer.length, tailPosition - before));
+            }
+        }
+    }
+
+    /// Returns true if the queue is empty.
+    ///
+    /// @return boolean
+    @Override
+    public boolean isEmpty() {
+        return this.size() == 0;
+    }
+
+    /// Returns a snapshot iterator.
+    ///
+    /// @return java.util.Iterator<E>
+    @Override
+    public Iterator<E> iterator() {
+        final List<E> snapshot = new ArrayList<>();
+        final long from = this.head.get();
+        final long to = this.tail.get();
+
+        for (long position = from; position < to; position++) {
+            final E element = this.published(position);
+
+            if (element != null) {
+                snapshot.add(element);
+            }
+        }
+
+        return Collections.unmodifiableList(snapshot).iterator();
+    }
+
+    /// Returns the element published at the position if it is
+    /// still there, reading the sequence of its slot before and
+    /// after the element as a sequence lock does, or null.
+    ///
+    /// @param  position    long
+    /// @return             E
+    private E published(final long position) {
+        final int index = (int) (position & this.mask);
+
+        if (this.sequences.getAcquire(index) != position + 1) {
+            return null;
+        }
+
+        @SuppressWarnings("unchecked")
+        final E element = (E) this.buffer[index];
+
+        VarHandle.acquireFence();
+
+        return this.sequences.get(index) == position + 1 ? element : null;
+    }
+
+    /// The padding before the value of a sequence.
+    private abstract static class Padding {
+        /// The padding.
+        @SuppressWarnings("unused")
+        private long p1, p2, p3, p4, p5, p6, p7;
+
+        /// The default constructor.
+        Padding() {
+            super();
+        }
+    }
+
+    /// The value of a sequence.
+    private abstract static class Value extends Padding {
+        /// The value.
+        protected volatile long value;
+
+        /// The default constructor.
+        Value() {
+            super();
+        }
+    }
+
+    /// A sequence counter padded on both sides so that it has a
+    /// cache line to itself. The padding is split across the class
+    /// hierarchy because the virtual machine lays out the fields of
+    /// a class after those of its superclass but may reorder the
+    /// fields within a class.
+    private static final class Sequence extends Value {
+        /// The handle of the value.
+        private static final VarHandle VALUE;
+
+        /// The padding after the value.
+        @SuppressWarnings("unused")
+        private long p9, p10, p11, p12, p13, p14, p15;
+
+        static {
+            try {
+                VALUE = MethodHandles.lookup().findVarHandle(Value.class, "value", long.class);
+            } catch (final ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        /// The default constructor.
+        Sequence() {
+            super();
+        }
+
+        /// Returns the value.
+        ///
+        /// @return long
+        long get() {
+            return this.value;
+        }
+
+        /// Sets the value to the update if it is the expected value.
+        ///
+        /// @param  expected    long
+        /// @param  update      long
+        /// @return             boolean
+        boolean compareAndSet(final long expected, final long update) {
+            return VALUE.compareAndSet(this, expected, update);
+        }
+    }
+}
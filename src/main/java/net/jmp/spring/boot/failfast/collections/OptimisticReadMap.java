@@ -0,0 +1,643 @@
+package net.jmp.spring.boot.failfast.collections;
+
+/*
+ * (#)OptimisticReadMap.java    0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.*;
+
+import java.util.concurrent.locks.StampedLock;
+
+import java.util.function.Consumer;
+
+/// A thread-safe map for read-mostly workloads. Lookups use
+/// optimistic reads of a {@link StampedLock} and fall back to
+/// a read lock only when a writer intervened. Iteration is over
+/// an immutable array of entries that is rebuilt at most once
+/// per batch of writes; the iterators never throw a
+/// {@link ConcurrentModificationException}.
+///
+/// The entries are kept in an open addressing table with linear
+/// probing and the keys and values stored in alternate slots of
+/// a single array, so a lookup reads one field. Neither keys nor
+/// values may be null.
+///
+/// @param  <K> The type of key
+/// @param  <V> The type of value
+/// @version    0.1.0
+/// @since      0.1.0
+public final class OptimisticReadMap<K, V> extends AbstractMap<K, V> {
+    /// The default number of slots.
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /// The maximum number of slots.
+    private static final int MAXIMUM_CAPACITY = 1 << 29;
+
+    /// An empty array of entries.
+    private static final Map.Entry<?, ?>[] NO_ENTRIES = new Map.Entry<?, ?>[0];
+
+    /// The lock.
+    private final StampedLock lock = new StampedLock();
+
+    /// The table of alternating keys and values.
+    private Object[] table;
+
+    /// The number of entries.
+    private int size;
+
+    /// The version; incremented by every write.
+    private long version;
+
+    /// The most recently built snapshot.
+    private volatile Snapshot snapshot = new Snapshot(NO_ENTRIES, 0);
+
+    /// The entry set view.
+    private EntrySet entrySet;
+
+    /// The default constructor.
+    public OptimisticReadMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /// A constructor that takes the expected number of entries.
+    ///
+    /// @param  expectedSize    int
+    public OptimisticReadMap(final int expectedSize) {
+        super();
+
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size must not be negative: " + expectedSize);
+        }
+
+        this.table = new Object[2 * slotsFor(expectedSize)];
+    }
+
+    /// Returns the value mapped to the key or null.
+    ///
+    /// @param  key java.lang.Object
+    /// @return     V
+    @Override
+    public V get(final Object key) {
+        Objects.requireNonNull(key, "key");
+
+        long stamp = this.lock.tryOptimisticRead();
+        Object value = find(this.table, key);
+
+        if (!this.lock.validate(stamp)) {
+            stamp = this.lock.readLock();
+
+            try {
+                value = find(this.table, key);
+            } finally {
+                this.lock.unlockRead(stamp);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        final V result = (V) value;
+
+        return result;
+    }
+
+    /// Returns true if the key is mapped.
+    ///
+    /// @param  key java.lang.Object
+    /// @return     boolean
+    @Override
+    public boolean containsKey(final Object key) {
+        return this.get(key) != null;
+    }
+
+    /// Returns the number of entries.
+    ///
+    /// @return int
+    @Override
+    public int size() {
+        long stamp = this.lock.tryOptimisticRead();
+        int result = this.size;
+
+        if (!this.lock.validate(stamp)) {
+            stamp = this.lock.readLock();
+
+            try {
+                result = this.size;
+            } finally {
+                this.lock.unlockRead(stamp);
+            }
+        }
+
+        return result;
+    }
+
+    /// Maps the key to the value.
+    ///
+    /// @param  key     K
+    /// @param  value   V
+    /// @return         V
+    @Override
+    public V put(final K key, final V value) {
+        Objects.requireNonNull(key, "key");
+        Objects.requireNonNull(value, "value");
+
+        final long stamp = this.lock.writeLock();
+
+        try {
+            return this.doPut(key, value);
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    /// Removes the mapping for the key.
+    ///
+    /// @param  key java.lang.Object
+    /// @return     V
+    @Override
+    public V remove(final Object key) {
+        Objects.requireNonNull(key, "key");
+
+        final long stamp = this.lock.writeLock();
+
+        try {
+            return this.doRemove(key);
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    /// Copies all the mappings as a single batch.
+    ///
+    /// @param  map java.util.Map<? extends K,? extends V>
+    @Override
+    public void putAll(final Map<? extends K, ? extends V> map) {
+        if (map != this) {
+            this.batch(batch -> batch.putAll(map));
+        }
+    }
+
+    /// Removes all the mappings.
+    @Override
+    public void clear() {
+        final long stamp = this.lock.writeLock();
+
+        try {
+            Arrays.fill(this.table, null);
+
+            this.size = 0;
+            this.version++;
+            this.snapshot = new Snapshot(NO_ENTRIES, this.version);
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    /// Applies a batch of writes under a single write lock and
+    /// rebuilds the snapshot once at the end, so the next reader
+    /// to iterate finds it ready. The map given to the consumer
+    /// must not be used after the consumer returns.
+    ///
+    /// @param  updates java.util.function.Consumer<? super java.util.Map<K,V>>
+    public void batch(final Consumer<? super Map<K, V>> updates) {
+        Objects.requireNonNull(updates, "updates");
+
+        final long stamp = this.lock.writeLock();
+
+        try {
+            updates.accept(new Batch());
+
+            this.snapshot = this.buildSnapshot();
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    /// Returns the entry set view. Its iterators walk an
+    /// immutable snapshot of the entries taken when the
+    /// iterator is created.
+    ///
+    /// @return java.util.Set<java.util.Map.Entry<K,V>>
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        if (this.entrySet == null) {
+            this.entrySet = new EntrySet();
+        }
+
+        return this.entrySet;
+    }
+
+    /// Returns the current snapshot, rebuilding it
+    /// if a write happened since it was built.
+    ///
+    /// @return net.jmp.spring.boot.failfast.collections.OptimisticReadMap.Snapshot
+    private Snapshot currentSnapshot() {
+        long stamp = this.lock.tryOptimisticRead();
+        Snapshot current = this.snapshot;
+        final long currentVersion = this.version;
+
+        if (this.lock.validate(stamp) && current.version() == currentVersion) {
+            return current;
+        }
+
+        stamp = this.lock.readLock();
+
+        try {
+            current = this.snapshot;
+
+            if (current.version() != this.version) {
+                current = this.buildSnapshot();     // Concurrent readers build equal snapshots
+                this.snapshot = current;
+            }
+        } finally {
+            this.lock.unlockRead(stamp);
+        }
+
+        return current;
+    }
+
+    /// Builds a snapshot of the table. The caller must hold a lock.
+    ///
+    /// @return net.jmp.spring.boot.failfast.collections.OptimisticReadMap.Snapshot
+    private Snapshot buildSnapshot() {
+        final Map.Entry<?, ?>[] entries = new Map.Entry<?, ?>[this.size];
+        final Object[] tab = this.table;
+
+        int index = 0;
+
+        for (int i = 0; i < tab.length; i += 2) {
+            if (tab[i] != null) {
+                entries[index++] = new SimpleImmutableEntry<>(tab[i], tab[i + 1]);
+            }
+        }
+
+        return new Snapshot(entries, this.version);
+    }
+
+    /// Puts the mapping. The caller must hold the write lock.
+    ///
+    /// @param  key     K
+    /// @param  value   V
+    /// @return         V
+    private V doPut(final K key, final V value) {
+        Object[] tab = this.table;
+        int index = indexFor(key, tab.length);
+
+        for (Object k; (k = tab[index]) != null; index = nextIndex(index, tab.length)) {
+            if (k.equals(key)) {
+                @SuppressWarnings("unchecked")
+                final V previous = (V) tab[index + 1];
+
+                tab[index + 1] = value;
+                this.version++;
+
+                return previous;
+            }
+        }
+
+        if (3 * (this.size + 1) > tab.length) {     // Keeps the load below two thirds
+            this.resize();
+
+            tab = this.table;
+            index = indexFor(key, tab.length);
+
+            while (tab[index] != null) {
+                index = nextIndex(index, tab.length);
+            }
+        }
+
+        tab[index + 1] = value;
+        tab[index] = key;
+
+        this.size++;
+        this.version++;
+
+        return null;
+    }
+
+    /// Removes the mapping. The caller must hold the write lock.
+    ///
+    /// @param  key java.lang.Object
+    /// @return     V
+    private V doRemove(final Object key) {
+        final Object[] tab = this.table;
+
+        for (int index = indexFor(key, tab.length); tab[index] != null; index = nextIndex(index, tab.length)) {
+            if (tab[index].equals(key)) {
+                @SuppressWarnings("unchecked")
+                final V previous = (V) tab[index + 1];
+
+                this.closeDeletion(tab, index);
+
+                this.size--;
+                this.version++;
+
+                return previous;
+            }
+        }
+
+        return null;
+    }
+
+    /// Empties the slot at the index and shifts back any
+    /// following entries of the same probe sequence so that
+    /// lookups never need tombstones.
+    ///
+    /// @param  tab     java.lang.Object[]
+    /// @param  index   int
+    private static void closeDeletion(final Object[] tab, final int index) {
+        int hole = index;
+
+        tab[hole] = null;
+        tab[hole + 1] = null;
+
+        for (int i = nextIndex(hole, tab.length); tab[i] != null; i = nextIndex(i, tab.length)) {
+            final int home = indexFor(tab[i], tab.length);
+
+            // The entry at i may fill the hole unless its home lies cyclically in (hole, i]
+
+            final boolean stays = hole <= i
+                    ? hole < home && home <= i
+                    : hole < home || home <= i;
+
+            if (!stays) {
+                tab[hole] = tab[i];
+                tab[hole + 1] = tab[i + 1];
+                tab[i] = null;
+                tab[i + 1] = null;
+
+                hole = i;
+            }
+        }
+    }
+
+    /// Doubles the table. The caller must hold the write lock.
+    private void resize() {
+        final Object[] old = this.table;
+
+        if (old.length / 2 >= MAXIMUM_CAPACITY) {
+            throw new IllegalStateException("Capacity exhausted");
+        }
+
+        final Object[] tab = new Object[old.length * 2];
+
+        for (int i = 0; i < old.length; i += 2) {
+            if (old[i] != null) {
+                int index = indexFor(old[i], tab.length);
+
+                while (tab[index] != null) {
+                    index = nextIndex(index, tab.length);
+                }
+
+                tab[index] = old[i];
+                tab[index + 1] = old[i + 1];
+            }
+        }
+
+        this.table = tab;     // Published whole; optimistic readers see the old or the new table
+    }
+
+    /// Looks up the key in the table. Safe to call without a
+    /// lock; the probe is bounded so an inconsistent table seen
+    /// by an optimistic reader cannot make it loop forever.
+    ///
+    /// @param  tab java.lang.Object[]
+    /// @param  key java.lang.Object
+    /// @return     java.lang.Object
+    private static Object find(final Object[] tab, final Object key) {
+        int index = indexFor(key, tab.length);
+
+        for (int probes = tab.length / 2; probes > 0; probes--) {
+            final Object k = tab[index];
+
+            if (k == null) {
+                return null;
+            }
+
+            if (k.equals(key)) {
+                return tab[index + 1];
+            }
+
+            index = nextIndex(index, tab.length);
+        }
+
+        return null;
+    }
+
+    /// Returns the key index for the object in a table of the given length.
+    ///
+    /// @param  key     java.lang.Object
+    /// @param  length  int
+    /// @return         int
+    private static int indexFor(final Object key, final int length) {
+        final int hash = key.hashCode();
+
+        return ((hash ^ (hash >>> 16)) << 1) & (length - 1);
+    }
+
+    /// Returns the next key index in the table.
+    ///
+    /// @param  index   int
+    /// @param  length  int
+    /// @return         int
+    private static int nextIndex(final int index, final int length) {
+        return (index + 2) & (length - 1);
+    }
+
+    /// Returns the power of two number of slots needed to hold
+    /// the expected number of entries below the load factor.
+    ///
+    /// @param  expectedSize    int
+    /// @return                 int
+    private static int slotsFor(final int expectedSize) {
+        final long minimum = Math.max(DEFAULT_CAPACITY, (3L * expectedSize) / 2 + 1);
+
+        if (minimum >= MAXIMUM_CAPACITY) {
+            return MAXIMUM_CAPACITY;
+        }
+
+        return Integer.highestOneBit((int) minimum - 1) << 1;
+    }
+
+    /// An immutable snapshot of the entries.
+    ///
+    /// @param  entries java.util.Map.Entry<?,?>[]
+    /// @param  version long
+    private record Snapshot(Map.Entry<?, ?>[] entries, long version) {
+    }
+
+    /// The map handed to a batch; the write lock is already held,
+    /// so every method works on the table directly and none of them
+    /// may take the lock again.
+    private final class Batch extends AbstractMap<K, V> {
+        /// The default constructor.
+        Batch() {
+            super();
+        }
+
+        /// Returns the value mapped to the key.
+        @Override
+        public V get(final Object key) {
+            Objects.requireNonNull(key, "key");
+
+            @SuppressWarnings("unchecked")
+            final V value = (V) find(OptimisticReadMap.this.table, key);
+
+            return value;
+        }
+
+        /// Maps the key to the value.
+        @Override
+        public V put(final K key, final V value) {
+            Objects.requireNonNull(key, "key");
+            Objects.requireNonNull(value, "value");
+
+            return OptimisticReadMap.this.doPut(key, value);
+        }
+
+        /// Removes the mapping for the key.
+        @Override
+        public V remove(final Object key) {
+            Objects.requireNonNull(key, "key");
+
+            return OptimisticReadMap.this.doRemove(key);
+        }
+
+        /// Returns true if the key is mapped.
+        @Override
+        public boolean containsKey(final Object key) {
+            return this.get(key) != null;
+        }
+
+        /// Returns the number of entries.
+        @Override
+        public int size() {
+            return OptimisticReadMap.this.size;
+        }
+
+        /// Returns the entry set view. Its iterators walk a copy of
+        /// the entries taken when the iterator is created and remove
+        /// through the batch.
+        @Override
+        public Set<Map.Entry<K, V>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Map.Entry<K, V>> iterator() {
+                    return new SnapshotIterator(OptimisticReadMap.this.buildSnapshot().entries(), OptimisticReadMap.this::doRemove);
+                }
+
+                @Override
+                public int size() {
+                    return OptimisticReadMap.this.size;
+                }
+            };
+        }
+    }
+
+    /// The entry set view.
+    private final class EntrySet extends AbstractSet<Map.Entry<K, V>> {
+        /// The default constructor.
+        EntrySet() {
+            super();
+        }
+
+        /// Returns an iterator.
+        @Override
+        public Iterator<Map.Entry<K, V>> iterator() {
+            return new SnapshotIterator(OptimisticReadMap.this.currentSnapshot().entries(), OptimisticReadMap.this::remove);
+        }
+
+        /// Returns the number of elements.
+        @Override
+        public int size() {
+            return OptimisticReadMap.this.size();
+        }
+
+        /// Removes all the elements.
+        @Override
+        public void clear() {
+            OptimisticReadMap.this.clear();
+        }
+    }
+
+    /// An iterator over an immutable snapshot of the entries.
+    private final class SnapshotIterator implements Iterator<Map.Entry<K, V>> {
+        /// The entries.
+        private final Map.Entry<?, ?>[] entries;
+
+        /// Removes the mapping of a key from the map.
+        private final Consumer<Object> remover;
+
+        /// The index of the next entry.
+        private int cursor;
+
+        /// The last entry returned or null.
+        private Map.Entry<K, V> last;
+
+        /// The constructor.
+        ///
+        /// @param  entries java.util.Map.Entry<?,?>[]
+        /// @param  remover java.util.function.Consumer<java.lang.Object>
+        SnapshotIterator(final Map.Entry<?, ?>[] entries, final Consumer<Object> remover) {
+            super();
+
+            this.entries = entries;
+            this.remover = remover;
+        }
+
+        /// Returns true if there are more elements.
+        @Override
+        public boolean hasNext() {
+            return this.cursor < this.entries.length;
+        }
+
+        /// Returns the next element.
+        @Override
+        public Map.Entry<K, V> next() {
+            if (this.cursor >= this.entries.length) {
+                throw new NoSuchElementException();
+            }
+
+            @SuppressWarnings("unchecked")
+            final Map.Entry<K, V> entry = (Map.Entry<K, V>) this.entries[this.cursor++];
+
+            this.last = entry;
+
+            return entry;
+        }
+
+        /// Removes the last entry returned.
+        @Override
+        public void remove() {
+            if (this.last == null) {
+                throw new IllegalStateException();
+            }
+
+            this.remover.accept(this.last.getKey());
+
+            this.last = null;
+        }
+    }
+}
@@ -0,0 +1,848 @@
+package net.jmp.spring.boot.failfast.collections;
+
+/*
+ * (#)RcuList.java  0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.time.Duration;
+
+import java.util.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/// A thread-safe list in the read-copy-update style for
+/// read-mostly workloads. Readers take the published version
+/// of the list with a single volatile read and never lock; an
+/// iterator walks the version published when it was created
+/// and never throws a {@link ConcurrentModificationException}.
+///
+/// Writers serialize on a lock and apply their changes to a
+/// private copy of the published version. Changes made within
+/// the publication window of the first change of a batch are
+/// coalesced, and the whole batch is published as one new
+/// version, so a burst of writes costs one copy rather than
+/// one per write. A batch is published by the first write after
+/// its window has closed, by a task scheduled for the end of the
+/// window, by {@link #flush()} or at the end of a {@link #batch}.
+/// A zero window publishes every write, like a copy-on-write
+/// list.
+///
+/// Writes by index and the removal of elements operate on the
+/// latest state including unpublished changes, while reads see
+/// only published versions; a writer that must read its own
+/// writes calls {@link #flush()} first. Null elements are not
+/// permitted.
+///
+/// @param  <E> The type of element
+/// @version    0.1.0
+/// @since      0.1.0
+public final class RcuList<E> extends AbstractList<E> implements RandomAccess {
+    /// The default publication window.
+    private static final Duration DEFAULT_WINDOW = Duration.ofMillis(1);
+
+    /// The smallest private copy.
+    private static final int MINIMUM_CAPACITY = 10;
+
+    /// The empty version.
+    private static final Version EMPTY = new Version(new Object[0], 0, 0);
+
+    /// The lock serializing writers.
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /// The publication window in nanoseconds.
+    private final long windowNanos;
+
+    /// The published version.
+    private volatile Version published = EMPTY;
+
+    /// The private copy of an open batch or null.
+    private Object[] pending;
+
+    /// The number of elements in the private copy.
+    private int pendingSize;
+
+    /// The time the open batch was opened.
+    private long opened;
+
+    /// The number of batches opened.
+    private long batches;
+
+    /// The number of writes.
+    private long writes;
+
+    /// The number of versions published.
+    private long publications;
+
+    /// The default constructor.
+    public RcuList() {
+        this(DEFAULT_WINDOW);
+    }
+
+    /// A constructor that takes the publication window.
+    ///
+    /// @param  window  java.time.Duration
+    public RcuList(final Duration window) {
+        super();
+
+        Objects.requireNonNull(window, "window");
+
+        if (window.isNegative()) {
+            throw new IllegalArgumentException("Window must not be negative: " + window);
+        }
+
+        this.windowNanos = window.toNanos();
+    }
+
+    /// Returns the element at the index in the published version.
+    ///
+    /// @param  index   int
+    /// @return         E
+    @Override
+    public E get(final int index) {
+        final Version version = this.published;
+
+        Objects.checkIndex(index, version.size());
+
+        return elementAt(version.elements(), index);
+    }
+
+    /// Returns the number of elements in the published version.
+    ///
+    /// @return int
+    @Override
+    public int size() {
+        return this.published.size();
+    }
+
+    /// Returns an iterator over the published version.
+    ///
+    /// @return java.util.Iterator<E>
+    @Override
+    public Iterator<E> iterator() {
+        return this.listIterator(0);
+    }
+
+    /// Returns a list iterator over the published version
+    /// starting at the index. The iterator does not support
+    /// modification.
+    ///
+    /// @param  index   int
+    /// @return         java.util.ListIterator<E>
+    @Override
+    public ListIterator<E> listIterator(final int index) {
+        final Version version = this.published;
+
+        Objects.checkIndex(index, version.size() + 1);
+
+        return new SnapshotIterator<>(version.elements(), version.size(), index);
+    }
+
+    /// Returns a spliterator over the published version.
+    ///
+    /// @return java.util.Spliterator<E>
+    @Override
+    public Spliterator<E> spliterator() {
+        final Version version = this.published;
+
+        return Spliterators.spliterator(version.elements(), 0, version.size(),
+                Spliterator.ORDERED | Spliterator.IMMUTABLE | Spliterator.NONNULL);
+    }
+
+    /// Returns the elements of the published version.
+    ///
+    /// @return java.lang.Object[]
+    @Override
+    public Object[] toArray() {
+        final Version version = this.published;
+
+        return Arrays.copyOf(version.elements(), version.size());
+    }
+
+    /// Returns an unmodifiable copy of a range of the published version.
+    ///
+    /// @param  fromIndex   int
+    /// @param  toIndex     int
+    /// @return             java.util.List<E>
+    @Override
+    public List<E> subList(final int fromIndex, final int toIndex) {
+        final Version version = this.published;
+
+        Objects.checkFromToIndex(fromIndex, toIndex, version.size());
+
+        @SuppressWarnings("unchecked")
+        final E[] range = (E[]) Arrays.copyOfRange(version.elements(), fromIndex, toIndex);
+
+        return Collections.unmodifiableList(Arrays.asList(range));
+    }
+
+    /// Appends the element.
+    ///
+    /// @param  element E
+    /// @return         boolean
+    @Override
+    public boolean add(final E element) {
+        Objects.requireNonNull(element, "element");
+
+        this.lock.lock();
+
+        try {
+            this.open(true);
+            this.insert(this.pendingSize, element);
+            this.written();
+        } finally {
+            this.lock.unlock();
+        }
+
+        return true;
+    }
+
+    /// Inserts the element at the index of the latest state.
+    ///
+    /// @param  index   int
+    /// @param  element E
+    @Override
+    public void add(final int index, final E element) {
+        Objects.requireNonNull(element, "element");
+
+        this.lock.lock();
+
+        try {
+            Objects.checkIndex(index, this.latestSize() + 1);
+
+            this.open(true);
+            this.insert(index, element);
+            this.written();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /// Appends the elements.
+    ///
+    /// @param  collection  java.util.Collection<? extends E>
+    /// @return             boolean
+    @Override
+    public boolean addAll(final Collection<? extends E> collection) {
+        final Object[] elements = checkedArray(collection);
+
+        this.lock.lock();
+
+        try {
+            return this.insertAll(this.latestSize(), elements);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /// Inserts the elements at the index of the latest state.
+    ///
+    /// @param  index       int
+    /// @param  collection  java.util.Collection<? extends E>
+    /// @return             boolean
+    @Override
+    public boolean addAll(final int index, final Collection<? extends E> collection) {
+        final Object[] elements = checkedArray(collection);
+
+        this.lock.lock();
+
+        try {
+            Objects.checkIndex(index, this.latestSize() + 1);
+
+            return this.insertAll(index, elements);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /// Replaces the element at the index of the latest state.
+    ///
+    /// @param  index   int
+    /// @param  element E
+    /// @return         E
+    @Override
+    public E set(final int index, final E element) {
+        Objects.requireNonNull(element, "element");
+
+        this.lock.lock();
+
+        try {
+            Objects.checkIndex(index, this.latestSize());
+
+            this.open(true);
+
+            final E previous = elementAt(this.pending, index);
+
+            this.pending[index] = element;
+            this.written();
+
+            return previous;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /// Removes the element at the index of the latest state.
+    ///
+    /// @param  index   int
+    /// @return         E
+    @Override
+    public E remove(final int index) {
+        this.lock.lock();
+
+        try {
+            Objects.checkIndex(index, this.latestSize());
+
+            this.open(true);
+
+            final E previous = this.delete(index);
+
+            this.written();
+
+            return previous;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /// Removes the first occurrence of the object from the latest state.
+    ///
+    /// @param  object  java.lang.Object
+    /// @return         boolean
+    @Override
+    public boolean remove(final Object object) {
+        if (object == null) {
+            return false;
+        }
+
+        this.lock.lock();
+
+        try {
+            final Object[] elements = this.latestElements();
+            final int size = this.latestSize();
+
+            for (int i = 0; i < size; i++) {
+                if (object.equals(elements[i])) {
+                    this.open(true);
+                    this.delete(i);
+                    this.written();
+
+                    return true;
+                }
+            }
+
+            return false;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /// Removes the elements of the latest state that satisfy the filter.
+    ///
+    /// @param  filter  java.util.function.Predicate<? super E>
+    /// @return         boolean
+    @Override
+    public boolean removeIf(final Predicate<? super E> filter) {
+        Objects.requireNonNull(filter, "filter");
+
+        this.lock.lock();
+
+        try {
+            final Object[] elements = this.latestElements();
+            final int size = this.latestSize();
+
+            int first = 0;
+
+            while (first < size && !filter.test(elementAt(elements, first))) {
+                first++;
+            }
+
+            if (first == size) {
+                return false;
+            }
+
+            this.open(true);
+
+            int kept = first;
+
+            for (int i = first + 1; i < size; i++) {
+                if (!filter.test(elementAt(this.pending, i))) {
+                    this.pending[kept++] = this.pending[i];
+                }
+            }
+
+            Arrays.fill(this.pending, kept, size, null);
+
+            this.pendingSize = kept;
+            this.written();
+
+            return true;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /// Removes all the elements.
+    @Override
+    public void clear() {
+        this.lock.lock();
+
+        try {
+            this.open(false);
+
+            Arrays.fill(this.pending, 0, this.pendingSize, null);
+
+            this.pendingSize = 0;
+            this.written();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /// Applies a batch of writes to a private copy of the
+    /// list and publishes the result as one version when the
+    /// consumer returns. If the consumer throws, the copy is
+    /// discarded and none of its writes are published. Writes
+    /// made before the batch and not yet published are
+    /// published first, so they are not discarded with it. The
+    /// list given to the consumer sees its own writes and must
+    /// not be used after the consumer returns.
+    ///
+    /// @param  updates java.util.function.Consumer<? super java.util.List<E>>
+    public void batch(final Consumer<? super List<E>> updates) {
+        Objects.requireNonNull(updates, "updates");
+
+        this.lock.lock();
+
+        try {
+            this.publishPending();
+            this.open(true);
+
+            final long writesBefore = this.writes;
+
+            try {
+                updates.accept(new Batch());
+            } catch (final RuntimeException | Error e) {
+                this.pending = null;
+                this.pendingSize = 0;
+                this.writes = writesBefore;
+
+                throw e;
+            }
+
+            this.publishPending();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /// Publishes the open batch, if any, so that
+    /// readers see every write made so far.
+    public void flush() {
+        this.lock.lock();
+
+        try {
+            this.publishPending();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /// Returns the publication window.
+    ///
+    /// @return java.time.Duration
+    public Duration window() {
+        return Duration.ofNanos(this.windowNanos);
+    }
+
+    /// Returns the number of the published version.
+    ///
+    /// @return long
+    public long version() {
+        return this.published.number();
+    }
+
+    /// Returns the number of writes.
+    ///
+    /// @return long
+    public long writes() {
+        this.lock.lock();
+
+        try {
+            return this.writes;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /// Returns the number of versions published.
+    ///
+    /// @return long
+    public long publications() {
+        this.lock.lock();
+
+        try {
+            return this.publications;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /// Opens a batch if none is open, copying the published
+    /// version when asked to, and schedules its publication
+    /// at the end of the window. The caller must hold the lock.
+    ///
+    /// @param  copy    boolean
+    private void open(final boolean copy) {
+        if (this.pending == null) {
+            final Version version = this.published;
+            final int capacity = Math.max(version.size() + (version.size() >> 1), MINIMUM_CAPACITY);
+
+            if (copy) {
+                this.pending = Arrays.copyOf(version.elements(), capacity);
+                this.pendingSize = version.size();
+            } else {
+                this.pending = new Object[MINIMUM_CAPACITY];
+                this.pendingSize = 0;
+            }
+
+            this.opened = System.nanoTime();
+
+            final long batch = ++this.batches;
+
+            if (this.windowNanos > 0) {
+                CompletableFuture.delayedExecutor(this.windowNanos, TimeUnit.NANOSECONDS)
+                        .execute(() -> this.publish(batch));
+            }
+        }
+    }
+
+    /// Counts a write and publishes the open batch
+    /// if its window has closed. The caller must
+    /// hold the lock.
+    private void written() {
+        this.writes++;
+
+        if (System.nanoTime() - this.opened >= this.windowNanos) {
+            this.publishPending();
+        }
+    }
+
+    /// Publishes the batch if it is still open; run
+    /// at the end of the window of the batch.
+    ///
+    /// @param  batch   long
+    private void publish(final long batch) {
+        this.lock.lock();
+
+        try {
+            if (this.batches == batch) {
+                this.publishPending();
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /// Publishes the private copy, if any, as the next
+    /// version. The copy is handed to readers as is and
+    /// the next batch starts from a copy of it. The caller
+    /// must hold the lock.
+    private void publishPending() {
+        if (this.pending != null) {
+            this.published = new Version(this.pending, this.pendingSize, this.published.number() + 1);
+            this.pending = null;
+            this.pendingSize = 0;
+            this.publications++;
+        }
+    }
+
+    /// Returns the elements of the latest state. The caller must hold the lock.
+    ///
+    /// @return java.lang.Object[]
+    private Object[] latestElements() {
+        return this.pending != null ? this.pending : this.published.elements();
+    }
+
+    /// Returns the size of the latest state. The caller must hold the lock.
+    ///
+    /// @return int
+    private int latestSize() {
+        return this.pending != null ? this.pendingSize : this.published.size();
+    }
+
+    /// Inserts the element into the open batch. The caller must hold the lock.
+    ///
+    /// @param  index   int
+    /// @param  element java.lang.Object
+    private void insert(final int index, final Object element) {
+        this.ensureCapacity(this.pendingSize + 1);
+
+        System.arraycopy(this.pending, index, this.pending, index + 1, this.pendingSize - index);
+
+        this.pending[index] = element;
+        this.pendingSize++;
+    }
+
+    /// Inserts the elements as one write. The caller must hold the lock.
+    ///
+    /// @param  index       int
+    /// @param  elements    java.lang.Object[]
+    /// @return             boolean
+    private boolean insertAll(final int index, final Object[] elements) {
+        if (elements.length == 0) {
+            return false;
+        }
+
+        this.open(true);
+        this.ensureCapacity(this.pendingSize + elements.length);
+
+        System.arraycopy(this.pending, index, this.pending, index + elements.length, this.pendingSize - index);
+        System.arraycopy(elements, 0, this.pending, index, elements.length);
+
+        this.pendingSize += elements.length;
+        this.written();
+
+        return true;
+    }
+
+    /// Deletes the element at the index from the open batch.
+    /// The caller must hold the lock.
+    ///
+    /// @param  index   int
+    /// @return         E
+    private E delete(final int index) {
+        final E previous = elementAt(this.pending, index);
+
+        System.arraycopy(this.pending, index + 1, this.pending, index, this.pendingSize - index - 1);
+
+        this.pending[--this.pendingSize] = null;
+
+        return previous;
+    }
+
+    /// Grows the open batch to hold the number of elements.
+    /// The caller must hold the lock.
+    ///
+    /// @param  minimum int
+    private void ensureCapacity(final int minimum) {
+        if (minimum > this.pending.length) {
+            this.pending = Arrays.copyOf(this.pending, Math.max(minimum, this.pending.length + (this.pending.length >> 1)));
+        }
+    }
+
+    /// Returns the elements of the collection, rejecting nulls.
+    ///
+    /// @param  collection  java.util.Collection<?>
+    /// @return             java.lang.Object[]
+    private static Object[] checkedArray(final Collection<?> collection) {
+        final Object[] elements = collection.toArray();
+
+        for (final Object element : elements) {
+            Objects.requireNonNull(element, "element");
+        }
+
+        return elements;
+    }
+
+    /// Returns the element at the index of the array.
+    ///
+    /// @param  <E>         The type of element
+    /// @param  elements    java.lang.Object[]
+    /// @param  index       int
+    /// @return             E
+    @SuppressWarnings("unchecked")
+    private static <E> E elementAt(final Object[] elements, final int index) {
+        return (E) elements[index];
+    }
+
+    /// A published version of the list. The array
+    /// is never written once it is published.
+    ///
+    /// @param  elements    java.lang.Object[]
+    /// @param  size        int
+    /// @param  number      long
+    private record Version(Object[] elements, int size, long number) {
+    }
+
+    /// An iterator over a published version.
+    ///
+    /// @param  <E> The type of element
+    private static final class SnapshotIterator<E> implements ListIterator<E> {
+        /// The elements.
+        private final Object[] elements;
+
+        /// The number of elements.
+        private final int size;
+
+        /// The index of the next element.
+        private int cursor;
+
+        /// A constructor that takes the elements, their number and the starting index.
+        ///
+        /// @param  elements    java.lang.Object[]
+        /// @param  size        int
+        /// @param  cursor      int
+        SnapshotIterator(final Object[] elements, final int size, final int cursor) {
+            super();
+
+            this.elements = elements;
+            this.size = size;
+            this.cursor = cursor;
+        }
+
+        /// Returns true if there are more elements.
+        @Override
+        public boolean hasNext() {
+            return this.cursor < this.size;
+        }
+
+        /// Returns the next element.
+        @Override
+        public E next() {
+            if (this.cursor >= this.size) {
+                throw new NoSuchElementException();
+            }
+
+            return elementAt(this.elements, this.cursor++);
+        }
+
+        /// Returns true if there are previous elements.
+        @Override
+        public boolean hasPrevious() {
+            return this.cursor > 0;
+        }
+
+        /// Returns the previous element.
+        @Override
+        public E previous() {
+            if (this.cursor <= 0) {
+                throw new NoSuchElementException();
+            }
+
+            return elementAt(this.elements, --this.cursor);
+        }
+
+        /// Returns the index of the next element.
+        @Override
+        public int nextIndex() {
+            return this.cursor;
+        }
+
+        /// Returns the index of the previous element.
+        @Override
+        public int previousIndex() {
+            return this.cursor - 1;
+        }
+
+        /// Not supported; the version is immutable.
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException("remove");
+        }
+
+        /// Not supported; the version is immutable.
+        @Override
+        public void set(final E element) {
+            throw new UnsupportedOperationException("set");
+        }
+
+        /// Not supported; the version is immutable.
+        @Override
+        public void add(final E element) {
+            throw new UnsupportedOperationException("add");
+        }
+    }
+
+    /// The list handed to a batch; the lock is already held and
+    /// the batch is open. Its iterators fail fast.
+    private final class Batch extends AbstractList<E> {
+        /// The default constructor.
+        Batch() {
+            super();
+        }
+
+        /// Returns the element at the index.
+        @Override
+        public E get(final int index) {
+            Objects.checkIndex(index, RcuList.this.pendingSize);
+
+            return elementAt(RcuList.this.pending, index);
+        }
+
+        /// Returns the number of elements.
+        @Override
+        public int size() {
+            return RcuList.this.pendingSize;
+        }
+
+        /// Replaces the element at the index.
+        @Override
+        public E set(final int index, final E element) {
+            Objects.requireNonNull(element, "element");
+            Objects.checkIndex(index, RcuList.this.pendingSize);
+
+            final E previous = elementAt(RcuList.this.pending, index);
+
+            RcuList.this.pending[index] = element;
+            RcuList.this.writes++;
+
+            return previous;
+        }
+
+        /// Inserts the element at the index.
+        @Override
+        public void add(final int index, final E element) {
+            Objects.requireNonNull(element, "element");
+            Objects.checkIndex(index, RcuList.this.pendingSize + 1);
+
+            RcuList.this.insert(index, element);
+            RcuList.this.writes++;
+
+            this.modCount++;
+        }
+
+        /// Removes the element at the index.
+        @Override
+        public E remove(final int index) {
+            Objects.checkIndex(index, RcuList.this.pendingSize);
+
+            final E previous = RcuList.this.delete(index);
+
+            RcuList.this.writes++;
+
+            this.modCount++;
+
+            return previous;
+        }
+    }
+}
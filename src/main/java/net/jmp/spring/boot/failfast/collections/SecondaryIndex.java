@@ -0,0 +1,219 @@
+package net.jmp.spring.boot.failfast.collections;
+
+/*
+ * (#)SecondaryIndex.java   0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.*;
+
+import java.util.function.Function;
+
+/// A secondary index of the keys of an indexed map by an
+/// attribute derived from their values. A unique index maps
+/// each attribute to one key and rejects a second; a non-unique
+/// index maps it to a set of keys. Values whose attribute is null
+/// are not indexed. The index is maintained by its map on every
+/// change, so a lookup costs one hash probe instead of a scan.
+///
+/// @param  <K> The type of key
+/// @param  <V> The type of value
+/// @param  <A> The type of attribute
+/// @version    0.1.0
+/// @since      0.1.0
+public final class SecondaryIndex<K, V, A> {
+    /// The name.
+    private final String name;
+
+    /// The attribute function.
+    private final Function<? super V, ? extends A> attribute;
+
+    /// True if the index is unique.
+    private final boolean unique;
+
+    /// The key, or the keys in a bucket, by attribute.
+    private final Map<A, Object> keys = new HashMap<>();
+
+    /// The constructor.
+    ///
+    /// @param  name        java.lang.String
+    /// @param  attribute   java.util.function.Function<? super V,? extends A>
+    /// @param  unique      boolean
+    SecondaryIndex(final String name, final Function<? super V, ? extends A> attribute, final boolean unique) {
+        super();
+
+        this.name = Objects.requireNonNull(name, "name");
+        this.attribute = Objects.requireNonNull(attribute, "attribute");
+        this.unique = unique;
+    }
+
+    /// Returns the name.
+    ///
+    /// @return java.lang.String
+    public String name() {
+        return this.name;
+    }
+
+    /// Returns true if the index is unique.
+    ///
+    /// @return boolean
+    public boolean isUnique() {
+        return this.unique;
+    }
+
+    /// Returns the number of distinct attributes indexed.
+    ///
+    /// @return int
+    public int size() {
+        return this.keys.size();
+    }
+
+    /// Returns an unmodifiable copy of the set of the keys
+    /// whose values have the attribute. Later changes to
+    /// the map do not show through it.
+    ///
+    /// @param  attribute   A
+    /// @return             java.util.Set<K>
+    @SuppressWarnings("unchecked")
+    public Set<K> keys(final A attribute) {
+        final Object found = this.keys.get(attribute);
+
+        if (found == null) {
+            return Set.of();
+        } else if (found instanceof Bucket<?> bucket) {
+            return Set.copyOf((Bucket<K>) bucket);
+        } else {
+            return Set.of((K) found);
+        }
+    }
+
+    /// Returns the key whose value has the attribute or null;
+    /// on a non-unique index any one of the keys.
+    ///
+    /// @param  attribute   A
+    /// @return             K
+    @SuppressWarnings("unchecked")
+    public K key(final A attribute) {
+        final Object found = this.keys.get(attribute);
+
+        if (found instanceof Bucket<?> bucket) {
+            return ((Bucket<K>) bucket).iterator().next();
+        }
+
+        return (K) found;
+    }
+
+    /// Throws if adding the key with the value would
+    /// map an attribute of a unique index to two keys.
+    ///
+    /// @param  key     K
+    /// @param  value   V
+    void check(final K key, final V value) {
+        if (this.unique) {
+            final A attr = this.attribute.apply(value);
+
+            if (attr != null) {
+                final Object found = this.keys.get(attr);
+
+                if (found != null && !found.equals(key)) {
+                    throw new IllegalArgumentException("Duplicate attribute for unique index " + this.name + ": " + attr);
+                }
+            }
+        }
+    }
+
+    /// Indexes the key under the attribute of the value.
+    ///
+    /// @param  key     K
+    /// @param  value   V
+    @SuppressWarnings("unchecked")
+    void add(final K key, final V value) {
+        final A attr = this.attribute.apply(value);
+
+        if (attr == null) {
+            return;
+        }
+
+        final Object found = this.keys.putIfAbsent(attr, key);
+
+        if (found == null || found.equals(key)) {
+            return;
+        }
+
+        if (found instanceof Bucket<?> bucket) {
+            ((Bucket<K>) bucket).add(key);
+        } else {
+            final Bucket<K> bucket = new Bucket<>();
+
+            bucket.add((K) found);
+            bucket.add(key);
+
+            this.keys.put(attr, bucket);
+        }
+    }
+
+    /// Removes the key from under the attribute of the value.
+    ///
+    /// @param  key     K
+    /// @param  value   V
+    @SuppressWarnings("unchecked")
+    void remove(final K key, final V value) {
+        final A attr = this.attribute.apply(value);
+
+        if (attr == null) {
+            return;
+        }
+
+        final Object found = this.keys.get(attr);
+
+        if (found instanceof Bucket<?> bucket) {
+            final Bucket<K> keysOf = (Bucket<K>) bucket;
+
+            keysOf.remove(key);
+
+            if (keysOf.size() == 1) {
+                this.keys.put(attr, keysOf.iterator().next());
+            }
+        } else if (key.equals(found)) {
+            this.keys.remove(attr);
+        }
+    }
+
+    /// Removes all the keys.
+    void clear() {
+        this.keys.clear();
+    }
+
+    /// The keys of a non-unique index that share an attribute.
+    ///
+    /// @param  <K> The type of key
+    private static final class Bucket<K> extends HashSet<K> {
+        /// The default constructor.
+        Bucket() {
+            super(4);
+        }
+    }
+}
@@ -0,0 +1,533 @@
+package net.jmp.spring.boot.failfast.collections;
+
+/*
+ * (#)ShardedMap.java   0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import java.util.concurrent.locks.LockSupport;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/// A map whose keys are hash partitioned into shards, by default
+/// one per core. Each shard is a plain hash map owned by a thread
+/// that runs the commands sent to its mailbox, a lock-free queue,
+/// one at a time; no locks are taken. Commands to different
+/// shards run in parallel, and asynchronous puts and removes can
+/// be pipelined.
+///
+/// A command sent from the owner thread of the shard, such as a
+/// put made by a visitor during {@link #parallelForEach}, runs
+/// inline, so iterating a shard stays fail fast. An owner thread
+/// must not wait on another shard, since two owners waiting on each
+/// other would deadlock: a blocking call it makes to another shard
+/// throws an {@link IllegalStateException}, while the asynchronous
+/// puts and removes are allowed. The entry set
+/// iterates a gathered snapshot of all the shards. The map must
+/// be closed to stop the owner threads and not be used after.
+/// Neither keys nor values may be null.
+///
+/// @param  <K> The type of key
+/// @param  <V> The type of value
+/// @version    0.1.0
+/// @since      0.1.0
+public final class ShardedMap<K, V> extends AbstractMap<K, V> implements AutoCloseable {
+    /// The map whose shard the current thread owns, if any.
+    private static final ThreadLocal<Object> OWNED = new ThreadLocal<>();
+
+    /// The identity of the map in the owner threads.
+    private final Object identity = new Object();
+
+    /// The shards.
+    private final List<Shard<K, V>> shards;
+
+    /// The entry set view.
+    private final EntrySet entrySet = new EntrySet();
+
+    /// The default constructor; one shard per available processor.
+    public ShardedMap() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /// A constructor that takes the number of shards.
+    ///
+    /// @param  shardCount  int
+    public ShardedMap(final int shardCount) {
+        super();
+
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("Shard count must be positive: " + shardCount);
+        }
+
+        final List<Shard<K, V>> list = new ArrayList<>(shardCount);
+
+        for (int i = 0; i < shardCount; i++) {
+            list.add(new Shard<>(i, this.identity));
+        }
+
+        this.shards = List.copyOf(list);
+    }
+
+    /// Returns the number of shards.
+    ///
+    /// @return int
+    public int shardCount() {
+        return this.shards.size();
+    }
+
+    /// Returns the value mapped to the key or null.
+    ///
+    /// @param  key java.lang.Object
+    /// @return     V
+    @Override
+    public V get(final Object key) {
+        return this.shardFor(key).call(map -> map.get(key));
+    }
+
+    /// Returns true if the key is mapped.
+    ///
+    /// @param  key java.lang.Object
+    /// @return     boolean
+    @Override
+    public boolean containsKey(final Object key) {
+        return this.shardFor(key).call(map -> map.containsKey(key));
+    }
+
+    /// Maps the key to the value.
+    ///
+    /// @param  key     K
+    /// @param  value   V
+    /// @return         V
+    @Override
+    public V put(final K key, final V value) {
+        Objects.requireNonNull(value, "value");
+
+        return this.shardFor(key).call(map -> map.put(key, value));
+    }
+
+    /// Removes the mapping for the key.
+    ///
+    /// @param  key java.lang.Object
+    /// @return     V
+    @Override
+    public V remove(final Object key) {
+        return this.shardFor(key).call(map -> map.remove(key));
+    }
+
+    /// Maps the key to the value without waiting; the
+    /// future completes with the previous value.
+    ///
+    /// @param  key     K
+    /// @param  value   V
+    /// @return         java.util.concurrent.CompletableFuture<V>
+    public CompletableFuture<V> putAsync(final K key, final V value) {
+        Objects.requireNonNull(value, "value");
+
+        return this.shardFor(key).send(map -> map.put(key, value));
+    }
+
+    /// Removes the mapping for the key without waiting;
+    /// the future completes with the removed value.
+    ///
+    /// @param  key K
+    /// @return     java.util.concurrent.CompletableFuture<V>
+    public CompletableFuture<V> removeAsync(final K key) {
+        return this.shardFor(key).send(map -> map.remove(key));
+    }
+
+    /// Removes all the mappings.
+    @Override
+    public void clear() {
+        this.scatterGather(map -> {
+            map.clear();
+
+            return null;
+        });
+    }
+
+    /// Returns the number of entries.
+    ///
+    /// @return int
+    @Override
+    public int size() {
+        int size = 0;
+
+        for (final int shardSize : this.scatterGather(Map::size)) {
+            size += shardSize;
+        }
+
+        return size;
+    }
+
+    /// Applies the function to every shard on its owner
+    /// thread, in parallel, and returns the results in shard
+    /// order. The function may read and modify the shard but
+    /// must not keep a reference to it.
+    ///
+    /// @param  <R>         The type of result
+    /// @param  function    java.util.function.Function<? super java.util.Map<K,V>,? extends R>
+    /// @return             java.util.List<R>
+    public <R> List<R> scatterGather(final Function<? super Map<K, V>, ? extends R> function) {
+        Objects.requireNonNull(function, "function");
+
+        if (this.shards.size() > 1) {
+            checkNotOwner(this.identity);
+        }
+
+        final List<CompletableFuture<R>> futures = new ArrayList<>(this.shards.size());
+
+        for (final Shard<K, V> shard : this.shards) {
+            futures.add(shard.submit(function));
+        }
+
+        final List<R> results = new ArrayList<>(futures.size());
+
+        for (final CompletableFuture<R> future : futures) {
+            results.add(join(future));
+        }
+
+        return results;
+    }
+
+    /// Visits every entry on the owner thread of its shard;
+    /// the shards are visited in parallel, so the visitor must
+    /// be thread-safe. Each shard is iterated fail fast: a put
+    /// of a new key or a remove made by the visitor that lands
+    /// in the shard being visited throws a
+    /// {@link ConcurrentModificationException}. A blocking call
+    /// the visitor makes that lands in another shard throws an
+    /// {@link IllegalStateException} rather than risk a deadlock.
+    ///
+    /// @param  visitor java.util.function.BiConsumer<? super K,? super V>
+    public void parallelForEach(final BiConsumer<? super K, ? super V> visitor) {
+        Objects.requireNonNull(visitor, "visitor");
+
+        this.scatterGather(map -> {
+            map.forEach(visitor);
+
+            return null;
+        });
+    }
+
+    /// Returns the entry set view. Its iterators walk a snapshot
+    /// gathered from the shards; removal goes through the map.
+    ///
+    /// @return java.util.Set<java.util.Map.Entry<K,V>>
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        return this.entrySet;
+    }
+
+    /// Stops the owner threads after they have run
+    /// the commands already in their mailboxes.
+    @Override
+    public void close() {
+        for (final Shard<K, V> shard : this.shards) {
+            shard.stop();
+        }
+
+        boolean interrupted = false;
+
+        for (final Shard<K, V> shard : this.shards) {
+            while (shard.owner.isAlive()) {
+                try {
+                    shard.owner.join();
+                } catch (final InterruptedException _) {
+                    interrupted = true;
+                }
+            }
+        }
+
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /// Returns the shard for the key.
+    ///
+    /// @param  key java.lang.Object
+    /// @return     net.jmp.spring.boot.failfast.collections.ShardedMap.Shard<K,V>
+    private Shard<K, V> shardFor(final Object key) {
+        final int hash = Objects.requireNonNull(key, "key").hashCode();
+
+        return this.shards.get(Math.floorMod(hash ^ (hash >>> 16), this.shards.size()));
+    }
+
+    /// Throws if the current thread owns a shard of the map, which
+    /// must not wait on another shard.
+    ///
+    /// @param  identity    java.lang.Object
+    private static void checkNotOwner(final Object identity) {
+        if (OWNED.get() == identity) {
+            throw new IllegalStateException("A shard owner cannot wait on another shard");
+        }
+    }
+
+    /// Waits for the future and rethrows the
+    /// unchecked exception it failed with.
+    ///
+    /// @param  <R>     The type of result
+    /// @param  future  java.util.concurrent.CompletableFuture<R>
+    /// @return         R
+    private static <R> R join(final CompletableFuture<R> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+
+            throw e;
+        }
+    }
+
+    /// A shard and the thread that owns it.
+    ///
+    /// @param  <K> The type of key
+    /// @param  <V> The type of value
+    private static final class Shard<K, V> {
+        /// The entries; only touched by the owner thread.
+        private final Map<K, V> map = new HashMap<>();
+
+        /// The mailbox.
+        private final Queue<Runnable> mailbox = new ConcurrentLinkedQueue<>();
+
+        /// The identity of the map.
+        private final Object identity;
+
+        /// The owner thread.
+        private final Thread owner;
+
+        /// True while the owner is about to park or parked.
+        private volatile boolean sleeping;
+
+        /// True once the shard has been asked to stop.
+        private volatile boolean stopped;
+
+        /// The constructor.
+        ///
+        /// @param  index       int
+        /// @param  identity    java.lang.Object
+        Shard(final int index, final Object identity) {
+            super();
+
+            this.identity = identity;
+            this.owner = Thread.ofPlatform()
+                    .name("shard-" + index)
+                    .daemon(true)
+                    .start(this::run);
+        }
+
+        /// Runs the function on the owner thread and returns its
+        /// result; from the owner thread itself it runs inline.
+        ///
+        /// @param  <R>         The type of result
+        /// @param  function    java.util.function.Function<? super java.util.Map<K,V>,? extends R>
+        /// @return             R
+        <R> R call(final Function<? super Map<K, V>, ? extends R> function) {
+            if (Thread.currentThread() == this.owner) {
+                return function.apply(this.map);
+            }
+
+            checkNotOwner(this.identity);
+
+            return join(this.send(function));
+        }
+
+        /// Sends the function to the mailbox; from the owner
+        /// thread itself it runs inline instead.
+        ///
+        /// @param  <R>         The type of result
+        /// @param  function    java.util.function.Function<? super java.util.Map<K,V>,? extends R>
+        /// @return             java.util.concurrent.CompletableFuture<R>
+        <R> CompletableFuture<R> submit(final Function<? super Map<K, V>, ? extends R> function) {
+            if (Thread.currentThread() != this.owner) {
+                return this.send(function);
+            }
+
+            try {
+                return CompletableFuture.completedFuture(function.apply(this.map));
+            } catch (final RuntimeException | Error e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+
+        /// Sends the function to the mailbox.
+        ///
+        /// @param  <R>         The type of result
+        /// @param  function    java.util.function.Function<? super java.util.Map<K,V>,? extends R>
+        /// @return             java.util.concurrent.CompletableFuture<R>
+        <R> CompletableFuture<R> send(final Function<? super Map<K, V>, ? extends R> function) {
+            if (this.stopped) {
+                throw new IllegalStateException("The map is closed");
+            }
+
+            final CompletableFuture<R> future = new CompletableFuture<>();
+            final Runnable command = () -> {
+                try {
+                    future.complete(function.apply(this.map));
+                } catch (final RuntimeException | Error e) {
+                    future.completeExceptionally(e);
+                }
+            };
+
+            this.mailbox.add(command);
+
+            // If the map stopped in between, the owner may have found the mailbox empty
+            // and returned; a command it will never run is taken back
+
+            if (this.stopped && this.mailbox.remove(command)) {
+                throw new IllegalStateException("The map is closed");
+            }
+
+            if (this.sleeping) {
+                LockSupport.unpark(this.owner);
+            }
+
+            return future;
+        }
+
+        /// Asks the owner thread to stop.
+        void stop() {
+            this.stopped = true;
+
+            LockSupport.unpark(this.owner);
+        }
+
+        /// The owner loop; runs commands until stopped and drained.
+        private void run() {
+            OWNED.set(this.identity);
+
+            for (;;) {
+                final Runnable command = this.mailbox.poll();
+
+                if (command != null) {
+                    command.run();
+                } else if (this.stopped) {
+                    return;
+                } else {
+                    this.sleeping = true;
+
+                    if (this.mailbox.isEmpty() && !this.stopped) {
+                        LockSupport.park(this);
+                    }
+
+                    this.sleeping = false;
+                }
+            }
+        }
+    }
+
+    /// The entry set view.
+    private final class EntrySet extends AbstractSet<Map.Entry<K, V>> {
+        /// The default constructor.
+        EntrySet() {
+            super();
+        }
+
+        /// Returns an iterator over a gathered snapshot.
+        @Override
+        public Iterator<Map.Entry<K, V>> iterator() {
+            final List<Map.Entry<K, V>> entries = new ArrayList<>();
+
+            for (final List<Map.Entry<K, V>> shardEntries : ShardedMap.this.scatterGather(EntrySet::copy)) {
+                entries.addAll(shardEntries);
+            }
+
+            final Iterator<Map.Entry<K, V>> iterator = entries.iterator();
+
+            return new Iterator<>() {
+                /// The last entry returned or null.
+                private Map.Entry<K, V> last;
+
+                /// Returns true if there are more elements.
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                /// Returns the next element.
+                @Override
+                public Map.Entry<K, V> next() {
+                    this.last = iterator.next();
+
+                    return this.last;
+                }
+
+                /// Removes the key of the last element from the map.
+                @Override
+                public void remove() {
+                    if (this.last == null) {
+                        throw new IllegalStateException();
+                    }
+
+                    ShardedMap.this.remove(this.last.getKey());
+
+                    this.last = null;
+                }
+            };
+        }
+
+        /// Returns the number of elements.
+        @Override
+        public int size() {
+            return ShardedMap.this.size();
+        }
+
+        /// Removes all the elements.
+        @Override
+        public void clear() {
+            ShardedMap.this.clear();
+        }
+
+        /// Copies the entries of a shard.
+        ///
+        /// @param  <K>     The type of key
+        /// @param  <V>     The type of value
+        /// @param  map     java.util.Map<K,V>
+        /// @return         java.util.List<java.util.Map.Entry<K,V>>
+        private static <K, V> List<Map.Entry<K, V>> copy(final Map<K, V> map) {
+            final List<Map.Entry<K, V>> entries = new ArrayList<>(map.size());
+
+            for (final Map.Entry<K, V> entry : map.entrySet()) {
+                entries.add(new AbstractMap.SimpleImmutableEntry<>(entry));
+            }
+
+            return entries;
+        }
+    }
+}
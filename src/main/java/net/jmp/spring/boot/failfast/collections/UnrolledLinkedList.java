@@ -0,0 +1,479 @@
+package net.jmp.spring.boot.failfast.collections;
+
+/*
+ * (#)UnrolledLinkedList.java   0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.*;
+
+/// A doubly linked list whose nodes each hold a small array of
+/// elements. Walking the list touches one node per chunk instead
+/// of one node per element, and the list iterator inserts and
+/// removes in amortised constant time by shifting at most one
+/// chunk, splitting a full chunk and merging sparse neighbours.
+///
+/// The iterators are fail fast like those of
+/// {@link java.util.LinkedList}; a structural modification not
+/// made through the iterator causes the next call to throw a
+/// {@link ConcurrentModificationException}. Not thread-safe.
+///
+/// @param  <E> The type of element
+/// @version    0.1.0
+/// @since      0.1.0
+public class UnrolledLinkedList<E> extends AbstractSequentialList<E> {
+    /// The default number of elements per chunk.
+    public static final int DEFAULT_CHUNK_CAPACITY = 64;
+
+    /// The number of elements per chunk.
+    private final int chunkCapacity;
+
+    /// The first node; never null.
+    private Node<E> head;
+
+    /// The last node; never null.
+    private Node<E> tail;
+
+    /// The number of elements.
+    private int size;
+
+    /// The default constructor.
+    public UnrolledLinkedList() {
+        this(DEFAULT_CHUNK_CAPACITY);
+    }
+
+    /// A constructor that takes the number of elements per chunk.
+    ///
+    /// @param  chunkCapacity   int
+    public UnrolledLinkedList(final int chunkCapacity) {
+        super();
+
+        if (chunkCapacity < 4) {
+            throw new IllegalArgumentException("Chunk capacity must be at least 4: " + chunkCapacity);
+        }
+
+        this.chunkCapacity = chunkCapacity;
+        this.head = new Node<>(chunkCapacity);
+        this.tail = this.head;
+    }
+
+    /// A constructor that copies a collection.
+    ///
+    /// @param  collection  java.util.Collection<? extends E>
+    public UnrolledLinkedList(final Collection<? extends E> collection) {
+        this(DEFAULT_CHUNK_CAPACITY);
+
+        this.addAll(collection);
+    }
+
+    /// Returns the number of elements.
+    ///
+    /// @return int
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /// Appends the element.
+    ///
+    /// @param  element E
+    /// @return         boolean
+    @Override
+    public boolean add(final E element) {
+        Node<E> node = this.tail;
+
+        if (node.count == this.chunkCapacity) {
+            node = this.linkAfter(node, new Node<>(this.chunkCapacity));
+        }
+
+        node.elements[node.count++] = element;
+
+        this.size++;
+        this.modCount++;
+
+        return true;
+    }
+
+    /// Returns the element at the index.
+    ///
+    /// @param  index   int
+    /// @return         E
+    @Override
+    public E get(final int index) {
+        Objects.checkIndex(index, this.size);
+
+        int offset = index;
+        Node<E> node = this.head;
+
+        while (offset >= node.count) {
+            offset -= node.count;
+            node = node.next;
+        }
+
+        return node.element(offset);
+    }
+
+    /// Removes all the elements.
+    @Override
+    public void clear() {
+        this.head = new Node<>(this.chunkCapacity);
+        this.tail = this.head;
+        this.size = 0;
+        this.modCount++;
+    }
+
+    /// Returns a fail fast list iterator that starts at the index.
+    ///
+    /// @param  index   int
+    /// @return         java.util.ListIterator<E>
+    @Override
+    public ListIterator<E> listIterator(final int index) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+        }
+
+        return new ChunkIterator(index);
+    }
+
+    /// Links the new node after the given one.
+    ///
+    /// @param  node    net.jmp.spring.boot.failfast.collections.UnrolledLinkedList.Node<E>
+    /// @param  newNode net.jmp.spring.boot.failfast.collections.UnrolledLinkedList.Node<E>
+    /// @return         net.jmp.spring.boot.failfast.collections.UnrolledLinkedList.Node<E>
+    private Node<E> linkAfter(final Node<E> node, final Node<E> newNode) {
+        newNode.prev = node;
+        newNode.next = node.next;
+
+        if (node.next == null) {
+            this.tail = newNode;
+        } else {
+            node.next.prev = newNode;
+        }
+
+        node.next = newNode;
+
+        return newNode;
+    }
+
+    /// Unlinks the node; it must not be the only node.
+    ///
+    /// @param  node    net.jmp.spring.boot.failfast.collections.UnrolledLinkedList.Node<E>
+    private void unlink(final Node<E> node) {
+        if (node.prev == null) {
+            this.head = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+
+        if (node.next == null) {
+            this.tail = node.prev;
+        } else {
+            node.next.prev = node.prev;
+        }
+
+        node.prev = null;
+        node.next = null;
+    }
+
+    /// A node holding a chunk of elements.
+    ///
+    /// @param  <E> The type of element
+    private static final class Node<E> {
+        /// The elements; only the first count are used.
+        private final Object[] elements;
+
+        /// The number of elements.
+        private int count;
+
+        /// The previous node.
+        private Node<E> prev;
+
+        /// The next node.
+        private Node<E> next;
+
+        /// The constructor.
+        ///
+        /// @param  capacity    int
+        Node(final int capacity) {
+            super();
+
+            this.elements = new Object[capacity];
+        }
+
+        /// Returns the element at the offset.
+        ///
+        /// @param  offset  int
+        /// @return         E
+        @SuppressWarnings("unchecked")
+        E element(final int offset) {
+            return (E) this.elements[offset];
+        }
+    }
+
+    /// The list iterator. The cursor is a node and the offset
+    /// of the next element in it; the offset may equal the node
+    /// count when the cursor sits at the end of a chunk.
+    private final class ChunkIterator implements ListIterator<E> {
+        /// The node of the cursor.
+        private Node<E> node;
+
+        /// The offset of the cursor in the node.
+        private int offset;
+
+        /// The index of the element returned by next.
+        private int nextIndex;
+
+        /// The node of the last element returned or null.
+        private Node<E> lastNode;
+
+        /// The offset of the last element returned.
+        private int lastOffset;
+
+        /// True if the last element was returned by next.
+        private boolean lastWasNext;
+
+        /// The modification count the iterator expects.
+        private int expectedModCount = UnrolledLinkedList.this.modCount;
+
+        /// The constructor.
+        ///
+        /// @param  index   int
+        ChunkIterator(final int index) {
+            super();
+
+            Node<E> current = UnrolledLinkedList.this.head;
+            int remaining = index;
+
+            while (remaining > current.count && current.next != null) {
+                remaining -= current.count;
+                current = current.next;
+            }
+
+            this.node = current;
+            this.offset = remaining;
+            this.nextIndex = index;
+        }
+
+        /// Returns true if there are more elements.
+        @Override
+        public boolean hasNext() {
+            return this.nextIndex < UnrolledLinkedList.this.size;
+        }
+
+        /// Returns the next element.
+        @Override
+        public E next() {
+            this.checkForComodification();
+
+            if (this.nextIndex >= UnrolledLinkedList.this.size) {
+                throw new NoSuchElementException();
+            }
+
+            while (this.offset >= this.node.count) {
+                this.node = this.node.next;
+                this.offset = 0;
+            }
+
+            this.lastNode = this.node;
+            this.lastOffset = this.offset;
+            this.lastWasNext = true;
+            this.offset++;
+            this.nextIndex++;
+
+            return this.lastNode.element(this.lastOffset);
+        }
+
+        /// Returns true if there are previous elements.
+        @Override
+        public boolean hasPrevious() {
+            return this.nextIndex > 0;
+        }
+
+        /// Returns the previous element.
+        @Override
+        public E previous() {
+            this.checkForComodification();
+
+            if (this.nextIndex <= 0) {
+                throw new NoSuchElementException();
+            }
+
+            while (this.offset == 0) {
+                this.node = this.node.prev;
+                this.offset = this.node.count;
+            }
+
+            this.offset--;
+            this.nextIndex--;
+            this.lastNode = this.node;
+            this.lastOffset = this.offset;
+            this.lastWasNext = false;
+
+            return this.lastNode.element(this.lastOffset);
+        }
+
+        /// Returns the index of the element returned by next.
+        @Override
+        public int nextIndex() {
+            return this.nextIndex;
+        }
+
+        /// Returns the index of the element returned by previous.
+        @Override
+        public int previousIndex() {
+            return this.nextIndex - 1;
+        }
+
+        /// Removes the last element returned.
+        @Override
+        public void remove() {
+            if (this.lastNode == null) {
+                throw new IllegalStateException();
+            }
+
+            this.checkForComodification();
+
+            final Node<E> removedFrom = this.lastNode;
+            final int at = this.lastOffset;
+
+            System.arraycopy(removedFrom.elements, at + 1, removedFrom.elements, at, removedFrom.count - at - 1);
+
+            removedFrom.elements[--removedFrom.count] = null;
+
+            if (this.lastWasNext) {
+                this.offset--;      // The cursor is in the same node just after the removed element
+                this.nextIndex--;
+            }
+
+            this.lastNode = null;
+            this.compact(removedFrom);
+
+            UnrolledLinkedList.this.size--;
+            this.expectedModCount = ++UnrolledLinkedList.this.modCount;
+        }
+
+        /// Replaces the last element returned.
+        ///
+        /// @param  element E
+        @Override
+        public void set(final E element) {
+            if (this.lastNode == null) {
+                throw new IllegalStateException();
+            }
+
+            this.checkForComodification();
+
+            this.lastNode.elements[this.lastOffset] = element;
+        }
+
+        /// Inserts the element before the cursor.
+        ///
+        /// @param  element E
+        @Override
+        public void add(final E element) {
+            this.checkForComodification();
+
+            Node<E> target = this.node;
+            int at = this.offset;
+
+            if (target.count == UnrolledLinkedList.this.chunkCapacity) {
+                final int half = target.count / 2;
+                final Node<E> upper = UnrolledLinkedList.this.linkAfter(target, new Node<>(UnrolledLinkedList.this.chunkCapacity));
+
+                upper.count = target.count - half;
+
+                System.arraycopy(target.elements, half, upper.elements, 0, upper.count);
+                Arrays.fill(target.elements, half, target.count, null);
+
+                target.count = half;
+
+                if (at > half) {
+                    target = upper;
+                    at -= half;
+                }
+            }
+
+            System.arraycopy(target.elements, at, target.elements, at + 1, target.count - at);
+
+            target.elements[at] = element;
+            target.count++;
+
+            this.node = target;
+            this.offset = at + 1;
+            this.nextIndex++;
+            this.lastNode = null;
+
+            UnrolledLinkedList.this.size++;
+            this.expectedModCount = ++UnrolledLinkedList.this.modCount;
+        }
+
+        /// Unlinks the node if it became empty or merges its
+        /// successor into it if both are at most half full,
+        /// keeping the cursor on the same element.
+        ///
+        /// @param  target  net.jmp.spring.boot.failfast.collections.UnrolledLinkedList.Node<E>
+        private void compact(final Node<E> target) {
+            final Node<E> successor = target.next;
+
+            if (target.count == 0 && (target.prev != null || successor != null)) {
+                final Node<E> predecessor = target.prev;
+
+                UnrolledLinkedList.this.unlink(target);
+
+                if (this.node == target) {
+                    if (successor != null) {
+                        this.node = successor;
+                        this.offset = 0;
+                    } else {
+                        this.node = predecessor;
+                        this.offset = predecessor.count;
+                    }
+                }
+            } else if (successor != null && target.count + successor.count <= UnrolledLinkedList.this.chunkCapacity / 2) {
+                final int shift = target.count;
+
+                System.arraycopy(successor.elements, 0, target.elements, shift, successor.count);
+
+                target.count += successor.count;
+
+                UnrolledLinkedList.this.unlink(successor);
+
+                if (this.node == successor) {
+                    this.node = target;
+                    this.offset += shift;
+                }
+            }
+        }
+
+        /// Throws if the list was structurally modified
+        /// other than through this iterator.
+        private void checkForComodification() {
+            if (UnrolledLinkedList.this.modCount != this.expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
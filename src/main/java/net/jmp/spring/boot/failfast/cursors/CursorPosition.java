@@ -0,0 +1,51 @@
+package net.jmp.spring.boot.failfast.cursors;
+
+/*
+ * (#)CursorPosition.java   0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.Serializable;
+
+/// The serializable position of a resumable cursor. For a list
+/// the index is the index of the next element; for a hash table
+/// it is the bucket and the offset is the number of entries of
+/// the bucket already returned.
+///
+/// @param  version     long
+/// @param  index       int
+/// @param  offset      int
+/// @param  capacity    int
+/// @version    0.1.0
+/// @since      0.1.0
+public record CursorPosition(long version, int index, int offset, int capacity) implements Serializable {
+    /// The compact constructor.
+    public CursorPosition {
+        if (index < 0 || offset < 0 || capacity < 0) {
+            throw new IllegalArgumentException("Position components must not be negative");
+        }
+    }
+}
@@ -0,0 +1,280 @@
+package net.jmp.spring.boot.failfast.cursors;
+
+/*
+ * (#)OptimisticReader.java 0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.lang.invoke.VarHandle;
+
+import java.util.*;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import java.util.concurrent.locks.LockSupport;
+
+import java.util.function.Function;
+
+/// Reads a versioned collection optimistically instead of
+/// failing fast. A read records the version stamp, walks the
+/// live collection with its own iterator and processes each
+/// element into a local buffer, validating the stamp after
+/// every chunk of elements and at the end. If the stamp changed,
+/// or the walk failed with a {@link ConcurrentModificationException},
+/// the attempt is abandoned at that chunk and the read is
+/// retried after a backoff that doubles up to the maximum of the
+/// retry policy. A read that exhausts its retries makes one
+/// last walk holding the {@linkplain Versioned#mutex() mutex} of
+/// the collection, which excludes the writers that synchronize
+/// on it, and returns what that walk read.
+///
+/// The collection itself is never copied, only the results of
+/// processing its elements, and a read under light write load
+/// completes in one or a few attempts. An iterator releases each
+/// element of its buffer as it returns it. Other exceptions thrown
+/// while walking a collection that a writer is changing are
+/// treated as failed attempts as well, like those of an
+/// optimistic read of a {@link java.util.concurrent.locks.StampedLock};
+/// they are rethrown only if the stamp is still valid. The
+/// versioned collections keep plain modification counts, so
+/// validation against a writer on another thread is best effort;
+/// within one thread, as in the services, it is exact.
+///
+/// @version    0.1.0
+/// @since      0.1.0
+public final class OptimisticReader {
+    /// The number of elements walked between validations.
+    private static final int CHUNK_SIZE = 256;
+
+    /// The retry policy.
+    private final RetryPolicy policy;
+
+    /// The number of reads.
+    private final LongAdder reads = new LongAdder();
+
+    /// The number of retries.
+    private final LongAdder retries = new LongAdder();
+
+    /// The number of reads that exhausted their retries
+    /// and were read holding the mutex.
+    private final LongAdder lockedReads = new LongAdder();
+
+    /// The default constructor.
+    public OptimisticReader() {
+        this(RetryPolicy.DEFAULT);
+    }
+
+    /// A constructor that takes the retry policy.
+    ///
+    /// @param  policy  net.jmp.spring.boot.failfast.cursors.RetryPolicy
+    public OptimisticReader(final RetryPolicy policy) {
+        super();
+
+        this.policy = Objects.requireNonNull(policy, "policy");
+    }
+
+    /// Returns an iterator over a buffer of the elements of a
+    /// consistent version of the collection. Modifying the
+    /// collection while using the iterator does not affect it.
+    ///
+    /// @param  <E>         The type of element
+    /// @param  <C>         The type of versioned collection
+    /// @param  collection  C
+    /// @return             java.util.Iterator<E>
+    public <E, C extends Iterable<E> & Versioned> Iterator<E> iterator(final C collection) {
+        return this.iterator(collection, collection);
+    }
+
+    /// Returns an iterator over a buffer of the elements of a
+    /// view, such as the entry set of a versioned map, taken
+    /// from a consistent version of its collection.
+    ///
+    /// @param  <E>         The type of element
+    /// @param  versioned   net.jmp.spring.boot.failfast.cursors.Versioned
+    /// @param  elements    java.lang.Iterable<E>
+    /// @return             java.util.Iterator<E>
+    public <E> Iterator<E> iterator(final Versioned versioned, final Iterable<E> elements) {
+        return new Draining<>(this.read(versioned, elements, Function.identity()));
+    }
+
+    /// Processes the elements of a view of a consistent version
+    /// of the collection with the mapper and returns the results
+    /// in encounter order. The mapper may run more than once for
+    /// an element, may run holding the mutex of the collection
+    /// and must not modify the collection.
+    ///
+    /// @param  <E>         The type of element
+    /// @param  <R>         The type of result
+    /// @param  versioned   net.jmp.spring.boot.failfast.cursors.Versioned
+    /// @param  elements    java.lang.Iterable<E>
+    /// @param  mapper      java.util.function.Function<? super E,? extends R>
+    /// @return             java.util.List<R>
+    public <E, R> List<R> read(final Versioned versioned,
+                               final Iterable<E> elements,
+                               final Function<? super E, ? extends R> mapper) {
+        Objects.requireNonNull(versioned, "versioned");
+        Objects.requireNonNull(elements, "elements");
+        Objects.requireNonNull(mapper, "mapper");
+
+        this.reads.increment();
+
+        final List<R> buffer = elements instanceof Collection<?> collection
+                ? new ArrayList<>(collection.size())
+                : new ArrayList<>();
+
+        for (int attempt = 0; attempt <= this.policy.maxRetries(); attempt++) {
+            if (attempt > 0) {
+                this.retries.increment();
+
+                LockSupport.parkNanos(this.policy.backoffNanos(attempt));
+
+                buffer.clear();
+            }
+
+            final long stamp = versioned.version();
+
+            boolean valid = true;
+
+            try {
+                int walked = 0;
+
+                for (final E element : elements) {
+                    buffer.add(mapper.apply(element));
+
+                    if (++walked % CHUNK_SIZE == 0 && !isValid(versioned, stamp)) {
+                        valid = false;
+
+                        break;
+                    }
+                }
+            } catch (final ConcurrentModificationException _) {
+                valid = false;
+            } catch (final RuntimeException e) {
+                if (isValid(versioned, stamp)) {
+                    throw e;
+                }
+
+                valid = false;
+            }
+
+            if (valid && isValid(versioned, stamp)) {
+                return buffer;
+            }
+        }
+
+        this.lockedReads.increment();
+
+        buffer.clear();
+
+        synchronized (versioned.mutex()) {
+            for (final E element : elements) {
+                buffer.add(mapper.apply(element));
+            }
+        }
+
+        return buffer;
+    }
+
+    /// Returns the retry policy.
+    ///
+    /// @return net.jmp.spring.boot.failfast.cursors.RetryPolicy
+    public RetryPolicy policy() {
+        return this.policy;
+    }
+
+    /// Returns the number of reads.
+    ///
+    /// @return long
+    public long reads() {
+        return this.reads.sum();
+    }
+
+    /// Returns the number of retries.
+    ///
+    /// @return long
+    public long retries() {
+        return this.retries.sum();
+    }
+
+    /// Returns the number of reads that exhausted their
+    /// retries and were read holding the mutex.
+    ///
+    /// @return long
+    public long lockedReads() {
+        return this.lockedReads.sum();
+    }
+
+    /// Returns true if the collection is still at the version
+    /// of the stamp. The fence keeps the reads of the elements
+    /// from being reordered after the read of the version.
+    ///
+    /// @param  versioned   net.jmp.spring.boot.failfast.cursors.Versioned
+    /// @param  stamp       long
+    /// @return             boolean
+    private static boolean isValid(final Versioned versioned, final long stamp) {
+        VarHandle.acquireFence();
+
+        return versioned.version() == stamp;
+    }
+
+    /// An iterator over a buffer that clears each slot as
+    /// it returns the element, so that the buffer holds only
+    /// the elements not yet returned.
+    ///
+    /// @param  <E> The type of element
+    private static final class Draining<E> implements Iterator<E> {
+        /// The buffer.
+        private final List<E> buffer;
+
+        /// The index of the next element.
+        private int index;
+
+        /// A constructor that takes the buffer.
+        ///
+        /// @param  buffer  java.util.List<E>
+        Draining(final List<E> buffer) {
+            super();
+
+            this.buffer = buffer;
+        }
+
+        /// Returns true if there are more elements.
+        @Override
+        public boolean hasNext() {
+            return this.index < this.buffer.size();
+        }
+
+        /// Returns the next element.
+        @Override
+        public E next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            return this.buffer.set(this.index++, null);
+        }
+    }
+}
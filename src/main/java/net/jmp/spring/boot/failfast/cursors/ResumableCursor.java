@@ -0,0 +1,92 @@
+package net.jmp.spring.boot.failfast.cursors;
+
+/*
+ * (#)ResumableCursor.java  0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Iterator;
+
+import java.util.function.Consumer;
+
+/// An iterator whose position can be checkpointed and later
+/// resumed, possibly after the collection was modified. Unlike
+/// a fail fast iterator a cursor never throws a
+/// {@link java.util.ConcurrentModificationException}; when the
+/// version stamp of the collection changes the cursor stops and
+/// reports itself invalidated so the scan can be checkpointed
+/// and resumed from a new cursor.
+///
+/// @param  <E> The type of element
+/// @version    0.1.0
+/// @since      0.1.0
+public interface ResumableCursor<E> extends Iterator<E> {
+    /// Returns true if the collection was modified after
+    /// this cursor was created; the cursor has stopped.
+    ///
+    /// @return boolean
+    boolean isInvalidated();
+
+    /// Returns true if this cursor was resumed from a position
+    /// taken at a different version of the collection. Elements
+    /// near the position may then be missed or returned twice.
+    ///
+    /// @return boolean
+    boolean isResumedAfterModification();
+
+    /// Returns the position of the next element.
+    ///
+    /// @return net.jmp.spring.boot.failfast.cursors.CursorPosition
+    CursorPosition checkpoint();
+
+    /// Passes at most limit elements to the action and returns
+    /// the number passed; fewer means the scan is complete or
+    /// the cursor was invalidated. This is one time slice of a
+    /// long scan.
+    ///
+    /// @param  limit   int
+    /// @param  action  java.util.function.Consumer<? super E>
+    /// @return         int
+    default int advance(final int limit, final Consumer<? super E> action) {
+        int count = 0;
+
+        while (count < limit && this.hasNext()) {
+            action.accept(this.next());
+
+            count++;
+        }
+
+        return count;
+    }
+
+    /// Returns true if the scan reached the end
+    /// without being invalidated.
+    ///
+    /// @return boolean
+    default boolean isComplete() {
+        return !this.hasNext() && !this.isInvalidated();
+    }
+}
@@ -0,0 +1,78 @@
+package net.jmp.spring.boot.failfast.cursors;
+
+/*
+ * (#)RetryPolicy.java  0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.time.Duration;
+
+import java.util.Objects;
+
+/// The retries of an optimistic read: the number of retries
+/// after the first attempt and the backoff before each, which
+/// starts at the initial backoff and doubles up to the maximum.
+///
+/// @param  maxRetries      int
+/// @param  initialBackoff  java.time.Duration
+/// @param  maxBackoff      java.time.Duration
+/// @version    0.1.0
+/// @since      0.1.0
+public record RetryPolicy(int maxRetries, Duration initialBackoff, Duration maxBackoff) {
+    /// The default policy; eight retries backing off from 10 microseconds to 1 millisecond.
+    public static final RetryPolicy DEFAULT = new RetryPolicy(8, Duration.ofNanos(10_000), Duration.ofMillis(1));
+
+    /// The compact constructor.
+    public RetryPolicy {
+        Objects.requireNonNull(initialBackoff, "initialBackoff");
+        Objects.requireNonNull(maxBackoff, "maxBackoff");
+
+        if (maxRetries < 0) {
+            throw new IllegalArgumentException("Maximum retries must not be negative: " + maxRetries);
+        }
+
+        if (initialBackoff.isNegative() || maxBackoff.compareTo(initialBackoff) < 0) {
+            throw new IllegalArgumentException("Backoff must not be negative or exceed its maximum: " + initialBackoff + " > " + maxBackoff);
+        }
+    }
+
+    /// Returns the backoff in nanoseconds before the retry,
+    /// counting from one.
+    ///
+    /// @param  retry   int
+    /// @return         long
+    public long backoffNanos(final int retry) {
+        if (retry < 1) {
+            throw new IllegalArgumentException("Retry must be positive: " + retry);
+        }
+
+        final long initial = this.initialBackoff.toNanos();
+        final long maximum = this.maxBackoff.toNanos();
+        final int shift = Math.min(retry - 1, Long.numberOfLeadingZeros(Math.max(initial, 1)) - 1);
+
+        return Math.min(initial << shift, maximum);
+    }
+}
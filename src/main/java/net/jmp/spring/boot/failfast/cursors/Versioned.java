@@ -0,0 +1,51 @@
+package net.jmp.spring.boot.failfast.cursors;
+
+/*
+ * (#)Versioned.java    0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/// Implemented by collections that expose a version stamp
+/// that changes on every structural modification.
+///
+/// @version    0.1.0
+/// @since      0.1.0
+public interface Versioned {
+    /// Returns the version stamp.
+    ///
+    /// @return long
+    long version();
+
+    /// Returns the object that writers sharing the collection
+    /// across threads synchronize on, and that a reader locks
+    /// when it can no longer read the collection optimistically.
+    /// It is the collection itself unless overridden.
+    ///
+    /// @return java.lang.Object
+    default Object mutex() {
+        return this;
+    }
+}
@@ -0,0 +1,136 @@
+package net.jmp.spring.boot.failfast.cursors;
+
+/*
+ * (#)VersionedArrayList.java   0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.NoSuchElementException;
+
+/// An array list that exposes its modification count as a
+/// version stamp and supports resumable cursors positioned
+/// by index. The fail fast iterators are unchanged.
+///
+/// @param  <E> The type of element
+/// @version    0.1.0
+/// @since      0.1.0
+public class VersionedArrayList<E> extends ArrayList<E> implements Versioned {
+    /// The default constructor.
+    public VersionedArrayList() {
+        super();
+    }
+
+    /// A constructor that copies a collection.
+    ///
+    /// @param  collection  java.util.Collection<? extends E>
+    public VersionedArrayList(final Collection<? extends E> collection) {
+        super(collection);
+    }
+
+    /// Returns the version stamp.
+    ///
+    /// @return long
+    @Override
+    public long version() {
+        return this.modCount;
+    }
+
+    /// Returns a cursor positioned at the first element.
+    ///
+    /// @return net.jmp.spring.boot.failfast.cursors.ResumableCursor<E>
+    public ResumableCursor<E> cursor() {
+        return new IndexCursor(0, false);
+    }
+
+    /// Returns a cursor resumed at the position. If the list
+    /// was modified since the position was taken the cursor
+    /// continues from the same index.
+    ///
+    /// @param  position    net.jmp.spring.boot.failfast.cursors.CursorPosition
+    /// @return             net.jmp.spring.boot.failfast.cursors.ResumableCursor<E>
+    public ResumableCursor<E> cursor(final CursorPosition position) {
+        return new IndexCursor(Math.min(position.index(), this.size()), position.version() != this.version());
+    }
+
+    /// The cursor.
+    private final class IndexCursor implements ResumableCursor<E> {
+        /// The version at creation.
+        private final long version = VersionedArrayList.this.version();
+
+        /// True if resumed from a position of another version.
+        private final boolean resumedAfterModification;
+
+        /// The index of the next element.
+        private int index;
+
+        /// The constructor.
+        ///
+        /// @param  index                       int
+        /// @param  resumedAfterModification    boolean
+        IndexCursor(final int index, final boolean resumedAfterModification) {
+            super();
+
+            this.index = index;
+            this.resumedAfterModification = resumedAfterModification;
+        }
+
+        /// Returns true if there are more elements.
+        @Override
+        public boolean hasNext() {
+            return !this.isInvalidated() && this.index < VersionedArrayList.this.size();
+        }
+
+        /// Returns the next element.
+        @Override
+        public E next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            return VersionedArrayList.this.get(this.index++);
+        }
+
+        /// Returns true if the list was modified.
+        @Override
+        public boolean isInvalidated() {
+            return this.version != VersionedArrayList.this.version();
+        }
+
+        /// Returns true if resumed after a modification.
+        @Override
+        public boolean isResumedAfterModification() {
+            return this.resumedAfterModification;
+        }
+
+        /// Returns the position of the next element.
+        @Override
+        public CursorPosition checkpoint() {
+            return new CursorPosition(this.version, this.index, 0, 0);
+        }
+    }
+}
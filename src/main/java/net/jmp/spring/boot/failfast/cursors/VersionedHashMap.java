@@ -0,0 +1,661 @@
+package net.jmp.spring.boot.failfast.cursors;
+
+/*
+ * (#)VersionedHashMap.java 0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.*;
+
+/// A chained hash map that exposes its modification count as
+/// a version stamp and supports resumable cursors positioned by
+/// table bucket. Entries never move between buckets except when
+/// the table doubles, and a bucket of the old table maps onto
+/// the buckets of the new one with the same low bits, so a
+/// cursor resumed after modification still skips every bucket
+/// it already finished. The entry set iterators are fail fast.
+/// Not thread-safe.
+///
+/// @param  <K> The type of key
+/// @param  <V> The type of value
+/// @version    0.1.0
+/// @since      0.1.0
+public class VersionedHashMap<K, V> extends AbstractMap<K, V> implements Versioned {
+    /// The default table capacity.
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /// The maximum table capacity.
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    /// The load factor.
+    private static final float LOAD_FACTOR = 0.75f;
+
+    /// The table; its length is a power of two.
+    private Node<K, V>[] table;
+
+    /// The number of entries.
+    private int size;
+
+    /// The number of structural modifications.
+    private long modCount;
+
+    /// The entry set view.
+    private EntrySet entrySet;
+
+    /// The default constructor.
+    public VersionedHashMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /// A constructor that takes the expected number of entries.
+    ///
+    /// @param  expectedSize    int
+    public VersionedHashMap(final int expectedSize) {
+        super();
+
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size must not be negative: " + expectedSize);
+        }
+
+        this.table = newTable(capacityFor(expectedSize));
+    }
+
+    /// Returns the version stamp.
+    ///
+    /// @return long
+    @Override
+    public long version() {
+        return this.modCount;
+    }
+
+    /// Returns the number of entries.
+    ///
+    /// @return int
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /// Returns the value mapped to the key or null.
+    ///
+    /// @param  key java.lang.Object
+    /// @return     V
+    @Override
+    public V get(final Object key) {
+        final Node<K, V> node = this.findNode(key);
+
+        return node == null ? null : node.value;
+    }
+
+    /// Returns true if the key is mapped.
+    ///
+    /// @param  key java.lang.Object
+    /// @return     boolean
+    @Override
+    public boolean containsKey(final Object key) {
+        return this.findNode(key) != null;
+    }
+
+    /// Maps the key to the value. Replacing the value
+    /// of a mapped key is not a structural modification.
+    ///
+    /// @param  key     K
+    /// @param  value   V
+    /// @return         V
+    @Override
+    public V put(final K key, final V value) {
+        final int hash = hash(key);
+        final int bucket = hash & (this.table.length - 1);
+
+        Node<K, V> last = null;
+
+        for (Node<K, V> node = this.table[bucket]; node != null; node = node.next) {
+            if (node.hash == hash && Objects.equals(node.key, key)) {
+                final V previous = node.value;
+
+                node.value = value;
+
+                return previous;
+            }
+
+            last = node;
+        }
+
+        final Node<K, V> node = new Node<>(hash, key, value);
+
+        if (last == null) {
+            this.table[bucket] = node;
+        } else {
+            last.next = node;   // Appended so a resumed cursor keeps its offset in the bucket
+        }
+
+        this.modCount++;
+
+        if (++this.size > this.table.length * LOAD_FACTOR) {
+            this.resize();
+        }
+
+        return null;
+    }
+
+    /// Removes the mapping for the key.
+    ///
+    /// @param  key java.lang.Object
+    /// @return     V
+    @Override
+    public V remove(final Object key) {
+        final Node<K, V> node = this.removeNode(key);
+
+        return node == null ? null : node.value;
+    }
+
+    /// Removes all the mappings; the table keeps its capacity.
+    @Override
+    public void clear() {
+        if (this.size > 0) {
+            Arrays.fill(this.table, null);
+
+            this.size = 0;
+            this.modCount++;
+        }
+    }
+
+    /// Returns the fail fast entry set view.
+    ///
+    /// @return java.util.Set<java.util.Map.Entry<K,V>>
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        if (this.entrySet == null) {
+            this.entrySet = new EntrySet();
+        }
+
+        return this.entrySet;
+    }
+
+    /// Returns a cursor positioned at the first entry.
+    ///
+    /// @return net.jmp.spring.boot.failfast.cursors.ResumableCursor<java.util.Map.Entry<K,V>>
+    public ResumableCursor<Map.Entry<K, V>> cursor() {
+        return new BucketCursor(null);
+    }
+
+    /// Returns a cursor resumed at the position. If the map was
+    /// modified since the position was taken the partly scanned
+    /// bucket is scanned again from its start.
+    ///
+    /// @param  position    net.jmp.spring.boot.failfast.cursors.CursorPosition
+    /// @return             net.jmp.spring.boot.failfast.cursors.ResumableCursor<java.util.Map.Entry<K,V>>
+    public ResumableCursor<Map.Entry<K, V>> cursor(final CursorPosition position) {
+        Objects.requireNonNull(position, "position");
+
+        if (position.capacity() == 0 || Integer.bitCount(position.capacity()) != 1 || position.capacity() > this.table.length) {
+            throw new IllegalArgumentException("The position is not from a cursor of this map: " + position);
+        }
+
+        return new BucketCursor(position);
+    }
+
+    /// Returns the node for the key or null.
+    ///
+    /// @param  key java.lang.Object
+    /// @return     net.jmp.spring.boot.failfast.cursors.VersionedHashMap.Node<K,V>
+    private Node<K, V> findNode(final Object key) {
+        final int hash = hash(key);
+
+        for (Node<K, V> node = this.table[hash & (this.table.length - 1)]; node != null; node = node.next) {
+            if (node.hash == hash && Objects.equals(node.key, key)) {
+                return node;
+            }
+        }
+
+        return null;
+    }
+
+    /// Unlinks and returns the node for the key or null.
+    ///
+    /// @param  key java.lang.Object
+    /// @return     net.jmp.spring.boot.failfast.cursors.VersionedHashMap.Node<K,V>
+    private Node<K, V> removeNode(final Object key) {
+        final int hash = hash(key);
+        final int bucket = hash & (this.table.length - 1);
+
+        Node<K, V> previous = null;
+
+        for (Node<K, V> node = this.table[bucket]; node != null; node = node.next) {
+            if (node.hash == hash && Objects.equals(node.key, key)) {
+                if (previous == null) {
+                    this.table[bucket] = node.next;
+                } else {
+                    previous.next = node.next;
+                }
+
+                this.size--;
+                this.modCount++;
+
+                return node;
+            }
+
+            previous = node;
+        }
+
+        return null;
+    }
+
+    /// Doubles the table, splitting each bucket into
+    /// the same bucket and the bucket one old capacity
+    /// higher while keeping the order of the entries.
+    private void resize() {
+        final Node<K, V>[] old = this.table;
+
+        if (old.length >= MAXIMUM_CAPACITY) {
+            return;
+        }
+
+        final Node<K, V>[] tab = newTable(old.length * 2);
+
+        for (int bucket = 0; bucket < old.length; bucket++) {
+            Node<K, V> lowHead = null;
+            Node<K, V> lowTail = null;
+            Node<K, V> highHead = null;
+            Node<K, V> highTail = null;
+
+            for (Node<K, V> node = old[bucket], next; node != null; node = next) {
+                next = node.next;
+                node.next = null;
+
+                if ((node.hash & old.length) == 0) {
+                    if (lowTail == null) {
+                        lowHead = node;
+                    } else {
+                        lowTail.next = node;
+                    }
+
+                    lowTail = node;
+                } else {
+                    if (highTail == null) {
+                        highHead = node;
+                    } else {
+                        highTail.next = node;
+                    }
+
+                    highTail = node;
+                }
+            }
+
+            tab[bucket] = lowHead;
+            tab[bucket + old.length] = highHead;
+        }
+
+        this.table = tab;
+    }
+
+    /// Returns the spread hash of the key.
+    ///
+    /// @param  key java.lang.Object
+    /// @return     int
+    private static int hash(final Object key) {
+        if (key == null) {
+            return 0;
+        }
+
+        final int hash = key.hashCode();
+
+        return hash ^ (hash >>> 16);
+    }
+
+    /// Returns the power of two table capacity for the expected number of entries.
+    ///
+    /// @param  expectedSize    int
+    /// @return                 int
+    private static int capacityFor(final int expectedSize) {
+        final long minimum = Math.max(DEFAULT_CAPACITY, (long) Math.ceil(expectedSize / LOAD_FACTOR));
+
+        if (minimum >= MAXIMUM_CAPACITY) {
+            return MAXIMUM_CAPACITY;
+        }
+
+        return Integer.highestOneBit((int) minimum - 1) << 1;
+    }
+
+    /// Returns a new table.
+    ///
+    /// @param  <K>         The type of key
+    /// @param  <V>         The type of value
+    /// @param  capacity    int
+    /// @return             net.jmp.spring.boot.failfast.cursors.VersionedHashMap.Node<K,V>[]
+    @SuppressWarnings("unchecked")
+    private static <K, V> Node<K, V>[] newTable(final int capacity) {
+        return (Node<K, V>[]) new Node<?, ?>[capacity];
+    }
+
+    /// An entry of a bucket chain.
+    ///
+    /// @param  <K> The type of key
+    /// @param  <V> The type of value
+    private static final class Node<K, V> implements Map.Entry<K, V> {
+        /// The spread hash.
+        private final int hash;
+
+        /// The key.
+        private final K key;
+
+        /// The value.
+        private V value;
+
+        /// The next node of the bucket.
+        private Node<K, V> next;
+
+        /// The constructor.
+        ///
+        /// @param  hash    int
+        /// @param  key     K
+        /// @param  value   V
+        Node(final int hash, final K key, final V value) {
+            super();
+
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+        }
+
+        /// Returns the key.
+        @Override
+        public K getKey() {
+            return this.key;
+        }
+
+        /// Returns the value.
+        @Override
+        public V getValue() {
+            return this.value;
+        }
+
+        /// Replaces the value.
+        @Override
+        public V setValue(final V value) {
+            final V previous = this.value;
+
+            this.value = value;
+
+            return previous;
+        }
+
+        /// Returns true if the objects are equal.
+        @Override
+        public boolean equals(final Object object) {
+            return object instanceof Map.Entry<?, ?> entry
+                    && Objects.equals(this.key, entry.getKey())
+                    && Objects.equals(this.value, entry.getValue());
+        }
+
+        /// Returns the hash code.
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(this.key) ^ Objects.hashCode(this.value);
+        }
+
+        /// Returns the string representation.
+        @Override
+        public String toString() {
+            return this.key + "=" + this.value;
+        }
+    }
+
+    /// The entry set view.
+    private final class EntrySet extends AbstractSet<Map.Entry<K, V>> {
+        /// The default constructor.
+        EntrySet() {
+            super();
+        }
+
+        /// Returns a fail fast iterator.
+        @Override
+        public Iterator<Map.Entry<K, V>> iterator() {
+            return new EntryIterator();
+        }
+
+        /// Returns the number of elements.
+        @Override
+        public int size() {
+            return VersionedHashMap.this.size;
+        }
+
+        /// Removes all the elements.
+        @Override
+        public void clear() {
+            VersionedHashMap.this.clear();
+        }
+    }
+
+    /// The fail fast entry iterator.
+    private final class EntryIterator implements Iterator<Map.Entry<K, V>> {
+        /// The table being iterated.
+        private final Node<K, V>[] tab = VersionedHashMap.this.table;
+
+        /// The modification count the iterator expects.
+        private long expectedModCount = VersionedHashMap.this.modCount;
+
+        /// The bucket of the next node.
+        private int bucket;
+
+        /// The next node or null.
+        private Node<K, V> next;
+
+        /// The last node returned or null.
+        private Node<K, V> last;
+
+        /// The default constructor.
+        EntryIterator() {
+            super();
+
+            this.seek(0);
+        }
+
+        /// Returns true if there are more elements.
+        @Override
+        public boolean hasNext() {
+            return this.next != null;
+        }
+
+        /// Returns the next element.
+        @Override
+        public Map.Entry<K, V> next() {
+            if (VersionedHashMap.this.modCount != this.expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+
+            if (this.next == null) {
+                throw new NoSuchElementException();
+            }
+
+            this.last = this.next;
+            this.next = this.next.next;
+
+            if (this.next == null) {
+                this.seek(this.bucket + 1);
+            }
+
+            return this.last;
+        }
+
+        /// Removes the last element returned.
+        @Override
+        public void remove() {
+            if (this.last == null) {
+                throw new IllegalStateException();
+            }
+
+            if (VersionedHashMap.this.modCount != this.expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+
+            VersionedHashMap.this.removeNode(this.last.key);
+
+            this.last = null;
+            this.expectedModCount = VersionedHashMap.this.modCount;
+        }
+
+        /// Moves to the first node at or after the bucket.
+        ///
+        /// @param  from    int
+        private void seek(final int from) {
+            for (this.bucket = from; this.bucket < this.tab.length; this.bucket++) {
+                if (this.tab[this.bucket] != null) {
+                    this.next = this.tab[this.bucket];
+
+                    return;
+                }
+            }
+        }
+    }
+
+    /// The resumable cursor.
+    private final class BucketCursor implements ResumableCursor<Map.Entry<K, V>> {
+        /// The table being scanned.
+        private final Node<K, V>[] tab = VersionedHashMap.this.table;
+
+        /// The version at creation.
+        private final long version = VersionedHashMap.this.modCount;
+
+        /// True if resumed from a position of another version.
+        private final boolean resumedAfterModification;
+
+        /// The capacity of the table the position was taken
+        /// from when smaller than the current one or zero.
+        private final int finishedCapacity;
+
+        /// The buckets below this one in the smaller table were finished.
+        private final int finishedBucket;
+
+        /// The bucket of the next node; the table length when done.
+        private int bucket;
+
+        /// The number of nodes of the bucket already returned.
+        private int offset;
+
+        /// The next node or null.
+        private Node<K, V> next;
+
+        /// The constructor.
+        ///
+        /// @param  position    net.jmp.spring.boot.failfast.cursors.CursorPosition
+        BucketCursor(final CursorPosition position) {
+            super();
+
+            if (position == null) {
+                this.resumedAfterModification = false;
+                this.finishedCapacity = 0;
+                this.finishedBucket = 0;
+                this.seek(0);
+            } else if (position.capacity() == this.tab.length) {
+                this.resumedAfterModification = position.version() != this.version;
+                this.finishedCapacity = 0;
+                this.finishedBucket = 0;
+                this.seek(position.index());
+
+                if (!this.resumedAfterModification && this.bucket == position.index()) {
+                    while (this.next != null && this.offset < position.offset()) {
+                        this.step();
+                    }
+                }
+            } else {
+                this.resumedAfterModification = true;   // The table has doubled since
+                this.finishedCapacity = position.capacity();
+                this.finishedBucket = position.index();
+                this.seek(0);
+            }
+        }
+
+        /// Returns true if there are more elements.
+        @Override
+        public boolean hasNext() {
+            return this.next != null && !this.isInvalidated();
+        }
+
+        /// Returns the next element.
+        @Override
+        public Map.Entry<K, V> next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            final Node<K, V> node = this.next;
+
+            this.step();
+
+            return node;
+        }
+
+        /// Returns true if the map was modified.
+        @Override
+        public boolean isInvalidated() {
+            return this.version != VersionedHashMap.this.modCount;
+        }
+
+        /// Returns true if resumed after a modification.
+        @Override
+        public boolean isResumedAfterModification() {
+            return this.resumedAfterModification;
+        }
+
+        /// Returns the position of the next element.
+        @Override
+        public CursorPosition checkpoint() {
+            return new CursorPosition(this.version, this.bucket, this.offset, this.tab.length);
+        }
+
+        /// Moves past the next node.
+        private void step() {
+            this.next = this.next.next;
+            this.offset++;
+
+            if (this.next == null) {
+                this.seek(this.bucket + 1);
+            }
+        }
+
+        /// Moves to the first node at or after the bucket,
+        /// skipping the buckets finished in a smaller table.
+        ///
+        /// @param  from    int
+        private void seek(final int from) {
+            this.offset = 0;
+
+            for (this.bucket = from; this.bucket < this.tab.length; this.bucket++) {
+                final boolean finished = this.finishedCapacity != 0
+                        && (this.bucket & (this.finishedCapacity - 1)) < this.finishedBucket;
+
+                if (!finished && this.tab[this.bucket] != null) {
+                    this.next = this.tab[this.bucket];
+
+                    return;
+                }
+            }
+
+            this.next = null;
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package net.jmp.spring.boot.failfast.cursors;
+
+/*
+ * (#)VersionedHashSet.java 0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+
+/// A hash set backed by a versioned hash map. It exposes the
+/// version stamp of the map and supports resumable cursors
+/// positioned by table bucket. The iterators are fail fast.
+///
+/// @param  <E> The type of element
+/// @version    0.1.0
+/// @since      0.1.0
+public class VersionedHashSet<E> extends AbstractSet<E> implements Versioned {
+    /// The backing map.
+    private final VersionedHashMap<E, Boolean> map;
+
+    /// The default constructor.
+    public VersionedHashSet() {
+        super();
+
+        this.map = new VersionedHashMap<>();
+    }
+
+    /// A constructor that copies a collection.
+    ///
+    /// @param  collection  java.util.Collection<? extends E>
+    public VersionedHashSet(final Collection<? extends E> collection) {
+        super();
+
+        this.map = new VersionedHashMap<>(collection.size());
+
+        this.addAll(collection);
+    }
+
+    /// Returns the version stamp.
+    ///
+    /// @return long
+    @Override
+    public long version() {
+        return this.map.version();
+    }
+
+    /// Returns the number of elements.
+    ///
+    /// @return int
+    @Override
+    public int size() {
+        return this.map.size();
+    }
+
+    /// Returns true if the element is present.
+    ///
+    /// @param  element java.lang.Object
+    /// @return         boolean
+    @Override
+    public boolean contains(final Object element) {
+        return this.map.containsKey(element);
+    }
+
+    /// Adds the element.
+    ///
+    /// @param  element E
+    /// @return         boolean
+    @Override
+    public boolean add(final E element) {
+        return this.map.put(element, Boolean.TRUE) == null;
+    }
+
+    /// Removes the element.
+    ///
+    /// @param  element java.lang.Object
+    /// @return         boolean
+    @Override
+    public boolean remove(final Object element) {
+        return this.map.remove(element) != null;
+    }
+
+    /// Removes all the elements.
+    @Override
+    public void clear() {
+        this.map.clear();
+    }
+
+    /// Returns a fail fast iterator.
+    ///
+    /// @return java.util.Iterator<E>
+    @Override
+    public Iterator<E> iterator() {
+        return this.map.keySet().iterator();
+    }
+
+    /// Returns a cursor positioned at the first element.
+    ///
+    /// @return net.jmp.spring.boot.failfast.cursors.ResumableCursor<E>
+    public ResumableCursor<E> cursor() {
+        return new KeyCursor<>(this.map.cursor());
+    }
+
+    /// Returns a cursor resumed at the position.
+    ///
+    /// @param  position    net.jmp.spring.boot.failfast.cursors.CursorPosition
+    /// @return             net.jmp.spring.boot.failfast.cursors.ResumableCursor<E>
+    public ResumableCursor<E> cursor(final CursorPosition position) {
+        return new KeyCursor<>(this.map.cursor(position));
+    }
+
+    /// A cursor over the keys of a map cursor.
+    ///
+    /// @param  <E> The type of element
+    private static final class KeyCursor<E> implements ResumableCursor<E> {
+        /// The map cursor.
+        private final ResumableCursor<Map.Entry<E, Boolean>> cursor;
+
+        /// The constructor.
+        ///
+        /// @param  cursor  net.jmp.spring.boot.failfast.cursors.ResumableCursor<java.util.Map.Entry<E,java.lang.Boolean>>
+        KeyCursor(final ResumableCursor<Map.Entry<E, Boolean>> cursor) {
+            super();
+
+            this.cursor = cursor;
+        }
+
+        /// Returns true if there are more elements.
+        @Override
+        public boolean hasNext() {
+            return this.cursor.hasNext();
+        }
+
+        /// Returns the next element.
+        @Override
+        public E next() {
+            return this.cursor.next().getKey();
+        }
+
+        /// Returns true if the set was modified.
+        @Override
+        public boolean isInvalidated() {
+            return this.cursor.isInvalidated();
+        }
+
+        /// Returns true if resumed after a modification.
+        @Override
+        public boolean isResumedAfterModification() {
+            return this.cursor.isResumedAfterModification();
+        }
+
+        /// Returns the position of the next element.
+        @Override
+        public CursorPosition checkpoint() {
+            return this.cursor.checkpoint();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package net.jmp.spring.boot.failfast.events;
+
+/*
+ * (#)ChangeEvent.java  0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/// A change to an observed collection. The version orders
+/// the changes made to one collection; changes published
+/// concurrently may arrive slightly out of version order.
+///
+/// @param  <K>         The type of key
+/// @param  <V>         The type of value
+/// @param  type        net.jmp.spring.boot.failfast.events.ChangeEvent.Type
+/// @param  key         K
+/// @param  oldValue    V
+/// @param  newValue    V
+/// @param  version     long
+/// @version            0.1.0
+/// @since              0.1.0
+public record ChangeEvent<K, V>(Type type, K key, V oldValue, V newValue, long version) {
+    /// The type of change.
+    public enum Type {
+        /// A key was added; there is no old value.
+        ADDED,
+
+        /// A key was removed; there is no new value.
+        REMOVED,
+
+        /// The value of a key was replaced.
+        REPLACED
+    }
+}
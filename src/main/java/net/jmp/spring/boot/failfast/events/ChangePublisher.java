@@ -0,0 +1,167 @@
+package net.jmp.spring.boot.failfast.events;
+
+/*
+ * (#)ChangePublisher.java  0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import java.util.function.Consumer;
+
+/// Publishes change events to subscribers in batches. Any number
+/// of threads publish into a lock-free multi-producer single-
+/// consumer queue. Once a batch worth of events is pending, or when
+/// {@link #flush()} is called, one thread at a time drains the
+/// queue and hands each batch to every subscriber in turn. A
+/// subscriber therefore sees the batches of one publisher one at
+/// a time and in queue order, and can keep a derived index up to
+/// date from the changes alone.
+///
+/// @param  <K> The type of key
+/// @param  <V> The type of value
+/// @version    0.1.0
+/// @since      0.1.0
+public final class ChangePublisher<K, V> {
+    /// The default number of events in a batch.
+    public static final int DEFAULT_BATCH_SIZE = 64;
+
+    /// The queue of events not yet delivered.
+    private final MpscQueue<ChangeEvent<K, V>> queue = new MpscQueue<>();
+
+    /// The subscribers.
+    private final List<Consumer<? super List<ChangeEvent<K, V>>>> subscribers = new CopyOnWriteArrayList<>();
+
+    /// True while a thread is draining the queue.
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    /// The number of events published and not yet drained.
+    private final AtomicInteger pending = new AtomicInteger();
+
+    /// The number of events in a batch.
+    private final int batchSize;
+
+    /// The default constructor.
+    public ChangePublisher() {
+        this(DEFAULT_BATCH_SIZE);
+    }
+
+    /// A constructor that takes the number of events in a batch.
+    ///
+    /// @param  batchSize   int
+    public ChangePublisher(final int batchSize) {
+        super();
+
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+        }
+
+        this.batchSize = batchSize;
+    }
+
+    /// Adds a subscriber.
+    ///
+    /// @param  subscriber  java.util.function.Consumer<? super java.util.List<net.jmp.spring.boot.failfast.events.ChangeEvent<K,V>>>
+    public void subscribe(final Consumer<? super List<ChangeEvent<K, V>>> subscriber) {
+        this.subscribers.add(Objects.requireNonNull(subscriber, "subscriber"));
+    }
+
+    /// Removes a subscriber.
+    ///
+    /// @param  subscriber  java.util.function.Consumer<? super java.util.List<net.jmp.spring.boot.failfast.events.ChangeEvent<K,V>>>
+    public void unsubscribe(final Consumer<? super List<ChangeEvent<K, V>>> subscriber) {
+        this.subscribers.remove(subscriber);
+    }
+
+    /// Publishes an event, delivering the pending
+    /// events when a batch worth has accumulated.
+    ///
+    /// @param  event   net.jmp.spring.boot.failfast.events.ChangeEvent<K,V>
+    public void publish(final ChangeEvent<K, V> event) {
+        this.queue.offer(event);
+
+        if (this.pending.incrementAndGet() >= this.batchSize) {
+            this.flush();
+        }
+    }
+
+    /// Delivers the pending events unless another thread is
+    /// already doing so. An exception thrown by a subscriber
+    /// is rethrown after the batch was offered to the others.
+    public void flush() {
+        while (!this.queue.isEmpty() && this.draining.compareAndSet(false, true)) {
+            try {
+                this.drain();
+            } finally {
+                this.draining.set(false);
+            }
+        }
+    }
+
+    /// Drains the queue batch by batch; called by one thread at a time.
+    private void drain() {
+        RuntimeException failure = null;
+
+        for (;;) {
+            final List<ChangeEvent<K, V>> batch = new ArrayList<>(this.batchSize);
+
+            for (ChangeEvent<K, V> event; batch.size() < this.batchSize && (event = this.queue.poll()) != null;) {
+                batch.add(event);
+            }
+
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            this.pending.addAndGet(-batch.size());
+
+            final List<ChangeEvent<K, V>> events = List.copyOf(batch);
+
+            for (final Consumer<? super List<ChangeEvent<K, V>>> subscriber : this.subscribers) {
+                try {
+                    subscriber.accept(events);
+                } catch (final RuntimeException e) {
+                    if (failure == null) {
+                        failure = e;
+                    } else {
+                        failure.addSuppressed(e);
+                    }
+                }
+            }
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package net.jmp.spring.boot.failfast.events;
+
+/*
+ * (#)MpscQueue.java    0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/// An unbounded lock-free multi-producer single-consumer queue.
+/// A producer swaps its node into the tail and then links it
+/// from its predecessor; the consumer follows the links from the
+/// head. Until a producer has linked its node the consumer sees
+/// the queue end before it, so an offer becomes visible a little
+/// after it returns. Only one thread at a time may poll.
+///
+/// @param  <T> The type of element
+/// @version    0.1.0
+/// @since      0.1.0
+public final class MpscQueue<T> {
+    /// The tail; written by producers.
+    private final AtomicReference<Node<T>> tail;
+
+    /// The head, whose next node holds the first element; consumer only.
+    private Node<T> head;
+
+    /// The default constructor.
+    public MpscQueue() {
+        super();
+
+        final Node<T> stub = new Node<>(null);
+
+        this.head = stub;
+        this.tail = new AtomicReference<>(stub);
+    }
+
+    /// Adds the element; may be called from any thread.
+    ///
+    /// @param  element T
+    public void offer(final T element) {
+        if (element == null) {
+            throw new NullPointerException("element");
+        }
+
+        final Node<T> node = new Node<>(element);
+        final Node<T> previous = this.tail.getAndSet(node);
+
+        previous.next = node;
+    }
+
+    /// Removes and returns the first element or
+    /// null; only called from the consumer.
+    ///
+    /// @return T
+    public T poll() {
+        final Node<T> next = this.head.next;
+
+        if (next == null) {
+            return null;
+        }
+
+        final T element = next.element;
+
+        next.element = null;
+        this.head = next;
+
+        return element;
+    }
+
+    /// Returns true if no element is visible to the consumer.
+    ///
+    /// @return boolean
+    public boolean isEmpty() {
+        return this.head.next == null;
+    }
+
+    /// A node.
+    ///
+    /// @param  <T> The type of element
+    private static final class Node<T> {
+        /// The element.
+        private T element;
+
+        /// The next node.
+        private volatile Node<T> next;
+
+        /// The constructor.
+        ///
+        /// @param  element T
+        Node(final T element) {
+            super();
+
+            this.element = element;
+        }
+    }
+}
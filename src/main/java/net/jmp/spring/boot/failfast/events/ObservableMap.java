@@ -0,0 +1,206 @@
+package net.jmp.spring.boot.failfast.events;
+
+/*
+ * (#)ObservableMap.java    0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.*;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import net.jmp.spring.boot.failfast.collections.ForwardingEntrySet;
+
+/// A map that publishes every change made through it, including
+/// through its views and their iterators, as a change event with
+/// the next version number. The iterators are those of the backing
+/// map and fail fast when it does; a change that succeeded before a
+/// {@link ConcurrentModificationException} is still published. A
+/// set can be observed as {@code Collections.newSetFromMap} of an
+/// observable map. Null values are not permitted.
+///
+/// @param  <K> The type of key
+/// @param  <V> The type of value
+/// @version    0.1.0
+/// @since      0.1.0
+public class ObservableMap<K, V> extends AbstractMap<K, V> {
+    /// The backing map.
+    private final Map<K, V> delegate;
+
+    /// The publisher.
+    private final ChangePublisher<K, V> publisher;
+
+    /// The version of the last change.
+    private final AtomicLong version = new AtomicLong();
+
+    /// The entry set view.
+    private Set<Map.Entry<K, V>> entrySet;
+
+    /// The default constructor; a hash map with its own publisher.
+    public ObservableMap() {
+        this(new HashMap<>(), new ChangePublisher<>());
+    }
+
+    /// A constructor that takes the backing map and the publisher.
+    ///
+    /// @param  delegate    java.util.Map<K,V>
+    /// @param  publisher   net.jmp.spring.boot.failfast.events.ChangePublisher<K,V>
+    public ObservableMap(final Map<K, V> delegate, final ChangePublisher<K, V> publisher) {
+        super();
+
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.publisher = Objects.requireNonNull(publisher, "publisher");
+    }
+
+    /// Returns the publisher.
+    ///
+    /// @return net.jmp.spring.boot.failfast.events.ChangePublisher<K,V>
+    public ChangePublisher<K, V> publisher() {
+        return this.publisher;
+    }
+
+    /// Returns the version of the last change.
+    ///
+    /// @return long
+    public long version() {
+        return this.version.get();
+    }
+
+    /// Returns the value mapped to the key or null.
+    ///
+    /// @param  key java.lang.Object
+    /// @return     V
+    @Override
+    public V get(final Object key) {
+        return this.delegate.get(key);
+    }
+
+    /// Returns true if the key is mapped.
+    ///
+    /// @param  key java.lang.Object
+    /// @return     boolean
+    @Override
+    public boolean containsKey(final Object key) {
+        return this.delegate.containsKey(key);
+    }
+
+    /// Returns the number of entries.
+    ///
+    /// @return int
+    @Override
+    public int size() {
+        return this.delegate.size();
+    }
+
+    /// Maps the key to the value.
+    ///
+    /// @param  key     K
+    /// @param  value   V
+    /// @return         V
+    @Override
+    public V put(final K key, final V value) {
+        Objects.requireNonNull(value, "value");
+
+        final V previous = this.delegate.put(key, value);
+
+        if (previous == null) {
+            this.publish(ChangeEvent.Type.ADDED, key, null, value);
+        } else if (!previous.equals(value)) {
+            this.publish(ChangeEvent.Type.REPLACED, key, previous, value);
+        }
+
+        return previous;
+    }
+
+    /// Removes the mapping for the key.
+    ///
+    /// @param  key java.lang.Object
+    /// @return     V
+    @Override
+    public V remove(final Object key) {
+        final V previous = this.delegate.remove(key);
+
+        if (previous != null) {
+            @SuppressWarnings("unchecked")
+            final K k = (K) key;
+
+            this.publish(ChangeEvent.Type.REMOVED, k, previous, null);
+        }
+
+        return previous;
+    }
+
+    /// Removes all the mappings, publishing a removal for each.
+    @Override
+    public void clear() {
+        for (final Map.Entry<K, V> entry : this.delegate.entrySet()) {
+            this.publish(ChangeEvent.Type.REMOVED, entry.getKey(), entry.getValue(), null);
+        }
+
+        this.delegate.clear();
+    }
+
+    /// Returns the entry set view.
+    ///
+    /// @return java.util.Set<java.util.Map.Entry<K,V>>
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        if (this.entrySet == null) {
+            this.entrySet = new ForwardingEntrySet<>(this,
+                    this.delegate.entrySet(),
+                    (key, value) -> this.publish(ChangeEvent.Type.REMOVED, key, value, null),
+                    this::setValue);
+        }
+
+        return this.entrySet;
+    }
+
+    /// Replaces the value of an entry of the backing map,
+    /// publishing the replacement if the value changed.
+    ///
+    /// @param  entry   java.util.Map.Entry<K,V>
+    /// @param  value   V
+    /// @return         V
+    private V setValue(final Map.Entry<K, V> entry, final V value) {
+        final V previous = entry.setValue(value);
+
+        if (!previous.equals(value)) {
+            this.publish(ChangeEvent.Type.REPLACED, entry.getKey(), previous, value);
+        }
+
+        return previous;
+    }
+
+    /// Publishes a change with the next version.
+    ///
+    /// @param  type        net.jmp.spring.boot.failfast.events.ChangeEvent.Type
+    /// @param  key         K
+    /// @param  oldValue    V
+    /// @param  newValue    V
+    private void publish(final ChangeEvent.Type type, final K key, final V oldValue, final V newValue) {
+        this.publisher.publish(new ChangeEvent<>(type, key, oldValue, newValue, this.version.incrementAndGet()));
+    }
+}
@@ -30,6 +30,8 @@ package net.jmp.spring.boot.failfast.functions;
 
 import java.util.function.Consumer;
 
+import net.jmp.spring.boot.failfast.stats.Counter;
+
 import org.slf4j.Logger;
 
 /// The list service class.
@@ -62,4 +64,18 @@ public final class Functions {
     public static Consumer<String> logError(final Logger logger) {
         return logger::error;
     }
+
+    /// Returns a consumer function that counts the error
+    /// and then logs the given value at the error level.
+    ///
+    /// @param  logger  org.slf4j.Logger
+    /// @param  counter net.jmp.spring.boot.failfast.stats.Counter
+    /// @return         java.util.function.Consumer<java.lang.String>
+    /// @since          0.1.0
+    public static Consumer<String> logError(final Logger logger, final Counter counter) {
+        return value -> {
+            counter.increment();
+            logger.error(value);
+        };
+    }
 }
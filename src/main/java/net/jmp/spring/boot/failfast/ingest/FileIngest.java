@@ -0,0 +1,357 @@
+package net.jmp.spring.boot.failfast.ingest;
+
+/*
+ * (#)FileIngest.java   0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.IOException;
+
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+
+import java.nio.channels.FileChannel;
+
+import java.nio.charset.StandardCharsets;
+
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import java.util.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/// Ingests newline delimited UTF-8 files. The file is cut into
+/// segments of about the segment size whose boundaries are moved
+/// forward to the next line start, so no line spans two segments.
+/// Each segment is memory mapped and split into lines by a worker
+/// on the executor, which scans the mapping in place; the lines are
+/// then handed over in file order on the calling thread. At most two
+/// segments per unit of parallelism are in flight at any time, and
+/// no segment is copied to the heap: only one line at a time is,
+/// into a buffer that grows to the longest line.
+///
+/// Lines can be delivered as raw bytes to a {@link LineSink},
+/// which lets an arena store them without creating strings, or
+/// decoded by the workers and added to a collection. A carriage
+/// return before a line feed is dropped, as is an empty last line.
+///
+/// @version    0.1.0
+/// @since      0.1.0
+public final class FileIngest {
+    /// The default segment size.
+    public static final int DEFAULT_SEGMENT_SIZE = 1 << 26;
+
+    /// The size of the buffer used to find line starts.
+    private static final int PROBE_SIZE = 1 << 13;
+
+    /// The initial size of a line buffer.
+    private static final int LINE_SIZE = 1 << 8;
+
+    /// The executor that splits the segments.
+    private final Executor executor;
+
+    /// The number of segments split at once.
+    private final int parallelism;
+
+    /// The segment size.
+    private final int segmentSize;
+
+    /// The default constructor; segments are split in the common pool.
+    public FileIngest() {
+        this(ForkJoinPool.commonPool(), ForkJoinPool.getCommonPoolParallelism(), DEFAULT_SEGMENT_SIZE);
+    }
+
+    /// A constructor that takes the executor,
+    /// the parallelism and the segment size.
+    ///
+    /// @param  executor    java.util.concurrent.Executor
+    /// @param  parallelism int
+    /// @param  segmentSize int
+    public FileIngest(final Executor executor, final int parallelism, final int segmentSize) {
+        super();
+
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+        }
+
+        if (segmentSize < 1) {
+            throw new IllegalArgumentException("Segment size must be positive: " + segmentSize);
+        }
+
+        this.executor = Objects.requireNonNull(executor, "executor");
+        this.parallelism = parallelism;
+        this.segmentSize = segmentSize;
+    }
+
+    /// Hands the lines of the file to the sink in file order
+    /// and returns the number of lines.
+    ///
+    /// @param  file    java.nio.file.Path
+    /// @param  sink    net.jmp.spring.boot.failfast.ingest.LineSink
+    /// @return         long
+    /// @throws         java.io.IOException When the file cannot be read
+    public long ingest(final Path file, final LineSink sink) throws IOException {
+        Objects.requireNonNull(sink, "sink");
+
+        final LineBuffer line = new LineBuffer();
+
+        return this.ingest(file, Function.identity(), (final Segment segment) -> {
+            int start = 0;
+
+            for (int i = 0; i < segment.count(); i++) {
+                final int end = segment.ends()[i];
+                final int length = lineLength(segment.buffer(), start, end);
+
+                sink.accept(line.fill(segment.buffer(), start, length), 0, length);
+
+                start = end + 1;
+            }
+
+            return segment.count();
+        });
+    }
+
+    /// Adds the lines of the file to the collection in file
+    /// order and returns the number of lines. The lines are
+    /// decoded by the workers.
+    ///
+    /// @param  file        java.nio.file.Path
+    /// @param  collection  java.util.Collection<? super java.lang.String>
+    /// @return             long
+    /// @throws             java.io.IOException When the file cannot be read
+    public long ingest(final Path file, final Collection<? super String> collection) throws IOException {
+        Objects.requireNonNull(collection, "collection");
+
+        return this.ingest(file, FileIngest::decode, (final String[] lines) -> {
+            Collections.addAll(collection, lines);
+
+            return lines.length;
+        });
+    }
+
+    /// Splits the segments of the file on the executor, transforms
+    /// them there and merges the results in file order.
+    ///
+    /// @param  <T>         The type of transformed segment
+    /// @param  file        java.nio.file.Path
+    /// @param  transformer java.util.function.Function<net.jmp.spring.boot.failfast.ingest.FileIngest.Segment,T>
+    /// @param  merger      java.util.function.ToIntFunction<T>
+    /// @return             long
+    /// @throws             java.io.IOException When the file cannot be read
+    private <T> long ingest(final Path file,
+                            final Function<Segment, T> transformer,
+                            final ToIntFunction<T> merger) throws IOException {
+        Objects.requireNonNull(file, "file");
+
+        final Deque<CompletableFuture<T>> inFlight = new ArrayDeque<>();
+
+        long lines = 0;
+
+        try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final long size = channel.size();
+
+            long start = 0;
+
+            while (start < size) {
+                final long end = nextLineStart(channel, Math.min(size, start + this.segmentSize));
+
+                if (end - start > Integer.MAX_VALUE - 8) {
+                    throw new IOException("A line near offset " + start + " is too long to map");
+                }
+
+                final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+
+                inFlight.add(CompletableFuture.supplyAsync(() -> transformer.apply(split(buffer)), this.executor));
+
+                if (inFlight.size() >= 2 * this.parallelism) {
+                    lines += merger.applyAsInt(inFlight.remove().join());
+                }
+
+                start = end;
+            }
+
+            while (!inFlight.isEmpty()) {
+                lines += merger.applyAsInt(inFlight.remove().join());
+            }
+        } catch (final CompletionException e) {
+            inFlight.forEach(future -> future.cancel(false));
+
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+
+            throw e;
+        }
+
+        return lines;
+    }
+
+    /// Returns the first line start at or after the position,
+    /// or the size of the file if there is none.
+    ///
+    /// @param  channel     java.nio.channels.FileChannel
+    /// @param  position    long
+    /// @return             long
+    /// @throws             java.io.IOException When the file cannot be read
+    private static long nextLineStart(final FileChannel channel, final long position) throws IOException {
+        final long size = channel.size();
+        final ByteBuffer probe = ByteBuffer.allocate(PROBE_SIZE);
+
+        long offset = position - 1;
+
+        while (offset < size) {
+            probe.clear();
+
+            final int read = channel.read(probe, offset);
+
+            if (read <= 0) {
+                break;
+            }
+
+            for (int i = 0; i < read; i++) {
+                if (probe.get(i) == '\n') {
+                    return offset + i + 1;
+                }
+            }
+
+            offset += read;
+        }
+
+        return size;
+    }
+
+    /// Finds the line ends of a mapped segment.
+    ///
+    /// @param  buffer  java.nio.MappedByteBuffer
+    /// @return         net.jmp.spring.boot.failfast.ingest.FileIngest.Segment
+    private static Segment split(final MappedByteBuffer buffer) {
+        final int size = buffer.limit();
+
+        int[] ends = new int[Math.max(16, size / 32)];
+        int count = 0;
+
+        for (int i = 0; i < size; i++) {
+            if (buffer.get(i) == '\n') {
+                if (count == ends.length) {
+                    ends = Arrays.copyOf(ends, 2 * count);
+                }
+
+                ends[count++] = i;
+            }
+        }
+
+        final int last = count == 0 ? 0 : ends[count - 1] + 1;
+
+        if (last < size) {
+            if (count == ends.length) {
+                ends = Arrays.copyOf(ends, count + 1);
+            }
+
+            ends[count++] = size;
+        }
+
+        return new Segment(buffer, ends, count);
+    }
+
+    /// Decodes the lines of a segment.
+    ///
+    /// @param  segment net.jmp.spring.boot.failfast.ingest.FileIngest.Segment
+    /// @return         java.lang.String[]
+    private static String[] decode(final Segment segment) {
+        final String[] lines = new String[segment.count()];
+        final LineBuffer line = new LineBuffer();
+
+        int start = 0;
+
+        for (int i = 0; i < lines.length; i++) {
+            final int end = segment.ends()[i];
+            final int length = lineLength(segment.buffer(), start, end);
+
+            lines[i] = new String(line.fill(segment.buffer(), start, length), 0, length, StandardCharsets.UTF_8);
+
+            start = end + 1;
+        }
+
+        return lines;
+    }
+
+    /// Returns the length of the line without a trailing carriage return.
+    ///
+    /// @param  buffer  java.nio.ByteBuffer
+    /// @param  start   int
+    /// @param  end     int
+    /// @return         int
+    private static int lineLength(final ByteBuffer buffer, final int start, final int end) {
+        return end > start && buffer.get(end - 1) == '\r' ? end - start - 1 : end - start;
+    }
+
+    /// The mapping of a segment and the offsets of its line ends.
+    ///
+    /// @param  buffer  java.nio.MappedByteBuffer
+    /// @param  ends    int[]
+    /// @param  count   int
+    private record Segment(MappedByteBuffer buffer, int[] ends, int count) {
+    }
+
+    /// A heap buffer that holds one line at a time.
+    private static final class LineBuffer {
+        /// The bytes.
+        private byte[] bytes = new byte[LINE_SIZE];
+
+        /// The default constructor.
+        LineBuffer() {
+            super();
+        }
+
+        /// Copies a line of the mapping into the buffer,
+        /// growing it if needed, and returns the bytes.
+        ///
+        /// @param  buffer  java.nio.ByteBuffer
+        /// @param  start   int
+        /// @param  length  int
+        /// @return         byte[]
+        byte[] fill(final ByteBuffer buffer, final int start, final int length) {
+            if (length > this.bytes.length) {
+                this.bytes = new byte[Math.max(length, 2 * this.bytes.length)];
+            }
+
+            buffer.get(start, this.bytes, 0, length);
+
+            return this.bytes;
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package net.jmp.spring.boot.failfast.profiling;
+
+/*
+ * (#)AllocationAccountant.java 0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import java.util.function.Supplier;
+
+/// Accounts for the memory used by an action by taking thread
+/// allocation, heap and collector snapshots around it and walking
+/// the object graph it leaves behind. Thread allocation counting
+/// needs the HotSpot extension of the thread management bean;
+/// without it the allocation figures are reported as minus one.
+///
+/// @version    0.1.0
+/// @since      0.1.0
+public final class AllocationAccountant {
+    /// The thread management bean.
+    private final com.sun.management.ThreadMXBean threads;
+
+    /// The memory management bean.
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+    /// The garbage collector beans.
+    private final List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+
+    /// The object graph used for the retained size.
+    private final ObjectGraph graph;
+
+    /// A constructor that takes the object graph used for the retained size.
+    ///
+    /// @param  graph   net.jmp.spring.boot.failfast.profiling.ObjectGraph
+    public AllocationAccountant(final ObjectGraph graph) {
+        super();
+
+        this.graph = Objects.requireNonNull(graph, "graph");
+
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported()) {
+            if (!bean.isThreadAllocatedMemoryEnabled()) {
+                bean.setThreadAllocatedMemoryEnabled(true);
+            }
+
+            this.threads = bean;
+        } else {
+            this.threads = null;
+        }
+    }
+
+    /// Returns true if thread allocation can be counted.
+    ///
+    /// @return boolean
+    public boolean isSupported() {
+        return this.threads != null;
+    }
+
+    /// Runs the action and returns its accounting; the retained
+    /// size is that of the graph reachable from the root afterwards.
+    ///
+    /// @param  name    java.lang.String
+    /// @param  action  java.lang.Runnable
+    /// @param  root    java.lang.Object
+    /// @return         net.jmp.spring.boot.failfast.profiling.AllocationReport
+    public AllocationReport measure(final String name, final Runnable action, final Object root) {
+        Objects.requireNonNull(action, "action");
+
+        return this.measure(name, () -> {
+            action.run();
+
+            return root;
+        });
+    }
+
+    /// Runs the action and returns its accounting; the retained
+    /// size is that of the graph reachable from what the action
+    /// returns, such as the objects it built.
+    ///
+    /// @param  name    java.lang.String
+    /// @param  action  java.util.function.Supplier<?>
+    /// @return         net.jmp.spring.boot.failfast.profiling.AllocationReport
+    public AllocationReport measure(final String name, final Supplier<?> action) {
+        Objects.requireNonNull(action, "action");
+
+        final long self = Thread.currentThread().threadId();
+        final Map<Long, Long> threadsBefore = this.threadAllocations();
+        final long heapBefore = this.memory.getHeapMemoryUsage().getUsed();
+        final long gcCountBefore = this.gcCount();
+        final long gcMillisBefore = this.gcMillis();
+        final long start = System.nanoTime();
+
+        final Object root = action.get();
+
+        final long elapsed = System.nanoTime() - start;
+        final long gcCount = this.gcCount() - gcCountBefore;
+        final long gcMillis = this.gcMillis() - gcMillisBefore;
+        final long heapDelta = this.memory.getHeapMemoryUsage().getUsed() - heapBefore;
+        final Map<Long, Long> threadsAfter = this.threadAllocations();
+
+        long allocated = -1L;
+        long others = -1L;
+
+        if (this.threads != null) {
+            allocated = threadsAfter.getOrDefault(self, 0L) - threadsBefore.getOrDefault(self, 0L);
+            others = 0L;
+
+            for (final Map.Entry<Long, Long> entry : threadsAfter.entrySet()) {
+                if (entry.getKey() != self && entry.getValue() >= 0) {
+                    others += entry.getValue() - Math.max(0L, threadsBefore.getOrDefault(entry.getKey(), 0L));
+                }
+            }
+        }
+
+        return new AllocationReport(name,
+                allocated,
+                others,
+                heapDelta,
+                this.graph.retainedSize(root),
+                gcCount,
+                gcMillis,
+                elapsed);
+    }
+
+    /// Returns the bytes allocated so far by each live thread.
+    ///
+    /// @return java.util.Map<java.lang.Long,java.lang.Long>
+    private Map<Long, Long> threadAllocations() {
+        final Map<Long, Long> allocations = new HashMap<>();
+
+        if (this.threads != null) {
+            final long[] ids = this.threads.getAllThreadIds();
+            final long[] bytes = this.threads.getThreadAllocatedBytes(ids);
+
+            for (int i = 0; i < ids.length; i++) {
+                allocations.put(ids[i], bytes[i]);
+            }
+        }
+
+        return allocations;
+    }
+
+    /// Returns the number of collections so far.
+    ///
+    /// @return long
+    private long gcCount() {
+        return this.collectors.stream().mapToLong(GarbageCollectorMXBean::getCollectionCount).filter(c -> c > 0).sum();
+    }
+
+    /// Returns the milliseconds spent collecting so far.
+    ///
+    /// @return long
+    private long gcMillis() {
+        return this.collectors.stream().mapToLong(GarbageCollectorMXBean::getCollectionTime).filter(t -> t > 0).sum();
+    }
+}
@@ -0,0 +1,68 @@
+package net.jmp.spring.boot.failfast.profiling;
+
+/*
+ * (#)AllocationReport.java 0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/// The memory accounting of one run of a service. Allocation is
+/// counted per thread: the bytes allocated by the calling thread,
+/// and those allocated meanwhile by the other live threads, such
+/// as pool workers; threads that ended during the run are missed.
+///
+/// @param  name                java.lang.String
+/// @param  allocatedBytes      long
+/// @param  otherThreadBytes    long
+/// @param  heapUsedDelta       long
+/// @param  retainedBytes       long
+/// @param  gcCount             long
+/// @param  gcMillis            long
+/// @param  elapsedNanos        long
+/// @version                    0.1.0
+/// @since                      0.1.0
+public record AllocationReport(String name,
+                               long allocatedBytes,
+                               long otherThreadBytes,
+                               long heapUsedDelta,
+                               long retainedBytes,
+                               long gcCount,
+                               long gcMillis,
+                               long elapsedNanos) {
+    /// Returns the bytes allocated by all the threads.
+    ///
+    /// @return long
+    public long totalAllocatedBytes() {
+        return this.allocatedBytes + this.otherThreadBytes;
+    }
+
+    /// Returns true if the total allocation exceeds the budget.
+    ///
+    /// @param  budget  long
+    /// @return         boolean
+    public boolean exceeds(final long budget) {
+        return this.totalAllocatedBytes() > budget;
+    }
+}
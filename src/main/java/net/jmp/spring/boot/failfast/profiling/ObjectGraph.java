@@ -0,0 +1,286 @@
+package net.jmp.spring.boot.failfast.profiling;
+
+/*
+ * (#)ObjectGraph.java  0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+import java.util.*;
+
+import java.util.function.Predicate;
+
+/// Estimates the size of the objects reachable from a root by
+/// walking the object graph through reflection. The shallow size
+/// of an object assumes a 64-bit virtual machine with compressed
+/// class pointers and references: a 12 byte header, 16 for an
+/// array, fields packed by size and the total aligned to 8 bytes.
+/// Each object is counted once.
+///
+/// The walk descends through every instance field it is allowed to
+/// read, whichever class declares it. The fields of classes in
+/// modules that are not open to this one, such as those of the JDK
+/// collections, cannot be read. When such a field may hold the
+/// contents of a collection or map, its elements are reached
+/// through iteration instead, but the nodes and tables inside it
+/// are then missed unless java.base is opened with
+/// {@code --add-opens}. The cached key set and values views of
+/// {@link AbstractMap} hold nothing of their own, so a map that
+/// extends it is walked through its own fields alone. Strings are
+/// sized from their length.
+///
+/// @version    0.1.0
+/// @since      0.1.0
+public final class ObjectGraph {
+    /// The default maximum number of objects visited.
+    public static final int DEFAULT_MAX_OBJECTS = 1 << 24;
+
+    /// The size of an object header.
+    private static final int OBJECT_HEADER = 12;
+
+    /// The size of an array header.
+    private static final int ARRAY_HEADER = 16;
+
+    /// The size of a reference.
+    private static final int REFERENCE = 4;
+
+    /// The layouts by class.
+    private static final ClassValue<Layout> LAYOUTS = new ClassValue<>() {
+        @Override
+        protected Layout computeValue(final Class<?> type) {
+            return Layout.of(type);
+        }
+    };
+
+    /// The predicate for classes the walk counts but does not descend into.
+    private final Predicate<Class<?>> boundary;
+
+    /// The maximum number of objects visited.
+    private final int maxObjects;
+
+    /// A constructor that takes the classes the walk counts but does
+    /// not descend into. Classes, class loaders and threads are
+    /// always boundaries.
+    ///
+    /// @param  boundary    java.util.function.Predicate<java.lang.Class<?>>
+    public ObjectGraph(final Predicate<Class<?>> boundary) {
+        this(boundary, DEFAULT_MAX_OBJECTS);
+    }
+
+    /// A constructor that takes the boundary classes
+    /// and the maximum number of objects visited.
+    ///
+    /// @param  boundary    java.util.function.Predicate<java.lang.Class<?>>
+    /// @param  maxObjects  int
+    public ObjectGraph(final Predicate<Class<?>> boundary, final int maxObjects) {
+        super();
+
+        if (maxObjects < 1) {
+            throw new IllegalArgumentException("Max objects must be positive: " + maxObjects);
+        }
+
+        this.boundary = Objects.requireNonNull(boundary, "boundary");
+        this.maxObjects = maxObjects;
+    }
+
+    /// Returns the estimated number of bytes reachable from the root.
+    ///
+    /// @param  root    java.lang.Object
+    /// @return         long
+    public long retainedSize(final Object root) {
+        if (root == null) {
+            return 0L;
+        }
+
+        final Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        final Deque<Object> pending = new ArrayDeque<>();
+        long size = 0L;
+
+        visited.add(root);
+        pending.push(root);
+
+        while (!pending.isEmpty() && visited.size() <= this.maxObjects) {
+            final Object object = pending.pop();
+            final Class<?> type = object.getClass();
+
+            size += shallowSize(object);
+
+            if (this.isBoundary(type)) {
+                continue;
+            }
+
+            for (final Object child : this.children(object, type)) {
+                if (child != null && visited.add(child)) {
+                    pending.push(child);
+                }
+            }
+        }
+
+        return size;
+    }
+
+    /// Returns the estimated shallow size of an object.
+    ///
+    /// @param  object  java.lang.Object
+    /// @return         long
+    public static long shallowSize(final Object object) {
+        final Class<?> type = object.getClass();
+
+        if (type.isArray()) {
+            final Class<?> component = type.getComponentType();
+            final long length = Array.getLength(object);
+
+            return align(ARRAY_HEADER + length * (component.isPrimitive() ? primitiveSize(component) : REFERENCE));
+        }
+
+        if (object instanceof String string) {
+            return LAYOUTS.get(type).size + align(ARRAY_HEADER + (long) string.length());
+        }
+
+        return LAYOUTS.get(type).size;
+    }
+
+    /// Returns true if the walk does not descend into the class.
+    ///
+    /// @param  type    java.lang.Class<?>
+    /// @return         boolean
+    private boolean isBoundary(final Class<?> type) {
+        return Class.class == type
+                || ClassLoader.class.isAssignableFrom(type)
+                || Thread.class.isAssignableFrom(type)
+                || String.class == type
+                || this.boundary.test(type);
+    }
+
+    /// Returns the objects an object refers to.
+    ///
+    /// @param  object  java.lang.Object
+    /// @param  type    java.lang.Class<?>
+    /// @return         java.lang.Iterable<?>
+    private Iterable<?> children(final Object object, final Class<?> type) {
+        if (type.isArray()) {
+            return type.getComponentType().isPrimitive() ? List.of() : Arrays.asList((Object[]) object);
+        }
+
+        final Layout layout = LAYOUTS.get(type);
+
+        final List<Object> children = new ArrayList<>(layout.references.length);
+
+        for (final Field field : layout.references) {
+            try {
+                children.add(field.get(object));
+            } catch (final IllegalAccessException _) {
+                // Counted without its children
+            }
+        }
+
+        if (layout.opaque) {
+            try {
+                if (object instanceof Collection<?> collection) {
+                    children.addAll(collection);
+                } else if (object instanceof Map<?, ?> map) {
+                    map.forEach((key, value) -> {
+                        children.add(key);
+                        children.add(value);
+                    });
+                }
+            } catch (final RuntimeException _) {
+                // A collection that cannot be iterated now is counted without its elements
+            }
+        }
+
+        return children;
+    }
+
+    /// Returns the size of a primitive type.
+    ///
+    /// @param  type    java.lang.Class<?>
+    /// @return         int
+    private static int primitiveSize(final Class<?> type) {
+        if (type == long.class || type == double.class) {
+            return 8;
+        } else if (type == int.class || type == float.class) {
+            return 4;
+        } else if (type == short.class || type == char.class) {
+            return 2;
+        } else {
+            return 1;
+        }
+    }
+
+    /// Aligns a size to eight bytes.
+    ///
+    /// @param  size    long
+    /// @return         long
+    private static long align(final long size) {
+        return (size + 7L) & ~7L;
+    }
+
+    /// The shallow size and readable reference fields of a class,
+    /// and whether it has reference fields that cannot be read and
+    /// may hold its contents.
+    ///
+    /// @param  size        long
+    /// @param  references  java.lang.reflect.Field[]
+    /// @param  opaque      boolean
+    private record Layout(long size, Field[] references, boolean opaque) {
+        /// Returns the layout of a class.
+        ///
+        /// @param  type    java.lang.Class<?>
+        /// @return         net.jmp.spring.boot.failfast.profiling.ObjectGraph.Layout
+        static Layout of(final Class<?> type) {
+            long size = OBJECT_HEADER;
+            boolean opaque = false;
+
+            final List<Field> references = new ArrayList<>();
+
+            for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+                for (final Field field : c.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers())) {
+                        continue;
+                    }
+
+                    final Class<?> fieldType = field.getType();
+
+                    size += fieldType.isPrimitive() ? primitiveSize(fieldType) : REFERENCE;
+
+                    if (!fieldType.isPrimitive()) {
+                        if (field.trySetAccessible()) {
+                            references.add(field);
+                        } else if (c != AbstractMap.class) {
+                            opaque = true;
+                        }
+                    }
+                }
+            }
+
+            return new Layout(align(size), references.toArray(new Field[0]), opaque);
+        }
+    }
+}
@@ -0,0 +1,327 @@
+package net.jmp.spring.boot.failfast.reclaim;
+
+/*
+ * (#)EpochReclaimer.java   0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/// Epoch-based reclamation of the nodes of a lock-free collection
+/// so that they can be reused instead of left to the collector.
+/// A thread registers as a participant and pins the global epoch
+/// while it reads nodes. A node unlinked from the collection is
+/// retired into a deferred list tagged with the global epoch, and
+/// the global epoch only advances once every pinned participant
+/// has seen the current one. Two advances later no thread can
+/// still hold the node, so it moves to the free list of the
+/// participant that retired it for that participant to reuse.
+///
+/// A participant belongs to one thread; only {@link #tryAdvance()}
+/// reads the participants of other threads.
+///
+/// @param  <T> The type of node
+/// @version    0.1.0
+/// @since      0.1.0
+public final class EpochReclaimer<T> {
+    /// The default maximum number of free nodes kept by a participant.
+    public static final int DEFAULT_MAX_POOLED = 1 << 12;
+
+    /// The number of retirements between attempts to advance the epoch.
+    private static final int ADVANCE_INTERVAL = 64;
+
+    /// The global epoch.
+    private final AtomicLong epoch = new AtomicLong();
+
+    /// The registered participants.
+    private final List<Participant<T>> participants = new CopyOnWriteArrayList<>();
+
+    /// The participant of the current thread.
+    private final ThreadLocal<Participant<T>> local = new ThreadLocal<>();
+
+    /// The number of nodes retired.
+    private final LongAdder retired = new LongAdder();
+
+    /// The number of nodes reused.
+    private final LongAdder reused = new LongAdder();
+
+    /// The maximum number of free nodes kept by a participant.
+    private final int maxPooled;
+
+    /// The default constructor.
+    public EpochReclaimer() {
+        this(DEFAULT_MAX_POOLED);
+    }
+
+    /// A constructor that takes the maximum number
+    /// of free nodes kept by a participant.
+    ///
+    /// @param  maxPooled   int
+    public EpochReclaimer(final int maxPooled) {
+        super();
+
+        if (maxPooled < 0) {
+            throw new IllegalArgumentException("Max pooled must not be negative: " + maxPooled);
+        }
+
+        this.maxPooled = maxPooled;
+    }
+
+    /// Returns the participant of the current
+    /// thread, registering it on first use.
+    ///
+    /// @return net.jmp.spring.boot.failfast.reclaim.EpochReclaimer.Participant<T>
+    public Participant<T> participant() {
+        Participant<T> participant = this.local.get();
+
+        if (participant == null) {
+            participant = new Participant<>(this);
+
+            this.participants.add(participant);
+            this.local.set(participant);
+        }
+
+        return participant;
+    }
+
+    /// Unregisters the participant of the current thread. Its
+    /// deferred and free nodes are left to the collector.
+    public void unregister() {
+        final Participant<T> participant = this.local.get();
+
+        if (participant != null) {
+            if (participant.isPinned()) {
+                throw new IllegalStateException("Participant is pinned");
+            }
+
+            this.participants.remove(participant);
+            this.local.remove();
+        }
+    }
+
+    /// Advances the global epoch if every pinned
+    /// participant has seen the current one.
+    ///
+    /// @return boolean
+    public boolean tryAdvance() {
+        final long current = this.epoch.get();
+
+        for (final Participant<T> participant : this.participants) {
+            final long state = participant.state;
+
+            if ((state & 1L) != 0 && (state >>> 1) != current) {
+                return false;
+            }
+        }
+
+        return this.epoch.compareAndSet(current, current + 1);
+    }
+
+    /// Returns the global epoch.
+    ///
+    /// @return long
+    public long epoch() {
+        return this.epoch.get();
+    }
+
+    /// Returns the number of registered participants.
+    ///
+    /// @return int
+    public int participants() {
+        return this.participants.size();
+    }
+
+    /// Returns the number of nodes retired.
+    ///
+    /// @return long
+    public long retired() {
+        return this.retired.sum();
+    }
+
+    /// Returns the number of nodes reused.
+    ///
+    /// @return long
+    public long reused() {
+        return this.reused.sum();
+    }
+
+    /// The state of one thread.
+    ///
+    /// @param  <T> The type of node
+    public static final class Participant<T> {
+        /// The number of deferred lists.
+        private static final int BAGS = 3;
+
+        /// The reclaimer.
+        private final EpochReclaimer<T> reclaimer;
+
+        /// The deferred lists of retired nodes.
+        private final List<ArrayList<T>> bags = new ArrayList<>(BAGS);
+
+        /// The global epoch each deferred list was retired in.
+        private final long[] bagEpochs = new long[BAGS];
+
+        /// The free nodes.
+        private final ArrayDeque<T> pool = new ArrayDeque<>();
+
+        /// The pinned epoch shifted left by one
+        /// and or-ed with one, or zero if unpinned.
+        private volatile long state;
+
+        /// The nesting depth of pins.
+        private int depth;
+
+        /// The number of retirements since the last attempt to advance.
+        private int sinceAdvance;
+
+        /// The constructor.
+        ///
+        /// @param  reclaimer   net.jmp.spring.boot.failfast.reclaim.EpochReclaimer<T>
+        Participant(final EpochReclaimer<T> reclaimer) {
+            super();
+
+            this.reclaimer = reclaimer;
+
+            for (int i = 0; i < BAGS; i++) {
+                this.bags.add(new ArrayList<>());
+            }
+        }
+
+        /// Pins the current global epoch; pins nest.
+        public void enter() {
+            if (this.depth++ == 0) {
+                final long current = this.reclaimer.epoch.get();
+
+                this.state = (current << 1) | 1L;
+                this.collect(current);
+            }
+        }
+
+        /// Unpins the epoch when the outermost pin ends.
+        public void exit() {
+            if (this.depth == 0) {
+                throw new IllegalStateException("Participant is not pinned");
+            }
+
+            if (--this.depth == 0) {
+                this.state = 0L;
+            }
+        }
+
+        /// Returns true if the participant is pinned.
+        ///
+        /// @return boolean
+        public boolean isPinned() {
+            return this.depth > 0;
+        }
+
+        /// Defers a node that has been unlinked from
+        /// the collection until no thread can hold it.
+        ///
+        /// @param  node    T
+        public void retire(final T node) {
+            final long current = this.reclaimer.epoch.get();
+            final int index = (int) (current % BAGS);
+
+            if (this.bagEpochs[index] != current) {
+                this.recycle(this.bags.get(index));     // At least three epochs old
+                this.bagEpochs[index] = current;
+            }
+
+            this.bags.get(index).add(node);
+            this.reclaimer.retired.increment();
+
+            if (++this.sinceAdvance >= ADVANCE_INTERVAL) {
+                this.sinceAdvance = 0;
+
+                if (this.reclaimer.tryAdvance()) {
+                    this.collect(this.reclaimer.epoch.get());
+                }
+            }
+        }
+
+        /// Returns a free node to reuse or null.
+        ///
+        /// @return T
+        public T allocate() {
+            final T node = this.pool.pollLast();
+
+            if (node != null) {
+                this.reclaimer.reused.increment();
+            }
+
+            return node;
+        }
+
+        /// Returns a node that was never published
+        /// to another thread straight to the free list.
+        ///
+        /// @param  node    T
+        public void free(final T node) {
+            if (this.pool.size() < this.reclaimer.maxPooled) {
+                this.pool.addLast(node);
+            }
+        }
+
+        /// Returns the number of free nodes.
+        ///
+        /// @return int
+        public int pooled() {
+            return this.pool.size();
+        }
+
+        /// Frees the deferred lists retired two or more epochs ago.
+        ///
+        /// @param  current long
+        private void collect(final long current) {
+            for (int i = 0; i < BAGS; i++) {
+                if (this.bagEpochs[i] <= current - 2 && !this.bags.get(i).isEmpty()) {
+                    this.recycle(this.bags.get(i));
+                }
+            }
+        }
+
+        /// Moves the nodes of a deferred list to the free list.
+        ///
+        /// @param  bag java.util.ArrayList<T>
+        private void recycle(final ArrayList<T> bag) {
+            final int size = bag.size();
+
+            for (int i = 0; i < size; i++) {
+                this.free(bag.get(i));
+            }
+
+            bag.clear();
+        }
+    }
+}
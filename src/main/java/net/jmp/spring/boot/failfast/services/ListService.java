@@ -28,6 +28,11 @@ package net.jmp.spring.boot.failfast.services;
  * SOFTWARE.
  */
 
+import java.io.IOException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import java.util.ArrayList;
 import java.util.ConcurrentModificationException;
 import java.util.Iterator;
@@ -35,8 +40,30 @@ import java.util.List;
 
 import java.util.function.Consumer;
 
+import java.util.stream.IntStream;
+
+import net.jmp.spring.boot.failfast.arena.ArenaStringList;
+
+import net.jmp.spring.boot.failfast.collections.BulkLoader;
+import net.jmp.spring.boot.failfast.collections.DictionaryEncodedList;
+import net.jmp.spring.boot.failfast.collections.RcuList;
+import net.jmp.spring.boot.failfast.collections.UnrolledLinkedList;
+
+import net.jmp.spring.boot.failfast.cursors.CursorPosition;
+import net.jmp.spring.boot.failfast.cursors.OptimisticReader;
+import net.jmp.spring.boot.failfast.cursors.ResumableCursor;
+import net.jmp.spring.boot.failfast.cursors.VersionedArrayList;
+
 import net.jmp.spring.boot.failfast.functions.Functions;
 
+import net.jmp.spring.boot.failfast.ingest.FileIngest;
+
+import net.jmp.spring.boot.failfast.spill.SpillCodec;
+import net.jmp.spring.boot.failfast.spill.SpillableList;
+
+import net.jmp.spring.boot.failfast.stats.Counter;
+import net.jmp.spring.boot.failfast.stats.StatsRegistry;
+
 import static net.jmp.util.logging.LoggerUtils.*;
 
 import org.slf4j.Logger;
@@ -59,25 +86,109 @@ public class ListService implements ServiceRunner {
     /// The error message when an item is added to the list.
     private static final String ADDING_TO_LIST = "A ConcurrentModificationException occurred adding an item to the list";
 
+    /// The number of elements scanned per time slice.
+    private static final int SLICE = 2;
+
     /// The consumer function for logging a value.
     private final Consumer<String> logValue = Functions.logString(this.logger, "value: {}");
 
-    /// The consumer function for logging an error.
-    private final Consumer<String> logError = Functions.logError(this.logger);
+    /// The consumer function for logging and counting an error.
+    private final Consumer<String> logError;
 
-    /// The default constructor.
-    public ListService() {
+    /// The number of elements visited while iterating.
+    private final Counter visited;
+
+    /// The statistics registry.
+    private final StatsRegistry stats;
+
+    /// The constructor.
+    ///
+    /// @param  stats   net.jmp.spring.boot.failfast.stats.StatsRegistry
+    public ListService(final StatsRegistry stats) {
         super();
+
+        this.stats = stats;
+        this.visited = stats.counter("ListService.visited");
+        this.logError = Functions.logError(this.logger, stats.counter("ListService.cmes"));
     }
 
     /// Runs the service.
     @Override
     public void runService() {
+        this.runService(_ -> { });
+    }
+
+    /// Runs the lists without the ingest and the spill scan.
+    @Override
+    public void runLight() {
+        this.runLight(_ -> { });
+    }
+
+    /// Runs the service and returns the collections it built.
+    ///
+    /// @return java.util.List<java.lang.Object>
+    @Override
+    public List<Object> runCollecting() {
+        final List<Object> built = new ArrayList<>();
+
+        this.runService(built::add);
+
+        return built;
+    }
+
+    /// Runs the service, passing each collection it builds
+    /// to the consumer.
+    ///
+    /// @param  built   java.util.function.Consumer<java.lang.Object>
+    private void runService(final Consumer<Object> built) {
         if (this.logger.isTraceEnabled()) {
             this.logger.trace(entry());
         }
 
-        final List<String> list = new ArrayList<>();
+        this.runLight(built);
+        this.ingest(built);
+        this.spillScan(built);
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Runs the lighter part of the service, passing each
+    /// collection it builds to the consumer.
+    ///
+    /// @param  built   java.util.function.Consumer<java.lang.Object>
+    private void runLight(final Consumer<Object> built) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        this.runWith(new ArrayList<>(), built);
+        this.runWith(new UnrolledLinkedList<>(), built);
+        this.runWith(new ArenaStringList(), built);
+        this.runWith(new DictionaryEncodedList<>(), built);
+        this.bulkLoad(built);
+        this.resumableScan(built);
+        this.rcuRun(built);
+        this.optimisticScan(built);
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Runs the fail fast iterations against the given list.
+    ///
+    /// @param  list    java.util.List<java.lang.String>
+    /// @param  built   java.util.function.Consumer<java.lang.Object>
+    private void runWith(final List<String> list, final Consumer<Object> built) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(list));
+        }
+
+        if (this.logger.isInfoEnabled()) {
+            this.logger.info("Using {}", list.getClass().getSimpleName());
+        }
 
         list.add("value1");
         list.add("value2");
@@ -91,11 +202,284 @@ public class ListService implements ServiceRunner {
         // Log the final contents of the list; 1, 3, 4, 5, 6
 
         for (final String value : list) {
+            this.visited.increment();
+
+            if (this.logger.isInfoEnabled()) {
+                this.logValue.accept(value);
+            }
+        }
+
+        this.stats.gauge("ListService.size." + list.getClass().getSimpleName()).set(list.size());
+
+        built.accept(list);
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Loads a list of five values in one pass with the
+    /// bulk loader, which sizes the list up front,
+    /// and runs the fail fast iterations against it.
+    ///
+    /// @param  built   java.util.function.Consumer<java.lang.Object>
+    private void bulkLoad(final Consumer<Object> built) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        final List<String> list = new BulkLoader().toList(IntStream.rangeClosed(1, 5).iterator(), 5, i -> "value" + i);
+
+        if (this.logger.isInfoEnabled()) {
+            this.logger.info("Bulk loaded {} values into {}", list.size(), list.getClass().getSimpleName());
+        }
+
+        this.failFastForEach(list);
+        this.failFastIterator(list);
+
+        for (final String value : list) {
+            this.visited.increment();
+
             if (this.logger.isInfoEnabled()) {
                 this.logValue.accept(value);
             }
         }
 
+        built.accept(list);
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Writes five values to a temporary file and ingests it
+    /// into an arena string list, whose strings are stored from
+    /// the bytes of the file, and runs the fail fast iterations.
+    ///
+    /// @param  built   java.util.function.Consumer<java.lang.Object>
+    private void ingest(final Consumer<Object> built) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        try {
+            final Path file = Files.createTempFile("values", ".txt");
+
+            try {
+                Files.write(file, List.of("value1", "value2", "value3", "value4", "value5"));
+
+                final ArenaStringList list = new ArenaStringList();
+                final long lines = new FileIngest().ingest(file, list::addUtf8);
+
+                if (this.logger.isInfoEnabled()) {
+                    this.logger.info("Ingested {} lines into {}", lines, list.getClass().getSimpleName());
+                }
+
+                this.failFastForEach(list);
+                this.failFastIterator(list);
+
+                for (final String value : list) {
+                    this.visited.increment();
+
+                    if (this.logger.isInfoEnabled()) {
+                        this.logValue.accept(value);
+                    }
+                }
+
+                built.accept(list);
+            } finally {
+                Files.delete(file);
+            }
+        } catch (final IOException ioe) {
+            if (this.logger.isErrorEnabled()) {
+                this.logger.error("Unable to ingest the values", ioe);
+            }
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Scans a versioned list in time slices with a resumable
+    /// cursor. Adding an element between two slices invalidates
+    /// the cursor instead of throwing, and the scan resumes from
+    /// the checkpointed position.
+    ///
+    /// @param  built   java.util.function.Consumer<java.lang.Object>
+    private void resumableScan(final Consumer<Object> built) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        final VersionedArrayList<String> list = new VersionedArrayList<>();
+
+        list.add("value1");
+        list.add("value2");
+        list.add("value3");
+        list.add("value4");
+        list.add("value5");
+
+        final Consumer<String> logValue = value -> {
+            this.visited.increment();
+            this.logValue.accept(value);
+        };
+
+        ResumableCursor<String> cursor = list.cursor();
+
+        cursor.advance(SLICE, logValue);
+
+        final CursorPosition position = cursor.checkpoint();
+
+        list.add("value6");
+
+        if (cursor.isInvalidated() && this.logger.isInfoEnabled()) {
+            this.logger.info("The cursor was invalidated; resuming from {}", position);
+        }
+
+        cursor = list.cursor(position);
+
+        while (cursor.advance(SLICE, logValue) == SLICE) {
+            if (this.logger.isDebugEnabled()) {
+                this.logger.debug("Checkpoint: {}", cursor.checkpoint());
+            }
+        }
+
+        built.accept(list);
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Runs the iterations of the fail fast iterator example
+    /// against a spillable list whose hot segment holds two
+    /// values, so the iterators read spilled segments from disk.
+    /// The list is a collection rather than a list, so the
+    /// values are removed through the iterator.
+    ///
+    /// @param  built   java.util.function.Consumer<java.lang.Object>
+    private void spillScan(final Consumer<Object> built) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        try (final SpillableList<String> list = new SpillableList<>(SpillCodec.strings(), 2, null)) {
+            IntStream.rangeClosed(1, 5).forEach(i -> list.add("value" + i));
+
+            try {
+                for (final String _ : list) {
+                    list.add("value6");     // This fails
+                }
+            } catch (final ConcurrentModificationException _) {
+                this.logError.accept(ADDING_TO_LIST);
+            }
+
+            list.removeIf(value -> value.equals("value2") || value.equals("value3"));
+
+            for (final String value : list) {
+                this.visited.increment();
+
+                if (this.logger.isInfoEnabled()) {
+                    this.logValue.accept(value);
+                }
+            }
+
+            built.accept(list);
+
+            if (this.logger.isInfoEnabled()) {
+                this.logger.info("Spilled segments: {}; bytes: {}; hot: {}", list.segments(), list.spilledBytes(), list.hotSize());
+            }
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Runs the iterations of the fail fast iterator example
+    /// through an optimistic reader, which buffers a consistent
+    /// version of the list and retries instead of throwing, so
+    /// the modifications made while iterating succeed.
+    ///
+    /// @param  built   java.util.function.Consumer<java.lang.Object>
+    private void optimisticScan(final Consumer<Object> built) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        final VersionedArrayList<String> list = new VersionedArrayList<>();
+        final OptimisticReader reader = new OptimisticReader();
+
+        IntStream.rangeClosed(1, 5).forEach(i -> list.add("value" + i));
+
+        for (final Iterator<String> iterator = reader.iterator(list); iterator.hasNext();) {
+            final String _ = iterator.next();
+
+            list.remove("value2");
+        }
+
+        for (final Iterator<String> iterator = reader.iterator(list); iterator.hasNext();) {
+            final String _ = iterator.next();
+
+            list.add("value6");
+        }
+
+        for (final Iterator<String> iterator = reader.iterator(list); iterator.hasNext();) {
+            final String value = iterator.next();
+
+            this.visited.increment();
+
+            if (this.logger.isInfoEnabled()) {
+                this.logValue.accept(value);
+            }
+        }
+
+        if (this.logger.isInfoEnabled()) {
+            this.logger.info("Optimistic reads: {}; retries: {}; locked reads: {}", reader.reads(), reader.retries(), reader.lockedReads());
+        }
+
+        built.accept(list);
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Loads five values into a read-copy-update list as one
+    /// batch and runs the fail fast iterations against it. The
+    /// iterations walk the published version, so the writes made
+    /// inside them are coalesced and published once they finish.
+    ///
+    /// @param  built   java.util.function.Consumer<java.lang.Object>
+    private void rcuRun(final Consumer<Object> built) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        final RcuList<String> list = new RcuList<>();
+
+        list.batch(batch -> IntStream.rangeClosed(1, 5).forEach(i -> batch.add("value" + i)));
+
+        this.failFastForEach(list);
+        this.failFastIterator(list);
+
+        list.flush();
+
+        for (final String value : list) {
+            this.visited.increment();
+
+            if (this.logger.isInfoEnabled()) {
+                this.logValue.accept(value);
+            }
+        }
+
+        if (this.logger.isInfoEnabled()) {
+            this.logger.info("Published {} versions for {} writes", list.publications(), list.writes());
+        }
+
+        built.accept(list);
+
         if (this.logger.isTraceEnabled()) {
             this.logger.trace(exit());
         }
@@ -112,6 +496,8 @@ public class ListService implements ServiceRunner {
         }
 
         for (final String value : list) {
+            this.visited.increment();
+
             if (this.logger.isInfoEnabled()) {
                 this.logValue.accept(value);
             }
@@ -152,6 +538,8 @@ public class ListService implements ServiceRunner {
         for (final Iterator<String> iterator = list.iterator(); iterator.hasNext();) {
             final String value = iterator.next();
 
+            this.visited.increment();
+
             if (this.logger.isInfoEnabled()) {
                 this.logValue.accept(value);
             }
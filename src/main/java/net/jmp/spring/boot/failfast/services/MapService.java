@@ -28,15 +28,52 @@ package net.jmp.spring.boot.failfast.services;
  * SOFTWARE.
  */
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.ConcurrentModificationException;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 
 import java.util.function.Consumer;
 
+import java.util.stream.IntStream;
+
+import net.jmp.spring.boot.failfast.arena.ArenaStringMap;
+
+import net.jmp.spring.boot.failfast.collections.BoundedMap;
+import net.jmp.spring.boot.failfast.collections.BulkLoader;
+import net.jmp.spring.boot.failfast.collections.IndexedMap;
+import net.jmp.spring.boot.failfast.collections.LockFreeBPlusTreeMap;
+import net.jmp.spring.boot.failfast.collections.OptimisticReadMap;
+import net.jmp.spring.boot.failfast.collections.SecondaryIndex;
+import net.jmp.spring.boot.failfast.collections.ShardedMap;
+
+import net.jmp.spring.boot.failfast.cursors.CursorPosition;
+import net.jmp.spring.boot.failfast.cursors.ResumableCursor;
+import net.jmp.spring.boot.failfast.cursors.VersionedHashMap;
+
+import net.jmp.spring.boot.failfast.events.ChangeEvent;
+import net.jmp.spring.boot.failfast.events.ObservableMap;
+
 import net.jmp.spring.boot.failfast.functions.Functions;
 
+import net.jmp.spring.boot.failfast.spill.SpillCodec;
+import net.jmp.spring.boot.failfast.spill.SpillableMap;
+
+import net.jmp.spring.boot.failfast.staleness.ConcurrentWriter;
+import net.jmp.spring.boot.failfast.staleness.StalenessTracker;
+import net.jmp.spring.boot.failfast.staleness.TrackedMap;
+
+import net.jmp.spring.boot.failfast.stats.Counter;
+import net.jmp.spring.boot.failfast.stats.StatsRegistry;
+
 import static net.jmp.util.logging.LoggerUtils.*;
 
 import org.slf4j.Logger;
@@ -59,25 +96,130 @@ public class MapService implements ServiceRunner {
     /// The error message when an entry is added to the map.
     private static final String ADDING_TO_MAP = "A ConcurrentModificationException occurred adding an element from the map";
 
+    /// The number of elements scanned per time slice.
+    private static final int SLICE = 2;
+
+    /// The number of elements of a tracked run.
+    private static final int TRACKED_SIZE = 1_000;
+
+    /// The number of iterations of a tracked run.
+    private static final int TRACKED_PASSES = 10;
+
+    /// The number of elements the writer of a tracked run keeps added.
+    private static final int CHURN = 64;
+
     /// The consumer function for logging a key.
     private final Consumer<String> logKey = Functions.logString(this.logger, "key: {}");
 
-    /// The consumer function for logging an error.
-    private final Consumer<String> logError = Functions.logError(this.logger);
+    /// The consumer function for logging and counting an error.
+    private final Consumer<String> logError;
+
+    /// The number of elements visited while iterating.
+    private final Counter visited;
 
-    /// The default constructor.
-    public MapService() {
+    /// The statistics registry.
+    private final StatsRegistry stats;
+
+    /// The constructor.
+    ///
+    /// @param  stats   net.jmp.spring.boot.failfast.stats.StatsRegistry
+    public MapService(final StatsRegistry stats) {
         super();
+
+        this.stats = stats;
+        this.visited = stats.counter("MapService.visited");
+        this.logError = Functions.logError(this.logger, stats.counter("MapService.cmes"));
     }
 
     /// Runs the service.
     @Override
     public void runService() {
+        this.runService(_ -> { });
+    }
+
+    /// Runs the maps without the sharded, tracked and spill scans,
+    /// which start threads or write files.
+    @Override
+    public void runLight() {
+        this.runLight(_ -> { });
+    }
+
+    /// Runs the service and returns the collections it built.
+    ///
+    /// @return java.util.List<java.lang.Object>
+    @Override
+    public List<Object> runCollecting() {
+        final List<Object> built = new ArrayList<>();
+
+        this.runService(built::add);
+
+        return built;
+    }
+
+    /// Runs the service, passing each collection it builds
+    /// to the consumer.
+    ///
+    /// @param  built   java.util.function.Consumer<java.lang.Object>
+    private void runService(final Consumer<Object> built) {
         if (this.logger.isTraceEnabled()) {
             this.logger.trace(entry());
         }
 
-        final Map<String, String> map = new HashMap<>();
+        this.runLight(built);
+        this.shardedScan(built);
+        this.trackedRun(built);
+        this.spillScan(built);
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Runs the lighter part of the service, passing each
+    /// collection it builds to the consumer.
+    ///
+    /// @param  built   java.util.function.Consumer<java.lang.Object>
+    private void runLight(final Consumer<Object> built) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        this.runWith(new HashMap<>(), built);
+        this.runWith(new OptimisticReadMap<>(), built);
+        this.runWith(new ArenaStringMap(), built);
+        this.runWith(new TreeMap<>(), built);
+        this.runWith(new ConcurrentSkipListMap<>(), built);
+        this.runWith(new LockFreeBPlusTreeMap<>(), built);
+        this.runWith(new BoundedMap<>(16), built);
+        this.bulkLoad(built);
+        this.resumableScan(built);
+        this.rangeScan(new TreeMap<>(), built);
+        this.rangeScan(new ConcurrentSkipListMap<>(), built);
+        this.rangeScan(built);
+        this.boundedScan(built);
+        this.observedRun(built);
+        this.indexedRun(built);
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Runs the fail fast iterations against the given map.
+    /// The iterators of a thread-safe map like the optimistic
+    /// read map walk a snapshot and do not fail fast; those
+    /// of the concurrent skip list map are weakly consistent.
+    ///
+    /// @param  map     java.util.Map<java.lang.String,java.lang.String>
+    /// @param  built   java.util.function.Consumer<java.lang.Object>
+    private void runWith(final Map<String, String> map, final Consumer<Object> built) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(map));
+        }
+
+        if (this.logger.isInfoEnabled()) {
+            this.logger.info("Using {}", map.getClass().getSimpleName());
+        }
 
         map.put("key1", "value1");
         map.put("key2", "value2");
@@ -91,11 +233,387 @@ public class MapService implements ServiceRunner {
         // Log the final contents of the map; 1, 3, 4, 5, 6
 
         for (final String key : map.keySet()) {
+            this.visited.increment();
+
+            if (this.logger.isInfoEnabled()) {
+                this.logKey.accept(key);
+            }
+        }
+
+        this.stats.gauge("MapService.size." + map.getClass().getSimpleName()).set(map.size());
+
+        built.accept(map);
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Loads a map of five entries in one pass with the
+    /// bulk loader, which sizes the map up front,
+    /// and runs the fail fast iterations against it.
+    ///
+    /// @param  built   java.util.function.Consumer<java.lang.Object>
+    private void bulkLoad(final Consumer<Object> built) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        final Map<String, String> map = new BulkLoader().toMap(IntStream.rangeClosed(1, 5).iterator(), 5, i -> "key" + i, i -> "value" + i);
+
+        if (this.logger.isInfoEnabled()) {
+            this.logger.info("Bulk loaded {} entries into {}", map.size(), map.getClass().getSimpleName());
+        }
+
+        this.failFastForEach(map);
+        this.failFastIterator(map);
+
+        for (final String key : map.keySet()) {
+            this.visited.increment();
+
             if (this.logger.isInfoEnabled()) {
                 this.logKey.accept(key);
             }
         }
 
+        built.accept(map);
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Scans a versioned map in time slices with a resumable
+    /// cursor. Adding an element between two slices invalidates
+    /// the cursor instead of throwing, and the scan resumes from
+    /// the checkpointed position.
+    ///
+    /// @param  built   java.util.function.Consumer<java.lang.Object>
+    private void resumableScan(final Consumer<Object> built) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        final VersionedHashMap<String, String> map = new VersionedHashMap<>();
+
+        map.put("key1", "value1");
+        map.put("key2", "value2");
+        map.put("key3", "value3");
+        map.put("key4", "value4");
+        map.put("key5", "value5");
+
+        final Consumer<Map.Entry<String, String>> logEntry = entry -> {
+            this.visited.increment();
+            this.logKey.accept(entry.getKey());
+        };
+
+        ResumableCursor<Map.Entry<String, String>> cursor = map.cursor();
+
+        cursor.advance(SLICE, logEntry);
+
+        final CursorPosition position = cursor.checkpoint();
+
+        map.put("key6", "value6");
+
+        if (cursor.isInvalidated() && this.logger.isInfoEnabled()) {
+            this.logger.info("The cursor was invalidated; resuming from {}", position);
+        }
+
+        cursor = map.cursor(position);
+
+        while (cursor.advance(SLICE, logEntry) == SLICE) {
+            if (this.logger.isDebugEnabled()) {
+                this.logger.debug("Checkpoint: {}", cursor.checkpoint());
+            }
+        }
+
+        built.accept(map);
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Scans the keys from 2 to 4 of the given sorted map
+    /// while adding a key inside the range. The range view of
+    /// a tree map fails fast; that of the concurrent skip list
+    /// map may or may not see the new key.
+    ///
+    /// @param  map     java.util.NavigableMap<java.lang.String,java.lang.String>
+    /// @param  built   java.util.function.Consumer<java.lang.Object>
+    private void rangeScan(final NavigableMap<String, String> map, final Consumer<Object> built) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(map));
+        }
+
+        if (this.logger.isInfoEnabled()) {
+            this.logger.info("Range scan using {}", map.getClass().getSimpleName());
+        }
+
+        map.put("key1", "value1");
+        map.put("key2", "value2");
+        map.put("key3", "value3");
+        map.put("key4", "value4");
+        map.put("key5", "value5");
+
+        try {
+            for (final String key : map.subMap("key2", true, "key4", true).keySet()) {
+                map.put("key3a", "value3a");
+
+                this.visited.increment();
+
+                if (this.logger.isInfoEnabled()) {
+                    this.logKey.accept(key);
+                }
+            }
+        } catch (final ConcurrentModificationException _) {
+            this.logError.accept(ADDING_TO_MAP);
+        }
+
+        built.accept(map);
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Scans the keys from 2 to 4 of a lock-free B+ tree map
+    /// while adding a key inside the range. The scan walks the
+    /// snapshot it started with and does not see the new key.
+    ///
+    /// @param  built   java.util.function.Consumer<java.lang.Object>
+    private void rangeScan(final Consumer<Object> built) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        final LockFreeBPlusTreeMap<String, String> map = new LockFreeBPlusTreeMap<>();
+
+        if (this.logger.isInfoEnabled()) {
+            this.logger.info("Range scan using {}", map.getClass().getSimpleName());
+        }
+
+        map.put("key1", "value1");
+        map.put("key2", "value2");
+        map.put("key3", "value3");
+        map.put("key4", "value4");
+        map.put("key5", "value5");
+
+        for (final Iterator<Map.Entry<String, String>> iterator = map.scan("key2", true, "key4", true); iterator.hasNext();) {
+            final Map.Entry<String, String> entry = iterator.next();
+
+            map.put("key3a", "value3a");
+
+            this.visited.increment();
+
+            if (this.logger.isInfoEnabled()) {
+                this.logKey.accept(entry.getKey());
+            }
+        }
+
+        built.accept(map);
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Iterates a bounded map of three entries while the
+    /// eviction triggered by adding a fourth and fifth runs.
+    /// The evicted entry is skipped instead of failing fast.
+    ///
+    /// @param  built   java.util.function.Consumer<java.lang.Object>
+    private void boundedScan(final Consumer<Object> built) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        final List<Runnable> evictions = new ArrayList<>();
+        final BoundedMap<String, String> map = new BoundedMap<>(3, (_, _) -> 1, evictions::add);
+
+        map.put("key1", "value1");
+        map.put("key2", "value2");
+        map.put("key3", "value3");
+        map.get("key1");
+        map.put("key4", "value4");
+        map.put("key5", "value5");
+
+        for (final String key : map.keySet()) {
+            evictions.forEach(Runnable::run);   // Evicts 2 and 3
+            evictions.clear();
+
+            this.visited.increment();
+
+            if (this.logger.isInfoEnabled()) {
+                this.logKey.accept(key);
+            }
+        }
+
+        if (this.logger.isInfoEnabled()) {
+            this.logger.info("Bounded map stats: {}; hit rate: {}", map.stats(), map.stats().hitRate());
+        }
+
+        built.accept(map);
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Runs the fail fast iterations against a map sharded
+    /// across two owner threads and gathers the number of
+    /// entries in each shard.
+    ///
+    /// @param  built   java.util.function.Consumer<java.lang.Object>
+    private void shardedScan(final Consumer<Object> built) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        try (final ShardedMap<String, String> map = new ShardedMap<>(2)) {
+            this.runWith(map, built);
+
+            if (this.logger.isInfoEnabled()) {
+                this.logger.info("Entries per shard: {}", map.scatterGather(Map::size));
+            }
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Runs the fail fast iterations against an observable map
+    /// whose subscriber keeps a derived index of the keys by
+    /// value from the published changes instead of rescanning.
+    ///
+    /// @param  built   java.util.function.Consumer<java.lang.Object>
+    private void observedRun(final Consumer<Object> built) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        final ObservableMap<String, String> map = new ObservableMap<>();
+        final Map<String, String> keysByValue = new TreeMap<>();
+
+        map.publisher().subscribe(batch -> {
+            for (final ChangeEvent<String, String> event : batch) {
+                if (this.logger.isInfoEnabled()) {
+                    this.logger.info("Change {} of {} at version {}", event.type(), event.key(), event.version());
+                }
+
+                if (event.oldValue() != null) {
+                    keysByValue.remove(event.oldValue());
+                }
+
+                if (event.newValue() != null) {
+                    keysByValue.put(event.newValue(), event.key());
+                }
+            }
+        });
+
+        this.runWith(map, built);
+
+        map.publisher().flush();
+
+        if (this.logger.isInfoEnabled()) {
+            this.logger.info("Keys by value: {}", keysByValue);
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Runs the fail fast iterations against an indexed map and
+    /// finds keys by value through its indexes instead of a scan.
+    /// The removals and additions made during the iterations are
+    /// reflected in the indexes whether or not the iteration failed.
+    ///
+    /// @param  built   java.util.function.Consumer<java.lang.Object>
+    private void indexedRun(final Consumer<Object> built) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        final IndexedMap<String, String> map = new IndexedMap<>();
+        final SecondaryIndex<String, String, String> byValue = map.addIndex("value", value -> value, true);
+        final SecondaryIndex<String, String, Character> byDigit = map.addIndex("digit", value -> value.charAt(value.length() - 1), false);
+
+        this.runWith(map, built);
+
+        if (this.logger.isInfoEnabled()) {
+            this.logger.info("Key of value3: {}; key of value2: {}", byValue.key("value3"), byValue.key("value2"));
+            this.logger.info("Keys of digit 6: {}", byDigit.keys('6'));
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Iterates a concurrent hash map wrapped by a staleness
+    /// tracker while a writer on another thread adds and removes
+    /// keys, so the tracker records the keys each weakly consistent
+    /// iteration missed or saw twice relative to its version log.
+    ///
+    /// @param  built   java.util.function.Consumer<java.lang.Object>
+    private void trackedRun(final Consumer<Object> built) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        final StalenessTracker<String> tracker = new StalenessTracker<>();
+        final TrackedMap<String, String> map = tracker.track(new ConcurrentHashMap<>());
+
+        IntStream.range(0, TRACKED_SIZE).forEach(i -> map.put("key" + i, "value" + i));
+
+        final int writes;
+
+        try (final ConcurrentWriter writer = ConcurrentWriter.start("map-writer", i -> {
+            map.put("churn" + i, "value" + i);
+            map.remove("churn" + (i - CHURN));
+        })) {
+            for (int pass = 0; pass < TRACKED_PASSES; pass++) {
+                for (final String _ : map.keySet()) {
+                    this.visited.increment();
+                }
+            }
+
+            writes = writer.writes();
+        }
+
+        if (this.logger.isInfoEnabled()) {
+            this.logger.info("Tracked {} iterations against {} writes; miss rate {}, seen twice {}", tracker.iterations(), writes, tracker.missRate(), tracker.seenTwice());
+            this.logger.info("Last iteration: {}", tracker.lastReport());
+        }
+
+        built.accept(map);
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Runs the fail fast iterations against a spillable map
+    /// whose hot segment holds two keys, so the entries are
+    /// spilled as sorted runs and the iterators merge the
+    /// runs and the hot segment.
+    ///
+    /// @param  built   java.util.function.Consumer<java.lang.Object>
+    private void spillScan(final Consumer<Object> built) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        try (final SpillableMap<String, String> map = new SpillableMap<>(Comparator.naturalOrder(), SpillCodec.strings(), SpillCodec.strings(), 2, 2, null)) {
+            this.runWith(map, built);
+
+            if (this.logger.isInfoEnabled()) {
+                this.logger.info("Spilled runs: {}; bytes: {}; hot: {}", map.runs(), map.spilledBytes(), map.hotSize());
+            }
+        }
+
         if (this.logger.isTraceEnabled()) {
             this.logger.trace(exit());
         }
@@ -112,6 +630,8 @@ public class MapService implements ServiceRunner {
         }
 
         for (final String key : map.keySet()) {
+            this.visited.increment();
+
             if (this.logger.isInfoEnabled()) {
                 this.logKey.accept(key);
             }
@@ -152,6 +672,8 @@ public class MapService implements ServiceRunner {
         for (final Iterator<Map.Entry<String, String>> iterator = map.entrySet().iterator(); iterator.hasNext();) {
             final Map.Entry<String, String> entry = iterator.next();
 
+            this.visited.increment();
+
             if (this.logger.isInfoEnabled()) {
                 this.logKey.accept(entry.getKey());
             }
@@ -0,0 +1,630 @@
+package net.jmp.spring.boot.failfast.services;
+
+/*
+ * (#)QueueService.java 0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedTransferQueue;
+
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import net.jmp.spring.boot.failfast.collections.MpmcRingBuffer;
+
+import net.jmp.spring.boot.failfast.functions.Functions;
+
+import net.jmp.spring.boot.failfast.staleness.ConcurrentWriter;
+import net.jmp.spring.boot.failfast.staleness.StalenessTracker;
+import net.jmp.spring.boot.failfast.staleness.TrackedQueue;
+
+import net.jmp.spring.boot.failfast.stats.Counter;
+import net.jmp.spring.boot.failfast.stats.StatsRegistry;
+
+import static net.jmp.util.logging.LoggerUtils.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.stereotype.Service;
+
+/// The queue service class.
+///
+/// @version    0.1.0
+/// @since      0.1.0
+@Service
+public class QueueService implements ServiceRunner {
+    /// The logger.
+    private final Logger logger = LoggerFactory.getLogger(this.getClass().getName());
+
+    /// The error message when an item is removed from the queue.
+    private static final String REMOVING_FROM_QUEUE = "A ConcurrentModificationException occurred removing an item from the queue";
+
+    /// The error message when an item is added to the queue.
+    private static final String ADDING_TO_QUEUE = "A ConcurrentModificationException occurred adding an item to the queue";
+
+    /// The number of messages in a workload.
+    private static final int MESSAGES = 20_000;
+
+    /// The capacity of the bounded queues in a workload.
+    private static final int CAPACITY = 1 << 10;
+
+    /// The numbers of producers and of consumers in a workload.
+    private static final int[] THREADS = {1, 2, 4, 8, 16};
+
+    /// The number of messages per latency sample.
+    private static final int SAMPLE = 8;
+
+    /// The message that stops a consumer.
+    private static final Message POISON = new Message(-1L);
+
+    /// The number of elements of a tracked run.
+    private static final int TRACKED_SIZE = 1_000;
+
+    /// The number of iterations of a tracked run.
+    private static final int TRACKED_PASSES = 10;
+
+    /// The consumer function for logging a value.
+    private final Consumer<String> logValue = Functions.logString(this.logger, "value: {}");
+
+    /// The consumer function for logging and counting an error.
+    private final Consumer<String> logError;
+
+    /// The number of elements visited while iterating.
+    private final Counter visited;
+
+    /// The statistics registry.
+    private final StatsRegistry stats;
+
+    /// The constructor.
+    ///
+    /// @param  stats   net.jmp.spring.boot.failfast.stats.StatsRegistry
+    public QueueService(final StatsRegistry stats) {
+        super();
+
+        this.stats = stats;
+        this.visited = stats.counter("QueueService.visited");
+        this.logError = Functions.logError(this.logger, stats.counter("QueueService.cmes"));
+    }
+
+    /// Runs the service.
+    @Override
+    public void runService() {
+        this.runService(_ -> { });
+    }
+
+    /// Runs the queues and the single-threaded workload without the
+    /// tracked run or the producer and consumer workloads.
+    @Override
+    public void runLight() {
+        this.runLight(_ -> { });
+    }
+
+    /// Runs the service and returns the collections it built.
+    ///
+    /// @return java.util.List<java.lang.Object>
+    @Override
+    public List<Object> runCollecting() {
+        final List<Object> built = new ArrayList<>();
+
+        this.runService(built::add);
+
+        return built;
+    }
+
+    /// Runs the service, passing each collection it builds
+    /// to the consumer.
+    ///
+    /// @param  built   java.util.function.Consumer<java.lang.Object>
+    private void runService(final Consumer<Object> built) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        this.runLight(built);
+        this.trackedRun(built);
+        this.workload("ConcurrentLinkedQueue", ConcurrentLinkedQueue::new, built);
+        this.workload("ArrayBlockingQueue", () -> new ArrayBlockingQueue<>(CAPACITY), built);
+        this.workload("LinkedTransferQueue", LinkedTransferQueue::new, built);
+        this.workload("MpmcRingBuffer", () -> new MpmcRingBuffer<>(CAPACITY), built);
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Runs the lighter part of the service, passing each
+    /// collection it builds to the consumer.
+    ///
+    /// @param  built   java.util.function.Consumer<java.lang.Object>
+    private void runLight(final Consumer<Object> built) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        this.runWith(new ArrayDeque<>(), built);
+        this.runWith(new ConcurrentLinkedQueue<>(), built);
+        this.runWith(new ArrayBlockingQueue<>(16), built);
+        this.runWith(new LinkedTransferQueue<>(), built);
+        this.singleThreadedWorkload(built);
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Runs the fail fast iterations against the given queue.
+    /// The iterators of the concurrent queues are weakly
+    /// consistent and do not fail fast. The ring buffer
+    /// cannot remove an element from the middle of the
+    /// queue, so it is only measured.
+    ///
+    /// @param  queue   java.util.Queue<java.lang.String>
+    /// @param  built   java.util.function.Consumer<java.lang.Object>
+    private void runWith(final Queue<String> queue, final Consumer<Object> built) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(queue));
+        }
+
+        if (this.logger.isInfoEnabled()) {
+            this.logger.info("Using {}", queue.getClass().getSimpleName());
+        }
+
+        queue.offer("value1");
+        queue.offer("value2");
+        queue.offer("value3");
+        queue.offer("value4");
+        queue.offer("value5");
+
+        this.failFastForEach(queue);    // Removes 3 and adds 6
+        this.failFastIterator(queue);   // Removes 2 and adds 3
+
+        // Log the final contents of the queue; 1, 4, 5, 6, 3
+
+        for (final String value : queue) {
+            this.visited.increment();
+
+            if (this.logger.isInfoEnabled()) {
+                this.logValue.accept(value);
+            }
+        }
+
+        this.stats.gauge("QueueService.size." + queue.getClass().getSimpleName()).set(queue.size());
+
+        built.accept(queue);
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Iterates a concurrent linked queue wrapped by a staleness
+    /// tracker while a writer on another thread offers to its tail
+    /// and polls its head, so the tracker records the elements each
+    /// weakly consistent iteration missed or saw twice.
+    ///
+    /// @param  built   java.util.function.Consumer<java.lang.Object>
+    private void trackedRun(final Consumer<Object> built) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        final StalenessTracker<String> tracker = new StalenessTracker<>();
+        final TrackedQueue<String> queue = tracker.track(new ConcurrentLinkedQueue<>());
+
+        for (int i = 0; i < TRACKED_SIZE; i++) {
+            queue.offer("value" + i);
+        }
+
+        final int writes;
+
+        try (final ConcurrentWriter writer = ConcurrentWriter.start("queue-writer", i -> {
+            queue.offer("churn" + i);
+            queue.poll();
+        })) {
+            for (int pass = 0; pass < TRACKED_PASSES; pass++) {
+                for (final String _ : queue) {
+                    this.visited.increment();
+                }
+            }
+
+            writes = writer.writes();
+        }
+
+        if (this.logger.isInfoEnabled()) {
+            this.logger.info("Tracked {} iterations against {} writes; miss rate {}, seen twice {}", tracker.iterations(), writes, tracker.missRate(), tracker.seenTwice());
+            this.logger.info("Last iteration: {}", tracker.lastReport());
+        }
+
+        built.accept(queue);
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Measures a single thread that offers a queue full
+    /// of messages and then polls them, as the array deque
+    /// is not safe for concurrent use.
+    ///
+    /// @param  built   java.util.function.Consumer<java.lang.Object>
+    private void singleThreadedWorkload(final Consumer<Object> built) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        final Queue<Message> queue = new ArrayDeque<>(CAPACITY);
+        final Samples samples = new Samples();
+        final long start = System.nanoTime();
+
+        for (int sent = 0; sent < MESSAGES; sent += CAPACITY) {
+            final int batch = Math.min(CAPACITY, MESSAGES - sent);
+
+            for (int i = 0; i < batch; i++) {
+                queue.offer(new Message(System.nanoTime()));
+            }
+
+            for (int i = 0; i < batch; i++) {
+                final Message message = queue.poll();
+
+                if (i % SAMPLE == 0) {
+                    samples.add(System.nanoTime() - message.sent());
+                }
+            }
+        }
+
+        this.report("ArrayDeque", 1, 1, System.nanoTime() - start, samples);
+
+        built.accept(queue);
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Measures the throughput and latency of the queue
+    /// for each number of producers and consumers.
+    ///
+    /// @param  name    java.lang.String
+    /// @param  factory java.util.function.Supplier<java.util.Queue<net.jmp.spring.boot.failfast.services.QueueService.Message>>
+    /// @param  built   java.util.function.Consumer<java.lang.Object>
+    private void workload(final String name, final Supplier<Queue<Message>> factory, final Consumer<Object> built) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(name, factory));
+        }
+
+        for (final int threads : THREADS) {
+            final Queue<Message> queue = factory.get();
+
+            built.accept(queue);
+
+            if (!this.workload(name, queue, threads, threads)) {
+                break;
+            }
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Runs producers that offer stamped messages and consumers
+    /// that poll them, yielding while the queue is full or empty.
+    /// Once the producers finish, one poison message per consumer
+    /// stops the consumers. Returns false if interrupted.
+    ///
+    /// @param  name        java.lang.String
+    /// @param  queue       java.util.Queue<net.jmp.spring.boot.failfast.services.QueueService.Message>
+    /// @param  producers   int
+    /// @param  consumers   int
+    /// @return             boolean
+    private boolean workload(final String name, final Queue<Message> queue, final int producers, final int consumers) {
+        final CountDownLatch start = new CountDownLatch(1);
+        final Thread[] producerThreads = new Thread[producers];
+        final Thread[] consumerThreads = new Thread[consumers];
+        final Samples[] samples = new Samples[consumers];
+
+        for (int p = 0; p < producers; p++) {
+            final int count = MESSAGES / producers + (p < MESSAGES % producers ? 1 : 0);
+
+            producerThreads[p] = Thread.ofPlatform().name("producer-" + p).start(() -> {
+                await(start);
+
+                for (int i = 0; i < count && offer(queue, new Message(System.nanoTime())); i++) {
+                    // Offered
+                }
+            });
+        }
+
+        for (int c = 0; c < consumers; c++) {
+            final Samples consumed = samples[c] = new Samples();
+
+            consumerThreads[c] = Thread.ofPlatform().name("consumer-" + c).start(() -> {
+                await(start);
+
+                for (int count = 0;;) {
+                    final Message message = queue.poll();
+
+                    if (message == null) {
+                        if (Thread.currentThread().isInterrupted()) {
+                            break;
+                        }
+
+                        Thread.yield();
+                    } else if (message == POISON) {
+                        break;
+                    } else if (count++ % SAMPLE == 0) {
+                        consumed.add(System.nanoTime() - message.sent());
+                    }
+                }
+            });
+        }
+
+        final long begin = System.nanoTime();
+
+        start.countDown();
+
+        try {
+            for (final Thread producer : producerThreads) {
+                producer.join();
+            }
+
+            for (int c = 0; c < consumers; c++) {
+                offer(queue, POISON);
+            }
+
+            for (final Thread consumer : consumerThreads) {
+                consumer.join();
+            }
+        } catch (final InterruptedException _) {
+            Thread.currentThread().interrupt();
+
+            for (final Thread thread : producerThreads) {
+                thread.interrupt();
+            }
+
+            for (final Thread thread : consumerThreads) {
+                thread.interrupt();
+            }
+
+            return false;
+        }
+
+        final Samples merged = new Samples();
+
+        for (final Samples consumed : samples) {
+            merged.addAll(consumed);
+        }
+
+        this.report(name, producers, consumers, System.nanoTime() - begin, merged);
+
+        return true;
+    }
+
+    /// Logs the throughput and the latency percentiles of a workload.
+    ///
+    /// @param  name        java.lang.String
+    /// @param  producers   int
+    /// @param  consumers   int
+    /// @param  elapsed     long
+    /// @param  samples     net.jmp.spring.boot.failfast.services.QueueService.Samples
+    private void report(final String name, final int producers, final int consumers, final long elapsed, final Samples samples) {
+        if (this.logger.isInfoEnabled()) {
+            this.logger.info("{} with {} producers and {} consumers: {} messages/s, latency p50 {} ns, p99 {} ns",
+                    name,
+                    producers,
+                    consumers,
+                    MESSAGES * 1_000_000_000L / Math.max(1L, elapsed),
+                    samples.percentile(50),
+                    samples.percentile(99));
+        }
+    }
+
+    /// Runs the fail fast for iteration
+    /// using the enhanced for or for-each loop.
+    /// Note that this queue contains elements 1 through 5.
+    ///
+    /// @param  queue   java.util.Queue<java.lang.String>
+    private void failFastForEach(final Queue<String> queue) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(queue));
+        }
+
+        for (final String value : queue) {
+            this.visited.increment();
+
+            if (this.logger.isInfoEnabled()) {
+                this.logValue.accept(value);
+            }
+        }
+
+        try {
+            for (final String _ : queue) {
+                queue.remove("value3"); // This succeeds
+            }
+        } catch (final ConcurrentModificationException _) {
+            this.logError.accept(REMOVING_FROM_QUEUE);
+        }
+
+        try {
+            for (final String _ : queue) {
+                if (!queue.contains("value6")) {
+                    queue.offer("value6");  // This succeeds
+                }
+            }
+        } catch (final ConcurrentModificationException _) {
+            this.logError.accept(ADDING_TO_QUEUE);
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Runs the fail fast for iteration
+    /// using the iterator object.
+    /// Note that this queue contains elements 1, 2, 4, 5, 6.
+    /// Element 3 was removed by the for-each loop.
+    ///
+    /// @param  queue   java.util.Queue<java.lang.String>
+    private void failFastIterator(final Queue<String> queue) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(queue));
+        }
+
+        for (final Iterator<String> iterator = queue.iterator(); iterator.hasNext();) {
+            final String value = iterator.next();
+
+            this.visited.increment();
+
+            if (this.logger.isInfoEnabled()) {
+                this.logValue.accept(value);
+            }
+        }
+
+        try {
+            for (final Iterator<String> iterator = queue.iterator(); iterator.hasNext();) {
+                final String _ = iterator.next();
+
+                queue.remove("value2"); // This succeeds
+            }
+        } catch (final ConcurrentModificationException _) {
+            this.logError.accept(REMOVING_FROM_QUEUE);
+        }
+
+        try {
+            for (final Iterator<String> iterator = queue.iterator(); iterator.hasNext();) {
+                final String _ = iterator.next();
+
+                if (!queue.contains("value3")) {
+                    queue.offer("value3");  // This succeeds
+                }
+            }
+        } catch (final ConcurrentModificationException _) {
+            this.logError.accept(ADDING_TO_QUEUE);
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Offers the message, yielding while the queue is
+    /// full; returns false if the thread is interrupted.
+    ///
+    /// @param  queue   java.util.Queue<net.jmp.spring.boot.failfast.services.QueueService.Message>
+    /// @param  message net.jmp.spring.boot.failfast.services.QueueService.Message
+    /// @return         boolean
+    private static boolean offer(final Queue<Message> queue, final Message message) {
+        while (!queue.offer(message)) {
+            if (Thread.currentThread().isInterrupted()) {
+                return false;
+            }
+
+            Thread.yield();
+        }
+
+        return true;
+    }
+
+    /// Waits for the latch.
+    ///
+    /// @param  latch   java.util.concurrent.CountDownLatch
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (final InterruptedException _) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /// A message stamped with the time it was sent.
+    ///
+    /// @param  sent    long
+    private record Message(long sent) {
+    }
+
+    /// The latency samples of one consumer.
+    private static final class Samples {
+        /// The samples.
+        private long[] values = new long[64];
+
+        /// The number of samples.
+        private int size;
+
+        /// The default constructor.
+        Samples() {
+            super();
+        }
+
+        /// Adds a sample.
+        ///
+        /// @param  value   long
+        void add(final long value) {
+            if (this.size == this.values.length) {
+                this.values = Arrays.copyOf(this.values, this.size * 2);
+            }
+
+            this.values[this.size++] = value;
+        }
+
+        /// Adds the samples of another consumer.
+        ///
+        /// @param  other   net.jmp.spring.boot.failfast.services.QueueService.Samples
+        void addAll(final Samples other) {
+            for (int i = 0; i < other.size; i++) {
+                this.add(other.values[i]);
+            }
+        }
+
+        /// Returns the percentile or zero if there are no samples.
+        ///
+        /// @param  percentile  int
+        /// @return             long
+        long percentile(final int percentile) {
+            if (this.size == 0) {
+                return 0L;
+            }
+
+            final long[] sorted = Arrays.copyOf(this.values, this.size);
+
+            Arrays.sort(sorted);
+
+            return sorted[Math.min(this.size - 1, (int) ((long) this.size * percentile / 100))];
+        }
+    }
+}
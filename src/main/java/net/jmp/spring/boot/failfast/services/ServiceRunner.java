@@ -28,6 +28,8 @@ package net.jmp.spring.boot.failfast.services;
  * SOFTWARE.
  */
 
+import java.util.List;
+
 /// The service runner interface.
 ///
 /// @version    0.1.0
@@ -35,4 +37,18 @@ package net.jmp.spring.boot.failfast.services;
 public interface ServiceRunner {
     /// Runs the service.
     void runService();
+
+    /// Runs the lighter part of the service, leaving out the
+    /// workloads that start threads, write spill files or ingest,
+    /// so that it can be repeated for hours on end.
+    void runLight();
+
+    /// Runs the service and returns every collection it built,
+    /// which are otherwise garbage once the run returns, so that
+    /// what they retain can be measured. The spillable collections
+    /// are closed by then, so only what they keep on the heap is
+    /// counted, and the queues of the workloads have been drained.
+    ///
+    /// @return java.util.List<java.lang.Object>
+    List<Object> runCollecting();
 }
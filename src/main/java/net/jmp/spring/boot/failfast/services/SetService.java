@@ -28,15 +28,53 @@ package net.jmp.spring.boot.failfast.services;
  * SOFTWARE.
  */
 
+import java.io.IOException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.ConcurrentModificationException;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
+import java.util.TreeSet;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 
 import java.util.function.Consumer;
 
+import java.util.stream.IntStream;
+
+import net.jmp.spring.boot.failfast.arena.ArenaStringSet;
+
+import net.jmp.spring.boot.failfast.collections.BloomFilteredSet;
+import net.jmp.spring.boot.failfast.collections.BulkLoader;
+import net.jmp.spring.boot.failfast.collections.LockFreeBPlusTreeMap;
+import net.jmp.spring.boot.failfast.collections.LockFreeHashSet;
+
+import net.jmp.spring.boot.failfast.cursors.CursorPosition;
+import net.jmp.spring.boot.failfast.cursors.ResumableCursor;
+import net.jmp.spring.boot.failfast.cursors.VersionedHashSet;
+
 import net.jmp.spring.boot.failfast.functions.Functions;
 
+import net.jmp.spring.boot.failfast.ingest.FileIngest;
+
+import net.jmp.spring.boot.failfast.spill.SpillCodec;
+import net.jmp.spring.boot.failfast.spill.SpillableSet;
+
+import net.jmp.spring.boot.failfast.staleness.ConcurrentWriter;
+import net.jmp.spring.boot.failfast.staleness.StalenessTracker;
+import net.jmp.spring.boot.failfast.staleness.TrackedSet;
+
+import net.jmp.spring.boot.failfast.stats.Counter;
+import net.jmp.spring.boot.failfast.stats.StatsRegistry;
+
 import static net.jmp.util.logging.LoggerUtils.*;
 
 import org.slf4j.Logger;
@@ -60,25 +98,124 @@ public class SetService implements ServiceRunner {
     /// The error message when an item is added to the list.
     private static final String ADDING_TO_SET = "A ConcurrentModificationException occurred adding an item to the set";
 
+    /// The number of elements scanned per time slice.
+    private static final int SLICE = 2;
+
+    /// The number of elements of a tracked run.
+    private static final int TRACKED_SIZE = 1_000;
+
+    /// The number of iterations of a tracked run.
+    private static final int TRACKED_PASSES = 10;
+
+    /// The number of elements the writer of a tracked run keeps added.
+    private static final int CHURN = 64;
+
     /// The consumer function for logging a value.
     private final Consumer<String> logValue = Functions.logString(this.logger, "value: {}");
 
-    /// The consumer function for logging an error.
-    private final Consumer<String> logError = Functions.logError(this.logger);
+    /// The consumer function for logging and counting an error.
+    private final Consumer<String> logError;
+
+    /// The number of elements visited while iterating.
+    private final Counter visited;
 
-    /// The default constructor.
-    public SetService() {
+    /// The statistics registry.
+    private final StatsRegistry stats;
+
+    /// The constructor.
+    ///
+    /// @param  stats   net.jmp.spring.boot.failfast.stats.StatsRegistry
+    public SetService(final StatsRegistry stats) {
         super();
+
+        this.stats = stats;
+        this.visited = stats.counter("SetService.visited");
+        this.logError = Functions.logError(this.logger, stats.counter("SetService.cmes"));
     }
 
     /// Runs the service.
     @Override
     public void runService() {
+        this.runService(_ -> { });
+    }
+
+    /// Runs the sets without the ingest, the spill scan and the
+    /// tracked run.
+    @Override
+    public void runLight() {
+        this.runLight(_ -> { });
+    }
+
+    /// Runs the service and returns the collections it built.
+    ///
+    /// @return java.util.List<java.lang.Object>
+    @Override
+    public List<Object> runCollecting() {
+        final List<Object> built = new ArrayList<>();
+
+        this.runService(built::add);
+
+        return built;
+    }
+
+    /// Runs the service, passing each collection it builds
+    /// to the consumer.
+    ///
+    /// @param  built   java.util.function.Consumer<java.lang.Object>
+    private void runService(final Consumer<Object> built) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        this.runLight(built);
+        this.ingest(built);
+        this.spillScan(built);
+        this.trackedRun(built);
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Runs the lighter part of the service, passing each
+    /// collection it builds to the consumer.
+    ///
+    /// @param  built   java.util.function.Consumer<java.lang.Object>
+    private void runLight(final Consumer<Object> built) {
         if (this.logger.isTraceEnabled()) {
             this.logger.trace(entry());
         }
 
-        final Set<String> set = new HashSet<>();
+        this.runWith(new HashSet<>(), built);
+        this.runWith(new ArenaStringSet(), built);
+        this.runWith(new BloomFilteredSet<>(), built);
+        this.runWith(new LockFreeHashSet<>(), built);
+        this.runWith(new TreeSet<>(), built);
+        this.runWith(new ConcurrentSkipListSet<>(), built);
+        this.runWith(Collections.newSetFromMap(new LockFreeBPlusTreeMap<>()), built);
+        this.bulkLoad(built);
+        this.resumableScan(built);
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Runs the fail fast iterations against the given set.
+    /// The iterators of the concurrent skip list set, of the
+    /// lock-free hash set and of a set backed by a lock-free
+    /// B+ tree map do not fail fast.
+    ///
+    /// @param  set     java.util.Set<java.lang.String>
+    /// @param  built   java.util.function.Consumer<java.lang.Object>
+    private void runWith(final Set<String> set, final Consumer<Object> built) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(set));
+        }
+
+        if (this.logger.isInfoEnabled()) {
+            this.logger.info("Using {}", set.getClass().getSimpleName());
+        }
 
         set.add("value1");
         set.add("value2");
@@ -92,11 +229,218 @@ public class SetService implements ServiceRunner {
         // Log the final contents of the set; 1, 3, 4, 5, 6
 
         for (final String value : set) {
+            this.visited.increment();
+
+            if (this.logger.isInfoEnabled()) {
+                this.logValue.accept(value);
+            }
+        }
+
+        this.stats.gauge("SetService.size." + set.getClass().getSimpleName()).set(set.size());
+
+        built.accept(set);
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Loads a set of five values in one pass with the
+    /// bulk loader, which sizes the set up front,
+    /// and runs the fail fast iterations against it.
+    ///
+    /// @param  built   java.util.function.Consumer<java.lang.Object>
+    private void bulkLoad(final Consumer<Object> built) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        final Set<String> set = new BulkLoader().toSet(IntStream.rangeClosed(1, 5).iterator(), 5, i -> "value" + i);
+
+        if (this.logger.isInfoEnabled()) {
+            this.logger.info("Bulk loaded {} values into {}", set.size(), set.getClass().getSimpleName());
+        }
+
+        this.failFastForEach(set);
+        this.failFastIterator(set);
+
+        for (final String value : set) {
+            this.visited.increment();
+
             if (this.logger.isInfoEnabled()) {
                 this.logValue.accept(value);
             }
         }
 
+        built.accept(set);
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Writes five values to a temporary file and ingests it
+    /// into an arena string set, whose strings are stored from
+    /// the bytes of the file, and runs the fail fast iterations.
+    ///
+    /// @param  built   java.util.function.Consumer<java.lang.Object>
+    private void ingest(final Consumer<Object> built) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        try {
+            final Path file = Files.createTempFile("values", ".txt");
+
+            try {
+                Files.write(file, List.of("value1", "value2", "value3", "value4", "value5"));
+
+                final ArenaStringSet set = new ArenaStringSet();
+                final long lines = new FileIngest().ingest(file, set::addUtf8);
+
+                if (this.logger.isInfoEnabled()) {
+                    this.logger.info("Ingested {} lines into {}", lines, set.getClass().getSimpleName());
+                }
+
+                this.failFastForEach(set);
+                this.failFastIterator(set);
+
+                for (final String value : set) {
+                    this.visited.increment();
+
+                    if (this.logger.isInfoEnabled()) {
+                        this.logValue.accept(value);
+                    }
+                }
+
+                built.accept(set);
+            } finally {
+                Files.delete(file);
+            }
+        } catch (final IOException ioe) {
+            if (this.logger.isErrorEnabled()) {
+                this.logger.error("Unable to ingest the values", ioe);
+            }
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Scans a versioned set in time slices with a resumable
+    /// cursor. Adding an element between two slices invalidates
+    /// the cursor instead of throwing, and the scan resumes from
+    /// the checkpointed position.
+    ///
+    /// @param  built   java.util.function.Consumer<java.lang.Object>
+    private void resumableScan(final Consumer<Object> built) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        final VersionedHashSet<String> set = new VersionedHashSet<>();
+
+        set.add("value1");
+        set.add("value2");
+        set.add("value3");
+        set.add("value4");
+        set.add("value5");
+
+        final Consumer<String> logValue = value -> {
+            this.visited.increment();
+            this.logValue.accept(value);
+        };
+
+        ResumableCursor<String> cursor = set.cursor();
+
+        cursor.advance(SLICE, logValue);
+
+        final CursorPosition position = cursor.checkpoint();
+
+        set.add("value6");
+
+        if (cursor.isInvalidated() && this.logger.isInfoEnabled()) {
+            this.logger.info("The cursor was invalidated; resuming from {}", position);
+        }
+
+        cursor = set.cursor(position);
+
+        while (cursor.advance(SLICE, logValue) == SLICE) {
+            if (this.logger.isDebugEnabled()) {
+                this.logger.debug("Checkpoint: {}", cursor.checkpoint());
+            }
+        }
+
+        built.accept(set);
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Runs the fail fast iterations against a spillable set
+    /// whose hot segment holds two elements, so the elements
+    /// are spilled as sorted runs and the iterators merge the
+    /// runs and the hot segment.
+    ///
+    /// @param  built   java.util.function.Consumer<java.lang.Object>
+    private void spillScan(final Consumer<Object> built) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        try (final SpillableSet<String> set = new SpillableSet<>(Comparator.naturalOrder(), SpillCodec.strings(), 2, 2, null)) {
+            this.runWith(set, built);
+
+            if (this.logger.isInfoEnabled()) {
+                this.logger.info("Spilled runs: {}; bytes: {}", set.runs(), set.spilledBytes());
+            }
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Iterates a concurrent hash set wrapped by a staleness
+    /// tracker while a writer on another thread adds and removes
+    /// elements, so the tracker records the elements each weakly
+    /// consistent iteration missed or saw twice.
+    ///
+    /// @param  built   java.util.function.Consumer<java.lang.Object>
+    private void trackedRun(final Consumer<Object> built) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        final StalenessTracker<String> tracker = new StalenessTracker<>();
+        final TrackedSet<String> set = tracker.track(ConcurrentHashMap.newKeySet());
+
+        IntStream.range(0, TRACKED_SIZE).forEach(i -> set.add("value" + i));
+
+        final int writes;
+
+        try (final ConcurrentWriter writer = ConcurrentWriter.start("set-writer", i -> {
+            set.add("churn" + i);
+            set.remove("churn" + (i - CHURN));
+        })) {
+            for (int pass = 0; pass < TRACKED_PASSES; pass++) {
+                for (final String _ : set) {
+                    this.visited.increment();
+                }
+            }
+
+            writes = writer.writes();
+        }
+
+        if (this.logger.isInfoEnabled()) {
+            this.logger.info("Tracked {} iterations against {} writes; miss rate {}, seen twice {}", tracker.iterations(), writes, tracker.missRate(), tracker.seenTwice());
+            this.logger.info("Last iteration: {}", tracker.lastReport());
+        }
+
+        built.accept(set);
+
         if (this.logger.isTraceEnabled()) {
             this.logger.trace(exit());
         }
@@ -113,6 +457,8 @@ public class SetService implements ServiceRunner {
         }
 
         for (final String value : set) {
+            this.visited.increment();
+
             if (this.logger.isInfoEnabled()) {
                 this.logValue.accept(value);
             }
@@ -153,6 +499,8 @@ public class SetService implements ServiceRunner {
         for (final Iterator<String> iterator = set.iterator(); iterator.hasNext();) {
             final String value = iterator.next();
 
+            this.visited.increment();
+
             if (this.logger.isInfoEnabled()) {
                 this.logValue.accept(value);
             }
@@ -0,0 +1,99 @@
+package net.jmp.spring.boot.failfast.spill;
+
+/*
+ * (#)SpillCodec.java   0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import java.nio.charset.StandardCharsets;
+
+/// Writes values to and reads them from the files of a
+/// spillable collection.
+///
+/// @param  <T> The type of value
+/// @version    0.1.0
+/// @since      0.1.0
+public interface SpillCodec<T> {
+    /// Writes the value.
+    ///
+    /// @param  output  java.io.DataOutput
+    /// @param  value   T
+    /// @throws         java.io.IOException When the value cannot be written
+    void write(DataOutput output, T value) throws IOException;
+
+    /// Reads a value.
+    ///
+    /// @param  input   java.io.DataInput
+    /// @return         T
+    /// @throws         java.io.IOException When the value cannot be read
+    T read(DataInput input) throws IOException;
+
+    /// Returns a codec of strings as length prefixed UTF-8,
+    /// which unlike modified UTF-8 has no length limit.
+    ///
+    /// @return net.jmp.spring.boot.failfast.spill.SpillCodec<java.lang.String>
+    static SpillCodec<String> strings() {
+        return new SpillCodec<>() {
+            @Override
+            public void write(final DataOutput output, final String value) throws IOException {
+                final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+
+                output.writeInt(bytes.length);
+                output.write(bytes);
+            }
+
+            @Override
+            public String read(final DataInput input) throws IOException {
+                final byte[] bytes = new byte[input.readInt()];
+
+                input.readFully(bytes);
+
+                return new String(bytes, StandardCharsets.UTF_8);
+            }
+        };
+    }
+
+    /// Returns a codec of integers.
+    ///
+    /// @return net.jmp.spring.boot.failfast.spill.SpillCodec<java.lang.Integer>
+    static SpillCodec<Integer> integers() {
+        return new SpillCodec<>() {
+            @Override
+            public void write(final DataOutput output, final Integer value) throws IOException {
+                output.writeInt(value);
+            }
+
+            @Override
+            public Integer read(final DataInput input) throws IOException {
+                return input.readInt();
+            }
+        };
+    }
+}
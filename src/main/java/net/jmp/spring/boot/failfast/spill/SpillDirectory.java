@@ -0,0 +1,86 @@
+package net.jmp.spring.boot.failfast.spill;
+
+/*
+ * (#)SpillDirectory.java   0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.IOException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/// The directory the files of a spillable collection are
+/// written to. Either it is given, or a temporary directory
+/// is created on the first spill and deleted on close.
+///
+/// @version    0.1.0
+/// @since      0.1.0
+final class SpillDirectory {
+    /// The given directory or null.
+    private final Path given;
+
+    /// The temporary directory or null.
+    private Path temporary;
+
+    /// A constructor that takes the directory or null
+    /// for a temporary directory.
+    ///
+    /// @param  given   java.nio.file.Path
+    SpillDirectory(final Path given) {
+        super();
+
+        this.given = given;
+    }
+
+    /// Returns the directory, creating it if necessary.
+    ///
+    /// @return java.nio.file.Path
+    /// @throws java.io.IOException When the directory cannot be created
+    Path path() throws IOException {
+        if (this.given != null) {
+            return this.given;
+        }
+
+        if (this.temporary == null) {
+            this.temporary = Files.createTempDirectory("spill");
+        }
+
+        return this.temporary;
+    }
+
+    /// Deletes the temporary directory, if one was created.
+    /// The files in it must have been deleted.
+    ///
+    /// @throws java.io.IOException When the directory cannot be deleted
+    void close() throws IOException {
+        if (this.temporary != null) {
+            Files.deleteIfExists(this.temporary);
+
+            this.temporary = null;
+        }
+    }
+}
@@ -0,0 +1,346 @@
+package net.jmp.spring.boot.failfast.spill;
+
+/*
+ * (#)SpillFile.java    0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.*;
+
+import java.lang.ref.Cleaner;
+
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/// An immutable file of values spilled by a spillable
+/// collection. The values are written once, sequentially,
+/// and read back sequentially through one channel and one
+/// buffer that stay open for the life of the reader. A reader
+/// closes its channel when it is exhausted or closed; one that
+/// is abandoned part way is closed by a cleaner once it becomes
+/// unreachable.
+///
+/// While the file is written the offset of every
+/// {@link #BLOCK_SIZE}th value is recorded, so that a reader can
+/// start at any block without reading the values before it.
+///
+/// @param  <T> The type of value
+/// @version    0.1.0
+/// @since      0.1.0
+final class SpillFile<T> {
+    /// The number of values per block.
+    static final int BLOCK_SIZE = 128;
+
+    /// The size of the I/O buffers for sequential reads.
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /// The size of the I/O buffer for block reads, which stop
+    /// within a block or two of where they start.
+    private static final int BLOCK_BUFFER_SIZE = 1 << 13;
+
+    /// The cleaner that closes abandoned readers.
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    /// The path.
+    private final Path path;
+
+    /// The codec.
+    private final SpillCodec<T> codec;
+
+    /// The number of values.
+    private final int count;
+
+    /// The size of the file in bytes.
+    private final long bytes;
+
+    /// The file offset of the first value of each block.
+    private final long[] offsets;
+
+    /// The constructor.
+    ///
+    /// @param  path    java.nio.file.Path
+    /// @param  codec   net.jmp.spring.boot.failfast.spill.SpillCodec<T>
+    /// @param  count   int
+    /// @param  bytes   long
+    /// @param  offsets long[]
+    private SpillFile(final Path path,
+                      final SpillCodec<T> codec,
+                      final int count,
+                      final long bytes,
+                      final long[] offsets) {
+        super();
+
+        this.path = path;
+        this.codec = codec;
+        this.count = count;
+        this.bytes = bytes;
+        this.offsets = offsets;
+    }
+
+    /// Writes the values to a new file in the directory.
+    ///
+    /// @param  <T>         The type of value
+    /// @param  directory   java.nio.file.Path
+    /// @param  codec       net.jmp.spring.boot.failfast.spill.SpillCodec<T>
+    /// @param  values      java.util.Iterator<? extends T>
+    /// @return             net.jmp.spring.boot.failfast.spill.SpillFile<T>
+    /// @throws             java.io.IOException When the file cannot be written
+    static <T> SpillFile<T> write(final Path directory,
+                                  final SpillCodec<T> codec,
+                                  final Iterator<? extends T> values) throws IOException {
+        final Path path = Files.createTempFile(directory, "segment", ".spill");
+
+        long[] offsets = new long[16];
+        int count = 0;
+
+        try (final CountingOutputStream counter = new CountingOutputStream(new BufferedOutputStream(Files.newOutputStream(path), BUFFER_SIZE));
+             final DataOutputStream output = new DataOutputStream(counter)) {
+            while (values.hasNext()) {
+                if (count % BLOCK_SIZE == 0) {
+                    final int block = count / BLOCK_SIZE;
+
+                    if (block == offsets.length) {
+                        offsets = Arrays.copyOf(offsets, block * 2);
+                    }
+
+                    offsets[block] = counter.count();
+                }
+
+                codec.write(output, values.next());
+                count++;
+            }
+        } catch (final IOException | RuntimeException e) {
+            Files.deleteIfExists(path);
+
+            throw e;
+        }
+
+        final int blocks = (count + BLOCK_SIZE - 1) / BLOCK_SIZE;
+
+        return new SpillFile<>(path, codec, count, Files.size(path), Arrays.copyOf(offsets, blocks));
+    }
+
+    /// Returns the number of values.
+    ///
+    /// @return int
+    int count() {
+        return this.count;
+    }
+
+    /// Returns the number of blocks.
+    ///
+    /// @return int
+    int blocks() {
+        return this.offsets.length;
+    }
+
+    /// Returns the size of the file in bytes.
+    ///
+    /// @return long
+    long bytes() {
+        return this.bytes;
+    }
+
+    /// Returns a reader positioned at the first value. The reader
+    /// throws an {@link UncheckedIOException} if the file cannot be
+    /// read.
+    ///
+    /// @return net.jmp.spring.boot.failfast.spill.SpillFile<T>.Reader
+    Reader reader() {
+        return new Reader(0, this.count, BUFFER_SIZE);
+    }
+
+    /// Returns a reader positioned at the first value of the
+    /// block. It is meant for short reads, such as a point
+    /// lookup, and should be closed when the caller stops early.
+    ///
+    /// @param  block   int
+    /// @return         net.jmp.spring.boot.failfast.spill.SpillFile<T>.Reader
+    Reader reader(final int block) {
+        return new Reader(this.offsets[block], this.count - block * BLOCK_SIZE, BLOCK_BUFFER_SIZE);
+    }
+
+    /// Deletes the file.
+    ///
+    /// @throws java.io.IOException When the file cannot be deleted
+    void delete() throws IOException {
+        Files.deleteIfExists(this.path);
+    }
+
+    /// The reader. The channel is opened on the first read.
+    final class Reader implements Iterator<T>, AutoCloseable {
+        /// The file offset of the first value.
+        private final long position;
+
+        /// The size of the buffer.
+        private final int bufferSize;
+
+        /// The number of values not yet read.
+        private int remaining;
+
+        /// The open input, or null before the first read.
+        private Input input;
+
+        /// The cleanable that closes the input.
+        private Cleaner.Cleanable cleanable;
+
+        /// The constructor.
+        ///
+        /// @param  position    long
+        /// @param  remaining   int
+        /// @param  bufferSize  int
+        Reader(final long position, final int remaining, final int bufferSize) {
+            super();
+
+            this.position = position;
+            this.remaining = remaining;
+            this.bufferSize = bufferSize;
+        }
+
+        /// Returns true if there are more values.
+        @Override
+        public boolean hasNext() {
+            return this.remaining > 0;
+        }
+
+        /// Returns the next value.
+        @Override
+        public T next() {
+            if (this.remaining == 0) {
+                throw new NoSuchElementException();
+            }
+
+            try {
+                if (this.input == null) {
+                    this.open();
+                }
+
+                final T value = SpillFile.this.codec.read(this.input.data);
+
+                if (--this.remaining == 0) {
+                    this.close();
+                }
+
+                return value;
+            } catch (final IOException ioe) {
+                this.close();
+
+                throw new UncheckedIOException("Unable to read " + SpillFile.this.path, ioe);
+            }
+        }
+
+        /// Closes the channel. Further calls to
+        /// {@link #hasNext()} return false.
+        @Override
+        public void close() {
+            this.remaining = 0;
+
+            if (this.cleanable != null) {
+                this.cleanable.clean();
+            }
+        }
+
+        /// Opens the channel at the position.
+        ///
+        /// @throws java.io.IOException When the file cannot be opened
+        private void open() throws IOException {
+            final FileChannel channel = FileChannel.open(SpillFile.this.path, StandardOpenOption.READ);
+
+            try {
+                channel.position(this.position);
+            } catch (final IOException ioe) {
+                channel.close();
+
+                throw ioe;
+            }
+
+            this.input = new Input(channel, new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel), this.bufferSize)));
+            this.cleanable = CLEANER.register(this, this.input);
+        }
+    }
+
+    /// The open channel of a reader and the stream over it. It
+    /// holds no reference to the reader, so the cleaner can run
+    /// once the reader is unreachable.
+    ///
+    /// @param  channel java.nio.channels.FileChannel
+    /// @param  data    java.io.DataInputStream
+    private record Input(FileChannel channel, DataInputStream data) implements Runnable {
+        /// Closes the channel.
+        @Override
+        public void run() {
+            try {
+                this.channel.close();
+            } catch (final IOException _) {
+                // Nothing more can be done with a reader that is being discarded
+            }
+        }
+    }
+
+    /// An output stream that counts the bytes written through
+    /// it, which is the file offset of the next value even
+    /// though the buffer below it has not yet written them.
+    private static final class CountingOutputStream extends FilterOutputStream {
+        /// The number of bytes written.
+        private long count;
+
+        /// A constructor that takes the stream to count.
+        ///
+        /// @param  output  java.io.OutputStream
+        CountingOutputStream(final OutputStream output) {
+            super(output);
+        }
+
+        /// Writes a byte.
+        @Override
+        public void write(final int value) throws IOException {
+            this.out.write(value);
+            this.count++;
+        }
+
+        /// Writes from the array.
+        @Override
+        public void write(final byte[] bytes, final int offset, final int length) throws IOException {
+            this.out.write(bytes, offset, length);
+            this.count += length;
+        }
+
+        /// Returns the number of bytes written.
+        ///
+        /// @return long
+        long count() {
+            return this.count;
+        }
+    }
+}
@@ -0,0 +1,415 @@
+package net.jmp.spring.boot.failfast.spill;
+
+/*
+ * (#)SpillableList.java    0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import java.nio.file.Path;
+
+import java.util.*;
+
+/// An insertion ordered collection that keeps its most
+/// recently added elements in a hot in-memory segment and
+/// spills the segment to a file whenever it fills, so that
+/// the heap holds at most one segment whatever the size of
+/// the collection. Iteration reads the spilled segments in
+/// order, sequentially through one buffer each, and then the
+/// hot segment. Spilled elements that are removed are marked
+/// in a bit set, one bit per element, and the spilled segments
+/// are compacted into one when more than half their elements
+/// are marked.
+///
+/// It is the list counterpart of the spillable map and set but
+/// does not implement {@link List}; access by index to a spilled
+/// segment would read the file on every call. The iterators fail
+/// fast. The spill files are deleted by {@link #clear()} and
+/// {@link #close()}, and I/O errors are thrown as an
+/// {@link UncheckedIOException}. Null elements are not permitted.
+/// Not thread-safe.
+///
+/// @param  <E> The type of element
+/// @version    0.1.0
+/// @since      0.1.0
+public final class SpillableList<E> extends AbstractCollection<E> implements AutoCloseable {
+    /// The default number of elements in the hot segment.
+    public static final int DEFAULT_HOT_CAPACITY = 1 << 16;
+
+    /// The codec.
+    private final SpillCodec<E> codec;
+
+    /// The number of elements in the hot segment.
+    private final int hotCapacity;
+
+    /// The spill directory.
+    private final SpillDirectory directory;
+
+    /// The spilled segments, oldest first.
+    private final List<SpillFile<E>> segments = new ArrayList<>();
+
+    /// The spilled positions whose elements were removed.
+    private final BitSet removed = new BitSet();
+
+    /// The hot segment.
+    private final List<E> hot;
+
+    /// The number of spilled elements, including the removed ones.
+    private int spilled;
+
+    /// The number of spilled elements that were removed.
+    private int removedCount;
+
+    /// The number of elements.
+    private int size;
+
+    /// The number of structural modifications.
+    private int modCount;
+
+    /// A constructor that takes the codec.
+    ///
+    /// @param  codec   net.jmp.spring.boot.failfast.spill.SpillCodec<E>
+    public SpillableList(final SpillCodec<E> codec) {
+        this(codec, DEFAULT_HOT_CAPACITY, null);
+    }
+
+    /// A constructor that takes the codec, the number of
+    /// elements in the hot segment and the directory to
+    /// spill to, or null for a temporary directory.
+    ///
+    /// @param  codec       net.jmp.spring.boot.failfast.spill.SpillCodec<E>
+    /// @param  hotCapacity int
+    /// @param  directory   java.nio.file.Path
+    public SpillableList(final SpillCodec<E> codec, final int hotCapacity, final Path directory) {
+        super();
+
+        if (hotCapacity <= 0) {
+            throw new IllegalArgumentException("Hot capacity must be positive: " + hotCapacity);
+        }
+
+        this.codec = Objects.requireNonNull(codec, "codec");
+        this.hotCapacity = hotCapacity;
+        this.directory = new SpillDirectory(directory);
+        this.hot = new ArrayList<>(Math.min(hotCapacity, DEFAULT_HOT_CAPACITY));
+    }
+
+    /// Returns the number of elements.
+    ///
+    /// @return int
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /// Appends the element, spilling the hot segment if it is full.
+    ///
+    /// @param  element E
+    /// @return         boolean
+    @Override
+    public boolean add(final E element) {
+        Objects.requireNonNull(element, "element");
+
+        this.hot.add(element);
+        this.size++;
+        this.modCount++;
+
+        if (this.hot.size() >= this.hotCapacity) {
+            this.spill();
+        }
+
+        return true;
+    }
+
+    /// Returns an iterator over the spilled and then the hot elements.
+    ///
+    /// @return java.util.Iterator<E>
+    @Override
+    public Iterator<E> iterator() {
+        return new SegmentIterator();
+    }
+
+    /// Removes all the elements and deletes the spill files.
+    @Override
+    public void clear() {
+        try {
+            for (final SpillFile<E> segment : this.segments) {
+                segment.delete();
+            }
+        } catch (final IOException ioe) {
+            throw new UncheckedIOException("Unable to delete a spilled segment", ioe);
+        } finally {
+            this.segments.clear();
+            this.removed.clear();
+            this.hot.clear();
+            this.spilled = 0;
+            this.removedCount = 0;
+            this.size = 0;
+            this.modCount++;
+        }
+    }
+
+    /// Removes all the elements and deletes the spill
+    /// files and any temporary directory.
+    @Override
+    public void close() {
+        this.clear();
+
+        try {
+            this.directory.close();
+        } catch (final IOException ioe) {
+            throw new UncheckedIOException("Unable to delete the spill directory", ioe);
+        }
+    }
+
+    /// Returns the number of spilled segments.
+    ///
+    /// @return int
+    public int segments() {
+        return this.segments.size();
+    }
+
+    /// Returns the number of bytes spilled.
+    ///
+    /// @return long
+    public long spilledBytes() {
+        return this.segments.stream().mapToLong(SpillFile::bytes).sum();
+    }
+
+    /// Returns the number of elements in the hot segment.
+    ///
+    /// @return int
+    public int hotSize() {
+        return this.hot.size();
+    }
+
+    /// Writes the hot segment to a file and empties it, then
+    /// compacts the spilled segments if more than half their
+    /// elements were removed.
+    private void spill() {
+        try {
+            this.segments.add(SpillFile.write(this.directory.path(), this.codec, this.hot.iterator()));
+            this.spilled += this.hot.size();
+            this.hot.clear();
+
+            if (2 * this.removedCount > this.spilled) {
+                this.compact();
+            }
+        } catch (final IOException ioe) {
+            throw new UncheckedIOException("Unable to spill the hot segment", ioe);
+        }
+    }
+
+    /// Rewrites the remaining spilled elements as one segment.
+    ///
+    /// @throws java.io.IOException When the segment cannot be written
+    private void compact() throws IOException {
+        final SpillFile<E> compacted = SpillFile.write(this.directory.path(), this.codec, new SpilledIterator());
+
+        for (final SpillFile<E> segment : this.segments) {
+            segment.delete();
+        }
+
+        this.segments.clear();
+        this.removed.clear();
+        this.spilled = compacted.count();
+        this.removedCount = 0;
+
+        if (compacted.count() > 0) {
+            this.segments.add(compacted);
+        } else {
+            compacted.delete();
+        }
+    }
+
+    /// An iterator over the spilled elements that were not removed.
+    private final class SpilledIterator implements Iterator<E> {
+        /// The index of the segment being read.
+        private int segmentIndex;
+
+        /// The reader of that segment or null.
+        private Iterator<E> reader;
+
+        /// The position of the next spilled element to read.
+        private int position;
+
+        /// The position of the last element returned or -1.
+        private int lastPosition = -1;
+
+        /// The next element or null.
+        private E next;
+
+        /// The default constructor.
+        SpilledIterator() {
+            super();
+        }
+
+        /// Returns true if there are more spilled elements.
+        @Override
+        public boolean hasNext() {
+            if (this.next == null) {
+                this.next = this.advance();
+            }
+
+            return this.next != null;
+        }
+
+        /// Returns the next spilled element.
+        @Override
+        public E next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            final E element = this.next;
+
+            this.next = null;
+
+            return element;
+        }
+
+        /// Reads up to the next element that was not removed.
+        ///
+        /// @return E
+        private E advance() {
+            while (this.segmentIndex < SpillableList.this.segments.size()) {
+                if (this.reader == null) {
+                    this.reader = SpillableList.this.segments.get(this.segmentIndex).reader();
+                }
+
+                if (this.reader.hasNext()) {
+                    final E element = this.reader.next();
+                    final int current = this.position++;
+
+                    if (!SpillableList.this.removed.get(current)) {
+                        this.lastPosition = current;
+
+                        return element;
+                    }
+                } else {
+                    this.reader = null;
+                    this.segmentIndex++;
+                }
+            }
+
+            return null;
+        }
+    }
+
+    /// The fail fast iterator over the spilled and the hot elements.
+    private final class SegmentIterator implements Iterator<E> {
+        /// The spilled elements.
+        private final SpilledIterator spilledElements = new SpilledIterator();
+
+        /// The index of the next hot element.
+        private int hotIndex;
+
+        /// The number of elements returned and not removed.
+        private int returned;
+
+        /// The spilled position of the last element returned, or -1.
+        private int lastPosition = -1;
+
+        /// The hot index of the last element returned, or -1.
+        private int lastHot = -1;
+
+        /// The expected modification count.
+        private int expectedModCount = SpillableList.this.modCount;
+
+        /// The default constructor.
+        SegmentIterator() {
+            super();
+        }
+
+        /// Returns true if there are more elements.
+        @Override
+        public boolean hasNext() {
+            return this.returned < SpillableList.this.size;
+        }
+
+        /// Returns the next element.
+        @Override
+        public E next() {
+            this.checkForComodification();
+
+            if (this.returned >= SpillableList.this.size) {
+                throw new NoSuchElementException();
+            }
+
+            this.returned++;
+
+            if (this.spilledElements.hasNext()) {
+                final E element = this.spilledElements.next();
+
+                this.lastPosition = this.spilledElements.lastPosition;
+                this.lastHot = -1;
+
+                return element;
+            }
+
+            this.lastPosition = -1;
+            this.lastHot = this.hotIndex++;
+
+            return SpillableList.this.hot.get(this.lastHot);
+        }
+
+        /// Removes the last element returned; a spilled
+        /// element is marked and a hot one removed.
+        @Override
+        public void remove() {
+            if (this.lastPosition < 0 && this.lastHot < 0) {
+                throw new IllegalStateException();
+            }
+
+            this.checkForComodification();
+
+            if (this.lastPosition >= 0) {
+                SpillableList.this.removed.set(this.lastPosition);
+                SpillableList.this.removedCount++;
+            } else {
+                SpillableList.this.hot.remove(this.lastHot);
+
+                this.hotIndex--;
+            }
+
+            SpillableList.this.size--;
+            SpillableList.this.modCount++;
+
+            this.returned--;
+            this.lastPosition = -1;
+            this.lastHot = -1;
+            this.expectedModCount = SpillableList.this.modCount;
+        }
+
+        /// Throws if the collection was modified other than through this iterator.
+        private void checkForComodification() {
+            if (SpillableList.this.modCount != this.expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
@@ -0,0 +1,817 @@
+package net.jmp.spring.boot.failfast.spill;
+
+/*
+ * (#)SpillableMap.java 0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import java.nio.file.Path;
+
+import java.util.*;
+
+import net.jmp.spring.boot.failfast.collections.BlockedBloomFilter;
+
+/// A sorted map that keeps its most recent writes in a hot
+/// in-memory segment and spills the segment to a file as a
+/// sorted run whenever it fills, so that the heap holds at most
+/// one segment whatever the size of the map. A removal of a key
+/// that may be in a run is recorded as a tombstone, and a run
+/// shadows the older runs. When there are more runs than the
+/// maximum they are merged into one and the tombstones dropped.
+///
+/// A lookup tries the hot segment and then the runs from the
+/// newest, skipping a run whose key range or Bloom filter rules
+/// the key out. Each run keeps the first key of every block of
+/// its file, so the others are searched for the block that may
+/// hold the key and read from there, one block at most. Writes
+/// look the key up as well, to return the previous value and
+/// keep the size. Iteration merges the runs and the hot segment
+/// in key order, reading each run sequentially; the newest value
+/// of a key wins and tombstones are skipped. The Bloom filters
+/// hold about a byte and a half per spilled key and the block
+/// index one key per {@value SpillFile#BLOCK_SIZE}.
+///
+/// The iterators fail fast and return immutable entries; their
+/// remove method is supported. The spill files are deleted by
+/// {@link #clear()} and {@link #close()}, and I/O errors are
+/// thrown as an {@link UncheckedIOException}. Neither keys nor
+/// values may be null. Not thread-safe.
+///
+/// @param  <K> The type of key
+/// @param  <V> The type of value
+/// @version    0.1.0
+/// @since      0.1.0
+public final class SpillableMap<K, V> extends AbstractMap<K, V> implements AutoCloseable {
+    /// The default number of keys in the hot segment.
+    public static final int DEFAULT_HOT_CAPACITY = 1 << 16;
+
+    /// The default maximum number of runs.
+    public static final int DEFAULT_MAX_RUNS = 8;
+
+    /// The false positive rate of the Bloom filters.
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    /// The hot value of a removed key.
+    private static final Object TOMBSTONE = new Object();
+
+    /// The result of a lookup in a run that does not hold the key.
+    private static final Object MISSING = new Object();
+
+    /// The comparator.
+    private final Comparator<? super K> comparator;
+
+    /// The codec of the records of the runs.
+    private final SpillCodec<Record<K, V>> codec;
+
+    /// The number of keys in the hot segment.
+    private final int hotCapacity;
+
+    /// The maximum number of runs.
+    private final int maxRuns;
+
+    /// The spill directory.
+    private final SpillDirectory directory;
+
+    /// The hot segment; values and tombstones by key.
+    private final TreeMap<K, Object> hot;
+
+    /// The runs, oldest first.
+    private final List<Run<K, V>> runs = new ArrayList<>();
+
+    /// The number of mappings.
+    private int size;
+
+    /// The number of structural modifications.
+    private int modCount;
+
+    /// The entry set view.
+    private EntrySet entrySet;
+
+    /// A constructor that takes the codecs of keys
+    /// that are ordered naturally and of values.
+    ///
+    /// @param  keyCodec    net.jmp.spring.boot.failfast.spill.SpillCodec<K>
+    /// @param  valueCodec  net.jmp.spring.boot.failfast.spill.SpillCodec<V>
+    public SpillableMap(final SpillCodec<K> keyCodec, final SpillCodec<V> valueCodec) {
+        this(naturalOrder(), keyCodec, valueCodec, DEFAULT_HOT_CAPACITY, DEFAULT_MAX_RUNS, null);
+    }
+
+    /// A constructor that takes the comparator of keys, the
+    /// codecs, the number of keys in the hot segment, the
+    /// maximum number of runs and the directory to spill to,
+    /// or null for a temporary directory.
+    ///
+    /// @param  comparator  java.util.Comparator<? super K>
+    /// @param  keyCodec    net.jmp.spring.boot.failfast.spill.SpillCodec<K>
+    /// @param  valueCodec  net.jmp.spring.boot.failfast.spill.SpillCodec<V>
+    /// @param  hotCapacity int
+    /// @param  maxRuns     int
+    /// @param  directory   java.nio.file.Path
+    public SpillableMap(final Comparator<? super K> comparator,
+                        final SpillCodec<K> keyCodec,
+                        final SpillCodec<V> valueCodec,
+                        final int hotCapacity,
+                        final int maxRuns,
+                        final Path directory) {
+        super();
+
+        Objects.requireNonNull(keyCodec, "keyCodec");
+        Objects.requireNonNull(valueCodec, "valueCodec");
+
+        if (hotCapacity <= 0) {
+            throw new IllegalArgumentException("Hot capacity must be positive: " + hotCapacity);
+        }
+
+        if (maxRuns <= 0) {
+            throw new IllegalArgumentException("Maximum runs must be positive: " + maxRuns);
+        }
+
+        this.comparator = Objects.requireNonNull(comparator, "comparator");
+        this.codec = new RecordCodec<>(keyCodec, valueCodec);
+        this.hotCapacity = hotCapacity;
+        this.maxRuns = maxRuns;
+        this.directory = new SpillDirectory(directory);
+        this.hot = new TreeMap<>(comparator);
+    }
+
+    /// Returns the number of mappings.
+    ///
+    /// @return int
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /// Returns the value mapped to the key or null.
+    ///
+    /// @param  key java.lang.Object
+    /// @return     V
+    @Override
+    public V get(final Object key) {
+        return this.lookup(Objects.requireNonNull(key, "key"));
+    }
+
+    /// Returns true if the key is mapped.
+    ///
+    /// @param  key java.lang.Object
+    /// @return     boolean
+    @Override
+    public boolean containsKey(final Object key) {
+        return this.get(key) != null;
+    }
+
+    /// Maps the key to the value, spilling the hot segment if it is full.
+    ///
+    /// @param  key     K
+    /// @param  value   V
+    /// @return         V
+    @Override
+    public V put(final K key, final V value) {
+        Objects.requireNonNull(key, "key");
+        Objects.requireNonNull(value, "value");
+
+        final V previous = this.lookup(key);
+
+        this.hot.put(key, value);
+
+        if (previous == null) {
+            this.size++;
+            this.modCount++;
+        }
+
+        this.spillIfFull();
+
+        return previous;
+    }
+
+    /// Removes the mapping for the key.
+    ///
+    /// @param  key java.lang.Object
+    /// @return     V
+    @Override
+    public V remove(final Object key) {
+        final V previous = this.get(key);
+
+        if (previous != null) {
+            this.removeKey(key);
+            this.spillIfFull();
+        }
+
+        return previous;
+    }
+
+    /// Removes all the mappings and deletes the spill files.
+    @Override
+    public void clear() {
+        try {
+            for (final Run<K, V> run : this.runs) {
+                run.file().delete();
+            }
+        } catch (final IOException ioe) {
+            throw new UncheckedIOException("Unable to delete a run", ioe);
+        } finally {
+            this.runs.clear();
+            this.hot.clear();
+            this.size = 0;
+            this.modCount++;
+        }
+    }
+
+    /// Removes all the mappings and deletes the spill
+    /// files and any temporary directory.
+    @Override
+    public void close() {
+        this.clear();
+
+        try {
+            this.directory.close();
+        } catch (final IOException ioe) {
+            throw new UncheckedIOException("Unable to delete the spill directory", ioe);
+        }
+    }
+
+    /// Returns the entry set view, whose iterators
+    /// return the entries in key order.
+    ///
+    /// @return java.util.Set<java.util.Map.Entry<K,V>>
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        if (this.entrySet == null) {
+            this.entrySet = new EntrySet();
+        }
+
+        return this.entrySet;
+    }
+
+    /// Returns the number of runs.
+    ///
+    /// @return int
+    public int runs() {
+        return this.runs.size();
+    }
+
+    /// Returns the number of bytes spilled.
+    ///
+    /// @return long
+    public long spilledBytes() {
+        return this.runs.stream().mapToLong(run -> run.file().bytes()).sum();
+    }
+
+    /// Returns the number of keys, including removed ones, in the hot segment.
+    ///
+    /// @return int
+    public int hotSize() {
+        return this.hot.size();
+    }
+
+    /// Looks the key up in the hot segment and then in the runs from the newest.
+    ///
+    /// @param  key java.lang.Object
+    /// @return     V
+    private V lookup(final Object key) {
+        Object found = this.hot.get(key);
+
+        for (int i = this.runs.size() - 1; found == null && i >= 0; i--) {
+            final Object result = this.find(this.runs.get(i), key);
+
+            if (result != MISSING) {
+                found = result;
+            }
+        }
+
+        if (found == null || found == TOMBSTONE) {
+            return null;
+        }
+
+        @SuppressWarnings("unchecked")
+        final V value = (V) found;
+
+        return value;
+    }
+
+    /// Returns the value of the key in the run, the tombstone
+    /// if the run removed it or missing if the run does not
+    /// hold it.
+    ///
+    /// @param  run net.jmp.spring.boot.failfast.spill.SpillableMap.Run<K,V>
+    /// @param  key java.lang.Object
+    /// @return     java.lang.Object
+    private Object find(final Run<K, V> run, final Object key) {
+        @SuppressWarnings("unchecked")
+        final K k = (K) key;
+
+        if (this.comparator.compare(k, run.first()) < 0
+                || this.comparator.compare(k, run.last()) > 0
+                || !run.filter().mightContain(key.hashCode())) {
+            return MISSING;
+        }
+
+        final int found = Collections.binarySearch(run.blocks(), k, this.comparator);
+        final int block = found >= 0 ? found : -found - 2;
+
+        try (final SpillFile<Record<K, V>>.Reader reader = run.file().reader(block)) {
+            for (int i = 0; i < SpillFile.BLOCK_SIZE && reader.hasNext(); i++) {
+                final Record<K, V> record = reader.next();
+                final int comparison = this.comparator.compare(record.key(), k);
+
+                if (comparison == 0) {
+                    return record.isTombstone() ? TOMBSTONE : record.value();
+                }
+
+                if (comparison > 0) {
+                    break;
+                }
+            }
+        }
+
+        return MISSING;
+    }
+
+    /// Removes a mapped key without spilling; a key that may be
+    /// in a run is shadowed by a tombstone in the hot segment.
+    ///
+    /// @param  key java.lang.Object
+    private void removeKey(final Object key) {
+        @SuppressWarnings("unchecked")
+        final K k = (K) key;
+
+        if (this.runs.isEmpty()) {
+            this.hot.remove(k);
+        } else {
+            this.hot.put(k, TOMBSTONE);
+        }
+
+        this.size--;
+        this.modCount++;
+    }
+
+    /// Spills the hot segment as a run if it is full, and merges
+    /// the runs into one if there are more than the maximum.
+    private void spillIfFull() {
+        if (this.hot.size() < this.hotCapacity) {
+            return;
+        }
+
+        try {
+            final Iterator<Map.Entry<K, Object>> entries = this.hot.entrySet().iterator();
+
+            this.runs.add(this.writeRun(new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return entries.hasNext();
+                }
+
+                @Override
+                public Record<K, V> next() {
+                    return Record.of(entries.next());
+                }
+            }, this.hot.size()));
+
+            this.hot.clear();
+            this.modCount++;
+
+            if (this.runs.size() > this.maxRuns) {
+                this.compact();
+            }
+        } catch (final IOException ioe) {
+            throw new UncheckedIOException("Unable to spill the hot segment", ioe);
+        }
+    }
+
+    /// Merges all the runs into one. The merged run is the
+    /// oldest data, so its tombstones are dropped.
+    ///
+    /// @throws java.io.IOException When the run cannot be written
+    private void compact() throws IOException {
+        final List<Iterator<Record<K, V>>> readers = new ArrayList<>(this.runs.size());
+
+        int count = 0;
+
+        for (final Run<K, V> run : this.runs) {
+            readers.add(run.file().reader());
+
+            count += run.file().count();
+        }
+
+        final Merger merged = new Merger(readers, true);
+        final Run<K, V> run = merged.hasNext() ? this.writeRun(merged, count) : null;
+
+        for (final Run<K, V> old : this.runs) {
+            old.file().delete();
+        }
+
+        this.runs.clear();
+
+        if (run != null) {
+            this.runs.add(run);
+        }
+    }
+
+    /// Writes the sorted records as a run with a Bloom filter
+    /// of their keys and the first key of each block of the
+    /// file. There must be at least one.
+    ///
+    /// @param  records     java.util.Iterator<net.jmp.spring.boot.failfast.spill.SpillableMap.Record<K,V>>
+    /// @param  expected    int
+    /// @return             net.jmp.spring.boot.failfast.spill.SpillableMap.Run<K,V>
+    /// @throws             java.io.IOException When the run cannot be written
+    private Run<K, V> writeRun(final Iterator<Record<K, V>> records, final int expected) throws IOException {
+        final BlockedBloomFilter filter = new BlockedBloomFilter(expected, FALSE_POSITIVE_RATE);
+        final List<K> blocks = new ArrayList<>(expected / SpillFile.BLOCK_SIZE + 1);
+        final List<K> last = new ArrayList<>(1);
+
+        final SpillFile<Record<K, V>> file = SpillFile.write(this.directory.path(), this.codec, new Iterator<>() {
+            /// The number of records written.
+            private int count;
+
+            @Override
+            public boolean hasNext() {
+                return records.hasNext();
+            }
+
+            @Override
+            public Record<K, V> next() {
+                final Record<K, V> record = records.next();
+
+                filter.put(record.key().hashCode());
+
+                if (this.count++ % SpillFile.BLOCK_SIZE == 0) {
+                    blocks.add(record.key());
+                }
+
+                if (last.isEmpty()) {
+                    last.add(record.key());
+                } else {
+                    last.set(0, record.key());
+                }
+
+                return record;
+            }
+        });
+
+        return new Run<>(file, filter, List.copyOf(blocks), last.getFirst());
+    }
+
+    /// Returns the natural order.
+    ///
+    /// @param  <K> The type of key
+    /// @return     java.util.Comparator<? super K>
+    @SuppressWarnings("unchecked")
+    private static <K> Comparator<? super K> naturalOrder() {
+        return (Comparator<? super K>) Comparator.naturalOrder();
+    }
+
+    /// A record of a run; a null value is a tombstone.
+    ///
+    /// @param  <K>     The type of key
+    /// @param  <V>     The type of value
+    /// @param  key     K
+    /// @param  value   V
+    private record Record<K, V>(K key, V value) {
+        /// Returns the record of a hot entry.
+        ///
+        /// @param  <K>     The type of key
+        /// @param  <V>     The type of value
+        /// @param  entry   java.util.Map.Entry<K,java.lang.Object>
+        /// @return         net.jmp.spring.boot.failfast.spill.SpillableMap.Record<K,V>
+        @SuppressWarnings("unchecked")
+        static <K, V> Record<K, V> of(final Map.Entry<K, Object> entry) {
+            return new Record<>(entry.getKey(), entry.getValue() == TOMBSTONE ? null : (V) entry.getValue());
+        }
+
+        /// Returns true if the record is a tombstone.
+        ///
+        /// @return boolean
+        boolean isTombstone() {
+            return this.value == null;
+        }
+    }
+
+    /// A run: its file, the Bloom filter of its keys, the first
+    /// key of each block of the file and its largest key.
+    ///
+    /// @param  <K>     The type of key
+    /// @param  <V>     The type of value
+    /// @param  file    net.jmp.spring.boot.failfast.spill.SpillFile<net.jmp.spring.boot.failfast.spill.SpillableMap.Record<K,V>>
+    /// @param  filter  net.jmp.spring.boot.failfast.collections.BlockedBloomFilter
+    /// @param  blocks  java.util.List<K>
+    /// @param  last    K
+    private record Run<K, V>(SpillFile<Record<K, V>> file, BlockedBloomFilter filter, List<K> blocks, K last) {
+        /// Returns the smallest key.
+        ///
+        /// @return K
+        K first() {
+            return this.blocks.getFirst();
+        }
+    }
+
+    /// The codec of records; a flag, the key and, unless the record is a tombstone, the value.
+    ///
+    /// @param  <K>         The type of key
+    /// @param  <V>         The type of value
+    /// @param  keyCodec    net.jmp.spring.boot.failfast.spill.SpillCodec<K>
+    /// @param  valueCodec  net.jmp.spring.boot.failfast.spill.SpillCodec<V>
+    private record RecordCodec<K, V>(SpillCodec<K> keyCodec, SpillCodec<V> valueCodec) implements SpillCodec<Record<K, V>> {
+        /// Writes the record.
+        @Override
+        public void write(final DataOutput output, final Record<K, V> record) throws IOException {
+            output.writeBoolean(record.isTombstone());
+
+            this.keyCodec.write(output, record.key());
+
+            if (!record.isTombstone()) {
+                this.valueCodec.write(output, record.value());
+            }
+        }
+
+        /// Reads a record.
+        @Override
+        public Record<K, V> read(final DataInput input) throws IOException {
+            final boolean tombstone = input.readBoolean();
+            final K key = this.keyCodec.read(input);
+
+            return new Record<>(key, tombstone ? null : this.valueCodec.read(input));
+        }
+    }
+
+    /// Merges sorted sources of records in key order. Of the
+    /// records of a key the one of the newest source, the last
+    /// one given, is returned.
+    private final class Merger implements Iterator<Record<K, V>> {
+        /// The sources ordered by their next key and then newest first.
+        private final PriorityQueue<Source<K, V>> queue;
+
+        /// True if tombstones are skipped.
+        private final boolean skipTombstones;
+
+        /// The next record or null.
+        private Record<K, V> next;
+
+        /// A constructor that takes the sources, oldest first,
+        /// and whether to skip tombstones.
+        ///
+        /// @param  sources         java.util.List<java.util.Iterator<net.jmp.spring.boot.failfast.spill.SpillableMap.Record<K,V>>>
+        /// @param  skipTombstones  boolean
+        Merger(final List<Iterator<Record<K, V>>> sources, final boolean skipTombstones) {
+            super();
+
+            this.skipTombstones = skipTombstones;
+            this.queue = new PriorityQueue<>(Math.max(1, sources.size()), (a, b) -> {
+                final int comparison = SpillableMap.this.comparator.compare(a.head.key(), b.head.key());
+
+                return comparison != 0 ? comparison : Integer.compare(b.recency, a.recency);
+            });
+
+            for (int i = 0; i < sources.size(); i++) {
+                final Iterator<Record<K, V>> source = sources.get(i);
+
+                if (source.hasNext()) {
+                    this.queue.add(new Source<>(source, source.next(), i));
+                }
+            }
+        }
+
+        /// Returns true if there are more records.
+        @Override
+        public boolean hasNext() {
+            while (this.next == null && !this.queue.isEmpty()) {
+                final Source<K, V> newest = this.queue.poll();
+                final Record<K, V> record = newest.head;
+
+                this.advance(newest);
+
+                while (!this.queue.isEmpty() && SpillableMap.this.comparator.compare(this.queue.peek().head.key(), record.key()) == 0) {
+                    this.advance(this.queue.poll());     // Shadowed by the newer record
+                }
+
+                if (!(this.skipTombstones && record.isTombstone())) {
+                    this.next = record;
+                }
+            }
+
+            return this.next != null;
+        }
+
+        /// Returns the next record.
+        @Override
+        public Record<K, V> next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            final Record<K, V> record = this.next;
+
+            this.next = null;
+
+            return record;
+        }
+
+        /// Moves the source to its next record and requeues it, if it has one.
+        ///
+        /// @param  source  net.jmp.spring.boot.failfast.spill.SpillableMap.Source<K,V>
+        private void advance(final Source<K, V> source) {
+            if (source.records.hasNext()) {
+                source.head = source.records.next();
+
+                this.queue.add(source);
+            }
+        }
+    }
+
+    /// A source of a merge with its next record.
+    ///
+    /// @param  <K> The type of key
+    /// @param  <V> The type of value
+    private static final class Source<K, V> {
+        /// The remaining records.
+        private final Iterator<Record<K, V>> records;
+
+        /// The recency; higher is newer.
+        private final int recency;
+
+        /// The next record.
+        private Record<K, V> head;
+
+        /// A constructor that takes the records, the first of them and the recency.
+        ///
+        /// @param  records java.util.Iterator<net.jmp.spring.boot.failfast.spill.SpillableMap.Record<K,V>>
+        /// @param  head    net.jmp.spring.boot.failfast.spill.SpillableMap.Record<K,V>
+        /// @param  recency int
+        Source(final Iterator<Record<K, V>> records, final Record<K, V> head, final int recency) {
+            super();
+
+            this.records = records;
+            this.head = head;
+            this.recency = recency;
+        }
+    }
+
+    /// The records of the hot segment in key order. The segment is
+    /// navigated from the last key read rather than iterated, so
+    /// that a removal through the entry set iterator, which may add
+    /// a tombstone, does not disturb it.
+    private final class HotReader implements Iterator<Record<K, V>> {
+        /// The last entry read or null.
+        private Map.Entry<K, Object> last;
+
+        /// The default constructor.
+        HotReader() {
+            super();
+        }
+
+        /// Returns true if there are more records.
+        @Override
+        public boolean hasNext() {
+            return this.peek() != null;
+        }
+
+        /// Returns the next record.
+        @Override
+        public Record<K, V> next() {
+            final Map.Entry<K, Object> entry = this.peek();
+
+            if (entry == null) {
+                throw new NoSuchElementException();
+            }
+
+            this.last = entry;
+
+            return Record.of(entry);
+        }
+
+        /// Returns the entry after the last one read.
+        ///
+        /// @return java.util.Map.Entry<K,java.lang.Object>
+        private Map.Entry<K, Object> peek() {
+            return this.last == null
+                    ? SpillableMap.this.hot.firstEntry()
+                    : SpillableMap.this.hot.higherEntry(this.last.getKey());
+        }
+    }
+
+    /// The entry set view.
+    private final class EntrySet extends AbstractSet<Map.Entry<K, V>> {
+        /// The default constructor.
+        EntrySet() {
+            super();
+        }
+
+        /// Returns an iterator over the entries in key order.
+        @Override
+        public Iterator<Map.Entry<K, V>> iterator() {
+            return new EntryIterator();
+        }
+
+        /// Returns the number of entries.
+        @Override
+        public int size() {
+            return SpillableMap.this.size;
+        }
+
+        /// Removes all the entries.
+        @Override
+        public void clear() {
+            SpillableMap.this.clear();
+        }
+    }
+
+    /// The fail fast iterator over the entries; it merges the
+    /// runs and the hot segment.
+    private final class EntryIterator implements Iterator<Map.Entry<K, V>> {
+        /// The merge of the runs and the hot segment.
+        private final Merger merger;
+
+        /// The key of the last entry returned or null.
+        private K lastKey;
+
+        /// The expected modification count.
+        private int expectedModCount = SpillableMap.this.modCount;
+
+        /// The default constructor.
+        EntryIterator() {
+            super();
+
+            final List<Iterator<Record<K, V>>> sources = new ArrayList<>(SpillableMap.this.runs.size() + 1);
+
+            for (final Run<K, V> run : SpillableMap.this.runs) {
+                sources.add(run.file().reader());
+            }
+
+            sources.add(new HotReader());
+
+            this.merger = new Merger(sources, true);
+        }
+
+        /// Returns true if there are more entries. Throws if the map
+        /// was modified, since a spill may have replaced the runs.
+        @Override
+        public boolean hasNext() {
+            this.checkForComodification();
+
+            return this.merger.hasNext();
+        }
+
+        /// Returns the next entry.
+        @Override
+        public Map.Entry<K, V> next() {
+            this.checkForComodification();
+
+            final Record<K, V> record = this.merger.next();
+
+            this.lastKey = record.key();
+
+            return new SimpleImmutableEntry<>(record.key(), record.value());
+        }
+
+        /// Removes the last entry returned. The hot
+        /// segment is not spilled until the next write.
+        @Override
+        public void remove() {
+            if (this.lastKey == null) {
+                throw new IllegalStateException();
+            }
+
+            this.checkForComodification();
+
+            SpillableMap.this.removeKey(this.lastKey);
+
+            this.lastKey = null;
+            this.expectedModCount = SpillableMap.this.modCount;
+        }
+
+        /// Throws if the map was modified other than through this iterator.
+        private void checkForComodification() {
+            if (SpillableMap.this.modCount != this.expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
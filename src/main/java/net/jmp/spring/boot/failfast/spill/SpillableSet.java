@@ -0,0 +1,169 @@
+package net.jmp.spring.boot.failfast.spill;
+
+/*
+ * (#)SpillableSet.java 0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.DataInput;
+import java.io.DataOutput;
+
+import java.nio.file.Path;
+
+import java.util.AbstractSet;
+import java.util.Comparator;
+import java.util.Iterator;
+
+/// A sorted set that keeps its most recent additions in a hot
+/// in-memory segment and spills the segment to a file as a sorted
+/// run whenever it fills. It is a {@link SpillableMap} of the
+/// elements to nothing, so the values take no space on disk, and
+/// its iterators merge the runs and the hot segment in order.
+///
+/// The iterators fail fast and support remove. The spill files
+/// are deleted by {@link #clear()} and {@link #close()}. Null
+/// elements are not permitted. Not thread-safe.
+///
+/// @param  <E> The type of element
+/// @version    0.1.0
+/// @since      0.1.0
+public final class SpillableSet<E> extends AbstractSet<E> implements AutoCloseable {
+    /// The codec of the value of every element; nothing is written.
+    private static final SpillCodec<Boolean> PRESENT = new SpillCodec<>() {
+        @Override
+        public void write(final DataOutput output, final Boolean value) {
+            // Nothing to write
+        }
+
+        @Override
+        public Boolean read(final DataInput input) {
+            return Boolean.TRUE;
+        }
+    };
+
+    /// The map of elements.
+    private final SpillableMap<E, Boolean> map;
+
+    /// A constructor that takes the codec of
+    /// elements that are ordered naturally.
+    ///
+    /// @param  codec   net.jmp.spring.boot.failfast.spill.SpillCodec<E>
+    public SpillableSet(final SpillCodec<E> codec) {
+        super();
+
+        this.map = new SpillableMap<>(codec, PRESENT);
+    }
+
+    /// A constructor that takes the comparator, the codec, the
+    /// number of elements in the hot segment, the maximum number
+    /// of runs and the directory to spill to, or null for a
+    /// temporary directory.
+    ///
+    /// @param  comparator  java.util.Comparator<? super E>
+    /// @param  codec       net.jmp.spring.boot.failfast.spill.SpillCodec<E>
+    /// @param  hotCapacity int
+    /// @param  maxRuns     int
+    /// @param  directory   java.nio.file.Path
+    public SpillableSet(final Comparator<? super E> comparator,
+                        final SpillCodec<E> codec,
+                        final int hotCapacity,
+                        final int maxRuns,
+                        final Path directory) {
+        super();
+
+        this.map = new SpillableMap<>(comparator, codec, PRESENT, hotCapacity, maxRuns, directory);
+    }
+
+    /// Returns the number of elements.
+    ///
+    /// @return int
+    @Override
+    public int size() {
+        return this.map.size();
+    }
+
+    /// Returns true if the set contains the object.
+    ///
+    /// @param  o   java.lang.Object
+    /// @return     boolean
+    @Override
+    public boolean contains(final Object o) {
+        return this.map.containsKey(o);
+    }
+
+    /// Adds the element, spilling the hot segment if it is full.
+    ///
+    /// @param  element E
+    /// @return         boolean
+    @Override
+    public boolean add(final E element) {
+        return this.map.put(element, Boolean.TRUE) == null;
+    }
+
+    /// Removes the object.
+    ///
+    /// @param  o   java.lang.Object
+    /// @return     boolean
+    @Override
+    public boolean remove(final Object o) {
+        return this.map.remove(o) != null;
+    }
+
+    /// Returns a fail fast iterator over the elements in order.
+    ///
+    /// @return java.util.Iterator<E>
+    @Override
+    public Iterator<E> iterator() {
+        return this.map.keySet().iterator();
+    }
+
+    /// Removes all the elements and deletes the spill files.
+    @Override
+    public void clear() {
+        this.map.clear();
+    }
+
+    /// Removes all the elements and deletes the spill
+    /// files and any temporary directory.
+    @Override
+    public void close() {
+        this.map.close();
+    }
+
+    /// Returns the number of runs.
+    ///
+    /// @return int
+    public int runs() {
+        return this.map.runs();
+    }
+
+    /// Returns the number of bytes spilled.
+    ///
+    /// @return long
+    public long spilledBytes() {
+        return this.map.spilledBytes();
+    }
+}
@@ -0,0 +1,127 @@
+package net.jmp.spring.boot.failfast.staleness;
+
+/*
+ * (#)ConcurrentWriter.java 0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Objects;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import java.util.function.IntConsumer;
+
+/// A writer that changes a tracked collection on a thread of
+/// its own until it is closed, so that the iterations made in
+/// the meantime run against a concurrent writer. The write is
+/// given the number of writes made before it. Closing the
+/// writer waits for the thread and rethrows what the write
+/// threw, if anything.
+///
+/// @version    0.1.0
+/// @since      0.1.0
+public final class ConcurrentWriter implements AutoCloseable {
+    /// True once the writer was closed.
+    private final AtomicBoolean done = new AtomicBoolean();
+
+    /// The failure of the write or null.
+    private final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+
+    /// The thread.
+    private final Thread thread;
+
+    /// The number of writes made.
+    private volatile int writes;
+
+    /// The constructor.
+    ///
+    /// @param  name    java.lang.String
+    /// @param  write   java.util.function.IntConsumer
+    private ConcurrentWriter(final String name, final IntConsumer write) {
+        super();
+
+        Objects.requireNonNull(write, "write");
+
+        this.thread = Thread.ofPlatform().name(name).unstarted(() -> {
+            try {
+                for (int i = 0; !this.done.get(); i++) {
+                    write.accept(i);
+
+                    this.writes = i + 1;
+                }
+            } catch (final RuntimeException e) {
+                this.failure.set(e);
+            }
+        });
+    }
+
+    /// Starts a writer on a thread of the name.
+    ///
+    /// @param  name    java.lang.String
+    /// @param  write   java.util.function.IntConsumer
+    /// @return         net.jmp.spring.boot.failfast.staleness.ConcurrentWriter
+    public static ConcurrentWriter start(final String name, final IntConsumer write) {
+        final ConcurrentWriter writer = new ConcurrentWriter(name, write);
+
+        writer.thread.start();
+
+        return writer;
+    }
+
+    /// Returns the number of writes made.
+    ///
+    /// @return int
+    public int writes() {
+        return this.writes;
+    }
+
+    /// Stops the writer and waits for its thread.
+    @Override
+    public void close() {
+        this.done.set(true);
+
+        boolean interrupted = false;
+
+        while (this.thread.isAlive()) {
+            try {
+                this.thread.join();
+            } catch (final InterruptedException _) {
+                interrupted = true;
+            }
+        }
+
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+
+        final RuntimeException e = this.failure.get();
+
+        if (e != null) {
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package net.jmp.spring.boot.failfast.staleness;
+
+/*
+ * (#)StalenessReport.java  0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/// The staleness of one complete weakly consistent iteration.
+/// An element is stable if it was present when the iteration
+/// began and was not changed before it ended; an iteration must
+/// return every stable element exactly once. Missed counts the
+/// stable elements not returned and seen twice the elements
+/// returned more than once. Changed counts the elements added or
+/// removed during the iteration, which may or may not be returned.
+///
+/// @param  startVersion    long
+/// @param  endVersion      long
+/// @param  seen            int
+/// @param  stable          int
+/// @param  missed          int
+/// @param  seenTwice       int
+/// @param  changed         int
+/// @version                0.1.0
+/// @since                  0.1.0
+public record StalenessReport(long startVersion,
+                              long endVersion,
+                              int seen,
+                              int stable,
+                              int missed,
+                              int seenTwice,
+                              int changed) {
+    /// Returns the fraction of the stable elements missed.
+    ///
+    /// @return double
+    public double missRate() {
+        return this.stable == 0 ? 0.0 : (double) this.missed / this.stable;
+    }
+
+    /// Returns the number of changes made during the iteration.
+    ///
+    /// @return long
+    public long versionsElapsed() {
+        return this.endVersion - this.startVersion;
+    }
+}
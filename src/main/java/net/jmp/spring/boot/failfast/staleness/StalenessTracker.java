@@ -0,0 +1,406 @@
+package net.jmp.spring.boot.failfast.staleness;
+
+/*
+ * (#)StalenessTracker.java 0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.lang.ref.Cleaner;
+
+import java.util.*;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/// Measures how stale the weakly consistent iterators of a
+/// concurrent collection are. The tracked wrappers log every
+/// addition and removal made through them with the next version
+/// after it has been applied, keeping the last version and the
+/// presence of each element. A tracked iterator notes the version
+/// when it begins and counts what it returns; once it is exhausted
+/// it compares them with the elements the log shows present and
+/// unchanged since it began, and records a report.
+///
+/// The comparison is exact for changes that have been logged; a
+/// change applied by a writer but not yet logged when an iteration
+/// ends is checked against the collection before an element is
+/// counted as missed. Changes made other than through the wrappers
+/// are not seen. An iteration abandoned before it is exhausted is
+/// not reported. A tracker tracks one collection.
+///
+/// A removal is kept in the log only while an iteration that began
+/// before it is active, since later iterations do not count it;
+/// each report drops the older removals as it scans the log. An
+/// abandoned iteration stops holding them once it is unreachable.
+///
+/// @param  <E> The type of element, or of key for a map
+/// @version    0.1.0
+/// @since      0.1.0
+public final class StalenessTracker<E> {
+    /// The cleaner that ends abandoned iterations.
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    /// The version of the last change.
+    private final AtomicLong version = new AtomicLong();
+
+    /// The last change of each element.
+    private final Map<E, Change> log = new ConcurrentHashMap<>();
+
+    /// The number of active iterations by the version they began at.
+    private final ConcurrentNavigableMap<Long, Integer> active = new ConcurrentSkipListMap<>();
+
+    /// The last report.
+    private final AtomicReference<StalenessReport> lastReport = new AtomicReference<>();
+
+    /// The number of iterations reported.
+    private final LongAdder iterations = new LongAdder();
+
+    /// The number of stable elements over all the iterations.
+    private final LongAdder stable = new LongAdder();
+
+    /// The number of missed elements over all the iterations.
+    private final LongAdder missed = new LongAdder();
+
+    /// The number of elements seen twice over all the iterations.
+    private final LongAdder seenTwice = new LongAdder();
+
+    /// The default constructor.
+    public StalenessTracker() {
+        super();
+    }
+
+    /// Returns a tracked map over the concurrent map.
+    ///
+    /// @param  <V> The type of value
+    /// @param  map java.util.concurrent.ConcurrentMap<E,V>
+    /// @return     net.jmp.spring.boot.failfast.staleness.TrackedMap<E,V>
+    public <V> TrackedMap<E, V> track(final ConcurrentMap<E, V> map) {
+        return new TrackedMap<>(map, this);
+    }
+
+    /// Returns a tracked set over the concurrent set.
+    ///
+    /// @param  set java.util.Set<E>
+    /// @return     net.jmp.spring.boot.failfast.staleness.TrackedSet<E>
+    public TrackedSet<E> track(final Set<E> set) {
+        return new TrackedSet<>(set, this);
+    }
+
+    /// Returns a tracked queue over the concurrent queue.
+    ///
+    /// @param  queue   java.util.Queue<E>
+    /// @return         net.jmp.spring.boot.failfast.staleness.TrackedQueue<E>
+    public TrackedQueue<E> track(final Queue<E> queue) {
+        return new TrackedQueue<>(queue, this);
+    }
+
+    /// Returns the version of the last change.
+    ///
+    /// @return long
+    public long version() {
+        return this.version.get();
+    }
+
+    /// Returns the last report or null.
+    ///
+    /// @return net.jmp.spring.boot.failfast.staleness.StalenessReport
+    public StalenessReport lastReport() {
+        return this.lastReport.get();
+    }
+
+    /// Returns the number of iterations reported.
+    ///
+    /// @return long
+    public long iterations() {
+        return this.iterations.sum();
+    }
+
+    /// Returns the fraction of the stable elements
+    /// missed over all the iterations reported.
+    ///
+    /// @return double
+    public double missRate() {
+        final long total = this.stable.sum();
+
+        return total == 0 ? 0.0 : (double) this.missed.sum() / total;
+    }
+
+    /// Returns the number of elements seen
+    /// twice over all the iterations reported.
+    ///
+    /// @return long
+    public long seenTwice() {
+        return this.seenTwice.sum();
+    }
+
+    /// Returns the number of elements in the log,
+    /// including the removals not yet dropped.
+    ///
+    /// @return int
+    int logSize() {
+        return this.log.size();
+    }
+
+    /// Logs an addition that has been applied.
+    ///
+    /// @param  element E
+    void added(final E element) {
+        this.log.put(element, new Change(this.version.incrementAndGet(), true));
+    }
+
+    /// Logs a removal that has been applied.
+    ///
+    /// @param  element java.lang.Object
+    @SuppressWarnings("unchecked")
+    void removed(final Object element) {
+        this.log.put((E) element, new Change(this.version.incrementAndGet(), false));
+    }
+
+    /// Returns a tracked iterator over the iterator of a collection.
+    ///
+    /// @param  <T>         The type of element returned
+    /// @param  iterator    java.util.Iterator<T>
+    /// @param  keyOf       java.util.function.Function<? super T,? extends E>
+    /// @param  present     java.util.function.Predicate<java.lang.Object>
+    /// @return             java.util.Iterator<T>
+    <T> Iterator<T> iterator(final Iterator<T> iterator,
+                             final Function<? super T, ? extends E> keyOf,
+                             final Predicate<Object> present) {
+        return new TrackedIterator<>(iterator, keyOf, present);
+    }
+
+    /// Begins an iteration at the current version.
+    ///
+    /// @return long
+    private long begin() {
+        // The version is read again after registering so that no
+        // removal can be dropped between the read and the register
+
+        long start;
+
+        do {
+            start = this.version.get();
+
+            this.active.merge(start, 1, Integer::sum);
+
+            if (start == this.version.get()) {
+                return start;
+            }
+
+            this.end(start);
+        } while (true);
+    }
+
+    /// Ends an iteration that began at the version.
+    ///
+    /// @param  start   long
+    private void end(final long start) {
+        this.active.computeIfPresent(start, (_, count) -> count == 1 ? null : count - 1);
+    }
+
+    /// Compares the elements an iteration returned with
+    /// the log and records the report, dropping the removals
+    /// that no active iteration began before.
+    ///
+    /// @param  start       long
+    /// @param  counts      java.util.Map<E,java.lang.Integer>
+    /// @param  seen        int
+    /// @param  present     java.util.function.Predicate<java.lang.Object>
+    /// @return             net.jmp.spring.boot.failfast.staleness.StalenessReport
+    private StalenessReport report(final long start,
+                                   final Map<E, Integer> counts,
+                                   final int seen,
+                                   final Predicate<Object> present) {
+        final long end = this.version.get();
+        final Map.Entry<Long, Integer> oldest = this.active.firstEntry();
+        final long horizon = oldest != null ? oldest.getKey() : end;
+
+        int stableCount = 0;
+        int missedCount = 0;
+        int changedCount = 0;
+
+        for (final Map.Entry<E, Change> entry : this.log.entrySet()) {
+            final Change change = entry.getValue();
+
+            if (!change.present && change.version <= horizon) {
+                this.log.remove(entry.getKey(), change);
+            }
+
+            if (change.version > start) {
+                changedCount++;
+            } else if (change.present) {
+                stableCount++;
+
+                if (!counts.containsKey(entry.getKey())
+                        && present.test(entry.getKey())
+                        && this.log.get(entry.getKey()) == change) {
+                    missedCount++;
+                }
+            }
+        }
+
+        int twice = 0;
+
+        for (final int count : counts.values()) {
+            if (count > 1) {
+                twice++;
+            }
+        }
+
+        final StalenessReport report = new StalenessReport(start, end, seen, stableCount, missedCount, twice, changedCount);
+
+        this.lastReport.set(report);
+        this.iterations.increment();
+        this.stable.add(stableCount);
+        this.missed.add(missedCount);
+        this.seenTwice.add(twice);
+
+        return report;
+    }
+
+    /// The last change of an element.
+    ///
+    /// @param  version long
+    /// @param  present boolean
+    private record Change(long version, boolean present) {
+    }
+
+    /// The action that ends an iteration. It holds no
+    /// reference to the iterator, so the cleaner can run
+    /// once an abandoned iterator is unreachable.
+    ///
+    /// @param  <E>     The type of element
+    /// @param  tracker net.jmp.spring.boot.failfast.staleness.StalenessTracker<E>
+    /// @param  start   long
+    private record End<E>(StalenessTracker<E> tracker, long start) implements Runnable {
+        /// Ends the iteration.
+        @Override
+        public void run() {
+            this.tracker.end(this.start);
+        }
+    }
+
+    /// An iterator that counts the elements it returns
+    /// and reports its staleness once it is exhausted.
+    ///
+    /// @param  <T> The type of element returned
+    private final class TrackedIterator<T> implements Iterator<T> {
+        /// The iterator of the collection.
+        private final Iterator<T> iterator;
+
+        /// The function from an element returned to its key.
+        private final Function<? super T, ? extends E> keyOf;
+
+        /// The predicate that tells if an element is in the collection.
+        private final Predicate<Object> present;
+
+        /// The version when the iteration began.
+        private final long start;
+
+        /// The cleanable that ends the iteration.
+        private final Cleaner.Cleanable cleanable;
+
+        /// The number of times each element was returned.
+        private final Map<E, Integer> counts = new HashMap<>();
+
+        /// The number of elements returned.
+        private int seen;
+
+        /// True once the iteration was reported.
+        private boolean reported;
+
+        /// The last element returned or null.
+        private T last;
+
+        /// The constructor.
+        ///
+        /// @param  iterator    java.util.Iterator<T>
+        /// @param  keyOf       java.util.function.Function<? super T,? extends E>
+        /// @param  present     java.util.function.Predicate<java.lang.Object>
+        TrackedIterator(final Iterator<T> iterator,
+                        final Function<? super T, ? extends E> keyOf,
+                        final Predicate<Object> present) {
+            super();
+
+            this.start = StalenessTracker.this.begin();
+            this.cleanable = CLEANER.register(this, new End<>(StalenessTracker.this, this.start));
+            this.iterator = iterator;
+            this.keyOf = keyOf;
+            this.present = present;
+        }
+
+        /// Returns true if there are more elements,
+        /// reporting the iteration when there are none.
+        @Override
+        public boolean hasNext() {
+            final boolean hasNext = this.iterator.hasNext();
+
+            if (!hasNext && !this.reported) {
+                this.reported = true;
+                this.cleanable.clean();
+
+                StalenessTracker.this.report(this.start, this.counts, this.seen, this.present);
+            }
+
+            return hasNext;
+        }
+
+        /// Returns the next element.
+        @Override
+        public T next() {
+            final T element = this.iterator.next();
+
+            this.counts.merge(this.keyOf.apply(element), 1, Integer::sum);
+            this.seen++;
+            this.last = element;
+
+            return element;
+        }
+
+        /// Removes the last element returned and logs the removal.
+        @Override
+        public void remove() {
+            if (this.last == null) {
+                throw new IllegalStateException();
+            }
+
+            this.iterator.remove();
+
+            StalenessTracker.this.removed(this.keyOf.apply(this.last));
+
+            this.last = null;
+        }
+    }
+}
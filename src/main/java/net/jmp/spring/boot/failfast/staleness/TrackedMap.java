@@ -0,0 +1,228 @@
+package net.jmp.spring.boot.failfast.staleness;
+
+/*
+ * (#)TrackedMap.java   0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import java.util.concurrent.ConcurrentMap;
+
+/// A concurrent map that logs the keys it adds and removes and
+/// whose entry, key and value iterators report their staleness to
+/// the tracker. Replacing the value of a key is not a change to the
+/// keys and is not logged. The compound operations of the map are
+/// the defaults of {@link ConcurrentMap}, built on the logged ones.
+///
+/// @param  <K> The type of key
+/// @param  <V> The type of value
+/// @version    0.1.0
+/// @since      0.1.0
+public final class TrackedMap<K, V> extends AbstractMap<K, V> implements ConcurrentMap<K, V> {
+    /// The backing map.
+    private final ConcurrentMap<K, V> delegate;
+
+    /// The tracker.
+    private final StalenessTracker<K> tracker;
+
+    /// The entry set view.
+    private EntrySet entrySet;
+
+    /// The constructor.
+    ///
+    /// @param  delegate    java.util.concurrent.ConcurrentMap<K,V>
+    /// @param  tracker     net.jmp.spring.boot.failfast.staleness.StalenessTracker<K>
+    TrackedMap(final ConcurrentMap<K, V> delegate, final StalenessTracker<K> tracker) {
+        super();
+
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.tracker = tracker;
+    }
+
+    /// Returns the value mapped to the key or null.
+    ///
+    /// @param  key java.lang.Object
+    /// @return     V
+    @Override
+    public V get(final Object key) {
+        return this.delegate.get(key);
+    }
+
+    /// Returns true if the key is mapped.
+    ///
+    /// @param  key java.lang.Object
+    /// @return     boolean
+    @Override
+    public boolean containsKey(final Object key) {
+        return this.delegate.containsKey(key);
+    }
+
+    /// Returns the number of entries.
+    ///
+    /// @return int
+    @Override
+    public int size() {
+        return this.delegate.size();
+    }
+
+    /// Maps the key to the value.
+    ///
+    /// @param  key     K
+    /// @param  value   V
+    /// @return         V
+    @Override
+    public V put(final K key, final V value) {
+        final V previous = this.delegate.put(key, value);
+
+        if (previous == null) {
+            this.tracker.added(key);
+        }
+
+        return previous;
+    }
+
+    /// Maps the key to the value if the key is not mapped.
+    ///
+    /// @param  key     K
+    /// @param  value   V
+    /// @return         V
+    @Override
+    public V putIfAbsent(final K key, final V value) {
+        final V previous = this.delegate.putIfAbsent(key, value);
+
+        if (previous == null) {
+            this.tracker.added(key);
+        }
+
+        return previous;
+    }
+
+    /// Removes the mapping for the key.
+    ///
+    /// @param  key java.lang.Object
+    /// @return     V
+    @Override
+    public V remove(final Object key) {
+        final V previous = this.delegate.remove(key);
+
+        if (previous != null) {
+            this.tracker.removed(key);
+        }
+
+        return previous;
+    }
+
+    /// Removes the mapping for the key if it is mapped to the value.
+    ///
+    /// @param  key     java.lang.Object
+    /// @param  value   java.lang.Object
+    /// @return         boolean
+    @Override
+    public boolean remove(final Object key, final Object value) {
+        final boolean removed = this.delegate.remove(key, value);
+
+        if (removed) {
+            this.tracker.removed(key);
+        }
+
+        return removed;
+    }
+
+    /// Replaces the value of the key if the key is mapped.
+    ///
+    /// @param  key     K
+    /// @param  value   V
+    /// @return         V
+    @Override
+    public V replace(final K key, final V value) {
+        return this.delegate.replace(key, value);
+    }
+
+    /// Replaces the value of the key if it is mapped to the old value.
+    ///
+    /// @param  key         K
+    /// @param  oldValue    V
+    /// @param  newValue    V
+    /// @return             boolean
+    @Override
+    public boolean replace(final K key, final V oldValue, final V newValue) {
+        return this.delegate.replace(key, oldValue, newValue);
+    }
+
+    /// Removes all the mappings, logging each removal.
+    @Override
+    public void clear() {
+        for (final K key : this.delegate.keySet()) {
+            this.remove(key);
+        }
+    }
+
+    /// Returns the entry set view.
+    ///
+    /// @return java.util.Set<java.util.Map.Entry<K,V>>
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        if (this.entrySet == null) {
+            this.entrySet = new EntrySet();
+        }
+
+        return this.entrySet;
+    }
+
+    /// The entry set view.
+    private final class EntrySet extends AbstractSet<Map.Entry<K, V>> {
+        /// The default constructor.
+        EntrySet() {
+            super();
+        }
+
+        /// Returns a tracked iterator.
+        @Override
+        public Iterator<Map.Entry<K, V>> iterator() {
+            return TrackedMap.this.tracker.iterator(TrackedMap.this.delegate.entrySet().iterator(),
+                    Map.Entry::getKey,
+                    TrackedMap.this.delegate::containsKey);
+        }
+
+        /// Returns the number of elements.
+        @Override
+        public int size() {
+            return TrackedMap.this.size();
+        }
+
+        /// Removes all the elements.
+        @Override
+        public void clear() {
+            TrackedMap.this.clear();
+        }
+    }
+}
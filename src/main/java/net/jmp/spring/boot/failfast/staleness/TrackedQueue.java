@@ -0,0 +1,131 @@
+package net.jmp.spring.boot.failfast.staleness;
+
+/*
+ * (#)TrackedQueue.java 0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.AbstractQueue;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Queue;
+
+import java.util.function.Function;
+
+/// A queue that logs the offers and polls made through it and
+/// whose iterators report their staleness to the tracker. The
+/// elements are tracked by equality, so they should be distinct;
+/// the backing queue should be a concurrent queue.
+///
+/// @param  <E> The type of element
+/// @version    0.1.0
+/// @since      0.1.0
+public final class TrackedQueue<E> extends AbstractQueue<E> {
+    /// The backing queue.
+    private final Queue<E> delegate;
+
+    /// The tracker.
+    private final StalenessTracker<E> tracker;
+
+    /// The constructor.
+    ///
+    /// @param  delegate    java.util.Queue<E>
+    /// @param  tracker     net.jmp.spring.boot.failfast.staleness.StalenessTracker<E>
+    TrackedQueue(final Queue<E> delegate, final StalenessTracker<E> tracker) {
+        super();
+
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.tracker = tracker;
+    }
+
+    /// Adds the element unless the queue is full.
+    ///
+    /// @param  element E
+    /// @return         boolean
+    @Override
+    public boolean offer(final E element) {
+        final boolean offered = this.delegate.offer(element);
+
+        if (offered) {
+            this.tracker.added(element);
+        }
+
+        return offered;
+    }
+
+    /// Removes and returns the head or null if the queue is empty.
+    ///
+    /// @return E
+    @Override
+    public E poll() {
+        final E element = this.delegate.poll();
+
+        if (element != null) {
+            this.tracker.removed(element);
+        }
+
+        return element;
+    }
+
+    /// Returns the head or null if the queue is empty.
+    ///
+    /// @return E
+    @Override
+    public E peek() {
+        return this.delegate.peek();
+    }
+
+    /// Removes the element if present.
+    ///
+    /// @param  object  java.lang.Object
+    /// @return         boolean
+    @Override
+    public boolean remove(final Object object) {
+        final boolean removed = this.delegate.remove(object);
+
+        if (removed) {
+            this.tracker.removed(object);
+        }
+
+        return removed;
+    }
+
+    /// Returns the number of elements.
+    ///
+    /// @return int
+    @Override
+    public int size() {
+        return this.delegate.size();
+    }
+
+    /// Returns a tracked iterator.
+    ///
+    /// @return java.util.Iterator<E>
+    @Override
+    public Iterator<E> iterator() {
+        return this.tracker.iterator(this.delegate.iterator(), Function.identity(), this.delegate::contains);
+    }
+}
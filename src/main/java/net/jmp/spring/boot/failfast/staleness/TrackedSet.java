@@ -0,0 +1,125 @@
+package net.jmp.spring.boot.failfast.staleness;
+
+/*
+ * (#)TrackedSet.java   0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Set;
+
+import java.util.function.Function;
+
+/// A set that logs the additions and removals made through it
+/// and whose iterators report their staleness to the tracker.
+/// The backing set should be a concurrent set.
+///
+/// @param  <E> The type of element
+/// @version    0.1.0
+/// @since      0.1.0
+public final class TrackedSet<E> extends AbstractSet<E> {
+    /// The backing set.
+    private final Set<E> delegate;
+
+    /// The tracker.
+    private final StalenessTracker<E> tracker;
+
+    /// The constructor.
+    ///
+    /// @param  delegate    java.util.Set<E>
+    /// @param  tracker     net.jmp.spring.boot.failfast.staleness.StalenessTracker<E>
+    TrackedSet(final Set<E> delegate, final StalenessTracker<E> tracker) {
+        super();
+
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.tracker = tracker;
+    }
+
+    /// Adds the element if absent.
+    ///
+    /// @param  element E
+    /// @return         boolean
+    @Override
+    public boolean add(final E element) {
+        final boolean added = this.delegate.add(element);
+
+        if (added) {
+            this.tracker.added(element);
+        }
+
+        return added;
+    }
+
+    /// Removes the element if present.
+    ///
+    /// @param  object  java.lang.Object
+    /// @return         boolean
+    @Override
+    public boolean remove(final Object object) {
+        final boolean removed = this.delegate.remove(object);
+
+        if (removed) {
+            this.tracker.removed(object);
+        }
+
+        return removed;
+    }
+
+    /// Returns true if the element is present.
+    ///
+    /// @param  object  java.lang.Object
+    /// @return         boolean
+    @Override
+    public boolean contains(final Object object) {
+        return this.delegate.contains(object);
+    }
+
+    /// Returns the number of elements.
+    ///
+    /// @return int
+    @Override
+    public int size() {
+        return this.delegate.size();
+    }
+
+    /// Removes all the elements, logging each removal.
+    @Override
+    public void clear() {
+        for (final E element : this.delegate) {
+            this.remove(element);
+        }
+    }
+
+    /// Returns a tracked iterator.
+    ///
+    /// @return java.util.Iterator<E>
+    @Override
+    public Iterator<E> iterator() {
+        return this.tracker.iterator(this.delegate.iterator(), Function.identity(), this.delegate::contains);
+    }
+}
@@ -0,0 +1,89 @@
+package net.jmp.spring.boot.failfast.stats;
+
+/*
+ * (#)Buckets.java  0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/// The log-linear buckets of the histograms, as in HdrHistogram:
+/// the values below 32 have a bucket each, and each power of two
+/// range above is split into 32 buckets, so that a value is
+/// recorded to within about 3% of itself. Every non-negative long
+/// has a bucket.
+///
+/// @version    0.1.0
+/// @since      0.1.0
+final class Buckets {
+    /// The number of bits of precision.
+    static final int SUB_BUCKET_BITS = 5;
+
+    /// The number of buckets in each power of two range.
+    static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    /// The number of buckets.
+    static final int COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    /// The default constructor.
+    private Buckets() {
+        super();
+    }
+
+    /// Returns the bucket of the non-negative value.
+    ///
+    /// @param  value   long
+    /// @return         int
+    static int index(final long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+
+        final int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+
+        return (shift + 1) * SUB_BUCKETS + (int) (value >>> shift) - SUB_BUCKETS;
+    }
+
+    /// Returns the lowest value in the bucket.
+    ///
+    /// @param  index   int
+    /// @return         long
+    static long lowestValue(final int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+
+        final int shift = index / SUB_BUCKETS - 1;
+
+        return (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+    }
+
+    /// Returns the highest value in the bucket.
+    ///
+    /// @param  index   int
+    /// @return         long
+    static long highestValue(final int index) {
+        return index == COUNT - 1 ? Long.MAX_VALUE : lowestValue(index + 1) - 1;
+    }
+}
@@ -0,0 +1,70 @@
+package net.jmp.spring.boot.failfast.stats;
+
+/*
+ * (#)Counter.java  0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.concurrent.atomic.LongAdder;
+
+/// A counter that many threads can increment without contending.
+/// It is a {@link LongAdder}: a base value and, once threads
+/// collide on it, a table of cells, each padded with the
+/// virtual machine's contended annotation so that it has a cache
+/// line to itself, to which the threads are spread. The sum is
+/// taken on read and is not an atomic snapshot while the counter
+/// is being incremented.
+///
+/// @version    0.1.0
+/// @since      0.1.0
+public final class Counter {
+    /// The adder.
+    private final LongAdder adder = new LongAdder();
+
+    /// The default constructor.
+    public Counter() {
+        super();
+    }
+
+    /// Adds one.
+    public void increment() {
+        this.adder.increment();
+    }
+
+    /// Adds the amount.
+    ///
+    /// @param  amount  long
+    public void add(final long amount) {
+        this.adder.add(amount);
+    }
+
+    /// Returns the sum.
+    ///
+    /// @return long
+    public long sum() {
+        return this.adder.sum();
+    }
+}
@@ -0,0 +1,58 @@
+package net.jmp.spring.boot.failfast.stats;
+
+/*
+ * (#)Gauge.java    0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/// A value that is set rather than counted, such as the size of
+/// a collection. The last value set wins.
+///
+/// @version    0.1.0
+/// @since      0.1.0
+public final class Gauge {
+    /// The value.
+    private volatile long value;
+
+    /// The default constructor.
+    public Gauge() {
+        super();
+    }
+
+    /// Sets the value.
+    ///
+    /// @param  value   long
+    public void set(final long value) {
+        this.value = value;
+    }
+
+    /// Returns the value.
+    ///
+    /// @return long
+    public long get() {
+        return this.value;
+    }
+}
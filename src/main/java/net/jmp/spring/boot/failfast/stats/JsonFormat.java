@@ -0,0 +1,148 @@
+package net.jmp.spring.boot.failfast.stats;
+
+/*
+ * (#)JsonFormat.java   0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.time.Duration;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+
+import java.util.function.Function;
+
+/// Writes a snapshot as a JSON object: the time it was taken, the
+/// uptime in seconds, the counters, the rates per second, the
+/// gauges and, for each histogram, its count, sum, mean, minimum,
+/// percentiles and maximum in nanoseconds.
+///
+/// @version    0.1.0
+/// @since      0.1.0
+final class JsonFormat {
+    /// The default constructor.
+    private JsonFormat() {
+        super();
+    }
+
+    /// Returns the snapshot as JSON.
+    ///
+    /// @param  snapshot    net.jmp.spring.boot.failfast.stats.StatsSnapshot
+    /// @param  uptime      java.time.Duration
+    /// @param  rates       java.util.Map<java.lang.String,java.lang.Double>
+    /// @return             java.lang.String
+    static String format(final StatsSnapshot snapshot, final Duration uptime, final Map<String, Double> rates) {
+        final StringJoiner json = new StringJoiner(",", "{", "}\n");
+
+        json.add(member("taken", string(snapshot.taken().toString())));
+        json.add(member("uptimeSeconds", number(uptime.toNanos() / 1e9)));
+        json.add(member("counters", object(snapshot.counters(), String::valueOf)));
+        json.add(member("rates", object(rates, JsonFormat::number)));
+        json.add(member("gauges", object(snapshot.gauges(), String::valueOf)));
+        json.add(member("histograms", object(snapshot.histograms(), JsonFormat::histogram)));
+
+        return json.toString();
+    }
+
+    /// Returns the histogram as a JSON object.
+    ///
+    /// @param  histogram   net.jmp.spring.boot.failfast.stats.HistogramSnapshot
+    /// @return             java.lang.String
+    private static String histogram(final HistogramSnapshot histogram) {
+        final StringJoiner json = new StringJoiner(",", "{", "}");
+
+        json.add(member("count", String.valueOf(histogram.count())));
+        json.add(member("sum", String.valueOf(histogram.sum())));
+        json.add(member("mean", number(histogram.mean())));
+        json.add(member("min", String.valueOf(histogram.min())));
+        json.add(member("p50", String.valueOf(histogram.valueAtPercentile(50.0))));
+        json.add(member("p90", String.valueOf(histogram.valueAtPercentile(90.0))));
+        json.add(member("p99", String.valueOf(histogram.valueAtPercentile(99.0))));
+        json.add(member("p999", String.valueOf(histogram.valueAtPercentile(99.9))));
+        json.add(member("max", String.valueOf(histogram.max())));
+
+        return json.toString();
+    }
+
+    /// Returns the values as a JSON object.
+    ///
+    /// @param  <V>     The type of value
+    /// @param  values  java.util.Map<java.lang.String,V>
+    /// @param  format  java.util.function.Function<V,java.lang.String>
+    /// @return         java.lang.String
+    private static <V> String object(final Map<String, V> values, final Function<V, String> format) {
+        final StringJoiner json = new StringJoiner(",", "{", "}");
+
+        values.forEach((name, value) -> json.add(member(name, format.apply(value))));
+
+        return json.toString();
+    }
+
+    /// Returns a member of an object.
+    ///
+    /// @param  name    java.lang.String
+    /// @param  value   java.lang.String
+    /// @return         java.lang.String
+    private static String member(final String name, final String value) {
+        return string(name) + ":" + value;
+    }
+
+    /// Returns the number, or null if it is not finite.
+    ///
+    /// @param  value   double
+    /// @return         java.lang.String
+    private static String number(final double value) {
+        return Double.isFinite(value) ? String.format(Locale.ROOT, "%.3f", value) : "null";
+    }
+
+    /// Returns the string quoted and escaped.
+    ///
+    /// @param  value   java.lang.String
+    /// @return         java.lang.String
+    static String string(final String value) {
+        final StringBuilder json = new StringBuilder(value.length() + 2).append('"');
+
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                default -> {
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+                }
+            }
+        }
+
+        return json.append('"').toString();
+    }
+}
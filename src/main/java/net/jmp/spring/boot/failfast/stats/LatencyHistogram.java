@@ -0,0 +1,207 @@
+package net.jmp.spring.boot.failfast.stats;
+
+/*
+ * (#)LatencyHistogram.java 0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+import java.lang.ref.WeakReference;
+
+import java.util.Iterator;
+import java.util.Queue;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/// A histogram of non-negative values, such as latencies in
+/// nanoseconds, that many threads record to without contending.
+/// Each thread records to a histogram of its own, which no other
+/// thread writes, so a value costs a thread-local lookup and two
+/// plain increments published with opaque writes. A snapshot
+/// merges the histograms of all the threads; those of threads that
+/// have ended are folded into a retired histogram on the way.
+///
+/// @version    0.1.0
+/// @since      0.1.0
+public final class LatencyHistogram {
+    /// The handle of the elements of a counts array.
+    private static final VarHandle COUNTS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    /// The histogram of the calling thread.
+    private final ThreadLocal<Recorder> recorder = ThreadLocal.withInitial(this::register);
+
+    /// The histograms of the threads.
+    private final Queue<Recorder> recorders = new ConcurrentLinkedQueue<>();
+
+    /// The lock of the retired histogram.
+    private final Lock lock = new ReentrantLock();
+
+    /// The counts of the threads that have ended.
+    private final long[] retired = new long[Buckets.COUNT];
+
+    /// The sum of the values of the threads that have ended.
+    private long retiredSum;
+
+    /// The default constructor.
+    public LatencyHistogram() {
+        super();
+    }
+
+    /// Records the value.
+    ///
+    /// @param  value   long
+    public void record(final long value) {
+        if (value < 0L) {
+            throw new IllegalArgumentException("Value must not be negative: " + value);
+        }
+
+        this.recorder.get().record(value);
+    }
+
+    /// Records the nanoseconds since the start, a value of {@link System#nanoTime()}.
+    ///
+    /// @param  start   long
+    public void recordSince(final long start) {
+        this.record(Math.max(0L, System.nanoTime() - start));
+    }
+
+    /// Returns the merged counts of all the threads.
+    ///
+    /// @return net.jmp.spring.boot.failfast.stats.HistogramSnapshot
+    public HistogramSnapshot snapshot() {
+        final long[] counts = new long[Buckets.COUNT];
+
+        long sum = 0L;
+
+        this.lock.lock();
+
+        try {
+            for (final Iterator<Recorder> iterator = this.recorders.iterator(); iterator.hasNext();) {
+                final Recorder recorder = iterator.next();
+                final Thread owner = recorder.owner.get();
+
+                if (owner == null || !owner.isAlive()) {
+                    recorder.addTo(this.retired);     // It no longer records
+
+                    this.retiredSum += recorder.sum();
+
+                    iterator.remove();
+                } else {
+                    recorder.addTo(counts);
+
+                    sum += recorder.sum();
+                }
+            }
+
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] += this.retired[i];
+            }
+
+            sum += this.retiredSum;
+        } finally {
+            this.lock.unlock();
+        }
+
+        return new HistogramSnapshot(counts, sum);
+    }
+
+    /// Creates and registers the histogram of the calling thread.
+    ///
+    /// @return net.jmp.spring.boot.failfast.stats.LatencyHistogram.Recorder
+    private Recorder register() {
+        final Recorder recorder = new Recorder(Thread.currentThread());
+
+        this.recorders.add(recorder);
+
+        return recorder;
+    }
+
+    /// The histogram of one thread. Only that thread writes it,
+    /// so its increments are plain reads and opaque writes, which
+    /// are atomic and become visible to the merging thread.
+    private static final class Recorder {
+        /// The handle of the sum.
+        private static final VarHandle SUM;
+
+        /// The owning thread.
+        private final WeakReference<Thread> owner;
+
+        /// The counts by bucket.
+        private final long[] counts = new long[Buckets.COUNT];
+
+        /// The sum of the values.
+        @SuppressWarnings("unused")
+        private long sum;
+
+        static {
+            try {
+                SUM = MethodHandles.lookup().findVarHandle(Recorder.class, "sum", long.class);
+            } catch (final ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        /// A constructor that takes the owning thread.
+        ///
+        /// @param  owner   java.lang.Thread
+        Recorder(final Thread owner) {
+            super();
+
+            this.owner = new WeakReference<>(owner);
+        }
+
+        /// Records the value.
+        ///
+        /// @param  value   long
+        void record(final long value) {
+            final int index = Buckets.index(value);
+
+            COUNTS.setOpaque(this.counts, index, (long) COUNTS.get(this.counts, index) + 1L);
+            SUM.setOpaque(this, (long) SUM.get(this) + value);
+        }
+
+        /// Returns the sum of the values.
+        ///
+        /// @return long
+        long sum() {
+            return (long) SUM.getOpaque(this);
+        }
+
+        /// Adds the counts to the given ones.
+        ///
+        /// @param  totals  long[]
+        void addTo(final long[] totals) {
+            for (int i = 0; i < totals.length; i++) {
+                totals[i] += (long) COUNTS.getOpaque(this.counts, i);
+            }
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package net.jmp.spring.boot.failfast.stats;
+
+/*
+ * (#)PrometheusFormat.java 0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.math.BigDecimal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+
+/// Writes a snapshot in the Prometheus text exposition format. A
+/// name such as ListService.size.ArrayList becomes the metric
+/// failfast_size with the labels source="ListService" and
+/// subject="ArrayList"; a name without a dot becomes the metric
+/// as it is. Counters end in _total. The histograms, which hold
+/// nanoseconds, are written in seconds with cumulative buckets
+/// from 100 microseconds to 10 seconds.
+///
+/// @version    0.1.0
+/// @since      0.1.0
+final class PrometheusFormat {
+    /// The content type of the format.
+    static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    /// The prefix of the metrics.
+    private static final String PREFIX = "failfast_";
+
+    /// The upper bounds of the histogram buckets in seconds.
+    private static final double[] BOUNDS = {
+            0.0001, 0.00025, 0.0005, 0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1.0, 2.5, 5.0, 10.0
+    };
+
+    /// The nanoseconds in a second.
+    private static final double NANOS_PER_SECOND = 1e9;
+
+    /// The default constructor.
+    private PrometheusFormat() {
+        super();
+    }
+
+    /// Returns the snapshot in the text exposition format.
+    ///
+    /// @param  snapshot    net.jmp.spring.boot.failfast.stats.StatsSnapshot
+    /// @return             java.lang.String
+    static String format(final StatsSnapshot snapshot) {
+        final SortedMap<String, Family> families = new TreeMap<>();
+
+        snapshot.counters().forEach((name, value) -> {
+            final Name metric = Name.of(name);
+
+            family(families, metric.metric() + "_total", "counter").add(metric.labels(), value);
+        });
+
+        snapshot.gauges().forEach((name, value) -> {
+            final Name metric = Name.of(name);
+
+            family(families, metric.metric(), "gauge").add(metric.labels(), value);
+        });
+
+        snapshot.histograms().forEach((name, histogram) -> {
+            final Name metric = Name.of(name);
+            final String base = metric.metric() + "_seconds";
+            final Family family = family(families, base, "histogram");
+
+            for (final double bound : BOUNDS) {
+                family.add("_bucket",
+                        with(metric.labels(), "le", BigDecimal.valueOf(bound).toPlainString()),
+                        String.valueOf(histogram.countAtOrBelow(Math.round(bound * NANOS_PER_SECOND))));
+            }
+
+            family.add("_bucket", with(metric.labels(), "le", "+Inf"), String.valueOf(histogram.count()));
+            family.add("_sum", metric.labels(), String.valueOf(histogram.sum() / NANOS_PER_SECOND));
+            family.add("_count", metric.labels(), String.valueOf(histogram.count()));
+        });
+
+        final StringBuilder text = new StringBuilder(4_096);
+
+        families.forEach((name, family) -> family.appendTo(name, text));
+
+        return text.toString();
+    }
+
+    /// Returns the family with the name, creating it if there is none.
+    ///
+    /// @param  families    java.util.Map<java.lang.String,net.jmp.spring.boot.failfast.stats.PrometheusFormat.Family>
+    /// @param  name        java.lang.String
+    /// @param  type        java.lang.String
+    /// @return             net.jmp.spring.boot.failfast.stats.PrometheusFormat.Family
+    private static Family family(final Map<String, Family> families, final String name, final String type) {
+        return families.computeIfAbsent(name, _ -> new Family(type));
+    }
+
+    /// Returns the labels with one more.
+    ///
+    /// @param  labels  java.lang.String
+    /// @param  name    java.lang.String
+    /// @param  value   java.lang.String
+    /// @return         java.lang.String
+    private static String with(final String labels, final String name, final String value) {
+        final String label = label(name, value);
+
+        return labels.isEmpty() ? label : labels + "," + label;
+    }
+
+    /// Returns a label with its value escaped.
+    ///
+    /// @param  name    java.lang.String
+    /// @param  value   java.lang.String
+    /// @return         java.lang.String
+    private static String label(final String name, final String value) {
+        return name + "=\"" + value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n") + "\"";
+    }
+
+    /// A metric name and its labels.
+    ///
+    /// @param  metric  java.lang.String
+    /// @param  labels  java.lang.String
+    private record Name(String metric, String labels) {
+        /// Returns the metric name and labels of a registry name.
+        ///
+        /// @param  name    java.lang.String
+        /// @return         net.jmp.spring.boot.failfast.stats.PrometheusFormat.Name
+        static Name of(final String name) {
+            final String[] parts = name.split("\\.", 3);
+
+            if (parts.length == 1) {
+                return new Name(sanitize(name), "");
+            }
+
+            final StringJoiner labels = new StringJoiner(",");
+
+            labels.add(label("source", parts[0]));
+
+            if (parts.length == 3) {
+                labels.add(label("subject", parts[2]));
+            }
+
+            return new Name(sanitize(parts[1]), labels.toString());
+        }
+
+        /// Returns the name prefixed, in lower case and
+        /// with the characters a metric cannot have replaced.
+        ///
+        /// @param  name    java.lang.String
+        /// @return         java.lang.String
+        private static String sanitize(final String name) {
+            return PREFIX + name.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9_]", "_");
+        }
+    }
+
+    /// The samples of a metric family.
+    private static final class Family {
+        /// The type.
+        private final String type;
+
+        /// The samples.
+        private final List<String> samples = new ArrayList<>();
+
+        /// A constructor that takes the type.
+        ///
+        /// @param  type    java.lang.String
+        Family(final String type) {
+            super();
+
+            this.type = type;
+        }
+
+        /// Adds a sample named as the family.
+        ///
+        /// @param  labels  java.lang.String
+        /// @param  value   long
+        void add(final String labels, final long value) {
+            this.add("", labels, String.valueOf(value));
+        }
+
+        /// Adds a sample.
+        ///
+        /// @param  suffix  java.lang.String
+        /// @param  labels  java.lang.String
+        /// @param  value   java.lang.String
+        void add(final String suffix, final String labels, final String value) {
+            this.samples.add(suffix + (labels.isEmpty() ? "" : "{" + labels + "}") + " " + value);
+        }
+
+        /// Appends the type and the samples.
+        ///
+        /// @param  name    java.lang.String
+        /// @param  text    java.lang.StringBuilder
+        void appendTo(final String name, final StringBuilder text) {
+            text.append("# TYPE ").append(name).append(' ').append(this.type).append('\n');
+
+            for (final String sample : this.samples) {
+                text.append(name).append(sample).append('\n');
+            }
+        }
+    }
+}
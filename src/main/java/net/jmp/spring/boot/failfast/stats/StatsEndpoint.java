@@ -0,0 +1,192 @@
+package net.jmp.spring.boot.failfast.stats;
+
+/*
+ * (#)StatsEndpoint.java    0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+
+import java.nio.charset.StandardCharsets;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import java.util.Objects;
+import java.util.TreeMap;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import java.util.function.Function;
+
+import static net.jmp.util.logging.LoggerUtils.entry;
+import static net.jmp.util.logging.LoggerUtils.exit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/// A local HTTP endpoint, in the manner of a Spring Boot Actuator
+/// one, that serves snapshots of a registry: /stats as JSON and
+/// /metrics in the Prometheus text format. It binds the loopback
+/// address only and answers GET and HEAD requests on one daemon
+/// thread. The rates in the JSON are per second since the previous
+/// JSON request, so that a watcher polling the endpoint sees the
+/// current throughput; Prometheus computes its own from the counters.
+///
+/// @version    0.1.0
+/// @since      0.1.0
+public final class StatsEndpoint implements AutoCloseable {
+    /// The default port.
+    public static final int DEFAULT_PORT = 8081;
+
+    /// The path of the JSON statistics.
+    public static final String STATS = "/stats";
+
+    /// The path of the Prometheus metrics.
+    public static final String METRICS = "/metrics";
+
+    /// The logger.
+    private final Logger logger = LoggerFactory.getLogger(this.getClass().getName());
+
+    /// The registry.
+    private final StatsRegistry registry;
+
+    /// The server.
+    private final HttpServer server;
+
+    /// The executor that handles the requests.
+    private final ExecutorService executor;
+
+    /// The time the endpoint was created.
+    private final Instant started;
+
+    /// The snapshot of the previous JSON request.
+    private StatsSnapshot previous;
+
+    /// A constructor that takes the registry and the port,
+    /// 0 for any free one.
+    ///
+    /// @param  registry            net.jmp.spring.boot.failfast.stats.StatsRegistry
+    /// @param  port                int
+    /// @throws java.io.IOException When the port cannot be bound
+    public StatsEndpoint(final StatsRegistry registry, final int port) throws IOException {
+        super();
+
+        this.registry = Objects.requireNonNull(registry, "registry");
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        this.executor = Executors.newSingleThreadExecutor(Thread.ofPlatform().daemon().name("stats-endpoint").factory());
+        this.started = Instant.now();
+        this.previous = new StatsSnapshot(this.started, new TreeMap<>(), new TreeMap<>(), new TreeMap<>());
+
+        this.server.setExecutor(this.executor);
+        this.server.createContext(STATS, exchange -> this.respond(exchange, "application/json", this::json));
+        this.server.createContext(METRICS, exchange -> this.respond(exchange, PrometheusFormat.CONTENT_TYPE, PrometheusFormat::format));
+    }
+
+    /// Starts serving.
+    public void start() {
+        this.server.start();
+    }
+
+    /// Returns the bound address.
+    ///
+    /// @return java.net.InetSocketAddress
+    public InetSocketAddress address() {
+        return this.server.getAddress();
+    }
+
+    /// Stops serving.
+    @Override
+    public void close() {
+        this.server.stop(0);
+        this.executor.shutdownNow();
+    }
+
+    /// Answers a request with the formatted snapshot.
+    ///
+    /// @param  exchange            com.sun.net.httpserver.HttpExchange
+    /// @param  contentType         java.lang.String
+    /// @param  format              java.util.function.Function<net.jmp.spring.boot.failfast.stats.StatsSnapshot,java.lang.String>
+    /// @throws java.io.IOException When the response cannot be sent
+    private void respond(final HttpExchange exchange,
+                         final String contentType,
+                         final Function<StatsSnapshot, String> format) throws IOException {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        try (exchange) {
+            final String method = exchange.getRequestMethod();
+
+            if (!exchange.getRequestURI().getPath().equals(exchange.getHttpContext().getPath())) {
+                exchange.sendResponseHeaders(404, -1L);
+            } else if (!"GET".equals(method) && !"HEAD".equals(method)) {
+                exchange.getResponseHeaders().set("Allow", "GET, HEAD");
+                exchange.sendResponseHeaders(405, -1L);
+            } else {
+                final byte[] body = format.apply(this.registry.snapshot()).getBytes(StandardCharsets.UTF_8);
+
+                exchange.getResponseHeaders().set("Content-Type", contentType);
+
+                if ("HEAD".equals(method)) {
+                    exchange.sendResponseHeaders(200, -1L);
+                } else {
+                    exchange.sendResponseHeaders(200, body.length);
+
+                    try (final OutputStream out = exchange.getResponseBody()) {
+                        out.write(body);
+                    }
+                }
+            }
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Returns the snapshot as JSON with the rates since the previous one.
+    ///
+    /// @param  snapshot    net.jmp.spring.boot.failfast.stats.StatsSnapshot
+    /// @return             java.lang.String
+    private synchronized String json(final StatsSnapshot snapshot) {
+        final String json = JsonFormat.format(snapshot,
+                Duration.between(this.started, snapshot.taken()),
+                snapshot.ratesSince(this.previous));
+
+        this.previous = snapshot;
+
+        return json;
+    }
+}
@@ -0,0 +1,103 @@
+package net.jmp.spring.boot.failfast.stats;
+
+/*
+ * (#)StatsRegistry.java    0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.time.Instant;
+
+import java.util.Objects;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.stereotype.Component;
+
+/// The named counters, gauges and histograms of the application. A
+/// counter, gauge or histogram is created the first time it is asked for and
+/// should be kept by the caller rather than looked up for each
+/// update. A snapshot reads all of them at once.
+///
+/// @version    0.1.0
+/// @since      0.1.0
+@Component
+public class StatsRegistry {
+    /// The counters by name.
+    private final ConcurrentMap<String, Counter> counters = new ConcurrentHashMap<>();
+
+    /// The gauges by name.
+    private final ConcurrentMap<String, Gauge> gauges = new ConcurrentHashMap<>();
+
+    /// The histograms by name.
+    private final ConcurrentMap<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    /// The default constructor.
+    public StatsRegistry() {
+        super();
+    }
+
+    /// Returns the counter with the name, creating it if there is none.
+    ///
+    /// @param  name    java.lang.String
+    /// @return         net.jmp.spring.boot.failfast.stats.Counter
+    public Counter counter(final String name) {
+        return this.counters.computeIfAbsent(Objects.requireNonNull(name, "name"), _ -> new Counter());
+    }
+
+    /// Returns the gauge with the name, creating it if there is none.
+    ///
+    /// @param  name    java.lang.String
+    /// @return         net.jmp.spring.boot.failfast.stats.Gauge
+    public Gauge gauge(final String name) {
+        return this.gauges.computeIfAbsent(Objects.requireNonNull(name, "name"), _ -> new Gauge());
+    }
+
+    /// Returns the histogram with the name, creating it if there is none.
+    ///
+    /// @param  name    java.lang.String
+    /// @return         net.jmp.spring.boot.failfast.stats.LatencyHistogram
+    public LatencyHistogram histogram(final String name) {
+        return this.histograms.computeIfAbsent(Objects.requireNonNull(name, "name"), _ -> new LatencyHistogram());
+    }
+
+    /// Returns a snapshot of the counters, gauges and histograms.
+    ///
+    /// @return net.jmp.spring.boot.failfast.stats.StatsSnapshot
+    public StatsSnapshot snapshot() {
+        final SortedMap<String, Long> counters = new TreeMap<>();
+        final SortedMap<String, Long> gauges = new TreeMap<>();
+        final SortedMap<String, HistogramSnapshot> histograms = new TreeMap<>();
+
+        this.counters.forEach((name, counter) -> counters.put(name, counter.sum()));
+        this.gauges.forEach((name, gauge) -> gauges.put(name, gauge.get()));
+        this.histograms.forEach((name, histogram) -> histograms.put(name, histogram.snapshot()));
+
+        return new StatsSnapshot(Instant.now(), counters, gauges, histograms);
+    }
+}
@@ -0,0 +1,99 @@
+package net.jmp.spring.boot.failfast.stats;
+
+/*
+ * (#)StatsSnapshot.java    0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.time.Duration;
+import java.time.Instant;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/// The counters, gauges and histograms of a registry at a point in time,
+/// by name in name order.
+///
+/// @param  taken       java.time.Instant
+/// @param  counters    java.util.SortedMap<java.lang.String,java.lang.Long>
+/// @param  gauges      java.util.SortedMap<java.lang.String,java.lang.Long>
+/// @param  histograms  java.util.SortedMap<java.lang.String,net.jmp.spring.boot.failfast.stats.HistogramSnapshot>
+/// @version    0.1.0
+/// @since      0.1.0
+public record StatsSnapshot(Instant taken,
+                            SortedMap<String, Long> counters,
+                            SortedMap<String, Long> gauges,
+                            SortedMap<String, HistogramSnapshot> histograms) {
+    /// The compact constructor.
+    public StatsSnapshot {
+        Objects.requireNonNull(taken, "taken");
+
+        counters = Collections.unmodifiableSortedMap(new TreeMap<>(counters));
+        gauges = Collections.unmodifiableSortedMap(new TreeMap<>(gauges));
+        histograms = Collections.unmodifiableSortedMap(new TreeMap<>(histograms));
+    }
+
+    /// Returns the value of the counter, or 0 if there is none.
+    ///
+    /// @param  name    java.lang.String
+    /// @return         long
+    public long counter(final String name) {
+        return this.counters.getOrDefault(name, 0L);
+    }
+
+    /// Returns the counters whose names start with the prefix.
+    ///
+    /// @param  prefix  java.lang.String
+    /// @return         java.util.Map<java.lang.String,java.lang.Long>
+    public Map<String, Long> countersStartingWith(final String prefix) {
+        return this.counters.subMap(prefix, prefix + Character.MAX_VALUE);
+    }
+
+    /// Returns the rates per second of the counters and of the
+    /// histogram counts since an earlier snapshot. A counter or
+    /// histogram that the earlier snapshot lacks counts from zero.
+    ///
+    /// @param  earlier net.jmp.spring.boot.failfast.stats.StatsSnapshot
+    /// @return         java.util.SortedMap<java.lang.String,java.lang.Double>
+    public SortedMap<String, Double> ratesSince(final StatsSnapshot earlier) {
+        final double seconds = Duration.between(earlier.taken, this.taken).toNanos() / 1e9;
+        final SortedMap<String, Double> rates = new TreeMap<>();
+
+        if (seconds > 0.0) {
+            this.counters.forEach((name, value) -> rates.put(name, (value - earlier.counter(name)) / seconds));
+            this.histograms.forEach((name, histogram) -> {
+                final HistogramSnapshot before = earlier.histograms.get(name);
+
+                rates.put(name, (histogram.count() - (before != null ? before.count() : 0L)) / seconds);
+            });
+        }
+
+        return rates;
+    }
+}
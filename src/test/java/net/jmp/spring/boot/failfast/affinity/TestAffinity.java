@@ -0,0 +1,173 @@
+package net.jmp.spring.boot.failfast.affinity;
+
+/*
+ * (#)TestAffinity.java 0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.IOException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.time.Duration;
+
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.*;
+
+/// The test class for thread affinity. The topology and the
+/// placements are checked against a fake two socket sysfs; the
+/// pinning tests need Linux.
+///
+/// @version    0.1.0
+/// @since      0.1.0
+@DisplayName("Thread Affinity")
+final class TestAffinity {
+    private static final int SIZE = 10_000;
+
+    private Path system;
+
+    @BeforeEach
+    void beforeEach() throws IOException {
+        this.system = Files.createTempDirectory("sysfs");
+
+        write(this.system.resolve("cpu/online"), "0-3\n");
+        write(this.system.resolve("node/node0/cpulist"), "0-1\n");
+        write(this.system.resolve("node/node1/cpulist"), "2-3\n");
+
+        for (int cpu = 0; cpu < 4; cpu++) {
+            write(this.system.resolve("cpu/cpu" + cpu + "/topology/physical_package_id"), cpu / 2 + "\n");
+        }
+    }
+
+    @AfterEach
+    void afterEach() throws IOException {
+        try (final Stream<Path> paths = Files.walk(this.system)) {
+            for (final Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test Topology From Sysfs")
+    void testTopologyFromSysfs() {
+        final CpuTopology topology = CpuTopology.detect(this.system);
+
+        assertThat(topology.cpus()).isEqualTo(List.of(
+                new CpuTopology.Cpu(0, 0, 0),
+                new CpuTopology.Cpu(1, 0, 0),
+                new CpuTopology.Cpu(2, 1, 1),
+                new CpuTopology.Cpu(3, 1, 1)));
+        assertThat(topology.sockets()).isEqualTo(List.of(0, 1));
+        assertThat(topology.socketOf(3)).isEqualTo(1);
+        assertThat(topology.socketOf(4)).isEqualTo(-1);
+        assertThat(CpuTopology.parseList("0-2,5,7-8")).isEqualTo(BitSet.valueOf(new long[] {0b110100111L}));
+    }
+
+    @Test
+    @DisplayName("Test Placements")
+    void testPlacements() {
+        final CpuTopology topology = CpuTopology.detect(this.system);
+        final Placement same = Placement.sameSocket(topology, 3);
+        final Placement cross = Placement.crossSocket(topology, 3).orElseThrow();
+
+        assertThat(same.writer()).isEqualTo(0);
+        assertThat(same.readers()).isEqualTo(List.of(1, 1, 1));
+        assertThat(cross.writer()).isEqualTo(2);
+        assertThat(cross.readers()).isEqualTo(same.readers());
+        assertThat(Placement.unpinned(2).isPinned()).isFalse();
+        assertThat(Placement.chosen(List.of(3, 5, 7), 3).readers()).isEqualTo(List.of(5, 7, 5));
+
+        final CpuTopology oneSocket = new CpuTopology(topology.cpusOn(0));
+
+        assertThat(Placement.crossSocket(oneSocket, 3)).isEmpty();
+        assertThatThrownBy(() -> Placement.unpinned(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Test Pin")
+    void testPin() throws InterruptedException {
+        Assumptions.assumeTrue(CpuAffinity.isSupported(), "Thread affinity is not supported");
+
+        final BitSet allowed = CpuAffinity.allowed();
+        final int cpu = allowed.previousSetBit(allowed.length());
+        final int[] ran = new int[1];
+        final Thread thread = Thread.ofPlatform().start(() -> {
+            CpuAffinity.pin(cpu);
+
+            ran[0] = CpuAffinity.currentCpu();
+        });
+
+        thread.join();
+
+        assertThat(allowed.get(CpuAffinity.currentCpu())).isTrue();
+        assertThat(ran[0]).isEqualTo(cpu);
+        assertThat(CpuAffinity.allowed()).isEqualTo(allowed);     // Only the other thread was pinned
+        assertThatThrownBy(() -> CpuAffinity.pin(CpuAffinity.MAX_CPUS)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Test Runner Reports Every Thread")
+    void testRunnerReportsEveryThread() throws InterruptedException {
+        final CpuTopology topology = CpuTopology.detect();
+        final AffinityRunner runner = new AffinityRunner(topology, Duration.ofMillis(50), Duration.ofMillis(200));
+        final Placement placement = CpuAffinity.isSupported() ? Placement.sameSocket(topology, 2) : Placement.unpinned(2);
+        final CopyOnWriteArrayList<Integer> list = new CopyOnWriteArrayList<>();
+
+        IntStream.range(0, SIZE).forEach(list::add);
+
+        final AffinityReport report = runner.run("CopyOnWriteArrayList", list, placement);
+
+        assertThat(report.threads()).hasSize(3);
+        assertThat(report.readsPerSecond()).isPositive();
+        assertThat(report.writesPerSecond()).isPositive();
+        assertThat(report.cmes()).isZero();
+        assertThat(list).hasSize(SIZE);
+
+        for (final AffinityReport.ThreadResult thread : report.threads()) {
+            if (placement.isPinned()) {
+                assertThat(thread.cpu()).isEqualTo(thread.pinnedTo());
+            }
+        }
+    }
+
+    private static void write(final Path path, final String content) throws IOException {
+        Files.createDirectories(path.getParent());
+        Files.writeString(path, content);
+    }
+}
@@ -0,0 +1,239 @@
+package net.jmp.spring.boot.failfast.arena;
+
+/*
+ * (#)TestStringArena.java  0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.*;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.*;
+
+import org.openjdk.jol.info.GraphLayout;
+
+/// The test class for the string arena and its collections.
+/// The footprints are measured with JOL.
+///
+/// @version    0.1.0
+/// @since      0.1.0
+@DisplayName("String Arena")
+final class TestStringArena {
+    private static final int SIZE = 10_000;
+
+    private final StringArena arena = new StringArena();
+
+    @AfterEach
+    void afterEach() {
+        this.arena.trimToSize();
+    }
+
+    @Test
+    @DisplayName("Test Intern Find And Get")
+    void testInternFindAndGet() {
+        final int first = this.arena.intern("value1");
+        final int second = this.arena.intern(new StringBuilder("value").append(2));
+
+        assertThat(this.arena.intern("value1")).isEqualTo(first);
+        assertThat(second).isEqualTo(first + 1);
+        assertThat(this.arena.find("value2")).isEqualTo(second);
+        assertThat(this.arena.find("value3")).isEqualTo(-1);
+        assertThat(this.arena.get(first)).isEqualTo("value1");
+        assertThat(this.arena.hash(second)).isEqualTo("value2".hashCode());
+        assertThat(this.arena.length(second)).isEqualTo(6);
+        assertThat(this.arena.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Test Non ASCII Strings")
+    void testNonAsciiStrings() {
+        final String string = "café 日本";
+        final int id = this.arena.intern(string);
+
+        assertThat(this.arena.get(id)).isEqualTo(string);
+        assertThat(this.arena.find(string)).isEqualTo(id);
+        assertThat(this.arena.find("cafe")).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("Test Growth Keeps Ids")
+    void testGrowthKeepsIds() {
+        IntStream.range(0, SIZE).forEach(i -> assertThat(this.arena.intern("value" + i)).isEqualTo(i));
+        IntStream.range(0, SIZE).forEach(i -> assertThat(this.arena.find("value" + i)).isEqualTo(i));
+
+        assertThat(this.arena.size()).isEqualTo(SIZE);
+    }
+
+    @Test
+    @DisplayName("Test List Against ArrayList")
+    void testListAgainstArrayList() {
+        final List<String> list = new ArenaStringList(this.arena);
+        final List<String> expected = new ArrayList<>();
+
+        IntStream.range(0, SIZE).forEach(i -> {
+            list.add("value" + (i % 100));
+            expected.add("value" + (i % 100));
+        });
+
+        list.remove(10);
+        expected.remove(10);
+        list.add(5, "inserted");
+        expected.add(5, "inserted");
+        list.set(0, "replaced");
+        expected.set(0, "replaced");
+
+        assertThat(list).isEqualTo(expected);
+        assertThat(list.indexOf("value42")).isEqualTo(expected.indexOf("value42"));
+        assertThat(list.indexOf("absent")).isEqualTo(-1);
+        assertThat(list.indexOf(new StringBuilder("value42"))).isEqualTo(expected.indexOf(new StringBuilder("value42")));
+        assertThat(list.remove(new StringBuilder("value42"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Test List Is Fail Fast")
+    void testListIsFailFast() {
+        final List<String> list = new ArenaStringList(this.arena);
+
+        IntStream.rangeClosed(1, 5).forEach(i -> list.add("value" + i));
+
+        assertThatThrownBy(() -> list.forEach(_ -> list.add("value6")))
+                .isInstanceOf(ConcurrentModificationException.class);
+    }
+
+    @Test
+    @DisplayName("Test Set Against HashSet")
+    void testSetAgainstHashSet() {
+        final Set<String> set = new ArenaStringSet(this.arena);
+        final Set<String> expected = new HashSet<>();
+
+        IntStream.range(0, SIZE).forEach(i -> {
+            assertThat(set.add("value" + (i % 1_000))).isEqualTo(expected.add("value" + (i % 1_000)));
+        });
+
+        set.removeIf(s -> s.endsWith("7"));
+        expected.removeIf(s -> s.endsWith("7"));
+
+        assertThat(set).isEqualTo(expected);
+        assertThat(set.contains("value17")).isFalse();
+        assertThat(set.contains("value18")).isTrue();
+        assertThat(set.contains(new StringBuilder("value18"))).isFalse();
+        assertThat(set.remove(new StringBuilder("value18"))).isFalse();
+        assertThat(set).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("Test Set Is Fail Fast")
+    void testSetIsFailFast() {
+        final Set<String> set = new ArenaStringSet(this.arena);
+
+        IntStream.rangeClosed(1, 5).forEach(i -> set.add("value" + i));
+
+        assertThatThrownBy(() -> set.forEach(_ -> set.add("value6")))
+                .isInstanceOf(ConcurrentModificationException.class);
+    }
+
+    @Test
+    @DisplayName("Test Map Against HashMap")
+    void testMapAgainstHashMap() {
+        final Map<String, String> map = new ArenaStringMap(this.arena);
+        final Map<String, String> expected = new HashMap<>();
+
+        IntStream.range(0, SIZE).forEach(i -> {
+            assertThat(map.put("key" + (i % 1_000), "value" + i)).isEqualTo(expected.put("key" + (i % 1_000), "value" + i));
+        });
+
+        map.entrySet().removeIf(e -> e.getKey().endsWith("3"));
+        expected.entrySet().removeIf(e -> e.getKey().endsWith("3"));
+
+        for (final Map.Entry<String, String> entry : map.entrySet()) {
+            entry.setValue(entry.getValue().toUpperCase());
+        }
+
+        expected.replaceAll((_, v) -> v.toUpperCase());
+
+        assertThat(map).isEqualTo(expected);
+        assertThat(map.remove("key1")).isEqualTo(expected.remove("key1"));
+        assertThat(map.get("key1")).isNull();
+        assertThat(map).hasSize(expected.size());
+        assertThat(map.containsKey(new StringBuilder("key2"))).isFalse();
+        assertThat(map.get(new StringBuilder("key2"))).isNull();
+        assertThat(map.remove(new StringBuilder("key2"))).isNull();
+        assertThat(map).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("Test Map Is Fail Fast")
+    void testMapIsFailFast() {
+        final Map<String, String> map = new ArenaStringMap(this.arena);
+
+        IntStream.rangeClosed(1, 5).forEach(i -> map.put("key" + i, "value" + i));
+
+        assertThatThrownBy(() -> map.forEach((_, _) -> map.put("key6", "value6")))
+                .isInstanceOf(ConcurrentModificationException.class);
+    }
+
+    @Test
+    @DisplayName("Test Footprint Of Repetitive Strings")
+    void testFootprintOfRepetitiveStrings() {
+        final List<String> list = new ArenaStringList(this.arena);
+        final List<String> expected = new ArrayList<>();
+
+        IntStream.range(0, SIZE).forEach(i -> {
+            list.add("value" + (i % 1_000));
+            expected.add("value" + (i % 1_000));
+        });
+
+        this.arena.trimToSize();
+
+        final long arenaSize = GraphLayout.parseInstance(list).totalSize();
+        final long expectedSize = GraphLayout.parseInstance(expected).totalSize();
+
+        assertThat(arenaSize * 4).isLessThan(expectedSize);
+    }
+
+    @Test
+    @DisplayName("Test Footprint Of Unique Strings")
+    void testFootprintOfUniqueStrings() {
+        final Set<String> set = new ArenaStringSet(this.arena);
+        final Set<String> expected = new HashSet<>();
+
+        IntStream.range(0, SIZE).forEach(i -> {
+            set.add("value" + i);
+            expected.add("value" + i);
+        });
+
+        this.arena.trimToSize();
+
+        final long arenaSize = GraphLayout.parseInstance(set).totalSize();
+        final long expectedSize = GraphLayout.parseInstance(expected).totalSize();
+
+        assertThat(arenaSize * 2).isLessThan(expectedSize);
+    }
+}
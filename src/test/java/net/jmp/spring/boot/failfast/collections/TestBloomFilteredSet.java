@@ -0,0 +1,140 @@
+package net.jmp.spring.boot.failfast.collections;
+
+/*
+ * (#)TestBloomFilteredSet.java 0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.*;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.*;
+
+/// The test class for the Bloom filtered set.
+///
+/// @version    0.1.0
+/// @since      0.1.0
+@DisplayName("Bloom Filtered Set")
+final class TestBloomFilteredSet {
+    private static final int SIZE = 100_000;
+
+    private final BloomFilteredSet<String> set = new BloomFilteredSet<>(SIZE, 0.01);
+
+    @BeforeEach
+    void beforeEach() {
+        IntStream.range(0, SIZE).forEach(i -> this.set.add("value" + i));
+    }
+
+    @AfterEach
+    void afterEach() {
+        this.set.clear();
+    }
+
+    @Test
+    @DisplayName("Test No False Negatives")
+    void testNoFalseNegatives() {
+        IntStream.range(0, SIZE).forEach(i -> assertThat(this.set.contains("value" + i)).isTrue());
+
+        assertThat(this.set.rejections()).isZero();
+    }
+
+    @Test
+    @DisplayName("Test False Positive Rate")
+    void testFalsePositiveRate() {
+        IntStream.range(0, SIZE).forEach(i -> assertThat(this.set.contains("absent" + i)).isFalse());
+
+        assertThat(this.set.falsePositiveRate()).isLessThan(0.015);
+    }
+
+    @Test
+    @DisplayName("Test Growth Rebuilds The Filter")
+    void testGrowthRebuildsTheFilter() {
+        final BloomFilteredSet<String> small = new BloomFilteredSet<>();
+
+        IntStream.range(0, SIZE).forEach(i -> small.add("value" + i));
+        IntStream.range(0, SIZE).forEach(i -> assertThat(small.contains("value" + i)).isTrue());
+        IntStream.range(0, SIZE).forEach(i -> small.contains("absent" + i));
+
+        assertThat(small).hasSize(SIZE);
+        assertThat(small.falsePositiveRate()).isLessThan(0.015);
+    }
+
+    @Test
+    @DisplayName("Test Removal")
+    void testRemoval() {
+        this.set.removeIf(s -> s.endsWith("7"));
+
+        IntStream.range(0, SIZE).forEach(i -> assertThat(this.set.contains("value" + i)).isEqualTo(i % 10 != 7));
+
+        assertThat(this.set).hasSize(SIZE - SIZE / 10);
+    }
+
+    @Test
+    @DisplayName("Test Iterator Is Fail Fast")
+    void testIteratorIsFailFast() {
+        assertThatThrownBy(() -> {
+            for (final Iterator<String> iterator = this.set.iterator(); iterator.hasNext();) {
+                iterator.next();
+
+                this.set.add("value" + SIZE);
+            }
+        }).isInstanceOf(ConcurrentModificationException.class);
+
+        assertThatThrownBy(() -> {
+            for (final String value : this.set) {
+                this.set.remove(value);
+            }
+        }).isInstanceOf(ConcurrentModificationException.class);
+    }
+
+    @Test
+    @DisplayName("Test Blocked Bloom Filter Sizing")
+    void testBlockedBloomFilterSizing() {
+        final BlockedBloomFilter filter = new BlockedBloomFilter(SIZE, 0.01);
+
+        assertThat(filter.hashes()).isEqualTo(7);
+        assertThat(filter.bitSize() % 512).isZero();
+        assertThat(filter.bitSize()).isGreaterThan(SIZE * 9L);
+        assertThatThrownBy(() -> new BlockedBloomFilter(SIZE, 1.0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Test Blocked Bloom Filter False Positive Rate")
+    void testBlockedBloomFilterFalsePositiveRate() {
+        final BlockedBloomFilter filter = new BlockedBloomFilter(SIZE, 0.01);
+
+        IntStream.range(0, SIZE).forEach(filter::put);
+        IntStream.range(0, SIZE).forEach(i -> assertThat(filter.mightContain(i)).isTrue());
+
+        final long falsePositives = IntStream.range(SIZE, SIZE * 2).filter(filter::mightContain).count();
+
+        assertThat(falsePositives).isLessThan(SIZE * 15L / 1_000);
+    }
+}
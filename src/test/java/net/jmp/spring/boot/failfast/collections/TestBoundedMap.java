@@ -0,0 +1,186 @@
+package net.jmp.spring.boot.failfast.collections;
+
+/*
+ * (#)TestBoundedMap.java   0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.*;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.*;
+
+/// The test class for the bounded map.
+///
+/// @version    0.1.0
+/// @since      0.1.0
+@DisplayName("Bounded Map")
+final class TestBoundedMap {
+    private static final int SIZE = 10_000;
+
+    private final List<Runnable> deferred = new ArrayList<>();
+    private final BoundedMap<Integer, Integer> map = new BoundedMap<>(SIZE, (_, _) -> 1, this.deferred::add);
+
+    @BeforeEach
+    void beforeEach() {
+        IntStream.range(0, SIZE).forEach(i -> this.map.put(i, i));
+    }
+
+    @AfterEach
+    void afterEach() {
+        this.map.clear();
+        this.deferred.clear();
+    }
+
+    @Test
+    @DisplayName("Test Size Bound")
+    void testSizeBound() {
+        final BoundedMap<Integer, Integer> bounded = new BoundedMap<>(100);
+
+        IntStream.range(0, SIZE).forEach(i -> bounded.put(i, i));
+
+        assertThat(bounded).hasSize(100);
+        assertThat(bounded.stats().evictions()).isEqualTo(SIZE - 100);
+    }
+
+    @Test
+    @DisplayName("Test Weight Bound")
+    void testWeightBound() {
+        final BoundedMap<String, String> bounded = new BoundedMap<>(1_000, (_, value) -> value.length());
+
+        IntStream.range(0, SIZE).forEach(i -> bounded.put("key" + i, "x".repeat(i % 50)));
+
+        assertThat(bounded.weightedSize()).isLessThan(1_001);
+        assertThat(bounded.values().stream().mapToLong(String::length).sum()).isEqualTo(bounded.weightedSize());
+    }
+
+    @Test
+    @DisplayName("Test Frequently Read Entries Survive A Scan")
+    void testFrequentlyReadEntriesSurviveAScan() {
+        final BoundedMap<Integer, Integer> bounded = new BoundedMap<>(100);
+
+        IntStream.range(0, 50).forEach(i -> bounded.put(i, i));
+        IntStream.range(0, 50).forEach(bounded::get);
+        IntStream.range(SIZE, 2 * SIZE).forEach(i -> bounded.put(i, i));
+
+        IntStream.range(0, 50).forEach(i -> assertThat(bounded.containsKey(i)).isTrue());
+    }
+
+    @Test
+    @DisplayName("Test Stats")
+    void testStats() {
+        this.map.get(1);
+        this.map.get(-1);
+        this.map.computeIfAbsent(-2, key -> key * 10);
+        this.map.computeIfAbsent(2, key -> key * 10);
+
+        final BoundedMap.Stats stats = this.map.stats();
+
+        assertThat(stats.hits()).isEqualTo(2);
+        assertThat(stats.misses()).isEqualTo(2);
+        assertThat(stats.hitRate()).isEqualTo(0.5);
+        assertThat(stats.loads()).isEqualTo(1);
+        assertThat(this.map.get(-2)).isEqualTo(-20);
+        assertThat(this.map.get(2)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Test Iterator Is Fail Fast")
+    void testIteratorIsFailFast() {
+        assertThatThrownBy(() -> this.map.forEach((key, _) -> this.map.remove(key + 1)))
+                .isInstanceOf(ConcurrentModificationException.class);
+
+        assertThatThrownBy(() -> {
+            for (final Integer _ : this.map.keySet()) {
+                this.map.put(-1, -1);
+            }
+        }).isInstanceOf(ConcurrentModificationException.class);
+    }
+
+    @Test
+    @DisplayName("Test Iterator Is Eviction Safe")
+    void testIteratorIsEvictionSafe() {
+        this.map.put(SIZE, SIZE);
+
+        assertThat(this.deferred).hasSize(1);
+
+        final Set<Integer> seen = new HashSet<>();
+        final Iterator<Map.Entry<Integer, Integer>> iterator = this.map.entrySet().iterator();
+
+        this.deferred.forEach(Runnable::run);
+
+        while (iterator.hasNext()) {
+            seen.add(iterator.next().getKey());
+        }
+
+        assertThat(this.map).hasSize(SIZE);
+        assertThat(seen).isEqualTo(this.map.keySet());
+        assertThat(seen.contains(0)).isFalse();
+        assertThat(this.map.stats().evictions()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Test Background Eviction While Iterating")
+    void testBackgroundEvictionWhileIterating() throws InterruptedException {
+        final BoundedMap<Integer, Integer> bounded = new BoundedMap<>(SIZE / 2, (_, _) -> 1, this.deferred::add);
+
+        IntStream.range(0, SIZE).forEach(i -> bounded.put(i, i));
+
+        final Thread evictor = Thread.ofPlatform().unstarted(() -> this.deferred.forEach(Runnable::run));
+        int count = 0;
+
+        for (final Map.Entry<Integer, Integer> entry : bounded.entrySet()) {
+            if (count++ == 0) {
+                evictor.start();
+            }
+
+            assertThat(entry.getValue()).isEqualTo(entry.getKey());
+        }
+
+        evictor.join();
+
+        assertThat(count).isBetween(SIZE / 2, SIZE);
+        assertThat(bounded).hasSize(SIZE / 2);
+    }
+
+    @Test
+    @DisplayName("Test Iterator Remove And Set Value")
+    void testIteratorRemoveAndSetValue() {
+        this.map.keySet().removeIf(key -> key % 2 == 0);
+
+        for (final Map.Entry<Integer, Integer> entry : this.map.entrySet()) {
+            entry.setValue(-entry.getValue());
+        }
+
+        assertThat(this.map).hasSize(SIZE / 2);
+        assertThat(this.map.get(3)).isEqualTo(-3);
+        assertThat(this.map.containsKey(4)).isFalse();
+    }
+}
@@ -0,0 +1,151 @@
+package net.jmp.spring.boot.failfast.collections;
+
+/*
+ * (#)TestBulkLoader.java   0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.IOException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.util.*;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import java.util.function.Function;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.*;
+
+/// The test class for the bulk loader.
+///
+/// @version    0.1.0
+/// @since      0.1.0
+@DisplayName("Bulk Loader")
+final class TestBulkLoader {
+    private static final int SIZE = 100_000;
+
+    private ExecutorService executor;
+    private BulkLoader loader;
+
+    @BeforeEach
+    void beforeEach() {
+        this.executor = Executors.newFixedThreadPool(4);
+        this.loader = new BulkLoader(this.executor, 4, 1_000);
+    }
+
+    @AfterEach
+    void afterEach() {
+        this.executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Test List Keeps Source Order")
+    void testListKeepsSourceOrder() {
+        final List<String> list = this.loader.toList(IntStream.range(0, SIZE).iterator(), SIZE, i -> "value" + i);
+
+        assertThat(list).isEqualTo(IntStream.range(0, SIZE).mapToObj(i -> "value" + i).toList());
+    }
+
+    @Test
+    @DisplayName("Test List With Low Estimate")
+    void testListWithLowEstimate() {
+        final List<Integer> list = this.loader.toList(IntStream.range(0, SIZE).iterator(), 0, Function.identity());
+
+        assertThat(list).hasSize(SIZE);
+        assertThat(list.getLast()).isEqualTo(SIZE - 1);
+    }
+
+    @Test
+    @DisplayName("Test Set Removes Duplicates")
+    void testSetRemovesDuplicates() {
+        final Set<Integer> set = this.loader.toSet(IntStream.range(0, SIZE).iterator(), SIZE, i -> i % 1_000);
+
+        assertThat(set).isEqualTo(IntStream.range(0, 1_000).boxed().collect(Collectors.toSet()));
+    }
+
+    @Test
+    @DisplayName("Test Map Last Value Wins")
+    void testMapLastValueWins() {
+        final Map<Integer, Integer> map = this.loader.toMap(IntStream.range(0, SIZE).iterator(), SIZE, i -> i % 100, Function.identity());
+
+        assertThat(map).hasSize(100);
+        assertThat(map.get(7)).isEqualTo(SIZE - 100 + 7);
+    }
+
+    @Test
+    @DisplayName("Test Empty Source")
+    void testEmptySource() {
+        assertThat(this.loader.toList(Collections.emptyIterator(), 0, Function.identity())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Test Mapper Exception Is Rethrown")
+    void testMapperExceptionIsRethrown() {
+        assertThatThrownBy(() -> this.loader.toSet(IntStream.range(0, SIZE).iterator(), SIZE, i -> {
+            if (i == SIZE / 2) {
+                throw new IllegalStateException("Bad row");
+            }
+
+            return i;
+        })).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("Test File Load")
+    void testFileLoad() throws IOException {
+        final Path file = Files.createTempFile("bulk", ".txt");
+
+        try {
+            Files.write(file, IntStream.range(0, SIZE).mapToObj(i -> "key" + i + "," + i).toList());
+
+            final long estimate = BulkLoader.estimateLines(file);
+
+            assertThat(estimate).isBetween(SIZE * 9L / 10, SIZE * 11L / 10);
+
+            try (final Stream<String> lines = Files.lines(file)) {
+                final Map<String, Integer> map = this.loader.toMap(lines.iterator(),
+                        estimate,
+                        line -> line.substring(0, line.indexOf(',')),
+                        line -> Integer.valueOf(line.substring(line.indexOf(',') + 1)));
+
+                assertThat(map).hasSize(SIZE);
+                assertThat(map.get("key12345")).isEqualTo(12345);
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
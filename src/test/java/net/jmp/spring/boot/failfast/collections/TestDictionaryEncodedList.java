@@ -0,0 +1,196 @@
+package net.jmp.spring.boot.failfast.collections;
+
+/*
+ * (#)TestDictionaryEncodedList.java    0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.*;
+
+/// The test class for the dictionary encoded list. Its
+/// operations are checked against those of an array list.
+///
+/// @version    0.1.0
+/// @since      0.1.0
+@DisplayName("Dictionary Encoded List")
+final class TestDictionaryEncodedList {
+    private static final int SIZE = 10_000;
+    private static final int DISTINCT = 100;
+
+    private final DictionaryEncodedList<String> list = new DictionaryEncodedList<>();
+    private final List<String> expected = new ArrayList<>(SIZE);
+
+    @BeforeEach
+    void beforeEach() {
+        final Random random = new Random(42);
+
+        for (int i = 0; i < SIZE + 3; i++) {     // Not a multiple of the block size
+            final String value = "value" + random.nextInt(DISTINCT);
+
+            this.list.add(value);
+            this.expected.add(value);
+        }
+    }
+
+    @AfterEach
+    void afterEach() {
+        this.list.clear();
+        this.expected.clear();
+    }
+
+    @Test
+    @DisplayName("Test Reads Against ArrayList")
+    void testReadsAgainstArrayList() {
+        assertThat(this.list.size()).isEqualTo(this.expected.size());
+        assertThat(this.list.dictionarySize()).isEqualTo(DISTINCT);
+        assertThat(new ArrayList<>(this.list)).isEqualTo(this.expected);
+
+        for (int i = 0; i < SIZE; i += 97) {
+            assertThat(this.list.get(i)).isEqualTo(this.expected.get(i));
+        }
+
+        for (int i = 0; i < DISTINCT + 5; i++) {
+            final String value = "value" + i;
+
+            assertThat(this.list.indexOf(value)).isEqualTo(this.expected.indexOf(value));
+            assertThat(this.list.lastIndexOf(value)).isEqualTo(this.expected.lastIndexOf(value));
+            assertThat(this.list.contains(value)).isEqualTo(i < DISTINCT);
+        }
+    }
+
+    @Test
+    @DisplayName("Test Ids Are Bit Packed")
+    void testIdsAreBitPacked() {
+        final int blocks = (SIZE + 3 + 1023) / 1024;
+
+        assertThat(this.list.packedBytes()).isEqualTo(blocks * 1024L * 7 / 8);     // 100 ids fit in 7 bits
+
+        IntStream.range(DISTINCT, 300).forEach(i -> this.list.set(0, "value" + i));
+
+        assertThat(this.list.get(0)).isEqualTo("value299");
+        assertThat(this.list.packedBytes()).isEqualTo(1024L * 9 / 8 + (blocks - 1) * 1024L * 7 / 8);
+        assertThat(this.list.subList(1, SIZE)).isEqualTo(this.expected.subList(1, SIZE));
+    }
+
+    @Test
+    @DisplayName("Test Modifications Against ArrayList")
+    void testModificationsAgainstArrayList() {
+        final Random random = new Random(7);
+
+        for (int i = 0; i < 2_000; i++) {
+            final int index = random.nextInt(this.expected.size());
+
+            switch (random.nextInt(3)) {
+                case 0 -> {
+                    final String value = "other" + random.nextInt(1_000);
+
+                    this.list.add(index, value);
+                    this.expected.add(index, value);
+                }
+                case 1 -> assertThat(this.list.remove(index)).isEqualTo(this.expected.remove(index));
+                default -> {
+                    final String value = "value" + random.nextInt(DISTINCT);
+
+                    assertThat(this.list.set(index, value)).isEqualTo(this.expected.set(index, value));
+                }
+            }
+        }
+
+        assertThat(new ArrayList<>(this.list)).isEqualTo(this.expected);
+
+        assertThat(this.list.removeIf(value -> value.startsWith("other"))).isTrue();
+        assertThat(this.expected.removeIf(value -> value.startsWith("other"))).isTrue();
+        assertThat(new ArrayList<>(this.list)).isEqualTo(this.expected);
+
+        this.list.removeIf(_ -> true);
+
+        assertThat(this.list).isEmpty();
+        assertThat(this.list.packedBytes()).isZero();
+    }
+
+    @Test
+    @DisplayName("Test Iterator Remove")
+    void testIteratorRemove() {
+        for (final Iterator<String> iterator = this.list.iterator(); iterator.hasNext();) {
+            if (iterator.next().endsWith("7")) {
+                iterator.remove();
+            }
+        }
+
+        this.expected.removeIf(value -> value.endsWith("7"));
+
+        assertThat(new ArrayList<>(this.list)).isEqualTo(this.expected);
+    }
+
+    @Test
+    @DisplayName("Test Iterator Sees Replacements")
+    void testIteratorSeesReplacements() {
+        int index = 0;
+
+        for (final String value : this.list) {
+            assertThat(value).isEqualTo(this.expected.get(index));
+
+            if (index + 1 < this.list.size()) {
+                this.list.set(index + 1, "replaced" + index);
+                this.expected.set(index + 1, "replaced" + index);
+            }
+
+            index++;
+        }
+
+        assertThat(index).isEqualTo(SIZE + 3);
+        assertThat(new ArrayList<>(this.list)).isEqualTo(this.expected);
+    }
+
+    @Test
+    @DisplayName("Test Iterator Fails Fast")
+    void testIteratorFailsFast() {
+        assertThatThrownBy(() -> {
+            for (final String value : this.list) {
+                this.list.add(value);
+            }
+        }).isInstanceOf(ConcurrentModificationException.class);
+
+        assertThatThrownBy(() -> {
+            for (final String _ : this.list) {
+                this.list.remove(0);
+            }
+        }).isInstanceOf(ConcurrentModificationException.class);
+
+        assertThatThrownBy(() -> this.list.add(null)).isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,183 @@
+package net.jmp.spring.boot.failfast.collections;
+
+/*
+ * (#)TestIndexedMap.java   0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.*;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.*;
+
+/// The test class for the indexed map.
+///
+/// @version    0.1.0
+/// @since      0.1.0
+@DisplayName("Indexed Map")
+final class TestIndexedMap {
+    private static final int SIZE = 10_000;
+
+    private IndexedMap<String, String> map;
+
+    private SecondaryIndex<String, String, String> byValue;
+
+    private SecondaryIndex<String, String, Integer> byLength;
+
+    @BeforeEach
+    void beforeEach() {
+        this.map = new IndexedMap<>(SIZE);
+
+        IntStream.range(0, SIZE).forEach(i -> this.map.put("key" + i, "value" + i));
+
+        this.byValue = this.map.addIndex("value", value -> value, true);
+        this.byLength = this.map.addIndex("length", String::length, false);
+    }
+
+    @AfterEach
+    void afterEach() {
+        this.map.clear();
+    }
+
+    @Test
+    @DisplayName("Test Lookups")
+    void testLookups() {
+        assertThat(this.byValue.key("value42")).isEqualTo("key42");
+        assertThat(this.byValue.keys("value42")).containsExactly("key42");
+        assertThat(this.byValue.key("missing")).isNull();
+        assertThat(this.byValue.keys("missing")).isEmpty();
+        assertThat(this.byLength.keys(6)).hasSize(10);
+        assertThat(this.byLength.keys(9)).hasSize(9_000);
+        assertThat(this.map.index("length")).isSameAs(this.byLength);
+    }
+
+    @Test
+    @DisplayName("Test Unique Violation")
+    void testUniqueViolation() {
+        assertThatThrownBy(() -> this.map.put("key1", "value2")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> this.map.addIndex("value", value -> value, false)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> this.map.addIndex("length2", String::length, true)).isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(this.map.get("key1")).isEqualTo("value1");
+        assertThat(this.byValue.key("value2")).isEqualTo("key2");
+        assertThat(this.map.index("length2")).isNull();
+
+        this.map.put("key1", "value1");
+
+        assertThat(this.byValue.key("value1")).isEqualTo("key1");
+    }
+
+    @Test
+    @DisplayName("Test Against Rescan")
+    void testAgainstRescan() {
+        final Random random = new Random(11);
+
+        for (int i = 0; i < SIZE; i++) {
+            final String key = "key" + random.nextInt(SIZE);
+
+            switch (random.nextInt(3)) {
+                case 0 -> this.map.remove(key);
+                case 1 -> this.map.put(key, "other" + random.nextInt(SIZE * 10) + "-" + i);
+                default -> this.map.entrySet().removeIf(entry -> entry.getKey().equals(key));
+            }
+        }
+
+        this.map.entrySet().stream()
+                .filter(entry -> entry.getKey().endsWith("7"))
+                .forEach(entry -> entry.setValue(entry.getValue() + "!"));
+
+        final Map<Integer, Set<String>> expected = this.map.entrySet().stream()
+                .collect(Collectors.groupingBy(entry -> entry.getValue().length(),
+                        Collectors.mapping(Map.Entry::getKey, Collectors.toSet())));
+
+        assertThat(this.byLength.size()).isEqualTo(expected.size());
+
+        expected.forEach((length, keys) -> assertThat(this.byLength.keys(length)).isEqualTo(keys));
+
+        this.map.forEach((key, value) -> assertThat(this.byValue.key(value)).isEqualTo(key));
+
+        assertThat(this.byValue.size()).isEqualTo(this.map.size());
+    }
+
+    @Test
+    @DisplayName("Test Mutation During Iteration")
+    void testMutationDuringIteration() {
+        assertThatThrownBy(() -> {
+            for (final String key : this.map.keySet()) {
+                if (key.equals("key3")) {
+                    this.map.remove("key3");
+                    this.map.put("key3a", "value3a");
+                }
+            }
+        }).isInstanceOf(ConcurrentModificationException.class);
+
+        assertThat(this.byValue.key("value3")).isNull();
+        assertThat(this.byValue.key("value3a")).isEqualTo("key3a");
+        assertThat(this.byLength.keys(6)).doesNotContain("key3");
+
+        for (final Iterator<Map.Entry<String, String>> iterator = this.map.entrySet().iterator(); iterator.hasNext();) {
+            final Map.Entry<String, String> entry = iterator.next();
+
+            if (entry.getKey().length() == 4) {
+                iterator.remove();
+            } else if (entry.getKey().equals("key42")) {
+                entry.setValue("changed");
+            }
+        }
+
+        assertThat(this.byLength.keys(6)).isEmpty();
+        assertThat(this.byValue.key("changed")).isEqualTo("key42");
+        assertThat(this.byValue.key("value42")).isNull();
+    }
+
+    @Test
+    @DisplayName("Test Index Views")
+    void testIndexViews() {
+        final Set<String> keys = this.byLength.keys(6);
+
+        assertThatThrownBy(() -> keys.add("key")).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> this.map.put("key", null)).isInstanceOf(NullPointerException.class);
+
+        final int size = keys.size();
+
+        for (final Map.Entry<String, String> entry : this.map.entrySet()) {
+            if (keys.contains(entry.getKey())) {
+                entry.setValue(entry.getValue() + "-renamed");
+            }
+        }
+
+        assertThat(keys).hasSize(size);
+        assertThat(this.byLength.keys(6)).isEmpty();
+
+        assertThat(this.map.removeIndex("length")).isTrue();
+        assertThat(this.map.index("length")).isNull();
+    }
+}
@@ -0,0 +1,221 @@
+package net.jmp.spring.boot.failfast.collections;
+
+/*
+ * (#)TestIntArrayList.java 0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.Random;
+
+import java.util.function.IntPredicate;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.*;
+
+/// The test class for the primitive int list. The bulk
+/// operations of a vectorized and a scalar list are checked
+/// against those of an array list; the vectorized list runs
+/// scalar loops when the Vector API module is not present.
+///
+/// @version    0.1.0
+/// @since      0.1.0
+@DisplayName("Int Array List")
+final class TestIntArrayList {
+    private static final int SIZE = 10_000;
+
+    private final IntArrayList vectorized = new IntArrayList(SIZE, true);
+    private final IntArrayList scalar = new IntArrayList(SIZE, false);
+    private final List<Integer> expected = new ArrayList<>(SIZE);
+
+    @BeforeEach
+    void beforeEach() {
+        final Random random = new Random(42);
+
+        for (int i = 0; i < SIZE + 3; i++) {     // Not a multiple of the vector length
+            final int value = random.nextInt(2 * SIZE) - SIZE;
+
+            this.vectorized.addInt(value);
+            this.scalar.addInt(value);
+            this.expected.add(value);
+        }
+    }
+
+    @AfterEach
+    void afterEach() {
+        this.vectorized.clear();
+        this.scalar.clear();
+        this.expected.clear();
+    }
+
+    @Test
+    @DisplayName("Test Searches Against ArrayList")
+    void testSearchesAgainstArrayList() {
+        assertThat(this.vectorized.isVectorized()).isEqualTo(IntArrayList.isVectorApiPresent());
+        assertThat(this.scalar.isVectorized()).isFalse();
+
+        for (int value = -SIZE - 10; value < SIZE + 10; value += 7) {
+            final int index = this.expected.indexOf(value);
+
+            assertThat(this.vectorized.indexOfInt(value)).isEqualTo(index);
+            assertThat(this.scalar.indexOfInt(value)).isEqualTo(index);
+            assertThat(this.vectorized.contains(value)).isEqualTo(index >= 0);
+            assertThat(this.vectorized.lastIndexOf(value)).isEqualTo(this.expected.lastIndexOf(value));
+        }
+
+        final int last = this.expected.getLast();
+
+        assertThat(this.vectorized.indexOfInt(last)).isEqualTo(this.expected.indexOf(last));
+    }
+
+    @Test
+    @DisplayName("Test Aggregations Against Streams")
+    void testAggregationsAgainstStreams() {
+        final long sum = this.expected.stream().mapToLong(Integer::longValue).sum();
+        final int min = this.expected.stream().mapToInt(Integer::intValue).min().orElseThrow();
+        final int max = this.expected.stream().mapToInt(Integer::intValue).max().orElseThrow();
+
+        assertThat(this.vectorized.sum()).isEqualTo(sum);
+        assertThat(this.scalar.sum()).isEqualTo(sum);
+        assertThat(this.vectorized.min().orElseThrow()).isEqualTo(min);
+        assertThat(this.vectorized.max().orElseThrow()).isEqualTo(max);
+        assertThat(this.scalar.min().orElseThrow()).isEqualTo(min);
+        assertThat(this.scalar.max().orElseThrow()).isEqualTo(max);
+
+        final IntArrayList large = new IntArrayList();
+
+        IntStream.range(0, SIZE).forEach(_ -> large.addInt(Integer.MAX_VALUE));
+
+        assertThat(large.sum()).isEqualTo((long) Integer.MAX_VALUE * SIZE);
+        assertThat(new IntArrayList().min()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Test Counts And Removals Against ArrayList")
+    void testCountsAndRemovalsAgainstArrayList() {
+        final List<IntPredicate> predicates = List.of(
+                IntCondition.lessThan(0),
+                IntCondition.greaterThan(SIZE / 2),
+                IntCondition.equalTo(this.expected.get(SIZE / 2)),
+                IntCondition.notEqualTo(this.expected.getFirst()),
+                IntCondition.between(-100, 100),
+                value -> value % 3 == 0
+        );
+
+        for (final IntPredicate predicate : predicates) {
+            final long count = this.expected.stream().filter(predicate::test).count();
+
+            assertThat(this.vectorized.count(predicate)).isEqualTo((int) count);
+            assertThat(this.scalar.count(predicate)).isEqualTo((int) count);
+        }
+
+        for (final IntPredicate predicate : predicates) {
+            final boolean removed = this.expected.removeIf(predicate::test);
+
+            assertThat(this.vectorized.removeIfInt(predicate)).isEqualTo(removed);
+            assertThat(this.scalar.removeIfInt(predicate)).isEqualTo(removed);
+            assertThat(this.vectorized).isEqualTo(this.expected);
+            assertThat(this.scalar).isEqualTo(this.expected);
+        }
+
+        assertThatThrownBy(() -> IntCondition.between(1, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Test List Operations Against ArrayList")
+    void testListOperationsAgainstArrayList() {
+        final Random random = new Random(7);
+
+        for (int i = 0; i < 1_000; i++) {
+            final int index = random.nextInt(this.expected.size());
+
+            switch (random.nextInt(3)) {
+                case 0 -> assertThat(this.vectorized.set(index, i)).isEqualTo(this.expected.set(index, i));
+                case 1 -> assertThat(this.vectorized.remove(index)).isEqualTo(this.expected.remove(index));
+                default -> {
+                    this.vectorized.add(index, i);
+                    this.expected.add(index, i);
+                }
+            }
+        }
+
+        assertThat(this.vectorized).isEqualTo(this.expected);
+        assertThat(this.vectorized.toIntArray()).isEqualTo(this.expected.stream().mapToInt(Integer::intValue).toArray());
+        assertThatThrownBy(() -> this.vectorized.add(null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> this.vectorized.getInt(this.vectorized.size())).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    @DisplayName("Test Throwing Predicate Leaves The List Unchanged")
+    void testThrowingPredicateLeavesTheListUnchanged() {
+        final int last = this.expected.getLast();
+
+        assertThatThrownBy(() -> this.scalar.removeIfInt(value -> {
+            if (value == last) {
+                throw new IllegalStateException("predicate");
+            }
+
+            return value < 0;
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(this.scalar).isEqualTo(this.expected);
+
+        final int first = this.expected.getFirst();
+
+        assertThat(this.scalar.removeIfInt(value -> {
+            assertThat(this.scalar.getInt(0)).isEqualTo(first);
+
+            return value < 0;
+        })).isTrue();
+
+        this.expected.removeIf(value -> value < 0);
+
+        assertThat(this.scalar).isEqualTo(this.expected);
+        assertThatThrownBy(() -> this.scalar.removeIfInt(_ -> {
+            this.scalar.addInt(0);
+
+            return false;
+        })).isInstanceOf(ConcurrentModificationException.class);
+    }
+
+    @Test
+    @DisplayName("Test For-Each Fails Fast")
+    void testForEachFailsFast() {
+        assertThatThrownBy(() -> {
+            for (final Integer value : this.vectorized) {
+                if (value < 0) {
+                    this.vectorized.removeIfInt(IntCondition.equalTo(value));
+                }
+            }
+        }).isInstanceOf(ConcurrentModificationException.class);
+    }
+}
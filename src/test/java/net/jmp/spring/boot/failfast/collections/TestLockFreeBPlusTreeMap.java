@@ -0,0 +1,217 @@
+package net.jmp.spring.boot.failfast.collections;
+
+/*
+ * (#)TestLockFreeBPlusTreeMap.java 0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.*;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.*;
+
+/// The test class for the lock-free B+ tree map.
+///
+/// @version    0.1.0
+/// @since      0.1.0
+@DisplayName("Lock-Free B+ Tree Map")
+final class TestLockFreeBPlusTreeMap {
+    private static final int SIZE = 10_000;
+
+    private final LockFreeBPlusTreeMap<Integer, Integer> map = new LockFreeBPlusTreeMap<>(null, 4);
+    private final TreeMap<Integer, Integer> expected = new TreeMap<>();
+
+    @BeforeEach
+    void beforeEach() {
+        final List<Integer> keys = new ArrayList<>(IntStream.range(0, SIZE).boxed().toList());
+
+        Collections.shuffle(keys, new Random(42));
+
+        keys.forEach(key -> {
+            this.map.put(key, key);
+            this.expected.put(key, key);
+        });
+    }
+
+    @AfterEach
+    void afterEach() {
+        this.map.clear();
+        this.expected.clear();
+    }
+
+    @Test
+    @DisplayName("Test Random Operations Against TreeMap")
+    void testRandomOperationsAgainstTreeMap() {
+        final Random random = new Random(7);
+
+        for (int i = 0; i < 5 * SIZE; i++) {
+            final int key = random.nextInt(2 * SIZE);
+
+            switch (random.nextInt(3)) {
+                case 0 -> assertThat(this.map.put(key, i)).isEqualTo(this.expected.put(key, i));
+                case 1 -> assertThat(this.map.remove(key)).isEqualTo(this.expected.remove(key));
+                default -> assertThat(this.map.get(key)).isEqualTo(this.expected.get(key));
+            }
+        }
+
+        assertThat(this.map).hasSize(this.expected.size());
+        assertThat(new ArrayList<>(this.map.keySet())).isEqualTo(new ArrayList<>(this.expected.keySet()));
+        assertThat(this.map.firstKey()).isEqualTo(this.expected.firstKey());
+        assertThat(this.map.lastKey()).isEqualTo(this.expected.lastKey());
+    }
+
+    @Test
+    @DisplayName("Test Range Scans Against SubMap")
+    void testRangeScansAgainstSubMap() {
+        final Random random = new Random(11);
+
+        for (int i = 0; i < 100; i++) {
+            final int from = random.nextInt(SIZE + 10) - 5;
+            final int to = from + random.nextInt(200);
+            final boolean fromInclusive = random.nextBoolean();
+            final boolean toInclusive = random.nextBoolean();
+
+            final List<Integer> actual = new ArrayList<>();
+
+            this.map.scan(from, fromInclusive, to, toInclusive).forEachRemaining(entry -> actual.add(entry.getKey()));
+
+            assertThat(actual).isEqualTo(new ArrayList<>(this.expected.subMap(from, fromInclusive, to, toInclusive).keySet()));
+        }
+    }
+
+    @Test
+    @DisplayName("Test Open Ended Scans")
+    void testOpenEndedScans() {
+        final List<Integer> head = new ArrayList<>();
+        final List<Integer> tail = new ArrayList<>();
+
+        this.map.scan(null, true, 100, false).forEachRemaining(entry -> head.add(entry.getKey()));
+        this.map.scan(SIZE - 100, true, null, true).forEachRemaining(entry -> tail.add(entry.getKey()));
+
+        assertThat(head).isEqualTo(new ArrayList<>(this.expected.headMap(100).keySet()));
+        assertThat(tail).isEqualTo(new ArrayList<>(this.expected.tailMap(SIZE - 100).keySet()));
+    }
+
+    @Test
+    @DisplayName("Test Mutation During Iteration")
+    void testMutationDuringIteration() {
+        int count = 0;
+
+        for (final Integer key : this.map.keySet()) {
+            this.map.remove(key + 1);
+            this.map.put(key + SIZE, key);
+
+            count++;
+        }
+
+        assertThat(count).isEqualTo(SIZE);
+        assertThat(this.map).hasSize(SIZE);
+        assertThat(this.map.firstKey()).isZero();
+        assertThat(this.map.containsKey(SIZE)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Test Iterator Remove")
+    void testIteratorRemove() {
+        this.map.keySet().removeIf(key -> key % 3 == 0);
+        this.expected.keySet().removeIf(key -> key % 3 == 0);
+
+        assertThat(this.map).isEqualTo(this.expected);
+
+        this.map.keySet().removeIf(_ -> true);
+
+        assertThat(this.map.isEmpty()).isTrue();
+        assertThatThrownBy(this.map::firstKey).isInstanceOf(NoSuchElementException.class);
+        assertThatThrownBy(this.map::lastKey).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    @DisplayName("Test Conditional Operations")
+    void testConditionalOperations() {
+        assertThat(this.map.putIfAbsent(1, 100)).isEqualTo(1);
+        assertThat(this.map.putIfAbsent(-1, 100)).isNull();
+        assertThat(this.map.replace(2, 2, 200)).isTrue();
+        assertThat(this.map.replace(2, 2, 300)).isFalse();
+        assertThat(this.map.replace(-2, 300)).isNull();
+        assertThat(this.map.remove(3, 4)).isFalse();
+        assertThat(this.map.remove(3, 3)).isTrue();
+        assertThat(this.map.get(2)).isEqualTo(200);
+        assertThat(this.map.containsKey(3)).isFalse();
+        assertThat(this.map).hasSize(SIZE);
+    }
+
+    @Test
+    @DisplayName("Test Concurrent Writers And Scanners")
+    void testConcurrentWritersAndScanners() throws InterruptedException {
+        final int threads = 4;
+        final AtomicInteger errors = new AtomicInteger();
+
+        this.map.clear();
+
+        try (final ExecutorService executor = Executors.newFixedThreadPool(2 * threads)) {
+            for (int t = 0; t < threads; t++) {
+                final int base = t * SIZE;
+
+                executor.execute(() -> {
+                    for (int key = base; key < base + SIZE; key++) {
+                        this.map.put(key, key);
+                    }
+                });
+
+                executor.execute(() -> {
+                    for (int pass = 0; pass < 50; pass++) {
+                        Integer previous = null;
+
+                        for (final Integer key : this.map.keySet()) {
+                            if (previous != null && previous >= key) {
+                                errors.incrementAndGet();
+                            }
+
+                            previous = key;
+                        }
+                    }
+                });
+            }
+
+            executor.shutdown();
+
+            assertThat(executor.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+        }
+
+        assertThat(errors.get()).isZero();
+        assertThat(this.map).hasSize(threads * SIZE);
+    }
+}
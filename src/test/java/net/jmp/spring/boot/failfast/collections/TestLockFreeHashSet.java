@@ -0,0 +1,185 @@
+package net.jmp.spring.boot.failfast.collections;
+
+/*
+ * (#)TestLockFreeHashSet.java  0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.*;
+
+/// The test class for the lock-free hash set.
+///
+/// @version    0.1.0
+/// @since      0.1.0
+@DisplayName("Lock-Free Hash Set")
+final class TestLockFreeHashSet {
+    private static final int SIZE = 10_000;
+
+    private LockFreeHashSet<Integer> set;
+
+    @BeforeEach
+    void beforeEach() {
+        this.set = new LockFreeHashSet<>(SIZE, true);
+
+        IntStream.rangeClosed(1, SIZE).forEach(this.set::add);
+    }
+
+    @AfterEach
+    void afterEach() {
+        this.set.clear();
+    }
+
+    @Test
+    @DisplayName("Test Operations Against HashSet")
+    void testOperationsAgainstHashSet() {
+        final Set<Integer> expected = new HashSet<>();
+        final Random random = new Random(13);
+
+        IntStream.rangeClosed(1, SIZE).forEach(expected::add);
+
+        for (int i = 0; i < SIZE * 10; i++) {
+            final int value = random.nextInt(SIZE * 2);
+
+            switch (random.nextInt(3)) {
+                case 0 -> assertThat(this.set.add(value)).isEqualTo(expected.add(value));
+                case 1 -> assertThat(this.set.remove(value)).isEqualTo(expected.remove(value));
+                default -> assertThat(this.set.contains(value)).isEqualTo(expected.contains(value));
+            }
+        }
+
+        assertThat(this.set).hasSize(expected.size());
+        assertThat(new HashSet<>(this.set)).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("Test Nodes Are Reused")
+    void testNodesAreReused() {
+        for (int i = 0; i < SIZE; i++) {
+            this.set.remove(i + 1);
+            this.set.add(i + 1);
+        }
+
+        assertThat(this.set.reclaimer().retired()).isGreaterThanOrEqualTo(SIZE * 2L);
+        assertThat(this.set.reclaimer().reused()).isGreaterThan(SIZE / 2L);
+        assertThat(this.set).hasSize(SIZE);
+    }
+
+    @Test
+    @DisplayName("Test Not Pooled")
+    void testNotPooled() {
+        final LockFreeHashSet<Integer> unpooled = new LockFreeHashSet<>(SIZE, false);
+
+        IntStream.rangeClosed(1, SIZE).forEach(unpooled::add);
+        IntStream.rangeClosed(1, SIZE / 2).forEach(unpooled::remove);
+
+        assertThat(unpooled.reclaimer()).isNull();
+        assertThat(unpooled).hasSize(SIZE / 2);
+    }
+
+    @Test
+    @DisplayName("Test Two Readers And One Writer")
+    void testTwoReadersAndOneWriter() throws InterruptedException {
+        final AtomicInteger missing = new AtomicInteger();
+        final AtomicInteger iterated = new AtomicInteger();
+
+        final Runnable runner = () -> {
+            for (int pass = 0; pass < 5; pass++) {
+                int seen = 0;
+
+                for (final Integer value : this.set) {
+                    if (value <= SIZE) {
+                        seen++;
+                    }
+                }
+
+                if (seen != SIZE) {
+                    missing.incrementAndGet();
+                }
+
+                for (int i = 1; i <= SIZE; i++) {
+                    if (!this.set.contains(i)) {
+                        missing.incrementAndGet();
+                    }
+                }
+
+                iterated.incrementAndGet();
+            }
+        };
+
+        final Runnable modifier = () -> {
+            for (int round = 0; round < 20; round++) {
+                for (int i = 0; i < 100; i++) {
+                    this.set.add((i + 11) * SIZE);
+                }
+
+                for (int i = 0; i < 100; i++) {
+                    this.set.remove((i + 11) * SIZE);
+                }
+            }
+
+            for (int i = 0; i < 100; i++) {
+                this.set.add((i + 11) * SIZE);
+            }
+        };
+
+        final Thread thread1 = new Thread(runner);
+        final Thread thread2 = new Thread(runner);
+        final Thread thread3 = new Thread(modifier);
+
+        thread1.start();
+        thread2.start();
+        thread3.start();
+
+        thread1.join();
+        thread2.join();
+        thread3.join();
+
+        assertThat(missing.get()).isZero();
+        assertThat(iterated.get()).isEqualTo(10);
+        assertThat(this.set).hasSize(SIZE + 100);
+    }
+
+    @Test
+    @DisplayName("Test Iterator Remove")
+    void testIteratorRemove() {
+        this.set.removeIf(value -> value % 2 == 0);
+
+        assertThat(this.set).hasSize(SIZE / 2);
+        assertThat(this.set.contains(2)).isFalse();
+        assertThat(this.set.contains(3)).isTrue();
+        assertThatThrownBy(() -> this.set.add(null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> new LockFreeHashSet<>(0, true)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
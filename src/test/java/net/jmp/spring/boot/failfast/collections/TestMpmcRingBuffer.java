@@ -0,0 +1,163 @@
+package net.jmp.spring.boot.failfast.collections;
+
+/*
+ * (#)TestMpmcRingBuffer.java   0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.*;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.*;
+
+/// The test class for the ring buffer.
+///
+/// @version    0.1.0
+/// @since      0.1.0
+@DisplayName("MPMC Ring Buffer")
+final class TestMpmcRingBuffer {
+    private static final int SIZE = 10_000;
+
+    private MpmcRingBuffer<Integer> queue;
+
+    @BeforeEach
+    void beforeEach() {
+        this.queue = new MpmcRingBuffer<>(1_000);
+    }
+
+    @AfterEach
+    void afterEach() {
+        this.queue.clear();
+    }
+
+    @Test
+    @DisplayName("Test Capacity And Order")
+    void testCapacityAndOrder() {
+        assertThat(this.queue.capacity()).isEqualTo(1_024);
+        assertThat(this.queue.poll()).isNull();
+        assertThat(this.queue.peek()).isNull();
+
+        IntStream.range(0, 1_024).forEach(i -> assertThat(this.queue.offer(i)).isTrue());
+
+        assertThat(this.queue.offer(SIZE)).isFalse();
+        assertThat(this.queue).hasSize(1_024);
+        assertThat(this.queue.peek()).isZero();
+
+        for (int lap = 0; lap < SIZE; lap++) {
+            assertThat(this.queue.poll()).isEqualTo(lap);
+            assertThat(this.queue.offer(lap + 1_024)).isTrue();
+        }
+
+        assertThat(new ArrayList<>(this.queue)).isEqualTo(IntStream.range(SIZE, SIZE + 1_024).boxed().toList());
+    }
+
+    @Test
+    @DisplayName("Test Iterator Is A Snapshot")
+    void testIteratorIsASnapshot() {
+        IntStream.range(0, 10).forEach(this.queue::offer);
+
+        final Iterator<Integer> iterator = this.queue.iterator();
+
+        this.queue.poll();
+        this.queue.offer(10);
+
+        final List<Integer> seen = new ArrayList<>();
+
+        iterator.forEachRemaining(seen::add);
+
+        assertThat(seen).isEqualTo(IntStream.range(0, 10).boxed().toList());
+        assertThatThrownBy(() -> this.queue.iterator().remove()).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("Test Producers And Consumers")
+    void testProducersAndConsumers() throws Exception {
+        final int threads = 4;
+        final AtomicLong sum = new AtomicLong();
+        final AtomicLong count = new AtomicLong();
+
+        try (final ExecutorService executor = Executors.newFixedThreadPool(threads * 2)) {
+            final List<Future<?>> futures = new ArrayList<>();
+
+            for (int t = 0; t < threads; t++) {
+                final int producer = t;
+
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < SIZE; i++) {
+                        while (!this.queue.offer(producer * SIZE + i)) {
+                            Thread.yield();
+                        }
+                    }
+                }));
+
+                futures.add(executor.submit(() -> {
+                    int last = -1;
+
+                    while (count.get() < (long) threads * SIZE) {
+                        final Integer value = this.queue.poll();
+
+                        if (value == null) {
+                            Thread.yield();
+                        } else {
+                            sum.addAndGet(value);
+                            count.incrementAndGet();
+                            last = value;
+                        }
+                    }
+
+                    return last;
+                }));
+            }
+
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        final long n = (long) threads * SIZE;
+
+        assertThat(count.get()).isEqualTo(n);
+        assertThat(sum.get()).isEqualTo(n * (n - 1) / 2);
+        assertThat(this.queue).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Test Arguments")
+    void testArguments() {
+        assertThatThrownBy(() -> this.queue.offer(null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> new MpmcRingBuffer<>(1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,206 @@
+package net.jmp.spring.boot.failfast.collections;
+
+/*
+ * (#)TestOptimisticReadMap.java    0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.*;
+
+/// The test class for the optimistic read map.
+///
+/// @version    0.1.0
+/// @since      0.1.0
+@DisplayName("Optimistic Read Map")
+final class TestOptimisticReadMap {
+    private static final int SIZE = 10_000;
+
+    private final Map<Integer, Integer> map = new OptimisticReadMap<>();
+
+    @BeforeEach
+    void beforeEach() {
+        IntStream.rangeClosed(1, SIZE).forEach(key -> this.map.put(key, key));
+    }
+
+    @AfterEach
+    void afterEach() {
+        this.map.clear();
+    }
+
+    @Test
+    @DisplayName("Test Put, Get And Remove Against HashMap")
+    void testPutGetAndRemoveAgainstHashMap() {
+        final Map<Integer, Integer> expected = new HashMap<>(this.map);
+        final Random random = new Random(42);
+
+        for (int i = 0; i < 100_000; i++) {
+            final int key = random.nextInt(2 * SIZE);
+
+            if (random.nextBoolean()) {
+                assertThat(this.map.put(key, i)).isEqualTo(expected.put(key, i));
+            } else {
+                assertThat(this.map.remove(key)).isEqualTo(expected.remove(key));
+            }
+        }
+
+        assertThat(this.map).hasSize(expected.size());
+
+        for (final Map.Entry<Integer, Integer> entry : expected.entrySet()) {
+            assertThat(this.map.get(entry.getKey())).isEqualTo(entry.getValue());
+        }
+
+        assertThat(this.map.equals(expected)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Test For-Each Does Not Fail Fast")
+    void testForEachDoesNotFailFast() {
+        int count = 0;
+
+        for (final Map.Entry<Integer, Integer> entry : this.map.entrySet()) {
+            this.map.remove(entry.getKey());
+            this.map.put(entry.getKey() + SIZE, entry.getValue());
+
+            count++;
+        }
+
+        assertThat(count).isEqualTo(SIZE);
+        assertThat(this.map).hasSize(SIZE);
+        assertThat(this.map.containsKey(1)).isFalse();
+        assertThat(this.map.containsKey(SIZE + 1)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Test Iterator Remove")
+    void testIteratorRemove() {
+        for (final Iterator<Map.Entry<Integer, Integer>> iterator = this.map.entrySet().iterator(); iterator.hasNext();) {
+            if (iterator.next().getKey() % 2 == 0) {
+                iterator.remove();
+            }
+        }
+
+        assertThat(this.map).hasSize(SIZE / 2);
+        assertThat(this.map.containsKey(2)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Test Batch")
+    void testBatch() {
+        ((OptimisticReadMap<Integer, Integer>) this.map).batch(batch -> {
+            for (int i = 1; i <= SIZE; i++) {
+                batch.remove(i);
+                batch.put(-i, i);
+            }
+        });
+
+        assertThat(this.map).hasSize(SIZE);
+        assertThat(this.map.get(-SIZE)).isEqualTo(SIZE);
+        assertThat(this.map.get(SIZE)).isNull();
+    }
+
+    @Test
+    @DisplayName("Test Batch As A Map")
+    void testBatchAsAMap() {
+        ((OptimisticReadMap<Integer, Integer>) this.map).batch(batch -> {
+            assertThat(batch).hasSize(SIZE);
+            assertThat(batch.containsKey(1)).isTrue();
+            assertThat(batch.containsValue(SIZE)).isTrue();
+            assertThat(batch.isEmpty()).isFalse();
+            assertThat(batch).isEqualTo(new HashMap<>(batch));
+
+            batch.entrySet().removeIf(entry -> entry.getKey() % 2 == 0);
+
+            final int[] sum = new int[1];
+
+            batch.forEach((key, _) -> sum[0] += key);
+
+            assertThat(batch).hasSize(SIZE / 2);
+            assertThat(sum[0]).isEqualTo((SIZE / 2) * (SIZE / 2));     // The sum of the odd keys
+        });
+
+        assertThat(this.map).hasSize(SIZE / 2);
+        assertThat(this.map.containsKey(2)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Test Concurrent Readers And Writer")
+    void testConcurrentReadersAndWriter() {
+        final AtomicInteger errors = new AtomicInteger();
+
+        final Runnable runner = () -> {
+            for (int i = 0; i < 100; i++) {
+                for (final Map.Entry<Integer, Integer> entry : this.map.entrySet()) {
+                    if (!entry.getValue().equals(this.map.get(entry.getKey()))) {
+                        errors.incrementAndGet();
+                    }
+                }
+
+                Thread.yield();
+            }
+        };
+
+        final Runnable modifier = () -> {
+            for (int i = 0; i < 100; i++) {
+                this.map.put((i + 11) * SIZE, (i + 11) * SIZE);
+                Thread.yield();
+            }
+        };
+
+        final Thread thread1 = new Thread(runner);
+        final Thread thread2 = new Thread(runner);
+        final Thread thread3 = new Thread(modifier);
+
+        thread1.setName("Runner 1");
+        thread2.setName("Runner 2");
+        thread3.setName("Modifier");
+
+        thread1.start();
+        thread2.start();
+        thread3.start();
+
+        try {
+            thread1.join();
+            thread2.join();
+            thread3.join();
+        } catch (final InterruptedException _) {
+            Thread.currentThread().interrupt();
+        }
+
+        assertThat(errors.get()).isZero();
+        assertThat(this.map).hasSize(SIZE + 100);
+    }
+}
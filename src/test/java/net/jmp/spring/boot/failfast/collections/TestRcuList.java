@@ -0,0 +1,212 @@
+package net.jmp.spring.boot.failfast.collections;
+
+/*
+ * (#)TestRcuList.java  0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.time.Duration;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.*;
+
+/// The test class for the read-copy-update list.
+///
+/// @version    0.1.0
+/// @since      0.1.0
+@DisplayName("RCU List")
+final class TestRcuList {
+    private static final int SIZE = 10_000;
+
+    private final RcuList<Integer> list = new RcuList<>(Duration.ZERO);
+
+    private final RcuList<Integer> coalescing = new RcuList<>(Duration.ofHours(1));
+
+    @BeforeEach
+    void beforeEach() {
+        this.list.addAll(IntStream.range(0, SIZE).boxed().toList());
+    }
+
+    @AfterEach
+    void afterEach() {
+        this.list.clear();
+        this.coalescing.clear();
+    }
+
+    @Test
+    @DisplayName("Test Writes Against ArrayList")
+    void testWritesAgainstArrayList() {
+        final List<Integer> expected = new ArrayList<>(this.list);
+        final Random random = new Random(42);
+
+        for (int i = 0; i < 10_000; i++) {
+            final int index = random.nextInt(expected.size());
+
+            switch (random.nextInt(4)) {
+                case 0 -> assertThat(this.list.add(i)).isEqualTo(expected.add(i));
+                case 1 -> assertThat(this.list.set(index, i)).isEqualTo(expected.set(index, i));
+                case 2 -> assertThat(this.list.remove(index)).isEqualTo(expected.remove(index));
+                default -> {
+                    this.list.add(index, i);
+                    expected.add(index, i);
+                }
+            }
+        }
+
+        assertThat(this.list).isEqualTo(expected);
+        assertThat(this.list.removeIf(value -> value % 2 == 0)).isEqualTo(expected.removeIf(value -> value % 2 == 0));
+        assertThat(this.list).isEqualTo(expected);
+        assertThat(this.list.publications()).isEqualTo(this.list.writes());
+    }
+
+    @Test
+    @DisplayName("Test For-Each Does Not Fail Fast")
+    void testForEachDoesNotFailFast() {
+        int count = 0;
+
+        for (final Integer value : this.list) {
+            this.list.remove(value);
+            this.list.add(value + SIZE);
+
+            count++;
+        }
+
+        assertThat(count).isEqualTo(SIZE);
+        assertThat(this.list).hasSize(SIZE);
+        assertThat(this.list.getFirst()).isEqualTo(SIZE);
+
+        final Iterator<Integer> iterator = this.list.iterator();
+
+        iterator.next();
+
+        assertThatThrownBy(iterator::remove).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("Test Writes Are Coalesced")
+    void testWritesAreCoalesced() {
+        for (int i = 0; i < SIZE; i++) {
+            this.coalescing.add(i);
+        }
+
+        this.coalescing.remove(Integer.valueOf(0));
+
+        assertThat(this.coalescing).isEmpty();
+        assertThat(this.coalescing.version()).isZero();
+
+        this.coalescing.flush();
+
+        assertThat(this.coalescing).hasSize(SIZE - 1);
+        assertThat(this.coalescing.getFirst()).isEqualTo(1);
+        assertThat(this.coalescing.writes()).isEqualTo(SIZE + 1);
+        assertThat(this.coalescing.publications()).isEqualTo(1);
+        assertThat(this.coalescing.version()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Test Batch Publishes Once")
+    void testBatchPublishesOnce() {
+        final long version = this.list.version();
+
+        this.list.batch(batch -> {
+            batch.subList(0, SIZE / 2).clear();
+            batch.replaceAll(value -> value * 2);
+
+            assertThat(this.list).hasSize(SIZE);
+
+            assertThatThrownBy(() -> {
+                for (final Integer value : batch) {
+                    batch.remove(value);
+                }
+            }).isInstanceOf(ConcurrentModificationException.class);
+        });
+
+        assertThat(this.list.version()).isEqualTo(version + 1);
+        assertThat(this.list).hasSize(SIZE / 2 - 1);
+        assertThat(this.list.getFirst()).isEqualTo(SIZE + 2);
+    }
+
+    @Test
+    @DisplayName("Test Failed Batch Is Discarded")
+    void testFailedBatchIsDiscarded() {
+        final long version = this.list.version();
+        final long writes = this.list.writes();
+
+        assertThatThrownBy(() -> this.list.batch(batch -> {
+            batch.clear();
+            batch.add(-1);
+
+            throw new IllegalStateException("updates");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(this.list.version()).isEqualTo(version);
+        assertThat(this.list.writes()).isEqualTo(writes);
+        assertThat(this.list).hasSize(SIZE);
+
+        this.list.flush();
+
+        assertThat(this.list.version()).isEqualTo(version);
+        assertThat(this.list).hasSize(SIZE);
+        assertThat(this.list.getFirst()).isNotEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("Test Window Publishes")
+    void testWindowPublishes() throws InterruptedException {
+        final RcuList<Integer> windowed = new RcuList<>(Duration.ofMillis(10));
+
+        windowed.add(1);
+        windowed.add(2);
+
+        final long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+
+        while (windowed.size() < 2 && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+
+        assertThat(windowed).containsExactly(1, 2);
+        assertThat(windowed.publications()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Test Nulls And Indexes Are Rejected")
+    void testNullsAndIndexesAreRejected() {
+        assertThatThrownBy(() -> this.list.add(null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> this.list.get(this.list.size())).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> this.list.add(this.list.size() + 1, 1)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> new RcuList<>(Duration.ofMillis(-1))).isInstanceOf(IllegalArgumentException.class);
+    }
+}
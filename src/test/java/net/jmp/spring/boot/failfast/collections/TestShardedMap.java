@@ -0,0 +1,203 @@
+package net.jmp.spring.boot.failfast.collections;
+
+/*
+ * (#)TestShardedMap.java   0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.*;
+
+/// The test class for the sharded map.
+///
+/// @version    0.1.0
+/// @since      0.1.0
+@DisplayName("Sharded Map")
+final class TestShardedMap {
+    private static final int SIZE = 10_000;
+
+    private ShardedMap<Integer, Integer> map;
+
+    @BeforeEach
+    void beforeEach() {
+        this.map = new ShardedMap<>(4);
+
+        final List<CompletableFuture<Integer>> futures = new ArrayList<>(SIZE);
+
+        IntStream.range(0, SIZE).forEach(i -> futures.add(this.map.putAsync(i, i)));
+
+        futures.forEach(CompletableFuture::join);
+    }
+
+    @AfterEach
+    void afterEach() {
+        this.map.close();
+    }
+
+    @Test
+    @DisplayName("Test Operations Against HashMap")
+    void testOperationsAgainstHashMap() {
+        final Map<Integer, Integer> expected = new HashMap<>();
+        final Random random = new Random(3);
+
+        IntStream.range(0, SIZE).forEach(i -> expected.put(i, i));
+
+        for (int i = 0; i < SIZE; i++) {
+            final int key = random.nextInt(2 * SIZE);
+
+            switch (random.nextInt(3)) {
+                case 0 -> assertThat(this.map.put(key, i)).isEqualTo(expected.put(key, i));
+                case 1 -> assertThat(this.map.remove(key)).isEqualTo(expected.remove(key));
+                default -> assertThat(this.map.get(key)).isEqualTo(expected.get(key));
+            }
+        }
+
+        assertThat(this.map).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("Test Scatter Gather")
+    void testScatterGather() {
+        final List<Integer> sizes = this.map.scatterGather(Map::size);
+
+        assertThat(sizes).hasSize(4);
+        assertThat(sizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(SIZE);
+        sizes.forEach(size -> assertThat(size).isGreaterThan(SIZE / 8));
+
+        final List<String> owners = this.map.scatterGather(_ -> Thread.currentThread().getName());
+
+        assertThat(new HashSet<>(owners)).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("Test Parallel For Each")
+    void testParallelForEach() {
+        final LongAdder sum = new LongAdder();
+
+        this.map.parallelForEach((key, _) -> sum.add(key));
+
+        assertThat(sum.sum()).isEqualTo((long) SIZE * (SIZE - 1) / 2);
+    }
+
+    @Test
+    @DisplayName("Test Shard Iteration Is Fail Fast")
+    void testShardIterationIsFailFast() {
+        assertThatThrownBy(() -> this.map.parallelForEach((key, _) -> this.map.remove(key)))
+                .isInstanceOf(ConcurrentModificationException.class);
+    }
+
+    @Test
+    @DisplayName("Test Visitor Cannot Wait On Another Shard")
+    void testVisitorCannotWaitOnAnotherShard() {
+        assertThatThrownBy(() -> this.map.parallelForEach((key, _) -> this.map.get(key + 1)))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> this.map.parallelForEach((_, _) -> this.map.size()))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("Test Entry Set Snapshot")
+    void testEntrySetSnapshot() {
+        int count = 0;
+
+        for (final Integer key : this.map.keySet()) {
+            this.map.put(key + SIZE, key);
+
+            count++;
+        }
+
+        assertThat(count).isEqualTo(SIZE);
+        assertThat(this.map).hasSize(2 * SIZE);
+
+        this.map.keySet().removeIf(key -> key >= SIZE);
+
+        assertThat(this.map).hasSize(SIZE);
+    }
+
+    @Test
+    @DisplayName("Test Concurrent Producers")
+    void testConcurrentProducers() throws InterruptedException {
+        this.map.clear();
+
+        try (final ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            for (int t = 0; t < 4; t++) {
+                final int base = t * SIZE;
+
+                executor.execute(() -> IntStream.range(base, base + SIZE).forEach(i -> this.map.put(i, i)));
+            }
+
+            executor.shutdown();
+
+            assertThat(executor.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+        }
+
+        assertThat(this.map).hasSize(4 * SIZE);
+    }
+
+    @Test
+    @DisplayName("Test Commands Racing Close Complete")
+    void testCommandsRacingCloseComplete() throws InterruptedException {
+        for (int round = 0; round < 200; round++) {
+            final ShardedMap<Integer, Integer> racing = new ShardedMap<>(2);
+            final List<CompletableFuture<Integer>> futures = new ArrayList<>();
+            final Thread sender = Thread.ofPlatform().start(() -> {
+                try {
+                    for (int i = 0; ; i++) {
+                        futures.add(racing.putAsync(i, i));
+                    }
+                } catch (final IllegalStateException _) {
+                    // Closed
+                }
+            });
+
+            racing.close();
+            sender.join();
+
+            assertThat(futures.stream().allMatch(CompletableFuture::isDone)).isTrue();     // Nothing is left waiting
+        }
+    }
+
+    @Test
+    @DisplayName("Test Closed Map Rejects Commands")
+    void testClosedMapRejectsCommands() {
+        this.map.close();
+
+        assertThatThrownBy(() -> this.map.put(1, 1)).isInstanceOf(IllegalStateException.class);
+    }
+}
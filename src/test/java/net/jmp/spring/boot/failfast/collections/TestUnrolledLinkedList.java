@@ -0,0 +1,154 @@
+package net.jmp.spring.boot.failfast.collections;
+
+/*
+ * (#)TestUnrolledLinkedList.java   0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.*;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.*;
+
+/// The test class for the unrolled linked list.
+///
+/// @version    0.1.0
+/// @since      0.1.0
+@DisplayName("Unrolled Linked List")
+final class TestUnrolledLinkedList {
+    private static final int SIZE = 10_000;
+
+    private final List<Integer> list = new UnrolledLinkedList<>(8);
+    private final List<Integer> expected = new ArrayList<>(SIZE);
+
+    @BeforeEach
+    void beforeEach() {
+        IntStream.rangeClosed(1, SIZE).forEach(this.list::add);
+        IntStream.rangeClosed(1, SIZE).forEach(this.expected::add);
+    }
+
+    @AfterEach
+    void afterEach() {
+        this.list.clear();
+        this.expected.clear();
+    }
+
+    @Test
+    @DisplayName("Test Iterator Remove And Add Against ArrayList")
+    void testIteratorRemoveAndAddAgainstArrayList() {
+        final Random random = new Random(42);
+
+        for (int pass = 0; pass < 5; pass++) {
+            final ListIterator<Integer> actualIterator = this.list.listIterator();
+            final ListIterator<Integer> expectedIterator = this.expected.listIterator();
+
+            while (expectedIterator.hasNext()) {
+                assertThat(actualIterator.next()).isEqualTo(expectedIterator.next());
+
+                switch (random.nextInt(4)) {
+                    case 0 -> {
+                        actualIterator.remove();
+                        expectedIterator.remove();
+                    }
+                    case 1 -> {
+                        actualIterator.add(-pass);
+                        expectedIterator.add(-pass);
+                    }
+                    case 2 -> {
+                        actualIterator.set(pass);
+                        expectedIterator.set(pass);
+                    }
+                    default -> {
+                    }
+                }
+
+                assertThat(actualIterator.nextIndex()).isEqualTo(expectedIterator.nextIndex());
+            }
+
+            assertThat(actualIterator.hasNext()).isFalse();
+        }
+
+        assertThat(this.list).containsExactly(this.expected.toArray());
+    }
+
+    @Test
+    @DisplayName("Test Backward Iteration With Remove")
+    void testBackwardIterationWithRemove() {
+        for (final ListIterator<Integer> iterator = this.list.listIterator(this.list.size()); iterator.hasPrevious();) {
+            if (iterator.previous() % 3 == 0) {
+                iterator.remove();
+            }
+        }
+
+        this.expected.removeIf(value -> value % 3 == 0);
+
+        assertThat(this.list).containsExactly(this.expected.toArray());
+        assertThat(this.list.get(this.list.size() - 1)).isEqualTo(this.expected.getLast());
+    }
+
+    @Test
+    @DisplayName("Test Remove All During Iteration")
+    void testRemoveAllDuringIteration() {
+        for (final Iterator<Integer> iterator = this.list.iterator(); iterator.hasNext();) {
+            iterator.next();
+            iterator.remove();
+        }
+
+        assertThat(this.list).isEmpty();
+
+        this.list.add(1);
+
+        assertThat(this.list).containsExactly(1);
+    }
+
+    @Test
+    @DisplayName("Test Fail Fast For-Each")
+    void testFailFastForEach() {
+        assertThatThrownBy(() -> {
+            for (final Integer value : this.list) {
+                if (value == 2) {
+                    this.list.remove(Integer.valueOf(1));
+                }
+            }
+        }).isInstanceOf(ConcurrentModificationException.class);
+    }
+
+    @Test
+    @DisplayName("Test Fail Fast Iterator")
+    void testFailFastIterator() {
+        assertThatThrownBy(() -> {
+            for (final Iterator<Integer> iterator = this.list.iterator(); iterator.hasNext();) {
+                iterator.next();
+
+                this.list.add(SIZE + 1);
+            }
+        }).isInstanceOf(ConcurrentModificationException.class);
+    }
+}
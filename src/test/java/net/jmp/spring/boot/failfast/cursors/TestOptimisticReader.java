@@ -0,0 +1,229 @@
+package net.jmp.spring.boot.failfast.cursors;
+
+/*
+ * (#)TestOptimisticReader.java 0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.time.Duration;
+
+import java.util.*;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.*;
+
+/// The test class for the optimistic reader.
+///
+/// @version    0.1.0
+/// @since      0.1.0
+@DisplayName("Optimistic Reader")
+final class TestOptimisticReader {
+    private static final int SIZE = 10_000;
+
+    private static final RetryPolicy NO_BACKOFF = new RetryPolicy(4, Duration.ZERO, Duration.ZERO);
+
+    private final VersionedArrayList<Integer> list = new VersionedArrayList<>();
+    private final VersionedHashMap<Integer, Integer> map = new VersionedHashMap<>();
+
+    @BeforeEach
+    void beforeEach() {
+        IntStream.rangeClosed(1, SIZE).forEach(this.list::add);
+        IntStream.rangeClosed(1, SIZE).forEach(key -> this.map.put(key, key));
+    }
+
+    @AfterEach
+    void afterEach() {
+        this.list.clear();
+        this.map.clear();
+    }
+
+    @Test
+    @DisplayName("Test Modification During Iteration Does Not Throw")
+    void testModificationDuringIterationDoesNotThrow() {
+        final OptimisticReader reader = new OptimisticReader();
+
+        int count = 0;
+
+        for (final Iterator<Integer> iterator = reader.iterator(this.list); iterator.hasNext();) {
+            final Integer value = iterator.next();
+
+            this.list.remove(value);
+            this.list.add(value + SIZE);
+
+            count++;
+        }
+
+        assertThat(count).isEqualTo(SIZE);
+        assertThat(this.list.getFirst()).isEqualTo(SIZE + 1);
+        assertThat(reader.reads()).isEqualTo(1);
+        assertThat(reader.retries()).isZero();
+    }
+
+    @Test
+    @DisplayName("Test Read Retries Until Consistent")
+    void testReadRetriesUntilConsistent() {
+        final OptimisticReader reader = new OptimisticReader(NO_BACKOFF);
+        final Unstable unstable = new Unstable(this.list, 3);
+
+        final int[] mapped = new int[1];
+
+        final List<Integer> doubled = reader.read(unstable, unstable, value -> {
+            mapped[0]++;
+
+            return value * 2;
+        });
+
+        assertThat(doubled).hasSize(SIZE);
+        assertThat(doubled.getLast()).isEqualTo(2 * SIZE);
+        assertThat(reader.retries()).isEqualTo(3);
+        assertThat(reader.lockedReads()).isZero();
+        assertThat(mapped[0]).isLessThan(SIZE + 3 * 1_000);
+    }
+
+    @Test
+    @DisplayName("Test Read Locks After Maximum Retries")
+    void testReadLocksAfterMaximumRetries() {
+        final OptimisticReader reader = new OptimisticReader(NO_BACKOFF);
+        final Unstable unstable = new Unstable(this.list, Integer.MAX_VALUE);
+
+        final List<Integer> values = new ArrayList<>();
+
+        reader.iterator(unstable).forEachRemaining(values::add);
+
+        assertThat(values).isEqualTo(this.list);
+        assertThat(reader.retries()).isEqualTo(NO_BACKOFF.maxRetries());
+        assertThat(reader.lockedReads()).isEqualTo(1);
+
+        assertThatThrownBy(() -> reader.read(this.map, this.map.keySet(), _ -> {
+            throw new IllegalStateException("mapper");
+        })).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("Test Map View Is Read")
+    void testMapViewIsRead() {
+        final OptimisticReader reader = new OptimisticReader();
+
+        long sum = 0;
+
+        for (final Iterator<Map.Entry<Integer, Integer>> iterator = reader.iterator(this.map, this.map.entrySet()); iterator.hasNext();) {
+            final Map.Entry<Integer, Integer> entry = iterator.next();
+
+            this.map.remove(entry.getKey());
+
+            sum += entry.getValue();
+        }
+
+        assertThat(sum).isEqualTo((long) SIZE * (SIZE + 1) / 2);
+        assertThat(this.map).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Test Backoff Doubles Up To Maximum")
+    void testBackoffDoublesUpToMaximum() {
+        final RetryPolicy policy = new RetryPolicy(100, Duration.ofNanos(10_000), Duration.ofNanos(100_000));
+
+        assertThat(policy.backoffNanos(1)).isEqualTo(10_000);
+        assertThat(policy.backoffNanos(2)).isEqualTo(20_000);
+        assertThat(policy.backoffNanos(4)).isEqualTo(80_000);
+        assertThat(policy.backoffNanos(5)).isEqualTo(100_000);
+        assertThat(policy.backoffNanos(100)).isEqualTo(100_000);
+
+        assertThatThrownBy(() -> policy.backoffNanos(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new RetryPolicy(-1, Duration.ZERO, Duration.ZERO)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new RetryPolicy(1, Duration.ofMillis(2), Duration.ofMillis(1))).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Test Reads Complete Under Light Write Load")
+    void testReadsCompleteUnderLightWriteLoad() throws InterruptedException {
+        final OptimisticReader reader = new OptimisticReader();
+        final VersionedHashMap<Integer, Integer> shared = new VersionedHashMap<>();
+
+        synchronized (shared) {
+            IntStream.rangeClosed(1, 1_000).forEach(key -> shared.put(key, key));
+        }
+
+        final Thread writer = new Thread(() -> {
+            for (int i = 0; i < 50 && !Thread.currentThread().isInterrupted(); i++) {
+                synchronized (shared) {
+                    shared.put(2_000 + i, i);
+                    shared.remove(2_000 + i);
+                }
+
+                try {
+                    Thread.sleep(1);
+                } catch (final InterruptedException _) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+
+        writer.start();
+
+        for (int i = 0; i < 200; i++) {
+            assertThat(reader.read(shared, shared.keySet(), key -> key).size()).isBetween(1_000, 1_001);
+        }
+
+        writer.join();
+
+        assertThat(reader.lockedReads()).isZero();
+    }
+
+    /// A versioned view of a list whose version changes during each of
+    /// its first walks, as if a writer modified it while it was read.
+    private static final class Unstable implements Iterable<Integer>, Versioned {
+        private final List<Integer> elements;
+
+        private int unstableWalks;
+
+        private long version;
+
+        Unstable(final List<Integer> elements, final int unstableWalks) {
+            this.elements = elements;
+            this.unstableWalks = unstableWalks;
+        }
+
+        @Override
+        public long version() {
+            return this.version;
+        }
+
+        @Override
+        public Iterator<Integer> iterator() {
+            if (this.unstableWalks > 0) {
+                this.unstableWalks--;
+                this.version++;
+            }
+
+            return this.elements.iterator();
+        }
+    }
+}
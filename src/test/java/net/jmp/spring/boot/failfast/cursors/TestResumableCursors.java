@@ -0,0 +1,201 @@
+package net.jmp.spring.boot.failfast.cursors;
+
+/*
+ * (#)TestResumableCursors.java 0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.*;
+
+import java.util.*;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.*;
+
+/// The test class for the resumable cursors.
+///
+/// @version    0.1.0
+/// @since      0.1.0
+@DisplayName("Resumable Cursors")
+final class TestResumableCursors {
+    private static final int SIZE = 10_000;
+
+    private final VersionedArrayList<Integer> list = new VersionedArrayList<>();
+    private final VersionedHashMap<Integer, Integer> map = new VersionedHashMap<>();
+    private final VersionedHashSet<Integer> set = new VersionedHashSet<>();
+
+    @BeforeEach
+    void beforeEach() {
+        IntStream.rangeClosed(1, SIZE).forEach(this.list::add);
+        IntStream.rangeClosed(1, SIZE).forEach(key -> this.map.put(key, key));
+        IntStream.rangeClosed(1, SIZE).forEach(this.set::add);
+    }
+
+    @AfterEach
+    void afterEach() {
+        this.list.clear();
+        this.map.clear();
+        this.set.clear();
+    }
+
+    @Test
+    @DisplayName("Test List Cursor Is Invalidated And Resumed")
+    void testListCursorIsInvalidatedAndResumed() {
+        final List<Integer> seen = new ArrayList<>();
+
+        ResumableCursor<Integer> cursor = this.list.cursor();
+
+        assertThat(cursor.advance(100, seen::add)).isEqualTo(100);
+
+        final CursorPosition position = cursor.checkpoint();
+
+        this.list.add(SIZE + 1);
+
+        assertThat(cursor.isInvalidated()).isTrue();
+        assertThat(cursor.hasNext()).isFalse();
+        assertThat(cursor.isComplete()).isFalse();
+
+        cursor = this.list.cursor(position);
+
+        assertThat(cursor.isResumedAfterModification()).isTrue();
+
+        while (cursor.advance(100, seen::add) == 100) {
+            assertThat(cursor.isInvalidated()).isFalse();
+        }
+
+        assertThat(cursor.isComplete()).isTrue();
+        assertThat(seen).containsExactly(this.list.toArray());
+    }
+
+    @Test
+    @DisplayName("Test Map Cursor Resumes In Slices Across Table Doubling")
+    void testMapCursorResumesInSlicesAcrossTableDoubling() {
+        final Map<Integer, Integer> seen = new HashMap<>();
+
+        CursorPosition position = this.map.cursor().checkpoint();
+        int added = 0;
+
+        for (boolean complete = false; !complete;) {
+            final ResumableCursor<Map.Entry<Integer, Integer>> cursor = this.map.cursor(position);
+
+            cursor.advance(997, entry -> seen.merge(entry.getKey(), 1, Integer::sum));
+
+            complete = cursor.isComplete();
+            position = cursor.checkpoint();
+
+            for (int i = 0; i < 1_000; i++) {
+                this.map.put(-(++added), 0);    // Enough to double the table more than once
+            }
+        }
+
+        for (int key = 1; key <= SIZE; key++) {
+            assertThat(seen.containsKey(key)).isTrue();
+        }
+
+        final long duplicates = seen.values().stream().filter(count -> count > 1).count();
+
+        assertThat(duplicates).isLessThan(SIZE / 100);
+    }
+
+    @Test
+    @DisplayName("Test Unmodified Set Cursor Returns Each Element Once")
+    void testUnmodifiedSetCursorReturnsEachElementOnce() {
+        final List<Integer> seen = new ArrayList<>();
+
+        CursorPosition position = this.set.cursor().checkpoint();
+
+        for (boolean complete = false; !complete;) {
+            final ResumableCursor<Integer> cursor = this.set.cursor(position);
+
+            cursor.advance(3, seen::add);
+
+            assertThat(cursor.isResumedAfterModification()).isFalse();
+
+            complete = cursor.isComplete();
+            position = cursor.checkpoint();
+        }
+
+        assertThat(seen).hasSize(SIZE);
+        assertThat(new HashSet<>(seen)).isEqualTo(this.set);
+    }
+
+    @Test
+    @DisplayName("Test Position Is Serializable")
+    void testPositionIsSerializable() throws IOException, ClassNotFoundException {
+        final ResumableCursor<Integer> cursor = this.set.cursor();
+
+        cursor.advance(10, _ -> { });
+
+        final CursorPosition position = cursor.checkpoint();
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (final ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            output.writeObject(position);
+        }
+
+        try (final ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertThat(input.readObject()).isEqualTo(position);
+        }
+    }
+
+    @Test
+    @DisplayName("Test Versioned Map Against HashMap")
+    void testVersionedMapAgainstHashMap() {
+        final Map<Integer, Integer> expected = new HashMap<>(this.map);
+        final Random random = new Random(42);
+
+        for (int i = 0; i < 100_000; i++) {
+            final int key = random.nextInt(2 * SIZE);
+
+            if (random.nextBoolean()) {
+                assertThat(this.map.put(key, i)).isEqualTo(expected.put(key, i));
+            } else {
+                assertThat(this.map.remove(key)).isEqualTo(expected.remove(key));
+            }
+        }
+
+        assertThat(this.map.equals(expected)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Test Fail Fast Iterator")
+    void testFailFastIterator() {
+        boolean failed = false;
+
+        try {
+            for (final Integer key : this.map.keySet()) {
+                this.map.put(-key, key);
+            }
+        } catch (final ConcurrentModificationException _) {
+            failed = true;
+        }
+
+        assertThat(failed).isTrue();
+    }
+}
@@ -0,0 +1,208 @@
+package net.jmp.spring.boot.failfast.events;
+
+/*
+ * (#)TestObservableMap.java    0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.*;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.*;
+
+/// The test class for the observable map.
+///
+/// @version    0.1.0
+/// @since      0.1.0
+@DisplayName("Observable Map")
+final class TestObservableMap {
+    private static final int SIZE = 10_000;
+
+    private ObservableMap<String, Integer> map;
+
+    private List<ChangeEvent<String, Integer>> events;
+
+    @BeforeEach
+    void beforeEach() {
+        this.map = new ObservableMap<>();
+        this.events = new ArrayList<>();
+
+        this.map.publisher().subscribe(this.events::addAll);
+    }
+
+    @AfterEach
+    void afterEach() {
+        this.map.clear();
+    }
+
+    @Test
+    @DisplayName("Test Events And Versions")
+    void testEventsAndVersions() {
+        this.map.put("key1", 1);
+        this.map.put("key1", 1);
+        this.map.put("key1", 2);
+        this.map.remove("key1");
+        this.map.remove("key1");
+        this.map.publisher().flush();
+
+        assertThat(this.events.stream().map(ChangeEvent::type).toList()).containsExactly(
+                ChangeEvent.Type.ADDED, ChangeEvent.Type.REPLACED, ChangeEvent.Type.REMOVED);
+        assertThat(this.events.stream().map(ChangeEvent::version).toList()).containsExactly(1L, 2L, 3L);
+        assertThat(this.events.get(1).oldValue()).isEqualTo(1);
+        assertThat(this.events.get(1).newValue()).isEqualTo(2);
+        assertThat(this.map.version()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("Test Batches")
+    void testBatches() {
+        final ObservableMap<String, Integer> batched = new ObservableMap<>(new HashMap<>(), new ChangePublisher<>(10));
+        final List<Integer> sizes = new ArrayList<>();
+
+        batched.publisher().subscribe(batch -> sizes.add(batch.size()));
+
+        IntStream.range(0, 25).forEach(i -> batched.put("key" + i, i));
+
+        assertThat(sizes).containsExactly(10, 10);
+
+        batched.publisher().flush();
+
+        assertThat(sizes).containsExactly(10, 10, 5);
+    }
+
+    @Test
+    @DisplayName("Test Derived Index Against Rescan")
+    void testDerivedIndexAgainstRescan() {
+        final Map<Integer, Set<String>> index = new HashMap<>();
+
+        this.map.publisher().subscribe(batch -> batch.forEach(event -> {
+            if (event.oldValue() != null) {
+                index.get(event.oldValue() % 7).remove(event.key());
+            }
+
+            if (event.newValue() != null) {
+                index.computeIfAbsent(event.newValue() % 7, _ -> new HashSet<>()).add(event.key());
+            }
+        }));
+
+        final Random random = new Random(5);
+
+        for (int i = 0; i < SIZE; i++) {
+            final String key = "key" + random.nextInt(1_000);
+
+            switch (random.nextInt(3)) {
+                case 0 -> this.map.remove(key);
+                case 1 -> this.map.entrySet().stream()
+                        .filter(entry -> entry.getKey().equals(key))
+                        .findFirst()
+                        .ifPresent(entry -> entry.setValue(entry.getValue() + 1));
+                default -> this.map.put(key, random.nextInt(SIZE));
+            }
+        }
+
+        this.map.entrySet().removeIf(entry -> entry.getValue() % 2 == 0);
+        this.map.publisher().flush();
+
+        final Map<Integer, Set<String>> rescanned = new HashMap<>();
+
+        this.map.forEach((key, value) -> rescanned.computeIfAbsent(value % 7, _ -> new HashSet<>()).add(key));
+        index.values().removeIf(Set::isEmpty);
+
+        assertThat(index).isEqualTo(rescanned);
+    }
+
+    @Test
+    @DisplayName("Test Fail Fast Removal Is Published")
+    void testFailFastRemovalIsPublished() {
+        IntStream.rangeClosed(1, 5).forEach(i -> this.map.put("key" + i, i));
+        this.map.publisher().flush();
+        this.events.clear();
+
+        assertThatThrownBy(() -> this.map.forEach((key, _) -> {
+            if (key.equals("key3")) {
+                this.map.remove(key);
+            }
+        })).isInstanceOf(ConcurrentModificationException.class);
+
+        this.map.publisher().flush();
+
+        assertThat(this.events).hasSize(1);
+        assertThat(this.events.getFirst().type()).isEqualTo(ChangeEvent.Type.REMOVED);
+        assertThat(this.events.getFirst().key()).isEqualTo("key3");
+    }
+
+    @Test
+    @DisplayName("Test Null Value")
+    void testNullValue() {
+        assertThatThrownBy(() -> this.map.put("key1", null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> new ChangePublisher<>(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Test Concurrent Publishers")
+    void testConcurrentPublishers() throws Exception {
+        final int threads = 4;
+        final ObservableMap<String, Integer> concurrent = new ObservableMap<>(new ConcurrentHashMap<>(), new ChangePublisher<>());
+        final List<ChangeEvent<String, Integer>> received = new ArrayList<>();
+
+        concurrent.publisher().subscribe(received::addAll);
+
+        try (final ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            final List<Future<?>> futures = new ArrayList<>();
+
+            for (int t = 0; t < threads; t++) {
+                final int thread = t;
+
+                futures.add(executor.submit(() -> IntStream.range(0, SIZE).forEach(i -> concurrent.put(thread + ":" + i, i))));
+            }
+
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        concurrent.publisher().flush();
+
+        assertThat(received).hasSize(threads * SIZE);
+        assertThat(received.stream().map(ChangeEvent::version).distinct().count()).isEqualTo(threads * SIZE);
+
+        for (int t = 0; t < threads; t++) {
+            final String prefix = t + ":";
+
+            assertThat(received.stream().filter(event -> event.key().startsWith(prefix)).map(ChangeEvent::newValue).toList())
+                    .isEqualTo(IntStream.range(0, SIZE).boxed().toList());
+        }
+    }
+}
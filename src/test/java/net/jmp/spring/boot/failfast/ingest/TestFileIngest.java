@@ -0,0 +1,152 @@
+package net.jmp.spring.boot.failfast.ingest;
+
+/*
+ * (#)TestFileIngest.java   0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.IOException;
+
+import java.nio.charset.StandardCharsets;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.util.*;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import net.jmp.spring.boot.failfast.arena.ArenaStringList;
+import net.jmp.spring.boot.failfast.arena.ArenaStringSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.*;
+
+/// The test class for the file ingest.
+///
+/// @version    0.1.0
+/// @since      0.1.0
+@DisplayName("File Ingest")
+final class TestFileIngest {
+    private static final int SIZE = 10_000;
+
+    private ExecutorService executor;
+    private FileIngest ingest;
+    private Path file;
+
+    @BeforeEach
+    void beforeEach() throws IOException {
+        this.executor = Executors.newFixedThreadPool(4);
+        this.ingest = new FileIngest(this.executor, 4, 100);
+        this.file = Files.createTempFile("ingest", ".txt");
+    }
+
+    @AfterEach
+    void afterEach() throws IOException {
+        this.executor.shutdownNow();
+
+        Files.deleteIfExists(this.file);
+    }
+
+    @Test
+    @DisplayName("Test Lines Across Segments")
+    void testLinesAcrossSegments() throws IOException {
+        final List<String> expected = IntStream.range(0, SIZE).mapToObj(i -> "value" + i).toList();
+
+        Files.write(this.file, expected);
+
+        final List<String> list = new ArrayList<>();
+
+        assertThat(this.ingest.ingest(this.file, list)).isEqualTo(SIZE);
+        assertThat(list).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("Test Arena List Without Strings")
+    void testArenaListWithoutStrings() throws IOException {
+        final List<String> expected = IntStream.range(0, SIZE).mapToObj(i -> "välue" + (i % 100)).toList();
+
+        Files.write(this.file, expected);
+
+        final ArenaStringList list = new ArenaStringList();
+
+        assertThat(this.ingest.ingest(this.file, list::addUtf8)).isEqualTo(SIZE);
+        assertThat(list).isEqualTo(expected);
+        assertThat(list.arena().size()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("Test Arena Set Without Strings")
+    void testArenaSetWithoutStrings() throws IOException {
+        Files.write(this.file, IntStream.range(0, SIZE).mapToObj(i -> "value" + (i % 1_000)).toList());
+
+        final ArenaStringSet set = new ArenaStringSet();
+
+        this.ingest.ingest(this.file, set::addUtf8);
+
+        assertThat(set).isEqualTo(IntStream.range(0, 1_000).mapToObj(i -> "value" + i).collect(Collectors.toSet()));
+    }
+
+    @Test
+    @DisplayName("Test Carriage Returns And Missing Last Newline")
+    void testCarriageReturnsAndMissingLastNewline() throws IOException {
+        Files.writeString(this.file, "first\r\nsecond\r\n\r\nlast", StandardCharsets.UTF_8);
+
+        final List<String> list = new ArrayList<>();
+
+        this.ingest.ingest(this.file, list);
+
+        assertThat(list).containsExactly("first", "second", "", "last");
+    }
+
+    @Test
+    @DisplayName("Test Line Longer Than A Segment")
+    void testLineLongerThanASegment() throws IOException {
+        final String longLine = "x".repeat(10_000);
+
+        Files.write(this.file, List.of("short", longLine, "after"));
+
+        final List<String> list = new ArrayList<>();
+
+        this.ingest.ingest(this.file, list);
+
+        assertThat(list).containsExactly("short", longLine, "after");
+    }
+
+    @Test
+    @DisplayName("Test Empty File")
+    void testEmptyFile() throws IOException {
+        final List<String> list = new ArrayList<>();
+
+        assertThat(this.ingest.ingest(this.file, list)).isZero();
+        assertThat(list).isEmpty();
+    }
+}
@@ -0,0 +1,165 @@
+package net.jmp.spring.boot.failfast.profiling;
+
+/*
+ * (#)TestAllocationAccountant.java 0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.*;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.*;
+
+/// The test class for the allocation accountant and object graph.
+///
+/// @version    0.1.0
+/// @since      0.1.0
+@DisplayName("Allocation Accountant")
+final class TestAllocationAccountant {
+    private static final int SIZE = 10_000;
+
+    private ObjectGraph graph;
+
+    private AllocationAccountant accountant;
+
+    @BeforeEach
+    void beforeEach() {
+        this.graph = new ObjectGraph(_ -> false);
+        this.accountant = new AllocationAccountant(this.graph);
+    }
+
+    @AfterEach
+    void afterEach() {
+        this.graph = null;
+        this.accountant = null;
+    }
+
+    @Test
+    @DisplayName("Test Shallow Sizes")
+    void testShallowSizes() {
+        assertThat(ObjectGraph.shallowSize(new Object())).isEqualTo(16L);
+        assertThat(ObjectGraph.shallowSize(new long[2])).isEqualTo(32L);
+        assertThat(ObjectGraph.shallowSize(new Object[3])).isEqualTo(32L);
+        assertThat(ObjectGraph.shallowSize(new byte[0])).isEqualTo(16L);
+        assertThat(ObjectGraph.shallowSize(new Holder(null, 1L))).isEqualTo(24L);
+    }
+
+    @Test
+    @DisplayName("Test Retained Size Grows With Elements")
+    void testRetainedSizeGrowsWithElements() {
+        final List<Integer> small = new ArrayList<>();
+        final List<Integer> large = new ArrayList<>();
+
+        IntStream.range(1_000, 1_000 + SIZE / 10).forEach(small::add);
+        IntStream.range(1_000, 1_000 + SIZE).forEach(large::add);
+
+        final long smallSize = this.graph.retainedSize(small);
+        final long largeSize = this.graph.retainedSize(large);
+
+        assertThat(smallSize).isGreaterThanOrEqualTo(16L * SIZE / 10);
+        assertThat(largeSize).isGreaterThanOrEqualTo(16L * SIZE);
+        assertThat(largeSize).isGreaterThan(smallSize * 5);
+        assertThat(this.graph.retainedSize(null)).isZero();
+    }
+
+    @Test
+    @DisplayName("Test Cycles And Boundaries")
+    void testCyclesAndBoundaries() {
+        final Holder first = new Holder(null, 1L);
+        final Holder second = new Holder(first, 2L);
+
+        first.next = second;
+
+        assertThat(this.graph.retainedSize(first)).isEqualTo(48L);
+
+        final ObjectGraph bounded = new ObjectGraph(Holder.class::equals);
+
+        assertThat(bounded.retainedSize(first)).isEqualTo(24L);
+        assertThatThrownBy(() -> new ObjectGraph(_ -> false, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Test Fields Of Map Subclasses Are Walked")
+    void testFieldsOfMapSubclassesAreWalked() {
+        final ArrayMap map = new ArrayMap();
+
+        map.keySet();
+        map.values();
+
+        assertThat(this.graph.retainedSize(map)).isGreaterThanOrEqualTo(SIZE * 100L);
+    }
+
+    @Test
+    @DisplayName("Test Measure")
+    void testMeasure() {
+        final List<long[]> retained = new ArrayList<>();
+
+        final AllocationReport report = this.accountant.measure("test", () -> {
+            for (int i = 0; i < SIZE; i++) {
+                retained.add(new long[16]);
+            }
+        }, retained);
+
+        assertThat(report.name()).isEqualTo("test");
+        assertThat(report.retainedBytes()).isGreaterThanOrEqualTo(144L * SIZE);
+        assertThat(report.elapsedNanos()).isPositive();
+        assertThat(report.gcCount()).isGreaterThanOrEqualTo(0L);
+
+        if (this.accountant.isSupported()) {
+            assertThat(report.allocatedBytes()).isGreaterThanOrEqualTo(144L * SIZE);
+            assertThat(report.exceeds(144L * SIZE)).isTrue();
+            assertThat(report.exceeds(Long.MAX_VALUE)).isFalse();
+        }
+    }
+
+    /// A map that holds its contents in a field of its own.
+    private static final class ArrayMap extends AbstractMap<String, Integer> {
+        private final byte[] data = new byte[SIZE * 100];
+
+        @Override
+        public Set<Entry<String, Integer>> entrySet() {
+            return Set.of(Map.entry("size", this.data.length));
+        }
+    }
+
+    /// A node of a small graph.
+    private static final class Holder {
+        private Holder next;
+
+        private final long value;
+
+        Holder(final Holder next, final long value) {
+            super();
+
+            this.next = next;
+            this.value = value;
+        }
+    }
+}
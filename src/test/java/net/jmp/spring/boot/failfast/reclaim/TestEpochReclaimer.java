@@ -0,0 +1,172 @@
+package net.jmp.spring.boot.failfast.reclaim;
+
+/*
+ * (#)TestEpochReclaimer.java   0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.*;
+
+/// The test class for the epoch reclaimer.
+///
+/// @version    0.1.0
+/// @since      0.1.0
+@DisplayName("Epoch Reclaimer")
+final class TestEpochReclaimer {
+    private static final int SIZE = 10_000;
+
+    private EpochReclaimer<Object> reclaimer;
+
+    @BeforeEach
+    void beforeEach() {
+        this.reclaimer = new EpochReclaimer<>();
+    }
+
+    @AfterEach
+    void afterEach() {
+        this.reclaimer.unregister();
+    }
+
+    @Test
+    @DisplayName("Test Registration")
+    void testRegistration() {
+        final EpochReclaimer.Participant<Object> participant = this.reclaimer.participant();
+
+        assertThat(this.reclaimer.participant()).isSameAs(participant);
+        assertThat(this.reclaimer.participants()).isEqualTo(1);
+
+        participant.enter();
+        participant.enter();
+        participant.exit();
+
+        assertThat(participant.isPinned()).isTrue();
+        assertThatThrownBy(this.reclaimer::unregister).isInstanceOf(IllegalStateException.class);
+
+        participant.exit();
+
+        assertThat(participant.isPinned()).isFalse();
+        assertThatThrownBy(participant::exit).isInstanceOf(IllegalStateException.class);
+
+        this.reclaimer.unregister();
+
+        assertThat(this.reclaimer.participants()).isZero();
+    }
+
+    @Test
+    @DisplayName("Test Reuse After Two Advances")
+    void testReuseAfterTwoAdvances() {
+        final EpochReclaimer.Participant<Object> participant = this.reclaimer.participant();
+        final Object node = new Object();
+
+        participant.enter();
+        participant.retire(node);
+        participant.exit();
+
+        assertThat(this.reclaimer.tryAdvance()).isTrue();
+
+        participant.enter();
+        participant.exit();
+
+        assertThat(participant.allocate()).isNull();
+        assertThat(this.reclaimer.tryAdvance()).isTrue();
+
+        participant.enter();
+        participant.exit();
+
+        assertThat(participant.allocate()).isSameAs(node);
+        assertThat(this.reclaimer.retired()).isEqualTo(1);
+        assertThat(this.reclaimer.reused()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Test Pinned Reader Blocks Reuse")
+    void testPinnedReaderBlocksReuse() throws InterruptedException {
+        final CountDownLatch pinned = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        final Thread reader = new Thread(() -> {
+            final EpochReclaimer.Participant<Object> participant = this.reclaimer.participant();
+
+            participant.enter();
+            pinned.countDown();
+
+            try {
+                release.await();
+            } catch (final InterruptedException _) {
+                Thread.currentThread().interrupt();
+            } finally {
+                participant.exit();
+            }
+        });
+
+        reader.start();
+        pinned.await();
+
+        final EpochReclaimer.Participant<Object> participant = this.reclaimer.participant();
+
+        for (int i = 0; i < SIZE; i++) {
+            participant.enter();
+            participant.retire(i);
+            participant.exit();
+        }
+
+        assertThat(this.reclaimer.epoch()).isLessThanOrEqualTo(1L);
+        assertThat(participant.allocate()).isNull();
+
+        release.countDown();
+        reader.join();
+
+        for (int i = 0; i < 3; i++) {
+            this.reclaimer.tryAdvance();
+            participant.enter();
+            participant.exit();
+        }
+
+        assertThat(participant.pooled()).isGreaterThan(0);
+        assertThat(participant.allocate()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Test Max Pooled")
+    void testMaxPooled() {
+        final EpochReclaimer<Object> bounded = new EpochReclaimer<>(2);
+        final EpochReclaimer.Participant<Object> participant = bounded.participant();
+
+        participant.free(1);
+        participant.free(2);
+        participant.free(3);
+
+        assertThat(participant.pooled()).isEqualTo(2);
+        assertThatThrownBy(() -> new EpochReclaimer<>(-1)).isInstanceOf(IllegalArgumentException.class);
+
+        bounded.unregister();
+    }
+}
@@ -0,0 +1,239 @@
+package net.jmp.spring.boot.failfast.spill;
+
+/*
+ * (#)TestSpillableCollections.java 0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.IOException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.util.*;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.*;
+
+/// The test class for the spillable collections.
+///
+/// @version    0.1.0
+/// @since      0.1.0
+@DisplayName("Spillable Collections")
+final class TestSpillableCollections {
+    private static final int SIZE = 10_000;
+    private static final int HOT_CAPACITY = 256;
+    private static final int MAX_RUNS = 4;
+
+    private Path directory;
+
+    @BeforeEach
+    void beforeEach() throws IOException {
+        this.directory = Files.createTempDirectory("spill-test");
+    }
+
+    @AfterEach
+    void afterEach() throws IOException {
+        try (final Stream<Path> paths = Files.list(this.directory)) {
+            for (final Path path : paths.toList()) {
+                Files.delete(path);
+            }
+        }
+
+        Files.delete(this.directory);
+    }
+
+    @Test
+    @DisplayName("Test List Keeps Order Across Segments")
+    void testListKeepsOrderAcrossSegments() {
+        try (final SpillableList<Integer> list = new SpillableList<>(SpillCodec.integers(), HOT_CAPACITY, this.directory)) {
+            IntStream.range(0, SIZE).forEach(list::add);
+
+            assertThat(list.size()).isEqualTo(SIZE);
+            assertThat(list.segments()).isEqualTo(SIZE / HOT_CAPACITY);
+            assertThat(list.hotSize()).isEqualTo(SIZE % HOT_CAPACITY);
+            assertThat(list.spilledBytes()).isPositive();
+            assertThat(new ArrayList<>(list)).isEqualTo(IntStream.range(0, SIZE).boxed().toList());
+        }
+    }
+
+    @Test
+    @DisplayName("Test List Removal Across Segments And Compaction")
+    void testListRemovalAcrossSegmentsAndCompaction() {
+        try (final SpillableList<Integer> list = new SpillableList<>(SpillCodec.integers(), HOT_CAPACITY, this.directory)) {
+            IntStream.range(0, SIZE).forEach(list::add);
+
+            list.removeIf(value -> value % 4 != 0);
+
+            assertThat(list.size()).isEqualTo(SIZE / 4);
+
+            final int segments = list.segments();
+
+            IntStream.range(SIZE, SIZE + HOT_CAPACITY).forEach(list::add);     // Spills and compacts
+
+            assertThat(list.segments()).isLessThan(segments);
+
+            final List<Integer> expected = new ArrayList<>();
+
+            IntStream.range(0, SIZE).filter(value -> value % 4 == 0).forEach(expected::add);
+            IntStream.range(SIZE, SIZE + HOT_CAPACITY).forEach(expected::add);
+
+            assertThat(new ArrayList<>(list)).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("Test Iterators Fail Fast")
+    void testIteratorsFailFast() {
+        try (final SpillableList<Integer> list = new SpillableList<>(SpillCodec.integers(), HOT_CAPACITY, this.directory);
+             final SpillableMap<Integer, String> map = this.newMap();
+             final SpillableSet<String> set = new SpillableSet<>(Comparator.naturalOrder(), SpillCodec.strings(), HOT_CAPACITY, MAX_RUNS, this.directory)) {
+            IntStream.range(0, SIZE).forEach(value -> {
+                list.add(value);
+                map.put(value, String.valueOf(value));
+                set.add(String.valueOf(value));
+            });
+
+            assertThatThrownBy(() -> list.forEach(value -> list.add(value)))
+                    .isInstanceOf(ConcurrentModificationException.class);
+            assertThatThrownBy(() -> map.keySet().forEach(key -> map.remove(key)))
+                    .isInstanceOf(ConcurrentModificationException.class);
+            assertThatThrownBy(() -> set.forEach(element -> set.add(element + "x")))
+                    .isInstanceOf(ConcurrentModificationException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("Test Map Matches Tree Map")
+    void testMapMatchesTreeMap() {
+        final Random random = new Random(42);
+        final TreeMap<Integer, String> expected = new TreeMap<>();
+
+        try (final SpillableMap<Integer, String> map = this.newMap()) {
+            for (int i = 0; i < SIZE * 4; i++) {
+                final int key = random.nextInt(SIZE);
+
+                if (random.nextInt(4) == 0) {
+                    assertThat(map.remove(key)).isEqualTo(expected.remove(key));
+                } else {
+                    final String value = String.valueOf(i);
+
+                    assertThat(map.put(key, value)).isEqualTo(expected.put(key, value));
+                }
+            }
+
+            assertThat(map.runs()).isBetween(1, MAX_RUNS);
+            assertThat(map.size()).isEqualTo(expected.size());
+            assertThat(new ArrayList<>(map.entrySet())).isEqualTo(new ArrayList<>(expected.entrySet()));
+
+            for (int key = 0; key < SIZE; key++) {
+                assertThat(map.get(key)).isEqualTo(expected.get(key));
+            }
+
+            map.entrySet().removeIf(entry -> entry.getKey() % 2 == 0);
+            expected.entrySet().removeIf(entry -> entry.getKey() % 2 == 0);
+
+            assertThat(map.size()).isEqualTo(expected.size());
+            assertThat(new ArrayList<>(map.keySet())).isEqualTo(new ArrayList<>(expected.keySet()));
+            assertThat(map.containsKey(0)).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("Test Map Lookups Seek To The Block")
+    void testMapLookupsSeekToTheBlock() {
+        try (final SpillableMap<Integer, String> map = this.newMap()) {
+            for (int key = 0; key < SIZE * 2; key += 2) {
+                map.put(key, String.valueOf(key));
+            }
+
+            assertThat(map.runs()).isBetween(1, MAX_RUNS);
+
+            for (int key = -1; key <= SIZE * 2; key++) {
+                assertThat(map.get(key)).isEqualTo(key >= 0 && key < SIZE * 2 && key % 2 == 0 ? String.valueOf(key) : null);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test Set Matches Tree Set")
+    void testSetMatchesTreeSet() {
+        final Random random = new Random(7);
+        final TreeSet<String> expected = new TreeSet<>(Comparator.reverseOrder());
+
+        try (final SpillableSet<String> set = new SpillableSet<>(Comparator.reverseOrder(), SpillCodec.strings(), HOT_CAPACITY, MAX_RUNS, this.directory)) {
+            for (int i = 0; i < SIZE * 4; i++) {
+                final String element = "element-" + random.nextInt(SIZE);
+
+                if (random.nextInt(3) == 0) {
+                    assertThat(set.remove(element)).isEqualTo(expected.remove(element));
+                } else {
+                    assertThat(set.add(element)).isEqualTo(expected.add(element));
+                }
+            }
+
+            assertThat(set.size()).isEqualTo(expected.size());
+            assertThat(new ArrayList<>(set)).isEqualTo(new ArrayList<>(expected));
+            assertThat(set.contains("element-" + SIZE)).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("Test Close Deletes Spill Files")
+    void testCloseDeletesSpillFiles() throws IOException {
+        final SpillableList<Integer> list = new SpillableList<>(SpillCodec.integers(), HOT_CAPACITY, this.directory);
+        final SpillableMap<Integer, String> map = this.newMap();
+
+        IntStream.range(0, SIZE).forEach(value -> {
+            list.add(value);
+            map.put(value, String.valueOf(value));
+        });
+
+        assertThat(this.files()).isPositive();
+
+        list.close();
+        map.close();
+
+        assertThat(this.files()).isZero();
+        assertThat(list).isEmpty();
+        assertThat(map).isEmpty();
+    }
+
+    private SpillableMap<Integer, String> newMap() {
+        return new SpillableMap<>(Comparator.naturalOrder(), SpillCodec.integers(), SpillCodec.strings(), HOT_CAPACITY, MAX_RUNS, this.directory);
+    }
+
+    private long files() throws IOException {
+        try (final Stream<Path> paths = Files.list(this.directory)) {
+            return paths.count();
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package net.jmp.spring.boot.failfast.staleness;
+
+/*
+ * (#)TestStalenessTracker.java 0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.*;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.*;
+
+/// The test class for the staleness tracker.
+///
+/// @version    0.1.0
+/// @since      0.1.0
+@DisplayName("Staleness Tracker")
+final class TestStalenessTracker {
+    private static final int SIZE = 10_000;
+
+    private StalenessTracker<Integer> tracker;
+
+    @BeforeEach
+    void beforeEach() {
+        this.tracker = new StalenessTracker<>();
+    }
+
+    @AfterEach
+    void afterEach() {
+        this.tracker = null;
+    }
+
+    @Test
+    @DisplayName("Test Quiescent Iteration")
+    void testQuiescentIteration() {
+        final TrackedSet<Integer> set = this.tracker.track(ConcurrentHashMap.newKeySet());
+
+        IntStream.range(0, SIZE).forEach(set::add);
+
+        assertThat(set).hasSize(SIZE);
+
+        for (final Integer _ : set) {
+            // Exhausts the iterator
+        }
+
+        final StalenessReport report = this.tracker.lastReport();
+
+        assertThat(report.seen()).isEqualTo(SIZE);
+        assertThat(report.stable()).isEqualTo(SIZE);
+        assertThat(report.missed()).isZero();
+        assertThat(report.seenTwice()).isZero();
+        assertThat(report.changed()).isZero();
+        assertThat(report.versionsElapsed()).isZero();
+    }
+
+    @Test
+    @DisplayName("Test Changes During Iteration")
+    void testChangesDuringIteration() {
+        final TrackedMap<Integer, String> map = this.tracker.track(new ConcurrentHashMap<>());
+
+        IntStream.range(0, SIZE).forEach(i -> map.put(i, "value" + i));
+
+        int count = 0;
+
+        for (final Iterator<Map.Entry<Integer, String>> iterator = map.entrySet().iterator(); iterator.hasNext();) {
+            final Map.Entry<Integer, String> entry = iterator.next();
+
+            if (count++ == 0) {
+                map.remove(SIZE - 1 - entry.getKey());
+                map.put(SIZE, "value");
+            }
+
+            if (entry.getKey() % 100 == 0) {
+                iterator.remove();
+            }
+        }
+
+        final StalenessReport report = this.tracker.lastReport();
+
+        assertThat(report.missed()).isZero();
+        assertThat(report.seenTwice()).isZero();
+        assertThat(report.stable()).isLessThan(SIZE);
+        assertThat(report.changed()).isGreaterThanOrEqualTo(2);
+        assertThat(report.versionsElapsed()).isGreaterThanOrEqualTo(report.changed());
+    }
+
+    @Test
+    @DisplayName("Test Queue Seen Twice")
+    void testQueueSeenTwice() {
+        final TrackedQueue<Integer> queue = this.tracker.track(new ConcurrentLinkedQueue<>());
+
+        IntStream.range(0, 10).forEach(queue::offer);
+
+        boolean requeued = false;
+
+        for (final Integer value : queue) {
+            if (!requeued) {
+                queue.offer(queue.poll());  // The head moves to the tail
+                requeued = true;
+            }
+
+            assertThat(value).isNotNull();
+        }
+
+        final StalenessReport report = this.tracker.lastReport();
+
+        assertThat(report.seen()).isEqualTo(11);
+        assertThat(report.seenTwice()).isEqualTo(1);
+        assertThat(report.missed()).isZero();
+        assertThat(report.stable()).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("Test Missed Elements Are Detected")
+    void testMissedElementsAreDetected() {
+        final Set<Integer> backing = new ConcurrentSkipListSet<>();
+        final TrackedSet<Integer> set = this.tracker.track(backing);
+
+        IntStream.range(0, 100).forEach(set::add);
+
+        final Iterator<Integer> iterator = this.tracker.iterator(backing.stream().filter(i -> i % 10 != 0).iterator(),
+                i -> i,
+                backing::contains);
+
+        iterator.forEachRemaining(_ -> { });
+        iterator.hasNext();
+
+        final StalenessReport report = this.tracker.lastReport();
+
+        assertThat(report.missed()).isEqualTo(10);
+        assertThat(report.missRate()).isEqualTo(0.1);
+        assertThat(this.tracker.iterations()).isEqualTo(1);
+        assertThat(this.tracker.missRate()).isEqualTo(0.1);
+    }
+
+    @Test
+    @DisplayName("Test Removals Are Pruned")
+    void testRemovalsArePruned() {
+        final TrackedSet<Integer> set = this.tracker.track(ConcurrentHashMap.newKeySet());
+
+        IntStream.range(0, SIZE).forEach(set::add);
+
+        final Iterator<Integer> older = set.iterator();
+
+        IntStream.range(0, SIZE / 2).forEach(set::remove);
+
+        for (final Integer _ : set) {
+            // Exhausts the iterator while the older one holds the removals
+        }
+
+        assertThat(this.tracker.logSize()).isEqualTo(SIZE);
+
+        older.forEachRemaining(_ -> { });
+        older.hasNext();
+
+        assertThat(this.tracker.lastReport().changed()).isEqualTo(SIZE / 2);
+        assertThat(this.tracker.logSize()).isEqualTo(SIZE / 2);
+
+        try (final ConcurrentWriter writer = ConcurrentWriter.start("writer", i -> {
+            set.add(SIZE + i);
+            set.remove(SIZE + i);
+        })) {
+            for (int pass = 0; pass < 5 || writer.writes() == 0; pass++) {
+                for (final Integer _ : set) {
+                    // Exhausts the iterator, at least once after the writer started
+                }
+            }
+
+            assertThat(writer.writes()).isPositive();
+        }
+
+        for (final Integer _ : set) {
+            // Exhausts the iterator after the writer stopped
+        }
+
+        assertThat(this.tracker.logSize()).isEqualTo(SIZE / 2);
+        assertThat(this.tracker.missRate()).isZero();
+    }
+
+    @Test
+    @DisplayName("Test Concurrent Writer")
+    void testConcurrentWriter() throws InterruptedException {
+        final TrackedMap<Integer, Integer> map = this.tracker.track(new ConcurrentHashMap<>());
+        final AtomicBoolean done = new AtomicBoolean();
+
+        IntStream.range(0, SIZE).forEach(i -> map.put(i, i));
+
+        final Thread writer = new Thread(() -> {
+            final Random random = new Random(17);
+
+            while (!done.get()) {
+                final int key = random.nextInt(SIZE * 2);
+
+                if (random.nextBoolean()) {
+                    map.put(key, key);
+                } else {
+                    map.remove(key);
+                }
+            }
+        });
+
+        writer.start();
+
+        try {
+            for (int pass = 0; pass < 20; pass++) {
+                for (final Integer key : map.keySet()) {
+                    if (key % 1_000 == 0) {
+                        Thread.yield();
+                    }
+                }
+            }
+        } finally {
+            done.set(true);
+            writer.join();
+        }
+
+        assertThat(this.tracker.iterations()).isEqualTo(20);
+        assertThat(this.tracker.missRate()).isZero();
+        assertThat(this.tracker.lastReport().versionsElapsed()).isPositive();
+    }
+}
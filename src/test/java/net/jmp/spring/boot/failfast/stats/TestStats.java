@@ -0,0 +1,262 @@
+package net.jmp.spring.boot.failfast.stats;
+
+/*
+ * (#)TestStats.java    0.1.0   10/19/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import java.net.HttpURLConnection;
+import java.net.URI;
+
+import java.nio.charset.StandardCharsets;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import java.util.concurrent.CountDownLatch;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import java.util.function.IntConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.*;
+
+/// The test class for the statistics.
+///
+/// @version    0.1.0
+/// @since      0.1.0
+@DisplayName("Statistics")
+final class TestStats {
+    private static final int THREADS = 64;
+    private static final int UPDATES = 10_000;
+
+    @Test
+    @DisplayName("Test Counter Across Threads")
+    void testCounterAcrossThreads() throws InterruptedException {
+        final Counter counter = new Counter();
+
+        runConcurrently(_ -> {
+            for (int i = 0; i < UPDATES; i++) {
+                counter.increment();
+            }
+
+            counter.add(5L);
+        });
+
+        assertThat(counter.sum()).isEqualTo((long) THREADS * (UPDATES + 5));
+    }
+
+    @Test
+    @DisplayName("Test Histogram Percentiles")
+    void testHistogramPercentiles() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+
+        for (long value = 1L; value <= 100_000L; value++) {
+            histogram.record(value);
+        }
+
+        final HistogramSnapshot snapshot = histogram.snapshot();
+
+        assertThat(snapshot.count()).isEqualTo(100_000L);
+        assertThat(snapshot.sum()).isEqualTo(5_000_050_000L);
+        assertThat(snapshot.mean()).isEqualTo(50_000.5);
+        assertThat(snapshot.min()).isEqualTo(1L);
+        assertThat(snapshot.max()).isBetween(100_000L, 103_000L);
+        assertThat(snapshot.valueAtPercentile(50.0)).isBetween(50_000L, 51_500L);
+        assertThat(snapshot.valueAtPercentile(99.0)).isBetween(99_000L, 102_000L);
+        assertThat(snapshot.countAtOrBelow(31L)).isEqualTo(31L);
+        assertThat(new LatencyHistogram().snapshot().valueAtPercentile(99.0)).isZero();
+        assertThatThrownBy(() -> histogram.record(-1L)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> snapshot.valueAtPercentile(101.0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Test Histogram Merges Threads")
+    void testHistogramMergesThreads() throws InterruptedException {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        final AtomicLong sum = new AtomicLong();
+
+        runConcurrently(thread -> {
+            for (int i = 0; i < UPDATES; i++) {
+                final long value = (long) thread * UPDATES + i;
+
+                histogram.record(value);
+                sum.addAndGet(value);
+            }
+        });
+
+        final HistogramSnapshot merged = histogram.snapshot();
+
+        assertThat(merged.count()).isEqualTo((long) THREADS * UPDATES);
+        assertThat(merged.sum()).isEqualTo(sum.get());
+        assertThat(merged.min()).isZero();
+
+        histogram.record(1L);     // The threads have ended; their counts are retired, not lost or counted twice
+
+        assertThat(histogram.snapshot().count()).isEqualTo((long) THREADS * UPDATES + 1L);
+        assertThat(histogram.snapshot().sum()).isEqualTo(sum.get() + 1L);
+    }
+
+    @Test
+    @DisplayName("Test Registry Snapshot")
+    void testRegistrySnapshot() {
+        final StatsRegistry registry = new StatsRegistry();
+
+        assertThat(registry.counter("SetService.visited")).isSameAs(registry.counter("SetService.visited"));
+        assertThat(registry.histogram("ListService.run")).isSameAs(registry.histogram("ListService.run"));
+
+        registry.counter("SetService.visited").add(3L);
+        registry.counter("ListService.cmes").increment();
+        registry.counter("ListService.visited").add(7L);
+        registry.histogram("ListService.run").record(1_000L);
+        registry.gauge("ListService.size.ArrayList").set(5L);
+
+        final StatsSnapshot snapshot = registry.snapshot();
+
+        registry.counter("ListService.cmes").increment();
+
+        assertThat(snapshot.counters().keySet()).containsExactly("ListService.cmes", "ListService.visited", "SetService.visited");
+        assertThat(snapshot.counter("ListService.cmes")).isEqualTo(1L);
+        assertThat(snapshot.counter("MapService.cmes")).isZero();
+        assertThat(snapshot.countersStartingWith("ListService.")).hasSize(2);
+        assertThat(snapshot.histograms().get("ListService.run").count()).isEqualTo(1L);
+        assertThat(snapshot.gauges()).containsEntry("ListService.size.ArrayList", 5L);
+        assertThatThrownBy(() -> snapshot.counters().put("QueueService.cmes", 1L)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("Test Formats")
+    void testFormats() {
+        final StatsRegistry registry = new StatsRegistry();
+
+        registry.counter("ListService.cmes").add(4L);
+        registry.counter("rounds").increment();
+        registry.gauge("ListService.size.Array\"List").set(5L);
+        registry.histogram("ListService.run").record(2_000_000L);     // 2 ms
+
+        final StatsSnapshot snapshot = registry.snapshot();
+        final StatsSnapshot earlier = new StatsSnapshot(snapshot.taken().minusSeconds(2), new TreeMap<>(), new TreeMap<>(), new TreeMap<>());
+        final Map<String, Double> rates = snapshot.ratesSince(earlier);
+        final String json = JsonFormat.format(snapshot, Duration.ofSeconds(2), rates);
+        final String text = PrometheusFormat.format(snapshot);
+
+        assertThat(rates).containsEntry("ListService.cmes", 2.0);
+        assertThat(rates).containsEntry("ListService.run", 0.5);
+        assertThat(json).contains("\"uptimeSeconds\":2.000");
+        assertThat(json).contains("\"counters\":{\"ListService.cmes\":4,\"rounds\":1}");
+        assertThat(json).contains("\"gauges\":{\"ListService.size.Array\\\"List\":5}");
+        assertThat(json).contains("\"ListService.run\":{\"count\":1,\"sum\":2000000,");
+        assertThat(text).contains("# TYPE failfast_cmes_total counter\nfailfast_cmes_total{source=\"ListService\"} 4\n");
+        assertThat(text).contains("failfast_rounds_total 1\n");
+        assertThat(text).contains("failfast_size{source=\"ListService\",subject=\"Array\\\"List\"} 5\n");
+        assertThat(text).contains("# TYPE failfast_run_seconds histogram\n");
+        assertThat(text).contains("failfast_run_seconds_bucket{source=\"ListService\",le=\"0.001\"} 0\n");
+        assertThat(text).contains("failfast_run_seconds_bucket{source=\"ListService\",le=\"0.0025\"} 1\n");
+        assertThat(text).contains("failfast_run_seconds_bucket{source=\"ListService\",le=\"+Inf\"} 1\n");
+        assertThat(text).contains("failfast_run_seconds_sum{source=\"ListService\"} 0.002\n");
+        assertThat(new StatsSnapshot(Instant.now(), new TreeMap<>(), new TreeMap<>(), new TreeMap<>()).ratesSince(snapshot)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Test Endpoint")
+    void testEndpoint() throws IOException {
+        final StatsRegistry registry = new StatsRegistry();
+
+        registry.counter("SetService.cmes").add(3L);
+
+        try (final StatsEndpoint endpoint = new StatsEndpoint(registry, 0)) {
+            endpoint.start();
+
+            assertThat(endpoint.address().getAddress().isLoopbackAddress()).isTrue();
+
+            final String base = "http://localhost:" + endpoint.address().getPort();
+            final HttpURLConnection stats = get(base + StatsEndpoint.STATS);
+            final HttpURLConnection metrics = get(base + StatsEndpoint.METRICS);
+
+            assertThat(stats.getResponseCode()).isEqualTo(200);
+            assertThat(stats.getContentType()).isEqualTo("application/json");
+            assertThat(body(stats)).contains("\"SetService.cmes\":3");
+            assertThat(metrics.getResponseCode()).isEqualTo(200);
+            assertThat(metrics.getContentType()).startsWith("text/plain");
+            assertThat(body(metrics)).contains("failfast_cmes_total{source=\"SetService\"} 3\n");
+            assertThat(get(base + "/stats/other").getResponseCode()).isEqualTo(404);
+
+            final HttpURLConnection post = get(base + StatsEndpoint.STATS);
+
+            post.setRequestMethod("POST");
+
+            assertThat(post.getResponseCode()).isEqualTo(405);
+        }
+    }
+
+    private static HttpURLConnection get(final String url) throws IOException {
+        return (HttpURLConnection) URI.create(url).toURL().openConnection();
+    }
+
+    private static String body(final HttpURLConnection connection) throws IOException {
+        try (final InputStream in = connection.getInputStream()) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static void runConcurrently(final IntConsumer task) throws InterruptedException {
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Thread> threads = new ArrayList<>(THREADS);
+
+        for (int i = 0; i < THREADS; i++) {
+            final int thread = i;
+
+            threads.add(Thread.ofPlatform().start(() -> {
+                try {
+                    start.await();
+                } catch (final InterruptedException _) {
+                    Thread.currentThread().interrupt();
+
+                    return;
+                }
+
+                task.accept(thread);
+            }));
+        }
+
+        start.countDown();
+
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+    }
+}